@@ -91,7 +91,8 @@ public final class BrokerBasedConfiguration {
     return new ActivateJobHandlerConfiguration(
         "ActivateJobsHandlerRest-Broker",
         properties.getGateway().getLongPolling(),
-        properties.getGateway().getNetwork().getMaxMessageSize());
+        properties.getGateway().getNetwork().getMaxMessageSize(),
+        properties.getGateway().getJobActivation());
   }
 
   @Bean
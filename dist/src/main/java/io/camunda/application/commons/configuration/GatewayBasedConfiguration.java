@@ -79,7 +79,8 @@ public final class GatewayBasedConfiguration {
     return new ActivateJobHandlerConfiguration(
         "ActivateJobsHandlerRest-Gateway",
         properties.getLongPolling(),
-        properties.getNetwork().getMaxMessageSize());
+        properties.getNetwork().getMaxMessageSize(),
+        properties.getJobActivation());
   }
 
   @Bean
@@ -8,6 +8,7 @@
 package io.camunda.application.commons.job;
 
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.camunda.zeebe.gateway.impl.configuration.LongPollingCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
@@ -70,7 +71,8 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          config.jobActivation());
     }
   }
 
@@ -85,9 +87,13 @@ public class JobHandlerConfiguration {
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
+        .setJobActivationCfg(config.jobActivation())
         .build();
   }
 
   public static record ActivateJobHandlerConfiguration(
-      String actorName, LongPollingCfg longPolling, DataSize maxMessageSize) {}
+      String actorName,
+      LongPollingCfg longPolling,
+      DataSize maxMessageSize,
+      JobActivationCfg jobActivation) {}
 }
@@ -35,6 +35,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +49,9 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installPipelined;
+  private long installEpoch;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +61,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +79,7 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    rewindInstall();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -226,22 +231,61 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Further
+   * chunks are only sent while others are in flight once the member acknowledged a chunk of the
+   * current snapshot, and at most up to the configured number of unacknowledged chunks.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (installPipelined && inFlightInstallCount < maxInstallsPerMember));
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Returns the number of install requests which were sent to the member but not yet completed.
+   *
+   * @return the number of in-flight install requests
+   */
+  public int getInFlightInstallCount() {
+    return inFlightInstallCount;
+  }
+
+  /** Flags that the member acknowledged a chunk, such that the next chunks can be pipelined. */
+  public void pipelineInstall() {
+    installPipelined = true;
+  }
+
+  /**
+   * Forgets all in-flight install requests, such that the next install request starts again from
+   * the member's next snapshot chunk. Responses to the forgotten requests carry an older {@link
+   * #getInstallEpoch() epoch} and must be ignored.
+   */
+  public void rewindInstall() {
+    inFlightInstallCount = 0;
+    installPipelined = false;
+    installEpoch++;
+  }
+
+  /**
+   * Returns the install epoch, which changes every time the in-flight install requests are {@link
+   * #rewindInstall() rewound}.
+   *
+   * @return the current install epoch
+   */
+  public long getInstallEpoch() {
+    return installEpoch;
   }
 
   /**
@@ -277,7 +321,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
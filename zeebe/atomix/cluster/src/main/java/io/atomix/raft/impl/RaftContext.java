@@ -402,6 +402,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
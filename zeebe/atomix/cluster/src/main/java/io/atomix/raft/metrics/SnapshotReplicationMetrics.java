@@ -15,6 +15,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
@@ -32,14 +33,32 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of snapshot chunk bytes received by replication")
+          .name("snapshot_replication_received_bytes_total")
+          .register();
+  private static final Counter RESUMED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of snapshot replications which were resumed instead of restarted")
+          .name("snapshot_replication_resumed_total")
+          .register();
 
   private final Gauge.Child count;
   private final Gauge.Child duration;
+  private final Counter.Child receivedBytes;
+  private final Counter.Child resumed;
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
     count = COUNT.labels(partitionGroupName, partition);
     duration = DURATION.labels(partitionGroupName, partition);
+    receivedBytes = RECEIVED_BYTES.labels(partitionGroupName, partition);
+    resumed = RESUMED.labels(partitionGroupName, partition);
   }
 
   public void incrementCount() {
@@ -57,4 +76,12 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  public void countReceivedBytes(final long bytes) {
+    receivedBytes.inc(bytes);
+  }
+
+  public void countResumed() {
+    resumed.inc();
+  }
 }
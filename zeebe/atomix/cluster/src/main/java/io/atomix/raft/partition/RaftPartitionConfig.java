@@ -45,6 +45,7 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxSnapshotChunksInFlight = 1;
 
   /**
    * Returns the Raft leader election timeout.
@@ -144,6 +145,21 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader may send to a follower before the first of them was
+   * acknowledged. With the default of 1, the next chunk is only sent once the previous one was
+   * acknowledged.
+   *
+   * @param maxSnapshotChunksInFlight the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -228,6 +244,8 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to persist the index of sealed segments, false otherwise
+   */
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted next to it once the segment is sealed, such
+   * that it can be restored instead of rebuilt when the log is opened again.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +157,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
         + '}';
   }
 }
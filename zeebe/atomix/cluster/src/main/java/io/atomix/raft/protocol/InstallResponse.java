@@ -20,33 +20,66 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * the request was successful, and which files of the snapshot the follower reused from its own
+ * snapshot. If the follower was already receiving the same snapshot, it responds to the first
+ * request with the {@link #resumeChunkId()} from which the leader should continue.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the names of the files the follower reused, which the leader must not send anymore
+  protected HashSet<String> reusedFiles;
+  // the ID of the chunk from which the leader should resume sending the snapshot
+  protected ByteBuffer resumeChunkId;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashSet<String> reusedFiles,
+      final ByteBuffer resumeChunkId) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedFiles = reusedFiles;
+    this.resumeChunkId = resumeChunkId;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  public Set<String> reusedFiles() {
+    return reusedFiles != null ? reusedFiles : Set.of();
+  }
+
+  /**
+   * @return the ID of the chunk from which the leader should resume sending the snapshot, or null
+   *     if the leader should continue with the next chunk
+   */
+  public ByteBuffer resumeChunkId() {
+    return resumeChunkId;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles().size())
+        .add(
+            "resumeChunkId",
+            resumeChunkId == null ? "null" : new SnapshotChunkId(resumeChunkId).toString())
         .toString();
   }
 
@@ -62,17 +95,29 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashSet<String> reusedFiles;
+    protected ByteBuffer resumeChunkId;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedFiles, resumeChunkId);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedFiles(final Set<String> reusedFiles) {
+      this.reusedFiles = reusedFiles.isEmpty() ? null : new HashSet<>(reusedFiles);
+      return this;
+    }
+
+    public Builder withResumeChunkId(final ByteBuffer resumeChunkId) {
+      this.resumeChunkId = resumeChunkId;
+      return this;
+    }
   }
 }
@@ -68,6 +68,7 @@ final class LeaderAppender {
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
+  private long pendingCommitIndex;
 
   private final LeaderMetrics metrics;
   private final long leaderTime;
@@ -395,6 +396,7 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.rewindInstall();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -402,12 +404,16 @@ final class LeaderAppender {
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // always, unless other chunks are still in flight, in which case we pipeline the chunk
+      // following the last one sent.
+      final boolean pipelined = member.getInFlightInstallCount() > 0;
+      if (!pipelined) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -419,8 +425,9 @@ final class LeaderAppender {
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
       final DefaultRaftMember leader = raft.getLeader();
+      final boolean initial = !pipelined && member.getNextSnapshotChunk() == null;
 
-      final InstallRequest request =
+      final InstallRequest.Builder builder =
           InstallRequest.builder()
               .withCurrentTerm(raft.getTerm())
               .withLeader(leader.memberId())
@@ -429,11 +436,14 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
-              .withNextChunkId(reader.nextId())
-              .build();
-      return Optional.of(request);
+              .withNextChunkId(reader.nextId());
+      if (initial && reader.hasNext()) {
+        // lets the member reuse the files it already has, see handleInstallResponseOk
+        builder.withFileChecksums(persistedSnapshot.getChecksums().getChecksums());
+      }
+      return Optional.of(builder.build());
     } catch (final UncheckedIOException e) {
       log.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -443,6 +453,7 @@ final class LeaderAppender {
       // If snapshot was deleted, a new reader should be created with the new snapshot
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.rewindInstall();
       return Optional.empty();
     }
   }
@@ -453,13 +464,16 @@ final class LeaderAppender {
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final long epoch = member.getInstallEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
         .install(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
-              if (open) {
+              // Responses to requests which were sent before the install was rewound are stale,
+              // the chunks they acknowledge or miss are sent again anyway.
+              if (open && epoch == member.getInstallEpoch()) {
                 // Complete the install to the member.
                 member.completeInstall();
 
@@ -488,6 +502,8 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
+    // resend from the first chunk which was not acknowledged
+    member.rewindInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -511,11 +527,32 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
       member.setSnapshotIndex(request.index());
+      member.rewindInstall();
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
+    // If more install requests remain, increment the member's snapshot offset, or resume from the
+    // chunk the member was already expecting when it received this snapshot before or when it
+    // missed one of the pipelined chunks.
     else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
+      final ByteBuffer nextChunkId;
+      if (response.resumeChunkId() != null) {
+        nextChunkId = response.resumeChunkId();
+        member.rewindInstall();
+      } else {
+        nextChunkId = request.nextChunkId();
+        member.pipelineInstall();
+      }
+
+      // If the member reused some of the snapshot files, skip them and continue with the next file
+      // the member is missing.
+      if (!response.reusedFiles().isEmpty()) {
+        final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+        reader.skip(response.reusedFiles());
+        reader.seek(nextChunkId);
+        member.setNextSnapshotChunkId(reader.nextId());
+      } else {
+        member.setNextSnapshotChunkId(nextChunkId);
+      }
     }
 
     // Recursively append entries to the member.
@@ -536,6 +573,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.rewindInstall();
   }
 
   /**
@@ -560,9 +598,10 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
-      raft.setCommitIndex(index);
-      completeCommits(index);
-      return CompletableFuture.completedFuture(index);
+      commit(index);
+      if (index <= raft.getCommitIndex()) {
+        return CompletableFuture.completedFuture(index);
+      }
     }
 
     if (!open) {
@@ -570,6 +609,11 @@ final class LeaderAppender {
           new NoLeader("Cannot replicate entries on closed leader"));
     }
 
+    // the commit is pending on the leader's own flush
+    if (raft.getCluster().isSingleMemberCluster()) {
+      return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+    }
+
     // Only send entry-specific AppendRequests to active members of the cluster.
     return appendFutures.computeIfAbsent(
         index,
@@ -908,8 +952,18 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // fill the window of unacknowledged chunks, see RaftMemberContext#canInstall
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+      if (installRequest.get().complete()) {
+        return;
+      }
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1019,6 +1073,45 @@ final class LeaderAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
+      commit(commitIndex);
+    }
+  }
+
+  /**
+   * Commits entries up to the given index once the leader's log is flushed up to it, as the leader
+   * counts itself in the quorum. If the log is not flushed directly, the commit is applied once the
+   * asynchronous flush completed, such that no entry is acknowledged before it is persisted.
+   */
+  private void commit(final long commitIndex) {
+    if (raft.getLog().flushesDirectly()) {
+      applyCommit(commitIndex);
+      return;
+    }
+
+    if (commitIndex <= pendingCommitIndex) {
+      return;
+    }
+
+    pendingCommitIndex = commitIndex;
+    final var flushed = raft.getLog().flushAsync();
+    if (flushed.isDone() && !flushed.isCompletedExceptionally()) {
+      applyCommit(commitIndex);
+    } else {
+      // the flusher only fails the future when it is closed, i.e. when the leader is closing too
+      flushed.thenRun(
+          () ->
+              raft.getThreadContext()
+                  .execute(
+                      () -> {
+                        if (open) {
+                          applyCommit(commitIndex);
+                        }
+                      }));
+    }
+  }
+
+  private void applyCommit(final long commitIndex) {
+    if (commitIndex > raft.getCommitIndex()) {
       log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
       completeCommits(commitIndex);
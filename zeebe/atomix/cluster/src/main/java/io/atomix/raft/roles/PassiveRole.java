@@ -58,7 +58,10 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -72,6 +75,12 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the files of the pending snapshot which were reused from the current snapshot
+  private Set<String> reusedSnapshotFiles = Set.of();
+  // the checksums of all files of the pending snapshot, as sent by the leader
+  private Map<String, Long> pendingSnapshotFileChecksums = Map.of();
+  // true while the files of the current snapshot are compared with the pending snapshot
+  private boolean reusingSnapshotFiles;
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -198,6 +207,7 @@ public class PassiveRole extends InactiveRole {
 
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
+      pendingSnapshotFileChecksums = request.fileChecksums();
       snapshotReplicationMetrics.incrementCount();
 
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
@@ -207,6 +217,7 @@ public class PassiveRole extends InactiveRole {
 
     try {
       pendingSnapshot.apply(snapshotChunk).join();
+      snapshotReplicationMetrics.countReceivedBytes(request.data().remaining());
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -224,6 +235,10 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (request.isInitial() && !request.complete() && !request.fileChecksums().isEmpty()) {
+      return reuseSnapshotFiles(request);
+    }
+
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
     if (request.complete()) {
@@ -253,21 +268,112 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
+      pendingSnapshotFileChecksums = Map.of();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
+
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.OK)
+                  .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(Set.of())
+                  .build()));
+    }
+
+    return CompletableFuture.completedFuture(acceptSnapshotChunk(request));
+  }
+
+  /**
+   * Reuses the files of the current snapshot which the pending snapshot has in common with it. The
+   * files are compared asynchronously on the snapshot store, and the initial chunk is only
+   * acknowledged afterwards, such that the leader can skip the reused files.
+   */
+  private CompletableFuture<InstallResponse> reuseSnapshotFiles(final InstallRequest request) {
+    final var snapshot = pendingSnapshot;
+    final var response = new CompletableFuture<InstallResponse>();
+    reusingSnapshotFiles = true;
+    snapshot
+        .reuseFiles(request.fileChecksums())
+        .onComplete(
+            (reusedFiles, error) -> {
+              if (snapshot != pendingSnapshot) {
+                // aborted meanwhile, e.g. because a newer snapshot is received
+                response.complete(
+                    logResponse(
+                        InstallResponse.builder()
+                            .withStatus(RaftResponse.Status.ERROR)
+                            .withError(
+                                RaftError.Type.APPLICATION_ERROR,
+                                "Snapshot was aborted while reusing snapshot files")
+                            .build()));
+                return;
+              }
+
+              reusingSnapshotFiles = false;
+              if (error != null) {
+                log.warn(
+                    "Failed to reuse files of the current snapshot, rolling back snapshot {}",
+                    snapshot,
+                    error);
+                abortPendingSnapshots();
+                response.complete(
+                    logResponse(
+                        InstallResponse.builder()
+                            .withStatus(RaftResponse.Status.ERROR)
+                            .withError(
+                                RaftError.Type.APPLICATION_ERROR, "Failed to reuse snapshot files")
+                            .build()));
+              } else {
+                reusedSnapshotFiles = reusedFiles;
+                response.complete(acceptSnapshotChunk(request));
+              }
+            },
+            raft.getThreadContext());
+    return response;
+  }
+
+  /** Updates the expected chunk after a chunk was applied, which didn't complete the snapshot. */
+  private InstallResponse acceptSnapshotChunk(final InstallRequest request) {
+    if (request.isInitial() && !reusedSnapshotFiles.isEmpty()) {
+      setNextExpected(nextChunkIdAfterReusedFiles(request));
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
     }
+    previouslyReceivedSnapshotChunkId = request.chunkId();
+
+    return logResponse(
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize)
+            .withReusedFiles(request.isInitial() ? reusedSnapshotFiles : Set.of())
+            .build());
+  }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+  /**
+   * The leader skips the reused files, and continues with the next file in lexicographic order
+   * which is missing, starting at its beginning. If the next chunk of the initial request belongs
+   * to a file which is not reused, the leader continues with it as usual.
+   */
+  private ByteBuffer nextChunkIdAfterReusedFiles(final InstallRequest request) {
+    final var nextChunkId = request.nextChunkId();
+    if (nextChunkId == null
+        || !reusedSnapshotFiles.contains(new SnapshotChunkId(nextChunkId).fileName())) {
+      return nextChunkId;
+    }
+
+    final var initialFileName = new SnapshotChunkId(request.chunkId()).fileName();
+    final var fileNames = new TreeSet<>(request.fileChecksums().keySet());
+    for (final var fileName : fileNames.tailSet(initialFileName, false)) {
+      if (!reusedSnapshotFiles.contains(fileName)) {
+        return new SnapshotChunkId(fileName, 0).id();
+      }
+    }
+
+    return null;
   }
 
   @Override
@@ -424,6 +530,37 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
+    if (reusingSnapshotFiles) {
+      // the initial chunk is only acknowledged once the files are reused, so the leader has to
+      // retry any request sent meanwhile
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.ERROR)
+                  .withError(
+                      Type.APPLICATION_ERROR, "Snapshot files are still being reused, retry later")
+                  .build()));
+    }
+
+    if (canResumePendingSnapshot(request)) {
+      // The leader started to send the snapshot we are already receiving again, e.g. because the
+      // leader changed, so we let it continue where the previous transfer stopped
+      log.info(
+          "Resuming to receive snapshot {} from {} at chunk {}",
+          pendingSnapshot,
+          request.leader(),
+          new SnapshotChunkId(nextPendingSnapshotChunkId));
+      snapshotReplicationMetrics.countResumed();
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.OK)
+                  .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(reusedSnapshotFiles)
+                  .withResumeChunkId(nextPendingSnapshotChunkId)
+                  .build()));
+    }
+
     if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
       // Duplicate request for the same chunk that was previously processed
       return Either.left(
@@ -431,6 +568,24 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(request.isInitial() ? reusedSnapshotFiles : Set.of())
+                  .build()));
+    }
+
+    if (canResumeAfterMissedChunk(request)) {
+      // The leader pipelines chunks, and one of them got lost on the way; instead of starting over,
+      // let the leader resend from the chunk we are still missing
+      log.debug(
+          "Expected chunkId of [{}] got [{}], asking {} to resend from the missing chunk",
+          new SnapshotChunkId(nextPendingSnapshotChunkId),
+          new SnapshotChunkId(request.chunkId()),
+          request.leader());
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.OK)
+                  .withPreferredChunkSize(snapshotChunkSize)
+                  .withResumeChunkId(nextPendingSnapshotChunkId)
                   .build()));
     }
 
@@ -537,6 +692,30 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
+  /**
+   * A pending snapshot can be resumed if the leader starts to send the same snapshot again. The
+   * snapshot ID alone is not enough, as different nodes could take snapshots with the same ID but
+   * different files, so the checksums of all files have to match too.
+   */
+  private boolean canResumePendingSnapshot(final InstallRequest request) {
+    return request.isInitial()
+        && !request.complete()
+        && pendingSnapshot != null
+        && nextPendingSnapshotChunkId != null
+        && request.currentTerm() >= raft.getTerm()
+        && !request.fileChecksums().isEmpty()
+        && request.fileChecksums().equals(pendingSnapshotFileChecksums);
+  }
+
+  // the pending snapshot is the one of the request, see onInstall
+  private boolean canResumeAfterMissedChunk(final InstallRequest request) {
+    return !request.isInitial()
+        && pendingSnapshot != null
+        && nextPendingSnapshotChunkId != null
+        && !nextPendingSnapshotChunkId.equals(request.chunkId())
+        && request.currentTerm() >= raft.getTerm();
+  }
+
   private void setNextExpected(final ByteBuffer nextChunkId) {
     nextPendingSnapshotChunkId = nextChunkId;
   }
@@ -545,6 +724,9 @@ public class PassiveRole extends InactiveRole {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
+      pendingSnapshotFileChecksums = Map.of();
+      reusingSnapshotFiles = false;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -757,10 +939,24 @@ public class PassiveRole extends InactiveRole {
     }
 
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
+    if (raft.getLog().flushesDirectly()) {
+      flush(lastLogIndex, request.prevLogIndex());
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+      // Return a successful append response.
+      succeedAppend(lastLogIndex, future);
+      return;
+    }
+
+    // previous appends may still be in flight, so wait for them even if nothing was appended now
+    final long appendedIndex = lastLogIndex;
+    final var flushed = raft.getLog().flushAsync();
+    if (flushed.isDone() && !flushed.isCompletedExceptionally()) {
+      succeedAppend(appendedIndex, future);
+    } else {
+      // the flusher only fails the future when it is closed, after which no response is expected
+      flushed.thenRun(
+          () -> raft.getThreadContext().execute(() -> succeedAppend(appendedIndex, future)));
+    }
   }
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which groups the appends signalled via {@link
+ * #flush(Journal)} or {@link #flushAsync(Journal)} into batches, and flushes each batch once,
+ * asynchronously. It adapts to the load:
+ *
+ * <ul>
+ *   <li>if the journal was not flushed within the last target latency, e.g. under low load, a
+ *       flush is scheduled immediately
+ *   <li>otherwise the flush is scheduled such that it happens one target latency after the
+ *       previous one, grouping all appends in between into a single flush
+ *   <li>if the journal has more unflushed bytes than the configured maximum, a flush is scheduled
+ *       immediately, regardless of when the last one was
+ * </ul>
+ *
+ * <p>In other words, there is at most one flush per target latency, unless enough data is
+ * appended in between, in which case flushes are bounded by the number of bytes in flight.
+ *
+ * <p>Unlike the {@link DelayedFlusher}, this does not trade safety for performance: the futures
+ * returned by {@link #flushAsync(Journal)} are only completed once the flush of their group
+ * completed, and appends are only acknowledged (or committed) once their future is completed. The
+ * target latency thus adds to the commit latency under load, and the recommended configuration is
+ * a target latency in the order of a disk flush.
+ *
+ * <p>NOTE: flushes are always performed on the given scheduler, never on the caller thread, such
+ * that there are no concurrent flushes.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration targetLatency;
+  private final long maxBytesInFlight;
+  private final LongSupplier nanoClock;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+  private boolean immediateFlushScheduled;
+  private long lastFlushNanos;
+  private List<CompletableFuture<Void>> awaitingFlush = new ArrayList<>();
+
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler, final Duration targetLatency, final long maxBytesInFlight) {
+    this(scheduler, targetLatency, maxBytesInFlight, System::nanoTime);
+  }
+
+  GroupCommitFlusher(
+      final Scheduler scheduler,
+      final Duration targetLatency,
+      final long maxBytesInFlight,
+      final LongSupplier nanoClock) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.targetLatency =
+        Objects.requireNonNull(targetLatency, "must specify a valid target latency");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+    if (targetLatency.isNegative() || targetLatency.isZero()) {
+      throw new IllegalArgumentException(
+          "Expected target latency to be positive, but got %s".formatted(targetLatency));
+    }
+    if (maxBytesInFlight <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max bytes in flight to be positive, but got %d".formatted(maxBytesInFlight));
+    }
+
+    this.maxBytesInFlight = maxBytesInFlight;
+    lastFlushNanos = nanoClock.getAsLong() - targetLatency.toNanos();
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    scheduleFlush(journal);
+  }
+
+  @Override
+  public CompletableFuture<Void> flushAsync(final Journal journal) {
+    final CompletableFuture<Void> flushed = new CompletableFuture<>();
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Cannot flush journal, as the flusher is closed"));
+      }
+
+      // unflushed bytes are only released once a flush completed, so nothing is in flight
+      if (journal.getUnflushedBytes() == 0 && awaitingFlush.isEmpty()) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      awaitingFlush.add(flushed);
+      scheduleFlush(journal);
+    }
+
+    return flushed;
+  }
+
+  @Override
+  public void close() {
+    final List<CompletableFuture<Void>> waiting;
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+
+      waiting = awaitingFlush;
+      awaitingFlush = new ArrayList<>();
+    }
+
+    final var error =
+        new IllegalStateException("Flusher was closed before the journal was flushed");
+    waiting.forEach(future -> future.completeExceptionally(error));
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (immediateFlushScheduled) {
+        LOGGER.trace("Skipped scheduling flush as there is already a pending, immediate flush");
+        return;
+      }
+
+      final long unflushedBytes = journal.getUnflushedBytes();
+      if (unflushedBytes >= maxBytesInFlight) {
+        LOGGER.trace(
+            "Scheduling immediate flush up to index {} as {} bytes are in flight",
+            journal.getLastIndex(),
+            unflushedBytes);
+        if (scheduledFlush != null) {
+          scheduledFlush.cancel();
+        }
+        scheduleFlush(journal, Duration.ZERO);
+        immediateFlushScheduled = true;
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        final long sinceLastFlush = nanoClock.getAsLong() - lastFlushNanos;
+        final var delay = Duration.ofNanos(Math.max(0, targetLatency.toNanos() - sinceLastFlush));
+        LOGGER.trace("Scheduling flush in {} up to index {}", delay, journal.getLastIndex());
+        scheduleFlush(journal, delay);
+        immediateFlushScheduled = delay.isZero();
+      } else {
+        LOGGER.trace("Skipped scheduling flush as there is already a pending, scheduled flush");
+      }
+    }
+  }
+
+  private void scheduleFlush(final Journal journal, final Duration delay) {
+    scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+  }
+
+  private void asyncFlush(final Journal journal) {
+    // only the appends signalled before the flush starts are guaranteed to be part of it
+    final List<CompletableFuture<Void>> group;
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+      immediateFlushScheduled = false;
+      lastFlushNanos = nanoClock.getAsLong();
+      group = awaitingFlush;
+      awaitingFlush = new ArrayList<>();
+    }
+
+    LOGGER.trace("Flushing journal group commit of {} appends", group.size());
+
+    try {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", targetLatency, e);
+      retryFlush(journal, group);
+      return;
+    }
+
+    group.forEach(future -> future.complete(null));
+  }
+
+  private void retryFlush(final Journal journal, final List<CompletableFuture<Void>> group) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        final var error = new IllegalStateException("Flusher was closed before flush was retried");
+        group.forEach(future -> future.completeExceptionally(error));
+        return;
+      }
+
+      // the group stays unacknowledged until a later flush succeeds
+      group.addAll(awaitingFlush);
+      awaitingFlush = group;
+
+      // never retry immediately, even if there are too many bytes in flight, to avoid spinning
+      if (scheduledFlush == null) {
+        scheduleFlush(journal, targetLatency);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", targetLatency="
+        + targetLatency
+        + ", maxBytesInFlight="
+        + maxBytesInFlight
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -126,6 +126,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the index of a segment is persisted next to it once the segment is sealed, such
+   * that it can be restored instead of rebuilt when the log is opened again.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistedSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
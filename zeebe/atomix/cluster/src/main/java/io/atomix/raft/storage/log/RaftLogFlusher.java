@@ -10,6 +10,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -27,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} keeps the guarantees of the {@link DirectFlusher}, but flushes off
+ * the Raft thread and groups concurrent appends into a single flush: appends are only acknowledged
+ * once the flush of their group completed, via {@link #flushAsync(Journal)}. See its documentation
+ * for more.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +45,22 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and returns a future which is
+   * completed once the data appended before this call may be acknowledged. Unless overridden, this
+   * is the same as {@link #flush(Journal)}, and the future is completed right away; the guarantees
+   * are then those of {@link #flush(Journal)}.
+   *
+   * <p>The future may be completed on a different thread than the caller's.
+   *
+   * @param journal the journal to flush
+   * @return a future completed once the appended data may be acknowledged
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    flush(journal);
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
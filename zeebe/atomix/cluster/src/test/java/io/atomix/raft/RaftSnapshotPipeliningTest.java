@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotPipeliningTest {
+
+  private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              final var partitionConfig =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              partitionConfig.setMaxSnapshotChunksInFlight(MAX_CHUNKS_IN_FLIGHT);
+              builder.withPartitionConfig(partitionConfig);
+            }
+          });
+
+  private RaftServer leader;
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithChunksInFlight() throws Exception {
+    // given
+    final int numberOfChunks = 10;
+    final var totalInstallRequests = new AtomicInteger();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        request -> {
+          totalInstallRequests.incrementAndGet();
+          return CompletableFuture.completedFuture(null);
+        });
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequests.get())
+        .describedAs("Should send every chunk once")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + MAX_CHUNKS_IN_FLIGHT + 1);
+  }
+
+  @Test
+  public void shouldResendFromMissingChunk() throws Exception {
+    // given
+    final int numberOfChunks = 10;
+    final var totalInstallRequests = new AtomicInteger();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        request -> {
+          // drop the third chunk, such that the follower receives the pipelined chunks after it
+          // out of order
+          if (totalInstallRequests.incrementAndGet() == 3) {
+            return CompletableFuture.failedFuture(new TimeoutException());
+          }
+          return CompletableFuture.completedFuture(null);
+        });
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequests.get())
+        .describedAs("Should only resend the chunks starting at the missing one")
+        .isLessThan(numberOfChunks + 2 * MAX_CHUNKS_IN_FLIGHT + 1);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+}
@@ -79,6 +79,7 @@ public class LeaderRoleTest {
     when(context.getThreadContext()).thenReturn(threadContext);
 
     log = mock(RaftLog.class);
+    when(log.flushesDirectly()).thenReturn(true);
     when(log.getLastIndex()).thenReturn(1L);
     when(log.append(any(RaftLogEntry.class)))
         .then(
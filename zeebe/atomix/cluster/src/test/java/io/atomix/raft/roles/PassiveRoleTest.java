@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,24 +26,39 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotId;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -54,6 +71,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
 
   @Before
   public void setup() throws IOException {
@@ -67,7 +85,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -76,6 +94,11 @@ public class PassiveRoleTest {
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(i -> runInline(i.getArgument(0))).when(threadContext).execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
 
     role = new PassiveRole(ctx);
   }
@@ -135,6 +158,41 @@ public class PassiveRoleTest {
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendOnlyOnceFlushed() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+
+    final CompletableFuture<Void> flushed = new CompletableFuture<>();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    assertThat(response).isNotDone();
+
+    // when
+    flushed.complete(null);
+
+    // then
+    assertThat(response).isCompleted();
+    assertThat(response.join().lastLogIndex()).isOne();
+    verify(log, never()).flush();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() {
     // given
@@ -237,4 +295,206 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldResumeReceivingSnapshotAtExpectedChunk() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    final var fileChecksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L);
+    role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join();
+    role.onInstall(installRequest("2-1-1-1", "file2", "file3", null)).join();
+
+    // when - a new leader starts to send the same snapshot again
+    final InstallResponse response =
+        role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.resumeChunkId()).isEqualTo(chunkId("file3"));
+    verify(receivedSnapshot, times(2)).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldNotResumeReceivingSnapshotWithDifferentFiles() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    role.onInstall(installRequest("2-1-1-1", "file1", "file2", Map.of("file1", 1L, "file2", 2L)))
+        .join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(
+                installRequest("2-1-1-1", "file1", "file2", Map.of("file1", 3L, "file2", 4L)))
+            .join();
+
+    // then
+    assertThat(response.resumeChunkId()).isNull();
+    verify(receivedSnapshot).apply(any());
+  }
+
+  @Test
+  public void shouldAcknowledgeInitialChunkOnlyOnceFilesAreReused() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    final var reusedFiles = new CompletableActorFuture<Set<String>>();
+    when(receivedSnapshot.reuseFiles(any())).thenReturn(reusedFiles);
+    final var fileChecksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L);
+
+    // when
+    final var response = role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums));
+
+    // then
+    assertThat(response).isNotDone();
+    assertThat(role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join())
+        .as("a retried request is rejected while the files are reused")
+        .extracting(InstallResponse::status)
+        .isEqualTo(Status.ERROR);
+
+    // when
+    reusedFiles.complete(Set.of("file2"));
+
+    // then
+    assertThat(response).isCompleted();
+    assertThat(response.join().status()).isEqualTo(Status.OK);
+    assertThat(response.join().reusedFiles()).containsExactly("file2");
+    verify(receivedSnapshot).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldResumeAtExpectedChunkOnOutOfOrderChunkAfterFilesAreReused() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    when(receivedSnapshot.reuseFiles(any()))
+        .thenReturn(CompletableActorFuture.completed(Set.of("file2")));
+    final var fileChecksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L, "file4", 4L);
+    role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join();
+
+    // when - the leader skips file2 and is expected to continue with file3
+    final InstallResponse response =
+        role.onInstall(installRequest("2-1-1-1", "file4", "file4", null)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.resumeChunkId()).isEqualTo(chunkId("file3"));
+    verify(receivedSnapshot).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldResumeAtMissingChunkWhenPipelinedChunkIsLost() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    final var fileChecksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L);
+    role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join();
+
+    // when - the chunk of file2 is lost, and the one of file3 arrives instead
+    final InstallResponse response =
+        role.onInstall(installRequest("2-1-1-1", "file3", "file4", null)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.resumeChunkId()).isEqualTo(chunkId("file2"));
+    verify(receivedSnapshot).apply(any());
+    verify(receivedSnapshot, never()).abort();
+
+    // when - the leader resends from the missing chunk
+    final InstallResponse resentResponse =
+        role.onInstall(installRequest("2-1-1-1", "file2", "file3", null)).join();
+
+    // then
+    assertThat(resentResponse.status()).isEqualTo(Status.OK);
+    assertThat(resentResponse.resumeChunkId()).isNull();
+    verify(receivedSnapshot, times(2)).apply(any());
+  }
+
+  @Test
+  public void shouldAcceptNextMissingFileAfterFilesAreReused() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    when(receivedSnapshot.reuseFiles(any()))
+        .thenReturn(CompletableActorFuture.completed(Set.of("file2")));
+    final var fileChecksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L, "file4", 4L);
+    role.onInstall(installRequest("2-1-1-1", "file1", "file2", fileChecksums)).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("2-1-1-1", "file3", "file4", null)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldAbortSnapshotIfFilesCannotBeReused() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("2-1-1-1");
+    when(receivedSnapshot.reuseFiles(any()))
+        .thenReturn(CompletableActorFuture.completedExceptionally(new IOException("expected")));
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("2-1-1-1", "file1", "file2", Map.of("file1", 1L))).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot).abort();
+  }
+
+  private ReceivedSnapshot receivedSnapshot(final String snapshotId) {
+    final var id = mock(SnapshotId.class);
+    when(id.getSnapshotIdAsString()).thenReturn(snapshotId);
+
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.snapshotId()).thenReturn(id);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reuseFiles(any())).thenReturn(CompletableActorFuture.completed(Set.of()));
+    when(receivedSnapshot.abort()).thenReturn(CompletableActorFuture.completed(null));
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(snapshotId);
+    return receivedSnapshot;
+  }
+
+  private InstallRequest installRequest(
+      final String snapshotId,
+      final String fileName,
+      final String nextFileName,
+      final Map<String, Long> fileChecksums) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn(snapshotId);
+    when(chunk.getChunkName()).thenReturn(fileName);
+    when(chunk.getTotalCount()).thenReturn(3);
+    when(chunk.getContent()).thenReturn(fileName.getBytes(StandardCharsets.UTF_8));
+    when(chunk.getTotalFileSize()).thenReturn((long) fileName.length());
+
+    final var builder =
+        InstallRequest.builder()
+            .withCurrentTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withIndex(2)
+            .withTerm(1)
+            .withVersion(1)
+            .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+            .withChunkId(chunkId(fileName))
+            .withNextChunkId(chunkId(nextFileName))
+            .withInitial(fileChecksums != null)
+            .withComplete(false);
+    if (fileChecksums != null) {
+      builder.withFileChecksums(fileChecksums);
+    }
+    return builder.build();
+  }
+
+  private ByteBuffer chunkId(final String fileName) {
+    return ByteBuffer.wrap((fileName + "__0").getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Object runInline(final Runnable runnable) {
+    runnable.run();
+    return null;
+  }
 }
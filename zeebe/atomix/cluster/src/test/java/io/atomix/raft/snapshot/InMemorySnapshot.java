@@ -131,6 +131,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void skip(final Set<String> fileNames) {
+        // in-memory snapshots never reuse files, so nothing is ever skipped
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -0,0 +1,295 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private static final Duration TARGET_LATENCY = Duration.ofMillis(10);
+  private static final long MAX_BYTES_IN_FLIGHT = 1024;
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final Journal journal = Mockito.mock(Journal.class);
+  private long nanoTime = 0;
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, TARGET_LATENCY, MAX_BYTES_IN_FLIGHT, () -> nanoTime);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenIdle() {
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ZERO);
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldGroupFlushesWithinTargetLatency() {
+    // given
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // when
+    nanoTime += Duration.ofMillis(4).toNanos();
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ofMillis(6));
+  }
+
+  @Test
+  void shouldFlushWhenScheduledTaskIsRun() {
+    // given
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenTooManyBytesInFlight() {
+    // given
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+    final var grouped = scheduler.operations.get(0);
+
+    // when
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(MAX_BYTES_IN_FLIGHT);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(grouped.cancelled).isTrue();
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.get(1).delay).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // given
+    flusher.flush(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // when
+    flusher.close();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldRetryAfterTargetLatencyOnFlushError() {
+    // given
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(MAX_BYTES_IN_FLIGHT);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(TARGET_LATENCY);
+
+    // when
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldCompleteFlushAsyncOnlyOnceFlushed() {
+    // given
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(1L);
+
+    // when
+    final var first = flusher.flushAsync(journal);
+    final var second = flusher.flushAsync(journal);
+
+    // then
+    assertThat(first).isNotDone();
+    assertThat(second).isNotDone();
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+  }
+
+  @Test
+  void shouldCompleteFlushAsyncImmediatelyIfNothingIsInFlight() {
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(flushed).isCompleted();
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldNotCompleteFlushAsyncAppendedDuringFlushWithIt() {
+    // given
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(1L);
+    final var first = flusher.flushAsync(journal);
+    final List<CompletableFuture<Void>> appendedDuringFlush = new ArrayList<>();
+    Mockito.doAnswer(invocation -> appendedDuringFlush.add(flusher.flushAsync(journal)))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(appendedDuringFlush).singleElement().satisfies(f -> assertThat(f).isNotDone());
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(appendedDuringFlush).singleElement().satisfies(f -> assertThat(f).isCompleted());
+  }
+
+  @Test
+  void shouldNotCompleteFlushAsyncOnFlushError() {
+    // given
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(1L);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .doNothing()
+        .when(journal)
+        .flush();
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(flushed).isNotDone();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(flushed).isCompleted();
+  }
+
+  @Test
+  void shouldFailFlushAsyncOnClose() {
+    // given
+    Mockito.when(journal.getUnflushedBytes()).thenReturn(1L);
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    assertThat(flusher.flushAsync(journal)).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    // when - then
+    assertThatThrownBy(() -> new GroupCommitFlusher(scheduler, Duration.ZERO, MAX_BYTES_IN_FLIGHT))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GroupCommitFlusher(scheduler, TARGET_LATENCY, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final Duration delay, final Runnable callback) {
+      final var scheduled = new TestScheduled(delay, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("Group commit flushes are never periodic");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
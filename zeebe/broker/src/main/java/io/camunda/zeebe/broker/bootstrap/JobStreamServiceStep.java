@@ -36,6 +36,8 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
       final ConcurrencyControl concurrencyControl,
       final ActorFuture<BrokerStartupContext> startupFuture) {
     final var clusterServices = brokerStartupContext.getClusterServices();
+    final var jobStreamCfg =
+        brokerStartupContext.getBrokerConfiguration().getExperimental().getJobStream();
     final var errorHandlerService =
         new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
 
@@ -46,7 +48,12 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics());
+                new JobStreamMetrics(),
+                jobStreamCfg.getBatchSettings(
+                    brokerStartupContext
+                        .getBrokerConfiguration()
+                        .getNetwork()
+                        .getMaxMessageSizeInBytes()));
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
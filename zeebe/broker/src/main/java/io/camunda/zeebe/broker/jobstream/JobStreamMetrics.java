@@ -11,6 +11,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class JobStreamMetrics implements RemoteStreamMetrics {
   private static final String NAMESPACE = "zeebe_broker";
@@ -44,6 +45,14 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .labelNames("code")
           .register();
 
+  private static final Histogram PUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("jobs_push_batch_size")
+          .help("Number of jobs pushed to a stream with a single request, if batching is enabled")
+          .buckets(2, 4, 8, 16, 32, 64, 128)
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -68,4 +77,9 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  @Override
+  public void batchPushed(final int size) {
+    PUSH_BATCH_SIZE.observe(size);
+  }
 }
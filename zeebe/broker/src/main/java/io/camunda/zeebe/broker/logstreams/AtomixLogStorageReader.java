@@ -28,12 +28,13 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>Blocks are returned without copying them: the raft log serialization only wraps the journal
+ * record, so each block is a view into the mapped memory of a journal segment. The journal reader
+ * guarantees that a record remains valid until it has moved past the record following it (see
+ * {@link io.camunda.zeebe.journal.JournalReader}), which covers the single-step look-ahead: the
+ * block returned by {@link #next()} remains valid while the next one is read, even if the latter is
+ * in another segment and the former was compacted. Doing more than a single-step look-ahead would
+ * require copying the blocks.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
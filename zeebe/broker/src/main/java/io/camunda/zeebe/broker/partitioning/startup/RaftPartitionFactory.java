@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -79,6 +80,8 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPersistSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistSegmentIndex());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -95,6 +98,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -111,7 +116,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, null));
     }
 
     return createFlusherFactory(config);
@@ -119,6 +124,15 @@ public final class RaftPartitionFactory {
 
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
+      final var groupCommit = config.groupCommit();
+      if (groupCommit.enabled()) {
+        return threadFactory ->
+            new GroupCommitFlusher(
+                threadFactory.createContext(),
+                groupCommit.targetLatency(),
+                groupCommit.maxBytesInFlight().toBytes());
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
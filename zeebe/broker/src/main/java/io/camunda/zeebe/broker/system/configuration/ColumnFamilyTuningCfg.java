@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compression;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tuning of a single column family, only applied if physical column families are enabled (see
+ * {@link RocksdbCfg#isEnablePhysicalColumnFamilies()}).
+ */
+public final class ColumnFamilyTuningCfg {
+
+  private int prefixLength = ColumnFamilyTuning.DEFAULT_PREFIX_LENGTH;
+  private double bloomFilterBitsPerKey = ColumnFamilyTuning.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private Compression compression = ColumnFamilyTuning.DEFAULT_COMPRESSION;
+  private Compaction compaction = ColumnFamilyTuning.DEFAULT_COMPACTION;
+  private DataSize fifoMaxSize =
+      DataSize.ofBytes(ColumnFamilyTuning.DEFAULT_FIFO_MAX_TABLE_FILES_SIZE);
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  public void setPrefixLength(final int prefixLength) {
+    this.prefixLength = prefixLength;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  public Compression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final Compression compression) {
+    this.compression = compression;
+  }
+
+  public Compaction getCompaction() {
+    return compaction;
+  }
+
+  public void setCompaction(final Compaction compaction) {
+    this.compaction = compaction;
+  }
+
+  public DataSize getFifoMaxSize() {
+    return fifoMaxSize;
+  }
+
+  public void setFifoMaxSize(final DataSize fifoMaxSize) {
+    this.fifoMaxSize = fifoMaxSize;
+  }
+
+  public ColumnFamilyTuning createColumnFamilyTuning() {
+    return new ColumnFamilyTuning()
+        .setPrefixLength(prefixLength)
+        .setBloomFilterBitsPerKey(bloomFilterBitsPerKey)
+        .setCompression(compression)
+        .setCompaction(compaction)
+        .setFifoMaxTableFilesSize(fifoMaxSize.toBytes());
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyTuningCfg{"
+        + "prefixLength="
+        + prefixLength
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compression="
+        + compression
+        + ", compaction="
+        + compaction
+        + ", fifoMaxSize="
+        + fifoMaxSize
+        + '}';
+  }
+}
@@ -16,6 +16,7 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
   public static final Duration DEFAULT_SNAPSHOT_REQUEST_TIMEOUT = Duration.ofMillis(2500);
   public static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofGigabytes(1);
+  public static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
   private static final Duration DEFAULT_CONFIGURATION_CHANGE_TIMEOUT = Duration.ofSeconds(10);
   // Requests should time out faster than the election timeout to ensure that a single missed
   // heartbeat does not cause immediate re-election.
@@ -24,15 +25,18 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -58,6 +62,14 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -97,4 +109,12 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
 }
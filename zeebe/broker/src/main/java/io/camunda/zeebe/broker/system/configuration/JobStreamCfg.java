@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchSettings;
+import java.time.Duration;
+
+public final class JobStreamCfg {
+  private static final int DEFAULT_MAX_BATCH_SIZE = 1;
+  private static final Duration DEFAULT_MAX_BATCH_DELAY = Duration.ofMillis(5);
+  // the share of the maximum message size a batch may use, leaving room for the message headers
+  private static final double MAX_BATCH_BYTES_RATIO = 0.9;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private Duration maxBatchDelay = DEFAULT_MAX_BATCH_DELAY;
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Duration getMaxBatchDelay() {
+    return maxBatchDelay;
+  }
+
+  public void setMaxBatchDelay(final Duration maxBatchDelay) {
+    this.maxBatchDelay = maxBatchDelay;
+  }
+
+  /**
+   * Returns the batch settings, limiting the size of a batch to stay below the given maximum
+   * message size, such that batched jobs are never rejected by the transport.
+   *
+   * @param maxMessageSize the maximum message size of the transport, in bytes
+   */
+  public RemoteStreamBatchSettings getBatchSettings(final long maxMessageSize) {
+    final var maxBatchBytes =
+        (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxMessageSize * MAX_BATCH_BYTES_RATIO));
+    return new RemoteStreamBatchSettings(maxBatchSize, maxBatchDelay, maxBatchBytes);
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{"
+        + "maxBatchSize="
+        + maxBatchSize
+        + ", maxBatchDelay="
+        + maxBatchDelay
+        + '}';
+  }
+}
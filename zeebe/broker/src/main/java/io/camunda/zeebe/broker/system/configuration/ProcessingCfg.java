@@ -13,8 +13,14 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_BATCH_LIMIT = 1;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private int maxBatchesInReplayTransaction = DEFAULT_REPLAY_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enableInlineProcessingStages = false;
+  private boolean enableAdaptiveBatchSizing = false;
+  private Duration adaptiveBatchDurationTarget = Duration.ofMillis(10);
+  private boolean enableProcessingProfiling = false;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -24,6 +30,16 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxBatchesInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxBatchesInReplayTransaction));
+    }
+    if (!adaptiveBatchDurationTarget.isPositive()) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchDurationTarget must be positive but was %s"
+              .formatted(adaptiveBatchDurationTarget));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +55,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  public void setMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -47,6 +71,38 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnableInlineProcessingStages() {
+    return enableInlineProcessingStages;
+  }
+
+  public void setEnableInlineProcessingStages(final boolean enableInlineProcessingStages) {
+    this.enableInlineProcessingStages = enableInlineProcessingStages;
+  }
+
+  public boolean isEnableAdaptiveBatchSizing() {
+    return enableAdaptiveBatchSizing;
+  }
+
+  public void setEnableAdaptiveBatchSizing(final boolean enableAdaptiveBatchSizing) {
+    this.enableAdaptiveBatchSizing = enableAdaptiveBatchSizing;
+  }
+
+  public Duration getAdaptiveBatchDurationTarget() {
+    return adaptiveBatchDurationTarget;
+  }
+
+  public void setAdaptiveBatchDurationTarget(final Duration adaptiveBatchDurationTarget) {
+    this.adaptiveBatchDurationTarget = adaptiveBatchDurationTarget;
+  }
+
+  public boolean isEnableProcessingProfiling() {
+    return enableProcessingProfiling;
+  }
+
+  public void setEnableProcessingProfiling(final boolean enableProcessingProfiling) {
+    this.enableProcessingProfiling = enableProcessingProfiling;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -60,8 +116,18 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxBatchesInReplayTransaction="
+        + maxBatchesInReplayTransaction
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enableInlineProcessingStages="
+        + enableInlineProcessingStages
+        + ", enableAdaptiveBatchSizing="
+        + enableAdaptiveBatchSizing
+        + ", adaptiveBatchDurationTarget="
+        + adaptiveBatchDurationTarget
+        + ", enableProcessingProfiling="
+        + enableProcessingProfiling
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
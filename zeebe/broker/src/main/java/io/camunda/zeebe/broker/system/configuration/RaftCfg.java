@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, null);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,28 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(boolean enabled, Duration delayTime, GroupCommitConfig groupCommit) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final GroupCommitConfig groupCommit) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit == null ? GroupCommitConfig.DEFAULT : groupCommit;
+    }
+  }
+
+  public record GroupCommitConfig(
+      boolean enabled, Duration targetLatency, DataSize maxBytesInFlight) {
+    private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(2);
+    private static final DataSize DEFAULT_MAX_BYTES_IN_FLIGHT = DataSize.ofMegabytes(4);
+    private static final GroupCommitConfig DEFAULT =
+        new GroupCommitConfig(false, DEFAULT_TARGET_LATENCY, DEFAULT_MAX_BYTES_IN_FLIGHT);
+
+    public GroupCommitConfig(
+        final boolean enabled, final Duration targetLatency, final DataSize maxBytesInFlight) {
+      this.enabled = enabled;
+      this.targetLatency = targetLatency == null ? DEFAULT_TARGET_LATENCY : targetLatency;
+      this.maxBytesInFlight =
+          maxBytesInFlight == null ? DEFAULT_MAX_BYTES_IN_FLIGHT : maxBytesInFlight;
     }
   }
 }
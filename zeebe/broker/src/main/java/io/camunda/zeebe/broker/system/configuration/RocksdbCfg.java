@@ -8,7 +8,14 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +35,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enablePhysicalColumnFamilies =
+      RocksDbConfiguration.DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED;
+  private boolean enableSingleWriter = RocksDbConfiguration.DEFAULT_SINGLE_WRITER_ENABLED;
+  // tuning per column family, by the name of the column family, e.g. JOBS
+  private Map<String, ColumnFamilyTuningCfg> columnFamilyTuning = new HashMap<>();
+  // in-memory caches in front of RocksDB, by the name of the column family, e.g. VARIABLES
+  private Map<String, StateCacheCfg> stateCache = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +53,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    // fail early on typos, instead of silently ignoring the tuning
+    columnFamilyTuning.keySet().forEach(RocksdbCfg::toColumnFamily);
+    stateCache.keySet().forEach(RocksdbCfg::toColumnFamily);
+  }
+
+  private static ZbColumnFamilies toColumnFamily(final String name) {
+    final var normalizedName = name.toUpperCase(Locale.ROOT).replace('-', '_');
+    return Arrays.stream(ZbColumnFamilies.values())
+        .filter(columnFamily -> columnFamily.name().equals(normalizedName))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Expected to tune a known column family, but '%s' is none of %s"
+                        .formatted(name, Arrays.toString(ZbColumnFamilies.values()))));
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +151,38 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnablePhysicalColumnFamilies() {
+    return enablePhysicalColumnFamilies;
+  }
+
+  public void setEnablePhysicalColumnFamilies(final boolean enablePhysicalColumnFamilies) {
+    this.enablePhysicalColumnFamilies = enablePhysicalColumnFamilies;
+  }
+
+  public boolean isEnableSingleWriter() {
+    return enableSingleWriter;
+  }
+
+  public void setEnableSingleWriter(final boolean enableSingleWriter) {
+    this.enableSingleWriter = enableSingleWriter;
+  }
+
+  public Map<String, ColumnFamilyTuningCfg> getColumnFamilyTuning() {
+    return columnFamilyTuning;
+  }
+
+  public void setColumnFamilyTuning(final Map<String, ColumnFamilyTuningCfg> columnFamilyTuning) {
+    this.columnFamilyTuning = columnFamilyTuning;
+  }
+
+  public Map<String, StateCacheCfg> getStateCache() {
+    return stateCache;
+  }
+
+  public void setStateCache(final Map<String, StateCacheCfg> stateCache) {
+    this.stateCache = stateCache;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -130,6 +192,17 @@ public final class RocksdbCfg implements ConfigurationEntry {
   }
 
   public RocksDbConfiguration createRocksDbConfiguration() {
+    final Map<Integer, ColumnFamilyTuning> tuningByValue = new HashMap<>();
+    columnFamilyTuning.forEach(
+        (name, tuning) ->
+            tuningByValue.put(
+                toColumnFamily(name).getValue(), tuning.createColumnFamilyTuning()));
+    final Map<Integer, StateCacheSettings> stateCacheByValue = new HashMap<>();
+    stateCache.forEach(
+        (name, cache) ->
+            stateCacheByValue.put(
+                toColumnFamily(name).getValue(), cache.createStateCacheSettings()));
+
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
         .setMaxOpenFiles(maxOpenFiles)
@@ -139,7 +212,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setPhysicalColumnFamiliesEnabled(enablePhysicalColumnFamilies)
+        .setSingleWriterEnabled(enableSingleWriter)
+        .setColumnFamilyTuning(tuningByValue)
+        .setStateCache(stateCacheByValue);
   }
 
   @Override
@@ -165,6 +242,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enablePhysicalColumnFamilies="
+        + enablePhysicalColumnFamilies
+        + ", enableSingleWriter="
+        + enableSingleWriter
+        + ", columnFamilyTuning="
+        + columnFamilyTuning
+        + ", stateCache="
+        + stateCache
         + '}';
   }
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings.EvictionPolicy;
+import org.springframework.util.unit.DataSize;
+
+/** Settings of the in-memory cache of a single column family, see {@link StateCacheSettings}. */
+public final class StateCacheCfg {
+
+  private DataSize maxSize = DataSize.ofBytes(StateCacheSettings.DEFAULT_MAX_SIZE);
+  private EvictionPolicy evictionPolicy = StateCacheSettings.DEFAULT_EVICTION_POLICY;
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  public void setEvictionPolicy(final EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = evictionPolicy;
+  }
+
+  public StateCacheSettings createStateCacheSettings() {
+    return new StateCacheSettings()
+        .setMaxSize(maxSize.toBytes())
+        .setEvictionPolicy(evictionPolicy);
+  }
+
+  @Override
+  public String toString() {
+    return "StateCacheCfg{" + "maxSize=" + maxSize + ", evictionPolicy=" + evictionPolicy + '}';
+  }
+}
@@ -9,11 +9,14 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize deploymentCacheSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_DEPLOYMENT_CACHE_SIZE);
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +42,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public DataSize getDeploymentCacheSize() {
+    return deploymentCacheSize;
+  }
+
+  public void setDeploymentCacheSize(final DataSize deploymentCacheSize) {
+    this.deploymentCacheSize = deploymentCacheSize;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +59,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", deploymentCacheSize="
+        + deploymentCacheSize
         + '}';
   }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.broker.system.management;
 
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
+import java.util.List;
 import java.util.Map;
 
 public interface BrokerAdminService {
@@ -45,4 +47,12 @@ public interface BrokerAdminService {
    * @return a map of partition id and partition status
    */
   Map<Integer, PartitionStatus> getPartitionStatus();
+
+  /**
+   * Returns the processing profile of all partitions running on this broker. A profile is only
+   * recorded if processing profiling is enabled, and only by the leader of a partition.
+   *
+   * @return a map of partition id and the profile entries per value type, intent and element type
+   */
+  Map<Integer, List<ProfileEntry>> getProcessingProfiles();
 }
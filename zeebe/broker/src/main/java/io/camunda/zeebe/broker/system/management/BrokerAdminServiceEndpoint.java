@@ -8,7 +8,9 @@
 package io.camunda.zeebe.broker.system.management;
 
 import io.camunda.zeebe.broker.SpringBrokerBridge;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -21,6 +23,8 @@ import org.springframework.stereotype.Component;
 @Endpoint(id = "partitions")
 public class BrokerAdminServiceEndpoint {
 
+  private static final String PROCESSING_PROFILE = "processingProfile";
+
   @Autowired private SpringBrokerBridge springBrokerBridge;
 
   private final Map<String, Runnable> operations = new HashMap<>();
@@ -88,4 +92,20 @@ public class BrokerAdminServiceEndpoint {
         .map(BrokerAdminService::getPartitionStatus)
         .orElse(Map.of());
   }
+
+  /**
+   * GET /actuator/partitions/processingProfile - returns the processing profile per partition,
+   * which is only recorded if processing profiling is enabled.
+   */
+  @ReadOperation
+  public Map<Integer, List<ProfileEntry>> processingProfile(@Selector final String resource) {
+    if (!PROCESSING_PROFILE.equals(resource)) {
+      // Not a valid resource
+      return null;
+    }
+    return springBrokerBridge
+        .getAdminService()
+        .map(BrokerAdminService::getProcessingProfiles)
+        .orElse(Map.of());
+  }
 }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId;
 import io.camunda.zeebe.stream.api.StreamClock;
 import io.camunda.zeebe.stream.impl.StreamProcessor;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -117,6 +118,62 @@ public final class BrokerAdminServiceImpl extends Actor implements BrokerAdminSe
     }
   }
 
+  @Override
+  public Map<Integer, List<ProfileEntry>> getProcessingProfiles() {
+    final CompletableFuture<Map<Integer, List<ProfileEntry>>> future = new CompletableFuture<>();
+    final Map<Integer, List<ProfileEntry>> profiles = new ConcurrentHashMap<>();
+    final var partitions = partitionManager.getZeebePartitions();
+    actor.call(
+        () -> {
+          final var profileFutures =
+              partitions.stream()
+                  .map(
+                      partition ->
+                          getProcessingProfile(partition)
+                              .whenComplete(
+                                  (profile, error) -> {
+                                    if (error == null) {
+                                      profiles.put(partition.getPartitionId(), profile);
+                                    }
+                                  }))
+                  .toList();
+          CompletableFuture.allOf(profileFutures.toArray(CompletableFuture[]::new))
+              .whenComplete((r, error) -> future.complete(profiles));
+        });
+
+    try {
+      return future.get(5, TimeUnit.SECONDS);
+    } catch (final Exception e) {
+      LOG.warn("Error when querying processing profiles", e);
+      return Map.of();
+    }
+  }
+
+  private CompletableFuture<List<ProfileEntry>> getProcessingProfile(
+      final ZeebePartition partition) {
+    final CompletableFuture<List<ProfileEntry>> profile = new CompletableFuture<>();
+    actor.runOnCompletion(
+        partition.getStreamProcessor(),
+        (streamProcessor, error) -> {
+          if (error != null) {
+            profile.completeExceptionally(error);
+          } else if (streamProcessor.isEmpty()) {
+            profile.complete(List.of());
+          } else {
+            actor.runOnCompletion(
+                streamProcessor.get().getProcessingProfile(),
+                (entries, profileError) -> {
+                  if (profileError != null) {
+                    profile.completeExceptionally(profileError);
+                  } else {
+                    profile.complete(entries);
+                  }
+                });
+          }
+        });
+    return profile;
+  }
+
   private CompletableFuture<PartitionStatus> getPartitionStatus(final ZeebePartition partition) {
     final CompletableFuture<PartitionStatus> partitionStatus = new CompletableFuture<>();
     final var currentRoleFuture = partition.getCurrentRole();
@@ -55,7 +55,9 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
       final var clockSource =
           ActorClock.current() != null ? ActorClock.current() : InstantSource.system();
       context.setStreamClock(StreamClock.controllable(clockSource));
-      context.setLogStream(buildLogStream(context));
+      final var logStream = buildLogStream(context);
+      context.setLogStream(logStream);
+      context.getComponentHealthMonitor().registerComponent(logStream.getLogName(), logStream);
 
       return CompletableActorFuture.completed(null);
     } else {
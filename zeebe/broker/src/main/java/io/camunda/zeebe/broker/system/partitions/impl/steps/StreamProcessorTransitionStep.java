@@ -159,8 +159,18 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxBatchesInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInReplayTransaction())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setEnableInlineProcessingStages(
+            context.getBrokerCfg().getProcessing().isEnableInlineProcessingStages())
+        .setEnableAdaptiveBatchSizing(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveBatchSizing())
+        .adaptiveBatchDurationTarget(
+            context.getBrokerCfg().getProcessing().getAdaptiveBatchDurationTarget())
+        .setEnableProcessingProfiling(
+            context.getBrokerCfg().getProcessing().isEnableProcessingProfiling())
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
         .processingFilter(processingFilter)
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.logstreams;
+
+import static org.mockito.Mockito.mock;
+
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the number of blocks read per second from a committed raft log, as done when replaying
+ * or exporting. Compares copying each block out of the log, as a look-ahead reader would have to
+ * without the lifetime guarantee of the journal reader, with handing out views into the segments.
+ * The log spans several segments, so segment switches are part of the measurement.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class AtomixLogStorageReaderPerformanceTest {
+  private static final int BLOCK_COUNT = 64 * 1024;
+  private static final int BLOCK_SIZE = 1024;
+  private static final int SEGMENT_SIZE = 8 * 1024 * 1024;
+
+  @Param({"copy", "view"})
+  public String readMode;
+
+  private final ExpandableDirectByteBuffer copyBuffer = new ExpandableDirectByteBuffer(BLOCK_SIZE);
+
+  private Path directory;
+  private RaftLog log;
+  private AtomixLogStorageReader reader;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("log-storage-reader-perf");
+    log =
+        RaftLog.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(mock(JournalMetaStore.class))
+            .build();
+
+    final var block = new byte[BLOCK_SIZE];
+    ThreadLocalRandom.current().nextBytes(block);
+    for (int position = 1; position <= BLOCK_COUNT; position++) {
+      final var entry = new SerializedApplicationEntry(position, position, new UnsafeBuffer(block));
+      log.append(new RaftLogEntry(1, entry));
+    }
+    log.setCommitIndex(log.getLastIndex());
+
+    reader = new AtomixLogStorageReader(log.openCommittedReader());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader.close();
+    log.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BLOCK_COUNT)
+  public long measureSequentialRead() {
+    reader.seek(0);
+
+    long checksum = 0;
+    while (reader.hasNext()) {
+      DirectBuffer block = reader.next();
+      if ("copy".equals(readMode)) {
+        copyBuffer.putBytes(0, block, 0, block.capacity());
+        block = copyBuffer;
+      }
+
+      checksum += block.getLong(0);
+    }
+
+    return checksum;
+  }
+
+  @JMHTest("measureSequentialRead")
+  void shouldBeAtLeastAsFastAsCopyingBlocks(final JMHTestCase testCase) throws RunnerException {
+    // given - the score of copying every block as reference
+    final var copyResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + AtomixLogStorageReaderPerformanceTest.class.getName()
+                            + ".measureSequentialRead\\E$")
+                    .param("readMode", "copy")
+                    .build())
+            .runSingle();
+    final var referenceScore = copyResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("readMode", "view")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+}
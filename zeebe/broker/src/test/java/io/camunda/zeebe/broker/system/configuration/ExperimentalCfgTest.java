@@ -181,4 +181,41 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetJobStreamBatchingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getMaxBatchSize()).isEqualTo(16);
+    assertThat(jobStream.getMaxBatchDelay()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetJobStreamBatchingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.jobStream.maxBatchSize", "32");
+    environment.put("zeebe.broker.experimental.jobStream.maxBatchDelay", "20ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getMaxBatchSize()).isEqualTo(32);
+    assertThat(jobStream.getMaxBatchDelay()).isEqualTo(Duration.ofMillis(20));
+  }
+
+  @Test
+  void shouldDisableJobStreamBatchingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getBatchSettings(cfg.getNetwork().getMaxMessageSizeInBytes()).isEnabled())
+        .isFalse();
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,43 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldReplayOneBatchPerTransactionByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchesInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchesInReplayTransaction must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -132,6 +170,95 @@ final class ProcessingCfgTest {
     assertThat(enabled).isTrue();
   }
 
+  @Test
+  void shouldDisableInlineProcessingStagesByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableInlineProcessingStages();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableInlineProcessingStagesFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableInlineProcessingStages();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableAdaptiveBatchSizingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchSizing();
+
+    // then
+    assertThat(enabled).isFalse();
+    assertThat(cfg.getAdaptiveBatchDurationTarget()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetAdaptiveBatchSizingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchSizing();
+
+    // then
+    assertThat(enabled).isTrue();
+    assertThat(cfg.getAdaptiveBatchDurationTarget()).isEqualTo(Duration.ofMillis(25));
+  }
+
+  @Test
+  void shouldRejectInvalidAdaptiveBatchDurationTarget() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.adaptiveBatchDurationTarget", "0ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("adaptiveBatchDurationTarget must be positive");
+  }
+
+  @Test
+  void shouldDisableProcessingProfilingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableProcessingProfiling();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableProcessingProfilingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableProcessingProfiling();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
   @Test
   void shouldSetSkipPositions() {
     // given
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class RaftCfgTest {
+
+  final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  void shouldDisableGroupCommitByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var groupCommit = cfg.getCluster().getRaft().getFlush().groupCommit();
+
+    // then
+    assertThat(groupCommit.enabled()).isFalse();
+    assertThat(groupCommit.targetLatency()).isEqualTo(Duration.ofMillis(2));
+    assertThat(groupCommit.maxBytesInFlight()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetGroupCommitFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("raft-cfg", environment);
+    final var groupCommit = cfg.getCluster().getRaft().getFlush().groupCommit();
+
+    // then
+    assertThat(groupCommit.enabled()).isTrue();
+    assertThat(groupCommit.targetLatency()).isEqualTo(Duration.ofMillis(5));
+    assertThat(groupCommit.maxBytesInFlight()).isEqualTo(DataSize.ofMegabytes(8));
+  }
+
+  @Test
+  void shouldSetGroupCommitFromEnv() {
+    // given
+    environment.put("zeebe.broker.cluster.raft.flush.groupCommit.enabled", "false");
+    environment.put("zeebe.broker.cluster.raft.flush.groupCommit.targetLatency", "1ms");
+    environment.put("zeebe.broker.cluster.raft.flush.groupCommit.maxBytesInFlight", "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("raft-cfg", environment);
+    final var groupCommit = cfg.getCluster().getRaft().getFlush().groupCommit();
+
+    // then
+    assertThat(groupCommit.enabled()).isFalse();
+    assertThat(groupCommit.targetLatency()).isEqualTo(Duration.ofMillis(1));
+    assertThat(groupCommit.maxBytesInFlight()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldDefaultGroupCommitSettingsIfOnlyEnabled() {
+    // given
+    environment.put("zeebe.broker.cluster.raft.flush.groupCommit.enabled", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var groupCommit = cfg.getCluster().getRaft().getFlush().groupCommit();
+
+    // then
+    assertThat(groupCommit.enabled()).isTrue();
+    assertThat(groupCommit.targetLatency()).isEqualTo(Duration.ofMillis(2));
+    assertThat(groupCommit.maxBytesInFlight()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+}
@@ -8,6 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compression;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings.EvictionPolicy;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -285,4 +291,91 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldCreateRocksDbConfigurationWithColumnFamilyTuning() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isPhysicalColumnFamiliesEnabled()).isTrue();
+    final var jobsTuning =
+        rocksDbConfiguration.getColumnFamilyTuning(ZbColumnFamilies.JOBS.getValue());
+    assertThat(jobsTuning.getPrefixLength()).isEqualTo(16);
+    assertThat(jobsTuning.getCompression()).isEqualTo(Compression.NONE);
+    assertThat(jobsTuning.getCompaction()).isEqualTo(Compaction.UNIVERSAL);
+    assertThat(
+            rocksDbConfiguration
+                .getColumnFamilyTuning(ZbColumnFamilies.TIMERS.getValue())
+                .getCompaction())
+        .isEqualTo(Compaction.LEVEL);
+  }
+
+  @Test
+  public void shouldCreateRocksDbConfigurationWithStateCache() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    final var variablesCache =
+        rocksDbConfiguration.getStateCache(ZbColumnFamilies.VARIABLES.getValue());
+    assertThat(variablesCache.getMaxSize()).isEqualTo(4 * 1024 * 1024L);
+    assertThat(variablesCache.getEvictionPolicy()).isEqualTo(EvictionPolicy.FIFO);
+    assertThat(rocksDbConfiguration.getStateCache(ZbColumnFamilies.JOBS.getValue())).isNull();
+  }
+
+  @Test
+  public void shouldDisablePhysicalColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnablePhysicalColumnFamilies()).isFalse();
+    assertThat(rocksdb.getColumnFamilyTuning()).isEmpty();
+  }
+
+  @Test
+  public void shouldEnableSingleWriterViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isSingleWriterEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldDisableSingleWriterPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSingleWriter()).isFalse();
+  }
+
+  @Test
+  public void shouldRejectTuningOfUnknownColumnFamily() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilyTuning.NOT_A_COLUMN_FAMILY.compaction",
+        "FIFO");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("rocksdb-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected to tune a known column family");
+  }
 }
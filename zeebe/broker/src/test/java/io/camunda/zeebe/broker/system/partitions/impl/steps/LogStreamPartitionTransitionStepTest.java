@@ -41,17 +41,19 @@ class LogStreamPartitionTransitionStepTest {
   private final LogStream logStream = mock(LogStream.class);
   private final LogStreamBuilder logStreamBuilder = spy(LogStream.builder());
   private final LogStream logStreamFromPrevRole = mock(LogStream.class);
+  private final HealthMonitor healthMonitor = mock(HealthMonitor.class);
 
   @BeforeEach
   void setup() {
     transitionContext.setBrokerCfg(new BrokerCfg());
-    transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
+    transitionContext.setComponentHealthMonitor(healthMonitor);
     transitionContext.setLogStorage(mock(AtomixLogStorage.class));
 
     when(raftPartition.getServer()).thenReturn(raftServer);
     transitionContext.setRaftPartition(raftPartition);
 
     doReturn(logStream).when(logStreamBuilder).build();
+    when(logStream.getLogName()).thenReturn("logStream-1");
 
     step = new LogStreamPartitionTransitionStep(() -> logStreamBuilder);
   }
@@ -83,6 +85,7 @@ class LogStreamPartitionTransitionStepTest {
     // then
     assertThat(transitionContext.getLogStream()).isNotNull().isNotEqualTo(existingLogStream);
     verify(logStreamBuilder).build();
+    verify(healthMonitor).registerComponent("logStream-1", logStream);
   }
 
   @ParameterizedTest
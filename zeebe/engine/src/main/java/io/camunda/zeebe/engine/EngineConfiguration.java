@@ -23,6 +23,8 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  // A size of 0 keeps the deployment caches bounded by their capacities instead of a shared budget
+  public static final long DEFAULT_DEPLOYMENT_CACHE_SIZE = 0;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -32,6 +34,7 @@ public final class EngineConfiguration {
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private long deploymentCacheSize = DEFAULT_DEPLOYMENT_CACHE_SIZE;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -85,6 +88,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getDeploymentCacheSize() {
+    return deploymentCacheSize;
+  }
+
+  public EngineConfiguration setDeploymentCacheSize(final long deploymentCacheSize) {
+    this.deploymentCacheSize = deploymentCacheSize;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram.Timer;
+
+/** Records the usage of the deployment caches, labelled by the name of the cache. */
+public interface DeploymentCacheMetrics {
+
+  void countHit(String cache);
+
+  void countMiss(String cache);
+
+  void countEviction(String cache);
+
+  /**
+   * Starts measuring how long it takes to load a missing entry. May return null if nothing is
+   * recorded, which is fine for try-with-resources.
+   */
+  Timer startLoad(String cache);
+
+  /** Sets the current estimated memory footprint of all entries of the given cache. */
+  void setEstimatedSize(String cache, long bytes);
+
+  /** Removes the estimated size of the given cache, e.g. when the cache is discarded. */
+  void removeEstimatedSize(String cache);
+}
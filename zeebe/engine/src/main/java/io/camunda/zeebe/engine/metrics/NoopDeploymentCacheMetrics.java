@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram.Timer;
+
+public final class NoopDeploymentCacheMetrics implements DeploymentCacheMetrics {
+
+  @Override
+  public void countHit(final String cache) {}
+
+  @Override
+  public void countMiss(final String cache) {}
+
+  @Override
+  public void countEviction(final String cache) {}
+
+  @Override
+  public Timer startLoad(final String cache) {
+    return null;
+  }
+
+  @Override
+  public void setEstimatedSize(final String cache, final long bytes) {}
+
+  @Override
+  public void removeEstimatedSize(final String cache) {}
+}
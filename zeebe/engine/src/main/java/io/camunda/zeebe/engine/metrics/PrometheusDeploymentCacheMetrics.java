@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class PrometheusDeploymentCacheMetrics implements DeploymentCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_PARTITION = "partition";
+  private static final String LABEL_CACHE = "cache";
+
+  private static final Counter HITS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_hits_total")
+          .help("Number of lookups served by the in-memory deployment caches")
+          .labelNames(LABEL_PARTITION, LABEL_CACHE)
+          .register();
+
+  private static final Counter MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_misses_total")
+          .help("Number of lookups which were not served by the in-memory deployment caches")
+          .labelNames(LABEL_PARTITION, LABEL_CACHE)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_evictions_total")
+          .help("Number of entries evicted from the deployment caches due to their size limit")
+          .labelNames(LABEL_PARTITION, LABEL_CACHE)
+          .register();
+
+  private static final Histogram LOAD_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_load_duration_seconds")
+          .help("Time to load and parse a missing deployment cache entry from the state")
+          .labelNames(LABEL_PARTITION, LABEL_CACHE)
+          .buckets(.0001, .0005, .001, .005, .01, .05, .1, .5, 1)
+          .register();
+
+  private static final Gauge ESTIMATED_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_estimated_size_bytes")
+          .help("Estimated memory footprint of the entries in the deployment caches")
+          .labelNames(LABEL_PARTITION, LABEL_CACHE)
+          .register();
+
+  private final String partitionIdLabel;
+
+  public PrometheusDeploymentCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  @Override
+  public void countHit(final String cache) {
+    HITS.labels(partitionIdLabel, cache).inc();
+  }
+
+  @Override
+  public void countMiss(final String cache) {
+    MISSES.labels(partitionIdLabel, cache).inc();
+  }
+
+  @Override
+  public void countEviction(final String cache) {
+    EVICTIONS.labels(partitionIdLabel, cache).inc();
+  }
+
+  @Override
+  public Histogram.Timer startLoad(final String cache) {
+    return LOAD_DURATION.labels(partitionIdLabel, cache).startTimer();
+  }
+
+  @Override
+  public void setEstimatedSize(final String cache, final long bytes) {
+    ESTIMATED_SIZE.labels(partitionIdLabel, cache).set(bytes);
+  }
+
+  @Override
+  public void removeEstimatedSize(final String cache) {
+    ESTIMATED_SIZE.remove(partitionIdLabel, cache);
+  }
+}
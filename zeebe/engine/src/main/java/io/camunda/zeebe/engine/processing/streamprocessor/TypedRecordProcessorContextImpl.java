@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.ScheduledTaskDbState;
+import io.camunda.zeebe.engine.state.deployment.DeploymentCaches;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -54,6 +55,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
             config,
+            new DeploymentCaches(partitionId, config),
             clock);
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
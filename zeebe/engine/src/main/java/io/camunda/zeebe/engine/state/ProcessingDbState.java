@@ -19,6 +19,7 @@ import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbFormState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.engine.state.deployment.DeploymentCaches;
 import io.camunda.zeebe.engine.state.distribution.DbDistributionState;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.PendingProcessMessageSubscriptionState;
@@ -105,6 +106,8 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableAuthorizationState authorizationState;
   private final MutableRoutingState routingState;
 
+  private final DeploymentCaches deploymentCaches;
+
   private final int partitionId;
 
   public ProcessingDbState(
@@ -116,12 +119,36 @@ public class ProcessingDbState implements MutableProcessingState {
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final EngineConfiguration config,
       final InstantSource clock) {
+    this(
+        partitionId,
+        zeebeDb,
+        transactionContext,
+        keyGenerator,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        config,
+        DeploymentCaches.withoutBudget(),
+        clock);
+  }
+
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final EngineConfiguration config,
+      final DeploymentCaches deploymentCaches,
+      final InstantSource clock) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
+    this.deploymentCaches = deploymentCaches;
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
+    processState =
+        new DbProcessState(zeebeDb, transactionContext, config, deploymentCaches, clock);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
@@ -140,8 +167,8 @@ public class ProcessingDbState implements MutableProcessingState {
     messageCorrelationState = new DbMessageCorrelationState(zeebeDb, transactionContext);
     incidentState = new DbIncidentState(zeebeDb, transactionContext, partitionId);
     bannedInstanceState = new DbBannedInstanceState(zeebeDb, transactionContext, partitionId);
-    decisionState = new DbDecisionState(zeebeDb, transactionContext, config);
-    formState = new DbFormState(zeebeDb, transactionContext, config);
+    decisionState = new DbDecisionState(zeebeDb, transactionContext, config, deploymentCaches);
+    formState = new DbFormState(zeebeDb, transactionContext, config, deploymentCaches);
     signalSubscriptionState = new DbSignalSubscriptionState(zeebeDb, transactionContext);
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
     mutableMigrationState = new DbMigrationState(zeebeDb, transactionContext);
@@ -162,6 +189,16 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState.onRecovered(context);
   }
 
+  @Override
+  public void onClose() {
+    deploymentCaches.close();
+  }
+
+  @Override
+  public void onFailed() {
+    deploymentCaches.close();
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
@@ -7,9 +7,6 @@
  */
 package io.camunda.zeebe.engine.state.deployment;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -119,12 +116,13 @@ public final class DbDecisionState implements MutableDecisionState {
           DbForeignKey<DbTenantAwareKey<DbLong>>>
       decisionKeyByDecisionIdAndVersionTag;
 
-  private final LoadingCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
+  private final DeploymentCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
 
   public DbDecisionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final DeploymentCaches caches) {
     tenantIdKey = new DbString();
     dbDecisionKey = new DbLong();
     tenantAwareDecisionKey =
@@ -226,18 +224,7 @@ public final class DbDecisionState implements MutableDecisionState {
             tenantAwareDecisionIdAndVersionTag,
             fkDecision);
 
-    drgCache =
-        CacheBuilder.newBuilder()
-            .maximumSize(config.getDrgCacheCapacity())
-            .build(
-                new CacheLoader<>() {
-                  @Override
-                  public DeployedDrg load(final TenantIdAndDrgKey tenantIdAndDrgKey)
-                      throws DrgNotFoundException {
-                    return findAndParseDecisionRequirementsByKeyFromDb(
-                        tenantIdAndDrgKey.drgKey, tenantIdAndDrgKey.tenantId);
-                  }
-                });
+    drgCache = caches.newCache("drg", config.getDrgCacheCapacity(), DeploymentCaches::weighDrg);
   }
 
   @Override
@@ -352,8 +339,12 @@ public final class DbDecisionState implements MutableDecisionState {
   private Optional<DeployedDrg> findDeployedDrg(
       final long decisionRequirementsKey, final String tenantId) {
     try {
-      // The cache automatically fetches it from the state if the key does not exist.
-      return Optional.of(drgCache.get(new TenantIdAndDrgKey(tenantId, decisionRequirementsKey)));
+      // The cache fetches it from the state if the key does not exist.
+      return Optional.of(
+          drgCache.get(
+              new TenantIdAndDrgKey(tenantId, decisionRequirementsKey),
+              () ->
+                  findAndParseDecisionRequirementsByKeyFromDb(decisionRequirementsKey, tenantId)));
     } catch (final ExecutionException e) {
       // We reach this when we couldn't load the DRG from the state.
       return Optional.empty();
@@ -613,7 +604,7 @@ public final class DbDecisionState implements MutableDecisionState {
 
   /**
    * This exception is thrown when the drgCache can't find a DRG in the state for a given key. This
-   * must be a checked exception, because of the way the {@link LoadingCache} works.
+   * must be a checked exception, because of the way {@link DeploymentCache#get} works.
    */
   private static final class DrgNotFoundException extends Exception {}
 }
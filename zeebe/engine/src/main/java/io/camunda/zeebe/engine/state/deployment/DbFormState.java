@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.engine.state.deployment;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -70,12 +68,13 @@ public class DbFormState implements MutableFormState {
           DbForeignKey<DbTenantAwareKey<DbLong>>>
       formKeyByFormIdAndVersionTagColumnFamily;
 
-  private final Cache<TenantIdAndFormId, PersistedForm> formsByTenantIdAndIdCache;
+  private final DeploymentCache<TenantIdAndFormId, PersistedForm> formsByTenantIdAndIdCache;
 
   public DbFormState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final DeploymentCaches caches) {
     tenantIdKey = new DbString();
     dbFormKey = new DbLong();
     tenantAwareFormKey = new DbTenantAwareKey<>(tenantIdKey, dbFormKey, PlacementType.PREFIX);
@@ -124,7 +123,7 @@ public class DbFormState implements MutableFormState {
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.FORM_VERSION, transactionContext);
 
     formsByTenantIdAndIdCache =
-        CacheBuilder.newBuilder().maximumSize(config.getFormCacheCapacity()).build();
+        caches.newCache("form", config.getFormCacheCapacity(), DeploymentCaches::weighForm);
   }
 
   @Override
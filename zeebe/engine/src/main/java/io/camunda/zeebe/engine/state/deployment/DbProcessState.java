@@ -9,8 +9,6 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -51,10 +49,11 @@ public final class DbProcessState implements MutableProcessState {
 
   private final BpmnTransformer transformer;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
-  private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
-      processesByTenantAndProcessIdAndVersionCache;
-  private final Cache<TenantIdAndProcessDefinitionKey, DeployedProcess> processByTenantAndKeyCache;
-  private final Cache<TenantIdAndProcessIdAndDeploymentKey, Long>
+  private final DeploymentCache<TenantIdAndProcessIdAndVersion, Long>
+      processDefinitionKeyByTenantAndProcessIdAndVersionCache;
+  private final DeploymentCache<TenantIdAndProcessDefinitionKey, DeployedProcess>
+      processByTenantAndKeyCache;
+  private final DeploymentCache<TenantIdAndProcessIdAndDeploymentKey, Long>
       processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache;
 
   /** [tenant id | process definition key] => process */
@@ -113,6 +112,7 @@ public final class DbProcessState implements MutableProcessState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final EngineConfiguration config,
+      final DeploymentCaches caches,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
     processDefinitionKey = new DbLong();
@@ -181,11 +181,19 @@ public final class DbProcessState implements MutableProcessState {
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
 
     processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processesByTenantAndProcessIdAndVersionCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+        caches.newCache(
+            "process_by_key", config.getProcessCacheCapacity(), DeploymentCaches::weighProcess);
+    // refers to the processes of the cache above, so that each process is only accounted for once
+    processDefinitionKeyByTenantAndProcessIdAndVersionCache =
+        caches.newCache(
+            "process_key_by_id_and_version",
+            config.getProcessCacheCapacity(),
+            DeploymentCaches::weighEntry);
     processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+        caches.newCache(
+            "process_key_by_id_and_deployment",
+            config.getProcessCacheCapacity(),
+            DeploymentCaches::weighEntry);
   }
 
   @Override
@@ -278,7 +286,8 @@ public final class DbProcessState implements MutableProcessState {
             processRecord.getTenantId(),
             processRecord.getBpmnProcessIdBuffer(),
             processRecord.getVersion());
-    processesByTenantAndProcessIdAndVersionCache.invalidate(tenantIdAndProcessIdAndVersion);
+    processDefinitionKeyByTenantAndProcessIdAndVersionCache.invalidate(
+        tenantIdAndProcessIdAndVersion);
 
     final var key =
         new TenantIdAndProcessDefinitionKey(
@@ -328,6 +337,12 @@ public final class DbProcessState implements MutableProcessState {
   }
 
   // is called on getters, if process is not in memory
+  private DeployedProcess loadIntoInMemoryState(final PersistedProcess persistedProcess) {
+    try (final var ignored = processByTenantAndKeyCache.startLoad()) {
+      return updateInMemoryState(persistedProcess);
+    }
+  }
+
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
 
     // we have to copy to store this in cache
@@ -380,8 +395,8 @@ public final class DbProcessState implements MutableProcessState {
         new TenantIdAndProcessIdAndVersion(
             deployedProcess.getTenantId(), bpmnProcessId, deployedProcess.getVersion());
 
-    processesByTenantAndProcessIdAndVersionCache.put(
-        tenantIdAndProcessIdAndVersion, deployedProcess);
+    processDefinitionKeyByTenantAndProcessIdAndVersionCache.put(
+        tenantIdAndProcessIdAndVersion, deployedProcess.getKey());
   }
 
   @Override
@@ -390,14 +405,15 @@ public final class DbProcessState implements MutableProcessState {
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
     final var tenantIdAndProcessIdAndVersion =
         new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, latestVersion);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final Long cachedProcessDefinitionKey =
+        processDefinitionKeyByTenantAndProcessIdAndVersionCache.getIfPresent(
+            tenantIdAndProcessIdAndVersion);
 
-    if (cachedProcess == null) {
+    if (cachedProcessDefinitionKey == null) {
       processId.wrapBuffer(processIdBuffer);
       return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
     }
-    return cachedProcess;
+    return getProcessByKeyAndTenant(cachedProcessDefinitionKey, tenantId);
   }
 
   @Override
@@ -405,13 +421,14 @@ public final class DbProcessState implements MutableProcessState {
       final DirectBuffer processId, final int version, final String tenantId) {
     final var tenantIdAndProcessIdAndVersion =
         new TenantIdAndProcessIdAndVersion(tenantId, processId, version);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final Long cachedProcessDefinitionKey =
+        processDefinitionKeyByTenantAndProcessIdAndVersionCache.getIfPresent(
+            tenantIdAndProcessIdAndVersion);
 
-    if (cachedProcess == null) {
+    if (cachedProcessDefinitionKey == null) {
       return lookupPersistenceState(processId, version, tenantId);
     }
-    return cachedProcess;
+    return getProcessByKeyAndTenant(cachedProcessDefinitionKey, tenantId);
   }
 
   @Override
@@ -516,7 +533,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public void clearCache() {
     processByTenantAndKeyCache.invalidateAll();
-    processesByTenantAndProcessIdAndVersionCache.invalidateAll();
+    processDefinitionKeyByTenantAndProcessIdAndVersionCache.invalidateAll();
     processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.invalidateAll();
     versionManager.clear();
   }
@@ -530,7 +547,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      return updateInMemoryState(processWithVersionAndId);
+      return loadIntoInMemoryState(processWithVersionAndId);
     }
     return null;
   }
@@ -545,14 +562,8 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final var tenantIdAndProcessIdAndVersion =
-          new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
-
-      // return the cached copy
-      return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
-          tenantIdAndProcessIdAndVersion);
+      // return the cached copy; it may already be evicted again if the cache is full
+      return loadIntoInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -566,10 +577,7 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-      return processByTenantAndKeyCache.getIfPresent(key);
+      return loadIntoInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
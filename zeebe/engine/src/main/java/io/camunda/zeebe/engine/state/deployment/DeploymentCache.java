@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.RemovalNotification;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics;
+import io.prometheus.client.Histogram;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToIntFunction;
+
+/**
+ * An in-memory cache for deployed resources, e.g. parsed processes, DRGs or forms. Entries of all
+ * caches created by the same {@link DeploymentCaches} may be stored in one backing cache, which is
+ * then bounded by the estimated memory footprint of its entries instead of their number.
+ *
+ * <p>Every cache records its hits, misses, evictions, load times and estimated size, labelled by
+ * its name.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public final class DeploymentCache<K, V> {
+
+  private final String name;
+  private final ToIntFunction<V> weigher;
+  private final DeploymentCacheMetrics metrics;
+  private final Cache<Object, Object> backingCache;
+  private final boolean shared;
+  private long estimatedSize;
+
+  DeploymentCache(
+      final String name,
+      final ToIntFunction<V> weigher,
+      final DeploymentCacheMetrics metrics,
+      final Cache<Object, Object> backingCache,
+      final boolean shared) {
+    this.name = name;
+    this.weigher = weigher;
+    this.metrics = metrics;
+    this.backingCache = backingCache;
+    this.shared = shared;
+  }
+
+  /** Returns the cached value for the given key, or null if there is none. */
+  public V getIfPresent(final K key) {
+    @SuppressWarnings("unchecked")
+    final V value = (V) backingCache.getIfPresent(new Key(this, key));
+    if (value == null) {
+      metrics.countMiss(name);
+    } else {
+      metrics.countHit(name);
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the cached value for the given key, or loads, caches and returns it if there is none.
+   * Checked exceptions thrown by the loader are wrapped into an {@link ExecutionException}, similar
+   * to {@link Cache#get(Object, Callable)}.
+   */
+  public V get(final K key, final Callable<? extends V> loader) throws ExecutionException {
+    final V cachedValue = getIfPresent(key);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final V value;
+    try (final var ignored = startLoad()) {
+      value = loader.call();
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionException(e);
+    }
+
+    put(key, value);
+    return value;
+  }
+
+  public void put(final K key, final V value) {
+    // account for the value before storing it, as storing it may replace or immediately evict it,
+    // which is subtracted again by the removal listener
+    estimatedSize += weigh(value);
+    backingCache.put(new Key(this, key), value);
+    metrics.setEstimatedSize(name, estimatedSize);
+  }
+
+  public void invalidate(final K key) {
+    backingCache.invalidate(new Key(this, key));
+  }
+
+  public void invalidateAll() {
+    if (shared) {
+      backingCache.asMap().keySet().removeIf(key -> ((Key) key).cache() == this);
+    } else {
+      backingCache.invalidateAll();
+    }
+  }
+
+  /**
+   * Starts measuring how long it takes to load a missing entry. Use this for values which are not
+   * loaded via {@link #get(Object, Callable)}; the duration is recorded when the timer is closed.
+   */
+  public Histogram.Timer startLoad() {
+    return metrics.startLoad(name);
+  }
+
+  int weigh(final Object value) {
+    @SuppressWarnings("unchecked")
+    final int weight = weigher.applyAsInt((V) value);
+    return Math.max(0, weight);
+  }
+
+  void onRemoval(final RemovalNotification<Object, Object> notification) {
+    if (notification.getValue() != null) {
+      estimatedSize -= weigh(notification.getValue());
+      metrics.setEstimatedSize(name, estimatedSize);
+    }
+
+    if (notification.wasEvicted()) {
+      metrics.countEviction(name);
+    }
+  }
+
+  /** Removes the metrics of this cache, which must not be used afterwards. */
+  void close() {
+    metrics.removeEstimatedSize(name);
+  }
+
+  /**
+   * Wraps the keys of a cache, such that entries of different caches never collide when stored in
+   * the same backing cache.
+   */
+  record Key(DeploymentCache<?, ?> cache, Object key) {}
+}
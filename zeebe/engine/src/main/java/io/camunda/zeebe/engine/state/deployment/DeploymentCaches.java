@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.Weigher;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics;
+import io.camunda.zeebe.engine.metrics.NoopDeploymentCacheMetrics;
+import io.camunda.zeebe.engine.metrics.PrometheusDeploymentCacheMetrics;
+import io.camunda.zeebe.engine.state.deployment.DeploymentCache.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Creates the deployment caches of a partition. If {@link
+ * EngineConfiguration#getDeploymentCacheSize()} is positive, all caches share a single budget of
+ * that many bytes, and entries are evicted based on their estimated memory footprint, regardless of
+ * which cache they belong to. Otherwise, every cache is bounded separately by its capacity.
+ *
+ * <p>The caches are owned by a single state and must be {@link #close() closed} when that state is
+ * discarded, such that their metrics are removed.
+ */
+public final class DeploymentCaches {
+
+  /** Estimated overhead of a cache entry, i.e. of its key, its value holder and the map node. */
+  static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  /**
+   * Estimated footprint of a transformed flow element, including its mappings, expressions and
+   * references to its outgoing and incoming elements.
+   */
+  static final int FLOW_ELEMENT_BYTES = 2 * 1024;
+
+  /** The parsed DMN model is considerably larger than its XML representation. */
+  static final int DRG_RESOURCE_FACTOR = 4;
+
+  private final DeploymentCacheMetrics metrics;
+  private final Cache<Object, Object> sharedCache;
+  private final List<DeploymentCache<?, ?>> caches = new ArrayList<>();
+
+  public DeploymentCaches(final int partitionId, final EngineConfiguration config) {
+    this(new PrometheusDeploymentCacheMetrics(partitionId), config.getDeploymentCacheSize());
+  }
+
+  private DeploymentCaches(final DeploymentCacheMetrics metrics, final long budget) {
+    this.metrics = metrics;
+    sharedCache =
+        budget > 0
+            ? CacheBuilder.newBuilder()
+                // the caches are only accessed by the stream processor; a single segment makes
+                // sure that the whole budget is available and evicted in least recently used order
+                .concurrencyLevel(1)
+                .maximumWeight(budget)
+                .weigher(weigher())
+                .removalListener(removalListener())
+                .build()
+            : null;
+  }
+
+  /**
+   * Creates caches which are only bounded by their capacity and record no metrics. Use this for
+   * short-lived states, e.g. for queries or migrations, which should neither take memory from the
+   * shared budget nor report their usage as the one of the partition.
+   */
+  public static DeploymentCaches withoutBudget() {
+    return new DeploymentCaches(new NoopDeploymentCacheMetrics(), 0);
+  }
+
+  /**
+   * Creates a new cache, which is either backed by the shared cache, or bounded by the given
+   * capacity if no shared budget is configured.
+   *
+   * @param name the name of the cache, used to label its metrics
+   * @param capacity the maximum number of entries if no shared budget is configured
+   * @param weigher estimates the memory footprint of a value in bytes
+   */
+  public <K, V> DeploymentCache<K, V> newCache(
+      final String name, final long capacity, final ToIntFunction<V> weigher) {
+    final DeploymentCache<K, V> cache;
+    if (sharedCache != null) {
+      cache = new DeploymentCache<>(name, weigher, metrics, sharedCache, true);
+    } else {
+      final Cache<Object, Object> backingCache =
+          CacheBuilder.newBuilder()
+              .maximumSize(capacity)
+              .removalListener(removalListener())
+              .build();
+      cache = new DeploymentCache<>(name, weigher, metrics, backingCache, false);
+    }
+
+    caches.add(cache);
+    return cache;
+  }
+
+  /** Removes the metrics of all caches, which must not be used afterwards. */
+  public void close() {
+    caches.forEach(DeploymentCache::close);
+    caches.clear();
+  }
+
+  static int weighProcess(final DeployedProcess process) {
+    final long weight =
+        ENTRY_OVERHEAD_BYTES
+            + process.getResource().capacity()
+            + (long) process.getProcess().getFlowElements().size() * FLOW_ELEMENT_BYTES;
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  static int weighDrg(final DeployedDrg drg) {
+    final long weight =
+        ENTRY_OVERHEAD_BYTES + (long) drg.getResource().capacity() * DRG_RESOURCE_FACTOR;
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  static int weighForm(final PersistedForm form) {
+    return ENTRY_OVERHEAD_BYTES + form.getResource().capacity();
+  }
+
+  /**
+   * Weighs values which are small, e.g. keys referring to an entry of another cache, such that only
+   * the entry itself is accounted for.
+   */
+  static int weighEntry(final Object ignored) {
+    return ENTRY_OVERHEAD_BYTES;
+  }
+
+  private static Weigher<Object, Object> weigher() {
+    return (key, value) -> ((Key) key).cache().weigh(value);
+  }
+
+  private static RemovalListener<Object, Object> removalListener() {
+    return notification -> ((Key) notification.getKey()).cache().onRemoval(notification);
+  }
+}
@@ -30,12 +30,15 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -45,6 +48,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private final DbLong jobKey;
   private final DbForeignKey<DbLong> fkJob;
+  private final LongArrayList activatableJobKeys = new LongArrayList();
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
 
   // key => job state
@@ -408,7 +412,9 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
 
+    // the jobs are looked up in batches, rather than one by one while iterating over the index
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -416,11 +422,18 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            activatableJobKeys.addLong(jobKey.getValue());
+            if (activatableJobKeys.size() == ACTIVATABLE_JOBS_BATCH_SIZE) {
+              return visitJobs(activatableJobKeys, callback);
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (!activatableJobKeys.isEmpty()) {
+      visitJobs(activatableJobKeys, callback);
+    }
   }
 
   @Override
@@ -475,6 +488,34 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Looks up the jobs with the given keys at once and visits them in the same order, until the
+   * callback returns false. The keys are cleared afterwards.
+   *
+   * @return true if all jobs were visited
+   */
+  private boolean visitJobs(
+      final LongArrayList jobKeys, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var continueVisiting = new MutableBoolean(true);
+    jobsColumnFamily.multiGet(
+        jobKey,
+        jobKeys.size(),
+        index -> jobKey.wrapLong(jobKeys.getLong(index)),
+        (job, index) -> {
+          if (!continueVisiting.get()) {
+            return;
+          }
+          final long key = jobKeys.getLong(index);
+          if (job == null) {
+            LOG.warn("Expected to find job with key {}, but no job found", key);
+            return;
+          }
+          continueVisiting.set(callback.apply(key, job.getRecord()));
+        });
+    jobKeys.clear();
+    return continueVisiting.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -27,6 +27,8 @@ import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.InstantSource;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbMessageSubscriptionState
@@ -36,6 +38,7 @@ public final class DbMessageSubscriptionState
 
   // (elementInstanceKey, messageName) => MessageSubscription
   private static final Logger LOG = Loggers.STREAM_PROCESSING;
+  private static final int SUBSCRIPTIONS_BATCH_SIZE = 32;
   private final DbLong elementInstanceKey;
   private final DbString messageName;
   private final MessageSubscription messageSubscription;
@@ -54,6 +57,7 @@ public final class DbMessageSubscriptionState
           DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  private final LongArrayList subscriptionsToVisit = new LongArrayList();
   private final TransientPendingSubscriptionState transientState;
   private final InstantSource clock;
 
@@ -122,11 +126,23 @@ public final class DbMessageSubscriptionState
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    subscriptionsToVisit.clear();
+
+    // the subscriptions are looked up in batches, rather than one by one while iterating over the
+    // index; this is fine, as visitors only modify the subscription they visit
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
-          return visitMessageSubscription(elementKeyAndMessageName, visitor);
+          subscriptionsToVisit.addLong(elementInstanceKey.getValue());
+          if (subscriptionsToVisit.size() == SUBSCRIPTIONS_BATCH_SIZE) {
+            return visitMessageSubscriptions(messageName, visitor);
+          }
+          return true;
         });
+
+    if (!subscriptionsToVisit.isEmpty()) {
+      visitMessageSubscriptions(messageName, visitor);
+    }
   }
 
   @Override
@@ -251,19 +267,37 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.update(elementKeyAndMessageName, subscription);
   }
 
-  private Boolean visitMessageSubscription(
-      final DbCompositeKey<DbLong, DbString> elementKeyAndMessageName,
-      final MessageSubscriptionVisitor visitor) {
-    final MessageSubscription messageSubscription =
-        subscriptionColumnFamily.get(elementKeyAndMessageName);
-
-    if (messageSubscription == null) {
-      throw new IllegalStateException(
-          String.format(
-              "Expected to find subscription with key %d and %s, but no subscription found",
-              elementKeyAndMessageName.first().getValue(), elementKeyAndMessageName.second()));
-    }
-    return visitor.visit(messageSubscription);
+  /**
+   * Looks up the subscriptions of the collected element instances for the given message at once and
+   * visits them in the same order, until the visitor returns false. The collected element instances
+   * are cleared afterwards.
+   *
+   * @return true if all subscriptions were visited
+   */
+  private boolean visitMessageSubscriptions(
+      final DirectBuffer messageName, final MessageSubscriptionVisitor visitor) {
+    final var continueVisiting = new MutableBoolean(true);
+    subscriptionColumnFamily.multiGet(
+        elementKeyAndMessageName,
+        subscriptionsToVisit.size(),
+        index -> {
+          elementInstanceKey.wrapLong(subscriptionsToVisit.getLong(index));
+          this.messageName.wrapBuffer(messageName);
+        },
+        (messageSubscription, index) -> {
+          if (!continueVisiting.get()) {
+            return;
+          }
+          if (messageSubscription == null) {
+            throw new IllegalStateException(
+                String.format(
+                    "Expected to find subscription with key %d and %s, but no subscription found",
+                    subscriptionsToVisit.getLong(index), BufferUtil.bufferAsString(messageName)));
+          }
+          continueVisiting.set(visitor.visit(messageSubscription));
+        });
+    subscriptionsToVisit.clear();
+    return continueVisiting.get();
   }
 
   @Override
@@ -55,6 +55,7 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final List<DirectBuffer> variablesToLookUp = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -232,16 +233,11 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      collectVariablesLocal(currentScope, names);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -316,6 +312,34 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes the variables of the scope which are not collected yet to the document, in the order of
+   * the given names. Instead of iterating over all variables of the scope, the requested variables
+   * are looked up at once.
+   */
+  private void collectVariablesLocal(final long scopeKey, final Collection<DirectBuffer> names) {
+    variablesToLookUp.clear();
+    for (final DirectBuffer name : names) {
+      if (variablesToCollect.contains(name)) {
+        variablesToLookUp.add(name);
+      }
+    }
+
+    this.scopeKey.wrapLong(scopeKey);
+    variablesColumnFamily.multiGet(
+        scopeKeyVariableNameKey,
+        variablesToLookUp.size(),
+        index -> variableName.wrapBuffer(variablesToLookUp.get(index)),
+        (variable, index) -> {
+          final DirectBuffer name = variablesToLookUp.get(index);
+          // the names may contain duplicates, but each variable is written only once
+          if (variable != null && variablesToCollect.remove(name)) {
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+          }
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
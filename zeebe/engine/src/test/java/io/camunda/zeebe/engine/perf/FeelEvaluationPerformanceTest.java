@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.time.InstantSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the evaluation of typical expressions: input/output mappings reading a property of a
+ * document, gateway conditions, message correlation keys and constant mappings. The variables are
+ * resolved from an in-memory context, such that only the expression language itself is measured.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class FeelEvaluationPerformanceTest {
+
+  private static final Map<String, String> EXPRESSIONS =
+      Map.of(
+          "ioMapping", "=order.customer",
+          "condition", "=order.total > 100 and order.total < 1000",
+          "correlationKey", "=orderId",
+          "constant", "={retries: 3, timeout: \"PT5M\"}");
+
+  @Param({"ioMapping", "condition", "correlationKey", "constant"})
+  public String expressionType;
+
+  /** The number of properties of the {@code order} document. */
+  @Param({"10", "1000"})
+  public int documentSize;
+
+  private ExpressionLanguage expressionLanguage;
+  private Expression expression;
+  private EvaluationContext context;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new ZeebeFeelEngineClock(InstantSource.system()));
+    expression = expressionLanguage.parseExpression(EXPRESSIONS.get(expressionType));
+
+    final var order = new HashMap<String, Object>();
+    order.put("customer", "customer-1");
+    order.put("total", 500);
+    for (int i = order.size(); i < documentSize; i++) {
+      order.put("property" + i, "value" + i);
+    }
+
+    final Map<String, DirectBuffer> variables =
+        Map.of("order", asMsgPack(order), "orderId", asMsgPack("\"order-1\""));
+    context = variables::get;
+  }
+
+  @Benchmark
+  public DirectBuffer measureEvaluation() {
+    return expressionLanguage.evaluateExpression(expression, context).toBuffer();
+  }
+
+  @JMHTest("measureEvaluation")
+  void shouldNotDependOnDocumentSizeWhenReadingSingleProperty(final JMHTestCase testCase)
+      throws RunnerException {
+    // given - the score of reading a property of a small document as reference
+    final var smallDocumentResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + FeelEvaluationPerformanceTest.class.getName()
+                            + ".measureEvaluation\\E$")
+                    .param("expressionType", "condition")
+                    .param("documentSize", "10")
+                    .build())
+            .runSingle();
+    final var referenceScore = smallDocumentResult.getPrimaryResult().getScore();
+
+    // when - reading the same property of a large document, which is only partially indexed
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("expressionType", "condition").param("documentSize", "1000"))
+            .run();
+
+    // then - the document still has to be copied once, but its entries aren't indexed
+    assertResult.isAtLeast(referenceScore, 0.5);
+  }
+}
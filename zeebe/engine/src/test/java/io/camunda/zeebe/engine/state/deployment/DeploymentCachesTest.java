@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class DeploymentCachesTest {
+
+  @Test
+  void shouldBoundCachesByTheirCapacityWithoutBudget() {
+    // given
+    final var caches = new DeploymentCaches(1, new EngineConfiguration());
+    final DeploymentCache<String, String> first = caches.newCache("first", 1, String::length);
+    final DeploymentCache<String, String> second = caches.newCache("second", 1, String::length);
+
+    // when
+    first.put("a", "value");
+    second.put("a", "value");
+    first.put("b", "value");
+
+    // then
+    assertThat(first.getIfPresent("a")).isNull();
+    assertThat(first.getIfPresent("b")).isEqualTo("value");
+    assertThat(second.getIfPresent("a")).isEqualTo("value");
+  }
+
+  @Test
+  void shouldShareBudgetAcrossCaches() {
+    // given
+    final var caches =
+        new DeploymentCaches(1, new EngineConfiguration().setDeploymentCacheSize(100));
+    final DeploymentCache<String, String> first = caches.newCache("first", 1000, value -> 60);
+    final DeploymentCache<String, String> second = caches.newCache("second", 1000, value -> 30);
+
+    // when
+    first.put("a", "first");
+    second.put("a", "second");
+    second.put("b", "second");
+
+    // then
+    assertThat(first.getIfPresent("a")).isNull();
+    assertThat(second.getIfPresent("a")).isEqualTo("second");
+    assertThat(second.getIfPresent("b")).isEqualTo("second");
+  }
+
+  @Test
+  void shouldOnlyInvalidateEntriesOfOneCache() {
+    // given
+    final var caches =
+        new DeploymentCaches(1, new EngineConfiguration().setDeploymentCacheSize(1024));
+    final DeploymentCache<String, String> first = caches.newCache("first", 1000, String::length);
+    final DeploymentCache<String, String> second = caches.newCache("second", 1000, String::length);
+    first.put("a", "first");
+    second.put("a", "second");
+
+    // when
+    first.invalidateAll();
+
+    // then
+    assertThat(first.getIfPresent("a")).isNull();
+    assertThat(second.getIfPresent("a")).isEqualTo("second");
+  }
+
+  @Test
+  void shouldReportEstimatedSizeOfCurrentEntries() {
+    // given
+    final var caches =
+        new DeploymentCaches(1, new EngineConfiguration().setDeploymentCacheSize(100));
+    final DeploymentCache<String, String> cache =
+        caches.newCache("estimated", 1000, String::length);
+    final DeploymentCache<String, String> other = caches.newCache("other", 1000, value -> 90);
+
+    // when - replacing an entry and evicting another one
+    cache.put("a", "first");
+    cache.put("a", "replaced");
+    cache.put("b", "value");
+    other.put("a", "other");
+
+    // then
+    assertThat(cache.getIfPresent("a")).isNull();
+    assertThat(estimatedSize("estimated")).isEqualTo(5.0);
+  }
+
+  @Test
+  void shouldRemoveEstimatedSizeOnClose() {
+    // given
+    final var caches = new DeploymentCaches(1, new EngineConfiguration());
+    final DeploymentCache<String, String> cache = caches.newCache("closed", 10, String::length);
+    cache.put("a", "value");
+
+    // when
+    caches.close();
+
+    // then
+    assertThat(estimatedSize("closed")).isNull();
+  }
+
+  @Test
+  void shouldLoadMissingValueOnlyOnce() throws ExecutionException {
+    // given
+    final var caches = new DeploymentCaches(1, new EngineConfiguration());
+    final DeploymentCache<String, String> cache = caches.newCache("cache", 10, String::length);
+    final var loads = new AtomicInteger();
+
+    // when
+    cache.get("a", () -> "value" + loads.incrementAndGet());
+    final var value = cache.get("a", () -> "value" + loads.incrementAndGet());
+
+    // then
+    assertThat(value).isEqualTo("value1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void shouldWrapCheckedExceptionOfLoader() {
+    // given
+    final var caches = new DeploymentCaches(1, new EngineConfiguration());
+    final DeploymentCache<String, String> cache = caches.newCache("cache", 10, String::length);
+
+    // when - then
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    "a",
+                    () -> {
+                      throw new Exception("not found");
+                    }))
+        .isInstanceOf(ExecutionException.class)
+        .hasMessageContaining("not found");
+    assertThat(cache.getIfPresent("a")).isNull();
+  }
+
+  private static Double estimatedSize(final String cache) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_deployment_cache_estimated_size_bytes",
+        new String[] {"partition", "cache"},
+        new String[] {"1", cache});
+  }
+}
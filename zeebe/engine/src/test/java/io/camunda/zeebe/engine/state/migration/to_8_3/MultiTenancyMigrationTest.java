@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
 import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.deployment.DeploymentCaches;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.deployment.VersionInfo;
@@ -91,9 +92,14 @@ public class MultiTenancyMigrationTest {
     @BeforeEach
     void setup() {
       legacyState = new LegacyProcessState(zeebeDb, transactionContext, InstantSource.system());
+      final var cfg = new EngineConfiguration();
       processState =
           new DbProcessState(
-              zeebeDb, transactionContext, new EngineConfiguration(), InstantSource.system());
+              zeebeDb,
+              transactionContext,
+              cfg,
+              new DeploymentCaches(1, cfg),
+              InstantSource.system());
     }
 
     @Test
@@ -258,7 +264,8 @@ public class MultiTenancyMigrationTest {
     void setup() {
       final var cfg = new EngineConfiguration();
       legacyState = new LegacyDecisionState(zeebeDb, transactionContext, cfg);
-      decisionState = new DbDecisionState(zeebeDb, transactionContext, cfg);
+      decisionState =
+          new DbDecisionState(zeebeDb, transactionContext, cfg, new DeploymentCaches(1, cfg));
     }
 
     @Test
@@ -9,17 +9,26 @@ package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.Val;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> repeatedVariableNames;
+  private final boolean constant;
+  private volatile Val constantResult;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final var analyzer = FeelExpressionAnalyzer.analyze(expression.expression());
+    repeatedVariableNames = analyzer.getRepeatedVariableNames();
+    constant = analyzer.isConstant();
   }
 
   @Override
@@ -63,6 +72,28 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /** Returns the names of the root variables which are referenced more than once. */
+  public Set<String> getRepeatedVariableNames() {
+    return repeatedVariableNames;
+  }
+
+  /**
+   * Returns true if the expression consists only of literals and operators, such that it always
+   * evaluates to the same result.
+   */
+  public boolean isConstant() {
+    return constant;
+  }
+
+  /** Returns the cached result of a constant expression, or null if it wasn't evaluated yet. */
+  Val getConstantResult() {
+    return constantResult;
+  }
+
+  void setConstantResult(final Val constantResult) {
+    this.constantResult = constantResult;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
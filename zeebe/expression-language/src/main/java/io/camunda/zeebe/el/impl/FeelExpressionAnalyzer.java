@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+
+/**
+ * Walks the syntax tree of a parsed FEEL expression once, when the expression is parsed, to find
+ * the variables it references more than once and whether it is constant.
+ *
+ * <p>Variables which are referenced more than once are resolved only once per evaluation, see
+ * {@link FeelVariableContext}.
+ *
+ * <p>An expression is constant if it consists only of literals and operators, i.e. it doesn't
+ * reference variables nor invoke functions. Its result is the same for every evaluation, such that
+ * it can be cached.
+ */
+final class FeelExpressionAnalyzer {
+
+  /**
+   * The syntax tree nodes which don't depend on the evaluation context. Nodes are matched by their
+   * simple class name, so that an unknown or renamed node is never considered constant.
+   */
+  private static final Set<String> CONSTANT_NODES =
+      Set.of(
+          "ConstNull$",
+          "ConstNumber",
+          "ConstBool",
+          "ConstString",
+          "ConstDate",
+          "ConstLocalTime",
+          "ConstTime",
+          "ConstLocalDateTime",
+          "ConstDateTime",
+          "ConstYearMonthDuration",
+          "ConstDayTimeDuration",
+          "ConstList",
+          "ConstContext",
+          "Addition",
+          "Subtraction",
+          "Multiplication",
+          "Division",
+          "Exponentiation",
+          "ArithmeticNegation",
+          "Equal",
+          "LessThan",
+          "LessOrEqual",
+          "GreaterThan",
+          "GreaterOrEqual",
+          "Conjunction",
+          "Disjunction",
+          "Not");
+
+  private final Map<String, Integer> variableReferences = new HashMap<>();
+  private boolean constant = true;
+
+  private FeelExpressionAnalyzer() {}
+
+  static FeelExpressionAnalyzer analyze(final Exp expression) {
+    final var analyzer = new FeelExpressionAnalyzer();
+    analyzer.visit(expression);
+    return analyzer;
+  }
+
+  /** Returns the names of the root variables the expression references more than once. */
+  Set<String> getRepeatedVariableNames() {
+    return variableReferences.entrySet().stream()
+        .filter(reference -> reference.getValue() > 1)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  boolean isConstant() {
+    return constant;
+  }
+
+  private void visit(final Object node) {
+    if (node instanceof final Ref ref) {
+      variableReferences.merge(ref.names().head(), 1, Integer::sum);
+      constant = false;
+      return;
+    }
+
+    if (node instanceof Exp && !CONSTANT_NODES.contains(node.getClass().getSimpleName())) {
+      constant = false;
+    }
+
+    // the children of a node are either other nodes, or lists, tuples and options of them
+    if (node instanceof final Product product) {
+      final var children = product.productIterator();
+      while (children.hasNext()) {
+        visit(children.next());
+      }
+    }
+  }
+}
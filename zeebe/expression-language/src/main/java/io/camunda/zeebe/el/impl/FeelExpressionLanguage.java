@@ -107,8 +107,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var constantResult = feelExpression.getConstantResult();
+    if (constantResult != null) {
+      return new FeelEvaluationResult(
+          expression, constantResult, List.of(), messagePackTransformer::toMessagePack);
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext =
+        new FeelVariableContext(context, feelExpression.getRepeatedVariableNames());
 
     final var evaluationResult = feelEngine.evaluate(parsedExpression, feelContext);
 
@@ -120,6 +127,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     final var result = evaluationResult.result();
     if (result instanceof Val) {
+      if (feelExpression.isConstant() && evaluationWarnings.isEmpty()) {
+        // the result of a constant expression is immutable and the same for every evaluation
+        feelExpression.setConstantResult((Val) result);
+      }
       return new FeelEvaluationResult(
           expression, (Val) result, evaluationWarnings, messagePackTransformer::toMessagePack);
 
@@ -7,37 +7,71 @@
  */
 package io.camunda.zeebe.el.impl;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
 import io.camunda.zeebe.el.EvaluationContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
 import scala.Option;
 import scala.collection.Iterable;
 import scala.collection.immutable.List$;
 
+/**
+ * The root context of a single evaluation. Variables which the expression references more than
+ * once are resolved from the evaluation context only once, because a lookup may have to walk the
+ * whole variable scope hierarchy. Their values are copied, since the evaluation context may return
+ * a view which is only valid until the next lookup. All other variables are resolved on access,
+ * without copying them.
+ */
 final class FeelVariableContext extends CustomContext {
   private final EvaluationContext context;
+  private final Set<String> repeatedVariableNames;
+  private final Map<String, Option<Object>> resolvedVariables;
+  private final VariableProvider variableProvider = new EvaluationContextWrapper();
 
-  FeelVariableContext(final EvaluationContext context) {
+  FeelVariableContext(final EvaluationContext context, final Set<String> repeatedVariableNames) {
     this.context = context;
+    this.repeatedVariableNames = repeatedVariableNames;
+    resolvedVariables = HashMap.newHashMap(repeatedVariableNames.size());
   }
 
   @Override
   public VariableProvider variableProvider() {
-    return new EvaluationContextWrapper();
+    return variableProvider;
   }
 
   private final class EvaluationContextWrapper implements VariableProvider {
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return Option.apply(context.getVariable(name))
-          .filter(variable -> variable.capacity() > 0)
-          .map(variable -> variable);
+      if (!repeatedVariableNames.contains(name)) {
+        return resolveVariable(name);
+      }
+
+      return resolvedVariables.computeIfAbsent(name, this::resolveVariableCopy);
     }
 
     @Override
     public Iterable<String> keys() {
       return List$.MODULE$.empty();
     }
+
+    private Option<Object> resolveVariable(final String name) {
+      return Option.apply(context.getVariable(name))
+          .filter(variable -> variable.capacity() > 0)
+          .map(variable -> variable);
+    }
+
+    private Option<Object> resolveVariableCopy(final String name) {
+      final DirectBuffer variable = context.getVariable(name);
+      if (variable == null || variable.capacity() == 0) {
+        return Option.empty();
+      }
+      return Option.apply(cloneBuffer(variable));
+    }
   }
 }
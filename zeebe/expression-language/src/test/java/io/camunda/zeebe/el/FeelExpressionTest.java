@@ -8,14 +8,20 @@
 package io.camunda.zeebe.el;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.test.util.MsgPackUtil.encodeMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.el.impl.FeelExpression;
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -75,6 +81,30 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getString()).isEqualTo("z");
   }
 
+  @Test
+  public void pathExpressionWithDuplicateKeys() {
+    // given - the last entry of a key wins
+    final var document =
+        encodeMsgPack(
+            packer ->
+                packer
+                    .packMapHeader(3)
+                    .packString("y")
+                    .packString("first")
+                    .packString("z")
+                    .packString("other")
+                    .packString("y")
+                    .packString("last"));
+    final var context = Map.of("x", document);
+
+    // when
+    final var evaluationResult = evaluateExpression("x.y", context::get);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("last");
+  }
+
   @Test
   public void comparison() {
     final var context = Map.of("x", asMsgPack("2"));
@@ -228,6 +258,74 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getBoolean()).isFalse();
   }
 
+  @Test
+  public void constantExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("= {x: 1 + 2, y: [\"a\", \"b\"]}");
+
+    // when
+    final var firstResult = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+    final var secondResult = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+
+    // then
+    assertThat(((FeelExpression) expression).isConstant()).isTrue();
+    assertThat(secondResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertEquality(firstResult.toBuffer(), "{'x': 3, 'y': ['a', 'b']}");
+    assertEquality(secondResult.toBuffer(), "{'x': 3, 'y': ['a', 'b']}");
+  }
+
+  @Test
+  public void nonConstantExpressions() {
+    assertThat(((FeelExpression) expressionLanguage.parseExpression("= x + 1")).isConstant())
+        .isFalse();
+    assertThat(((FeelExpression) expressionLanguage.parseExpression("= now()")).isConstant())
+        .isFalse();
+  }
+
+  @Test
+  public void repeatedlyReferencedVariables() {
+    // when
+    final var expression =
+        (FeelExpression) expressionLanguage.parseExpression("= x > 1 and x < y.z");
+
+    // then
+    assertThat(expression.getRepeatedVariableNames()).containsExactly("x");
+  }
+
+  @Test
+  public void resolveRepeatedVariableOnce() {
+    // given
+    final var context = Map.of("x", asMsgPack("5"));
+    final var lookups = new AtomicInteger();
+
+    // when
+    final var evaluationResult =
+        evaluateExpression(
+            "x > 1 and x < 10",
+            name -> {
+              lookups.incrementAndGet();
+              return context.get(name);
+            });
+
+    // then
+    assertThat(evaluationResult.getBoolean()).isTrue();
+    assertThat(lookups).hasValue(1);
+  }
+
+  @Test
+  public void pathExpressionOnLargeContext() {
+    // given
+    final var document = new HashMap<String, Object>();
+    IntStream.range(0, 100).forEach(i -> document.put("key" + i, i));
+    final var context = Map.of("x", asMsgPack(document));
+
+    // when
+    final var evaluationResult = evaluateExpression("{a: x.key42, b: x.key7}", context::get);
+
+    // then
+    assertEquality(evaluationResult.toBuffer(), "{'a': 42, 'b': 7}");
+  }
+
   private EvaluationResult evaluateExpression(
       final String expression, final EvaluationContext context) {
     final var parseExpression = expressionLanguage.parseExpression("=" + expression);
@@ -11,7 +11,9 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.LinkedHashMap;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
@@ -19,17 +21,35 @@ import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * A FEEL context backed by a MessagePack map. The entries are indexed lazily: a lookup only reads
+ * the entries up to the requested one, such that accessing a single property of a large document
+ * doesn't read, or allocate keys for, the whole document.
+ *
+ * <p>If a key occurs more than once, the last entry wins. A lookup can only stop at the first
+ * matching entry if the keys are unique, which is checked when the end of the map is searched;
+ * otherwise all entries are indexed before the first lookup.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
   public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+    // the reader is positioned after the map header; skip the entries to find the end of the map,
+    // and compare the hashes of the keys on the way, which is cheaper than allocating them
+    final var keyHashes = new IntHashSet(size);
+    boolean hasUniqueKeys = true;
+    for (int i = 0; i < size; i++) {
+      hasUniqueKeys &= keyHashes.add(reader.readToken().getValueBuffer().hashCode());
+      reader.skipValue();
+    }
+
     messagePackMap =
         cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size, hasUniqueKeys);
   }
 
   @Override
@@ -37,62 +57,84 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
   record Span(int offset, int length) {}
 
   private static final class MessagePackMapVariableProvider implements VariableProvider {
     private final DirectBuffer entries;
     private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final MsgPackReader reader = new MsgPackReader();
+    private final java.util.Map<String, Span> valueSpans;
+    private final boolean hasUniqueKeys;
+    private int remainingEntries;
 
     private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+        final DirectBuffer entries, final int size, final boolean hasUniqueKeys) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.hasUniqueKeys = hasUniqueKeys;
+      valueSpans = new LinkedHashMap<>(size);
+      remainingEntries = size;
+
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      if (!hasUniqueKeys) {
+        // a later entry may override the first one with the given key
+        indexRemainingEntries();
+      }
+
+      var span = valueSpans.get(name);
+      while (span == null && remainingEntries > 0) {
+        final var key = indexNextEntry();
+        if (key.equals(name)) {
+          span = valueSpans.get(key);
+        }
+      }
+
+      if (span == null) {
+        return Option.empty();
+      }
+
+      resultView.wrap(entries, span.offset(), span.length());
+      return Option.apply(resultView);
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      indexRemainingEntries();
+      return CollectionConverters.asScala(valueSpans.keySet());
     }
 
     @Override
     public Map<String, Object> getVariables() {
+      indexRemainingEntries();
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
+      clonedMap.sizeHint(valueSpans.size());
+      valueSpans.forEach(
+          (key, span) ->
               clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+                  new Tuple2<>(key, cloneBuffer(entries, span.offset(), span.length()))));
       return clonedMap.result();
     }
+
+    private String indexNextEntry() {
+      final var keyToken = reader.readToken();
+      final var key = bufferAsString(keyToken.getValueBuffer());
+
+      final var valueOffset = reader.getOffset();
+      reader.skipValue();
+      valueSpans.put(key, new Span(valueOffset, reader.getOffset() - valueOffset));
+      remainingEntries--;
+
+      return key;
+    }
+
+    private void indexRemainingEntries() {
+      while (remainingEntries > 0) {
+        indexNextEntry();
+      }
+    }
   }
 }
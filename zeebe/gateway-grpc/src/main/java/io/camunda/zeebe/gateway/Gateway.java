@@ -350,7 +350,8 @@ public final class Gateway implements CloseableSilently {
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          gatewayCfg.getJobActivation());
     }
   }
 
@@ -365,6 +366,7 @@ public final class Gateway implements CloseableSilently {
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
+        .setJobActivationCfg(gatewayCfg.getJobActivation())
         .build();
   }
 
@@ -142,6 +142,12 @@ public class StreamJobsHandler extends Actor {
       return result;
     }
 
+    /** The client is ready as long as gRPC flow control allows sending without buffering. */
+    @Override
+    public boolean isReady() {
+      return responseObserver.isReady();
+    }
+
     private void handlePushedJob(
         final DirectBuffer payload, final CompletableActorFuture<Void> result) {
       final var deserializedJob = new ActivatedJobImpl();
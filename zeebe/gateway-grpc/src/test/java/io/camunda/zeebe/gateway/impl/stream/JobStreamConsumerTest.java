@@ -84,6 +84,19 @@ final class JobStreamConsumerTest {
     assertThat(clientObserver.error).as("client stream is not closed").isNull();
   }
 
+  @Test
+  void shouldReportReadinessOfClientStream() {
+    // given
+    final var clientObserver = new TestStreamObserver();
+    final var consumer = new JobStreamConsumer(clientObserver, executor);
+
+    // when
+    clientObserver.isReady = false;
+
+    // then
+    assertThat(consumer.isReady()).isFalse();
+  }
+
   @Test
   void shouldPushPayload() {
     // given
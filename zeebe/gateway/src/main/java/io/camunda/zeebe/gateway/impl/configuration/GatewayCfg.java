@@ -18,6 +18,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private List<FilterCfg> filters = new ArrayList<>();
   private MultiTenancyCfg multiTenancy = new MultiTenancyCfg();
@@ -75,6 +76,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -102,7 +112,14 @@ public class GatewayCfg {
   @Override
   public int hashCode() {
     return Objects.hash(
-        network, cluster, threads, security, longPolling, interceptors, multiTenancy);
+        network,
+        cluster,
+        threads,
+        security,
+        longPolling,
+        jobActivation,
+        interceptors,
+        multiTenancy);
   }
 
   @Override
@@ -119,6 +136,7 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(jobActivation, that.jobActivation)
         && Objects.equals(interceptors, that.interceptors)
         && Objects.equals(multiTenancy, that.multiTenancy);
   }
@@ -136,6 +154,8 @@ public class GatewayCfg {
         + security
         + ", longPolling="
         + longPolling
+        + ", jobActivation="
+        + jobActivation
         + ", interceptors="
         + interceptors
         + ", multiTenancy="
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private boolean backlogAware = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_BACKLOG_AWARE;
+  private Duration emptyPartitionTimeout =
+      ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_EMPTY_PARTITION_TIMEOUT;
+
+  public boolean isBacklogAware() {
+    return backlogAware;
+  }
+
+  public JobActivationCfg setBacklogAware(final boolean backlogAware) {
+    this.backlogAware = backlogAware;
+    return this;
+  }
+
+  public Duration getEmptyPartitionTimeout() {
+    return emptyPartitionTimeout;
+  }
+
+  public JobActivationCfg setEmptyPartitionTimeout(final Duration emptyPartitionTimeout) {
+    this.emptyPartitionTimeout = emptyPartitionTimeout;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(backlogAware, emptyPartitionTimeout);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return backlogAware == that.backlogAware
+        && Objects.equals(emptyPartitionTimeout, that.emptyPartitionTimeout);
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{"
+        + "backlogAware="
+        + backlogAware
+        + ", emptyPartitionTimeout="
+        + emptyPartitionTimeout
+        + '}';
+  }
+}
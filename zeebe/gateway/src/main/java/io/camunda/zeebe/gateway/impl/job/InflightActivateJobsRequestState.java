@@ -7,17 +7,19 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
-import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.Iterator;
 
 public class InflightActivateJobsRequestState {
 
-  private final PartitionIdIterator iterator;
+  private final Iterator<Integer> iterator;
+  private int currentPartition;
   private int remainingAmount;
   private boolean pollPrevPartition;
   private boolean resourceExhaustedWasPresent;
+  private long backlogVersion;
 
   public InflightActivateJobsRequestState(
-      final PartitionIdIterator iterator, final int remainingAmount) {
+      final Iterator<Integer> iterator, final int remainingAmount) {
     this.iterator = iterator;
     this.remainingAmount = remainingAmount;
   }
@@ -27,11 +29,14 @@ public class InflightActivateJobsRequestState {
   }
 
   public int getCurrentPartition() {
-    return iterator.getCurrentPartitionId();
+    return currentPartition;
   }
 
   public int getNextPartition() {
-    return pollPrevPartition ? iterator.getCurrentPartitionId() : iterator.next();
+    if (!pollPrevPartition) {
+      currentPartition = iterator.next();
+    }
+    return currentPartition;
   }
 
   public int getRemainingAmount() {
@@ -50,6 +55,14 @@ public class InflightActivateJobsRequestState {
     this.resourceExhaustedWasPresent = resourceExhaustedWasPresent;
   }
 
+  public long getBacklogVersion() {
+    return backlogVersion;
+  }
+
+  public void setBacklogVersion(final long backlogVersion) {
+    this.backlogVersion = backlogVersion;
+  }
+
   public void setPollPrevPartition(boolean pollPrevPartition) {
     this.pollPrevPartition = pollPrevPartition;
   }
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps track of which partitions had activatable jobs of a type, such that activate jobs requests
+ * are sent to partitions with a backlog first, and partitions which recently returned no jobs are
+ * skipped until the empty partition timeout elapsed or jobs of that type are available again.
+ *
+ * <p>The view is fed by the results of previous activations and by the jobs available
+ * notifications of the brokers. The notifications don't carry the partition, so a notification
+ * makes all partitions eligible again for the type.
+ *
+ * <p>The view is kept per job type and tenants, as a request for other tenants may find jobs on a
+ * partition which had none for the first request. It is accessed concurrently, as requests are
+ * started on the calling thread and the notifications are received on the messaging threads.
+ *
+ * <p>Each notification increments the version of the job type. A request captures the version
+ * before it is sent, and an empty result only marks a partition as empty if no notification was
+ * received meanwhile, such that a late response cannot hide jobs which became available after the
+ * partition was asked.
+ */
+final class JobBacklogTracker {
+
+  private final Map<String, Map<List<String>, Backlog>> backlogs = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final long emptyPartitionTimeoutMillis;
+  private final JobActivationMetrics metrics;
+  private final LongSupplier clock;
+
+  JobBacklogTracker(
+      final JobActivationCfg config, final JobActivationMetrics metrics, final LongSupplier clock) {
+    enabled = config.isBacklogAware();
+    emptyPartitionTimeoutMillis = config.getEmptyPartitionTimeout().toMillis();
+    this.metrics = metrics;
+    this.clock = clock;
+  }
+
+  /**
+   * Orders the given partitions such that partitions with a backlog come first, followed by the
+   * partitions for which nothing is known, each in their given order. Partitions which recently
+   * returned no jobs are skipped.
+   *
+   * @param jobType the type of the jobs to activate
+   * @param tenantIds the tenants of the jobs to activate
+   * @param partitions the partitions in round-robin order
+   * @return the partitions to send the request to, in that order
+   */
+  Iterator<Integer> prioritize(
+      final String jobType, final List<String> tenantIds, final Iterator<Integer> partitions) {
+    if (!enabled) {
+      return partitions;
+    }
+
+    final var tenantBacklogs = backlogs.get(jobType);
+    final var backlog = tenantBacklogs != null ? tenantBacklogs.get(tenantIds) : null;
+    if (backlog == null) {
+      return partitions;
+    }
+
+    final var now = clock.getAsLong();
+    final List<Integer> withBacklog = new ArrayList<>();
+    final List<Integer> unknown = new ArrayList<>();
+    while (partitions.hasNext()) {
+      final int partitionId = partitions.next();
+      if (backlog.hasBacklog(partitionId)) {
+        withBacklog.add(partitionId);
+      } else if (backlog.isEmpty(partitionId, now - emptyPartitionTimeoutMillis)) {
+        metrics.countSkippedPartition(partitionId);
+      } else {
+        unknown.add(partitionId);
+      }
+    }
+
+    withBacklog.addAll(unknown);
+    return withBacklog.iterator();
+  }
+
+  /**
+   * Returns the current version of the given type, which must be captured before activating jobs
+   * and passed to {@link #onJobsActivated(String, List, int, int, int, boolean, long)}.
+   */
+  long version(final String jobType) {
+    if (!enabled) {
+      return 0;
+    }
+
+    final var version = versions.get(jobType);
+    return version != null ? version.get() : 0;
+  }
+
+  /**
+   * Records the result of activating jobs on a partition. A partition has a backlog if it returned
+   * as many jobs as requested, or the response was truncated; otherwise it has no more jobs of the
+   * type, unless jobs became available since the given version was captured.
+   */
+  void onJobsActivated(
+      final String jobType,
+      final List<String> tenantIds,
+      final int partitionId,
+      final int requestedJobs,
+      final int activatedJobs,
+      final boolean truncated,
+      final long version) {
+    if (!enabled) {
+      return;
+    }
+
+    final var backlog =
+        backlogs
+            .computeIfAbsent(jobType, type -> new ConcurrentHashMap<>())
+            .computeIfAbsent(List.copyOf(tenantIds), tenants -> new Backlog(version(jobType)));
+    if (truncated || activatedJobs >= requestedJobs) {
+      backlog.markBacklog(partitionId);
+    } else {
+      backlog.markEmpty(partitionId, clock.getAsLong(), version);
+    }
+  }
+
+  /** Makes all partitions eligible again for the given type, for all tenants. */
+  void onJobsAvailable(final String jobType) {
+    if (!enabled) {
+      return;
+    }
+
+    // increment first, such that backlogs created meanwhile start with the new version
+    final var version =
+        versions.computeIfAbsent(jobType, type -> new AtomicLong()).incrementAndGet();
+    final var tenantBacklogs = backlogs.get(jobType);
+    if (tenantBacklogs != null) {
+      tenantBacklogs.values().forEach(backlog -> backlog.reset(version));
+    }
+  }
+
+  private static final class Backlog {
+    private final Set<Integer> partitionsWithBacklog = new HashSet<>();
+    private final Map<Integer, Long> emptySince = new HashMap<>();
+    // the version of the last notification, see JobBacklogTracker#onJobsAvailable
+    private long version;
+
+    private Backlog(final long version) {
+      this.version = version;
+    }
+
+    private synchronized boolean hasBacklog(final int partitionId) {
+      return partitionsWithBacklog.contains(partitionId);
+    }
+
+    private synchronized boolean isEmpty(final int partitionId, final long notBefore) {
+      final var since = emptySince.get(partitionId);
+      return since != null && since > notBefore;
+    }
+
+    private synchronized void markBacklog(final int partitionId) {
+      partitionsWithBacklog.add(partitionId);
+      emptySince.remove(partitionId);
+    }
+
+    private synchronized void markEmpty(
+        final int partitionId, final long now, final long requestVersion) {
+      if (requestVersion < version) {
+        // jobs became available after the partition was asked, so it may not be empty anymore
+        return;
+      }
+
+      partitionsWithBacklog.remove(partitionId);
+      emptySince.put(partitionId, now);
+    }
+
+    private synchronized void reset(final long version) {
+      emptySince.clear();
+      this.version = Math.max(this.version, version);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
@@ -62,11 +63,16 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final int failedAttemptThreshold,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
-      final Function<String, Throwable> requestCanceledExceptionProvider) {
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final JobActivationCfg jobActivationCfg) {
     this.brokerClient = brokerClient;
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            jobActivationCfg);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -288,6 +294,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    activateJobsHandler.onJobsAvailable(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
@@ -383,6 +390,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
+    private JobActivationCfg jobActivationCfg = new JobActivationCfg();
 
     public Builder<T> setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -427,6 +435,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setJobActivationCfg(final JobActivationCfg jobActivationCfg) {
+      this.jobActivationCfg = jobActivationCfg;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler<>(
@@ -437,7 +450,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           minEmptyResponses,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
-          requestCanceledExceptionProvider);
+          requestCanceledExceptionProvider,
+          jobActivationCfg);
     }
   }
 }
@@ -17,11 +17,15 @@ import io.camunda.zeebe.broker.client.impl.RoundRobinDispatchStrategy;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +36,10 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If {@link JobActivationCfg#isBacklogAware()} is enabled, the partitions which recently had
+ * jobs of the requested type are asked first, and partitions which recently had none are skipped;
+ * see {@link JobBacklogTracker}.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -47,6 +55,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final JobActivationMetrics metrics = new JobActivationMetrics();
+  private final JobBacklogTracker backlogTracker;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +66,27 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        new JobActivationCfg());
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final JobActivationCfg jobActivationCfg) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    backlogTracker =
+        new JobBacklogTracker(jobActivationCfg, metrics, ActorClock::currentTimeMillis);
   }
 
   @Override
@@ -97,10 +123,17 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final BiConsumer<Integer, Boolean> onCompleted) {
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
-    final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    // captured before any partition is asked, see JobBacklogTracker
+    final var backlogVersion = backlogTracker.version(jobType);
+    final var partitionIterator =
+        backlogTracker.prioritize(
+            jobType,
+            request.getRequest().getRequestWriter().getTenantIds(),
+            partitionIdIteratorForType(jobType, partitionsCount));
 
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+    requestState.setBacklogVersion(backlogVersion);
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
     activateJobs(request, requestState, delegate);
@@ -138,6 +171,14 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  /**
+   * Called when the brokers notify that jobs of the given type are available, such that partitions
+   * which previously had none are asked again.
+   */
+  void onJobsAvailable(final String jobType) {
+    backlogTracker.onJobsAvailable(jobType);
+  }
+
   private BiConsumer<BrokerResponse<JobBatchRecord>, Throwable> handleBrokerResponse(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
@@ -193,8 +234,19 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             }
           }
 
-          final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
+          final var requestedJobs = requestState.getRemainingAmount();
+          final var remainingJobsToActivate = requestedJobs - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
+          final var partitionId = requestState.getCurrentPartition();
+          metrics.countRoundTrip(partitionId, jobsActivated);
+          backlogTracker.onJobsActivated(
+              request.getType(),
+              request.getRequest().getRequestWriter().getTenantIds(),
+              partitionId,
+              requestedJobs,
+              jobsCount,
+              shouldPollCurrentPartitionAgain || !jobsToDefer.isEmpty(),
+              requestState.getBacklogVersion());
 
           requestState.setRemainingAmount(remainingJobsToActivate);
           requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
@@ -289,7 +341,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         reason);
   }
 
-  private PartitionIdIterator partitionIdIteratorForType(
+  private Iterator<Integer> partitionIdIteratorForType(
       final String jobType, final int partitionsCount) {
     final var nextPartitionSupplier =
         jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> new RoundRobinDispatchStrategy());
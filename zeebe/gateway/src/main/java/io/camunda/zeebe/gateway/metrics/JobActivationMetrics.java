@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class JobActivationMetrics {
+  private static final String RESULT_ACTIVATED = "activated";
+  private static final String RESULT_EMPTY = "empty";
+
+  private static final Counter ROUND_TRIPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_round_trips_total")
+          .help(
+              "Number of activate jobs requests sent to a partition, by whether any job was"
+                  + " activated or the round trip was wasted")
+          .labelNames("partition", "result")
+          .register();
+
+  private static final Counter SKIPPED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_skipped_partitions_total")
+          .help("Number of partitions skipped by activate jobs requests because they had no jobs")
+          .labelNames("partition")
+          .register();
+
+  public void countRoundTrip(final int partitionId, final boolean jobsActivated) {
+    ROUND_TRIPS
+        .labels(String.valueOf(partitionId), jobsActivated ? RESULT_ACTIVATED : RESULT_EMPTY)
+        .inc();
+  }
+
+  public void countSkippedPartition(final int partitionId) {
+    SKIPPED_PARTITIONS.labels(String.valueOf(partitionId)).inc();
+  }
+}
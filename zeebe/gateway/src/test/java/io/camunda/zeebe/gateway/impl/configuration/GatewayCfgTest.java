@@ -50,6 +50,10 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG
+        .getJobActivation()
+        .setBacklogAware(true)
+        .setEmptyPartitionTimeout(Duration.ofSeconds(5));
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
@@ -146,6 +150,8 @@ public final class GatewayCfgTest {
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
     setEnv("zeebe.gateway.longPolling.enabled", String.valueOf(true));
+    setEnv("zeebe.gateway.jobActivation.backlogAware", String.valueOf(false));
+    setEnv("zeebe.gateway.jobActivation.emptyPartitionTimeout", Duration.ofSeconds(2).toString());
     setEnv("zeebe.gateway.multiTenancy.enabled", String.valueOf(false));
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
@@ -179,6 +185,10 @@ public final class GatewayCfgTest {
             new File(
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(true);
+    expected
+        .getJobActivation()
+        .setBacklogAware(false)
+        .setEmptyPartitionTimeout(Duration.ofSeconds(2));
     expected.getMultiTenancy().setEnabled(false);
 
     expected.getInterceptors().add(new InterceptorCfg());
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class JobBacklogTrackerTest {
+
+  private static final String TYPE = "type";
+  private static final List<String> TENANTS = List.of("<default>");
+
+  private final AtomicLong clock = new AtomicLong();
+  private final JobBacklogTracker tracker =
+      new JobBacklogTracker(
+          new JobActivationCfg()
+              .setBacklogAware(true)
+              .setEmptyPartitionTimeout(Duration.ofSeconds(1)),
+          new JobActivationMetrics(),
+          clock::get);
+
+  @Test
+  void shouldKeepRoundRobinOrderIfNothingIsKnown() {
+    // when
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(2, 3, 1));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(2, 3, 1);
+  }
+
+  @Test
+  void shouldPreferPartitionsWithBacklog() {
+    // given
+    tracker.onJobsActivated(TYPE, TENANTS, 3, 10, 10, false, 0);
+    tracker.onJobsActivated(TYPE, TENANTS, 1, 10, 2, true, 0);
+
+    // when
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(1, 2, 3));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 3, 2);
+  }
+
+  @Test
+  void shouldSkipEmptyPartitions() {
+    // given
+    tracker.onJobsActivated(TYPE, TENANTS, 2, 10, 0, false, 0);
+    tracker.onJobsActivated(TYPE, TENANTS, 3, 10, 5, false, 0);
+
+    // when
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(1, 2, 3));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1);
+  }
+
+  @Test
+  void shouldRetryEmptyPartitionsAfterTimeout() {
+    // given
+    tracker.onJobsActivated(TYPE, TENANTS, 2, 10, 0, false, 0);
+
+    // when
+    clock.addAndGet(Duration.ofSeconds(1).toMillis());
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(1, 2, 3));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldRetryEmptyPartitionsWhenJobsAreAvailable() {
+    // given
+    tracker.onJobsActivated(TYPE, TENANTS, 1, 10, 10, false, 0);
+    tracker.onJobsActivated(TYPE, TENANTS, 2, 10, 0, false, 0);
+
+    // when
+    tracker.onJobsAvailable(TYPE);
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(2, 3, 1));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldNotMarkPartitionEmptyIfJobsBecameAvailableMeanwhile() {
+    // given - the partition was asked before jobs became available, and answers afterwards
+    tracker.onJobsActivated(TYPE, TENANTS, 1, 10, 10, false, 0);
+    final var version = tracker.version(TYPE);
+    tracker.onJobsAvailable(TYPE);
+
+    // when
+    tracker.onJobsActivated(TYPE, TENANTS, 2, 10, 0, false, version);
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(1, 2, 3));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldNotMarkPartitionEmptyIfJobsBecameAvailableBeforeFirstResult() {
+    // given
+    final var version = tracker.version(TYPE);
+    tracker.onJobsAvailable(TYPE);
+
+    // when
+    tracker.onJobsActivated(TYPE, TENANTS, 2, 10, 0, false, version);
+    final var partitions = tracker.prioritize(TYPE, TENANTS, partitions(1, 2, 3));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldTrackTypesAndTenantsSeparately() {
+    // given
+    tracker.onJobsActivated(TYPE, TENANTS, 1, 10, 0, false, 0);
+
+    // when
+    final var otherType = tracker.prioritize("other", TENANTS, partitions(1, 2));
+    final var otherTenants = tracker.prioritize(TYPE, List.of("tenant"), partitions(1, 2));
+
+    // then
+    assertThat(otherType).toIterable().containsExactly(1, 2);
+    assertThat(otherTenants).toIterable().containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldNotTrackIfDisabled() {
+    // given
+    final var disabledTracker =
+        new JobBacklogTracker(new JobActivationCfg(), new JobActivationMetrics(), clock::get);
+    disabledTracker.onJobsActivated(TYPE, TENANTS, 1, 10, 0, false, 0);
+
+    // when
+    final var partitions = disabledTracker.prioritize(TYPE, TENANTS, partitions(1, 2));
+
+    // then
+    assertThat(partitions).toIterable().containsExactly(1, 2);
+  }
+
+  private static Iterator<Integer> partitions(final Integer... partitionIds) {
+    return List.of(partitionIds).iterator();
+  }
+}
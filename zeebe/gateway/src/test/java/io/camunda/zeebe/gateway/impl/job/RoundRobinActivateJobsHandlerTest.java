@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RoundRobinActivateJobsHandlerTest {
+
+  private static final String TYPE = "type";
+  private static final int PARTITION_WITH_JOBS = 3;
+  private static final int MAX_JOBS_TO_ACTIVATE = 2;
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub activateJobsStub = new ActivateJobsStub();
+  private final List<Integer> requestedPartitions = new CopyOnWriteArrayList<>();
+  private final RoundRobinActivateJobsHandler<Integer> handler =
+      new RoundRobinActivateJobsHandler<>(
+          brokerClient,
+          Long.MAX_VALUE,
+          response -> new TestJobActivationResult(response.brokerResponse().getJobKeys().size()),
+          RuntimeException::new,
+          new JobActivationCfg().setBacklogAware(true));
+
+  private ActorScheduler actorScheduler;
+
+  @BeforeEach
+  void setUp() {
+    actorScheduler = ActorScheduler.newActorScheduler().build();
+    actorScheduler.start();
+
+    final var started = new CompletableFuture<>();
+    actorScheduler.submitActor(
+        Actor.newActor()
+            .name("RoundRobinActivateJobsHandler-Test")
+            .actorStartedHandler(handler.andThen(started::complete))
+            .build());
+    started.join();
+
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (BrokerActivateJobsRequest request) -> {
+          final var partitionId = request.getPartitionId();
+          requestedPartitions.add(partitionId);
+          activateJobsStub.addAvailableJobs(
+              TYPE, partitionId == PARTITION_WITH_JOBS ? Integer.MAX_VALUE : 0);
+          return activateJobsStub.handle(request);
+        });
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    actorScheduler.close();
+  }
+
+  @Test
+  void shouldQueryPartitionsWithBacklogFirst() {
+    // given - a first request finds the backlog after asking the empty partitions before it
+    activateJobs();
+    assertThat(requestedPartitions).containsExactly(1, 2, PARTITION_WITH_JOBS);
+    requestedPartitions.clear();
+
+    // when - the next request would start at partition 2 in round-robin order
+    activateJobs();
+
+    // then
+    assertThat(requestedPartitions).containsExactly(PARTITION_WITH_JOBS);
+  }
+
+  @Test
+  void shouldQueryEmptyPartitionsAgainOnceJobsAreAvailable() {
+    // given
+    activateJobs();
+    requestedPartitions.clear();
+    activateJobsStub.addAvailableJobs(TYPE, 0);
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (BrokerActivateJobsRequest request) -> {
+          requestedPartitions.add(request.getPartitionId());
+          return activateJobsStub.handle(request);
+        });
+
+    // when
+    handler.onJobsAvailable(TYPE);
+    activateJobs(MAX_JOBS_TO_ACTIVATE);
+
+    // then - the backlog is asked first, followed by all other partitions
+    assertThat(requestedPartitions)
+        .startsWith(PARTITION_WITH_JOBS)
+        .containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8);
+  }
+
+  private void activateJobs() {
+    activateJobs(0);
+  }
+
+  private void activateJobs(final int expectedRemainingAmount) {
+    final var completed = new CompletableFuture<Integer>();
+    final var request =
+        new InflightActivateJobsRequest<>(
+            1,
+            new BrokerActivateJobsRequest(TYPE)
+                .setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE)
+                .setWorker("worker")
+                .setTenantIds(List.of("<default>")),
+            new TestResponseObserver(),
+            0);
+
+    handler.activateJobs(
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount(),
+        request,
+        completed::completeExceptionally,
+        (remainingAmount, resourceExhausted) -> completed.complete(remainingAmount));
+
+    assertThat(completed.join()).isEqualTo(expectedRemainingAmount);
+  }
+
+  private record TestJobActivationResult(int jobsCount) implements JobActivationResult<Integer> {
+
+    @Override
+    public int getJobsCount() {
+      return jobsCount;
+    }
+
+    @Override
+    public List<ActivatedJob> getJobs() {
+      return List.of();
+    }
+
+    @Override
+    public Integer getActivateJobsResponse() {
+      return jobsCount;
+    }
+
+    @Override
+    public List<ActivatedJob> getJobsToDefer() {
+      return List.of();
+    }
+  }
+
+  private static final class TestResponseObserver implements ResponseObserver<Integer> {
+
+    @Override
+    public void onCompleted() {}
+
+    @Override
+    public void onNext(final Integer element) {}
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {}
+  }
+}
@@ -121,6 +121,15 @@ public interface Journal extends AutoCloseable {
    */
   void flush();
 
+  /**
+   * Returns the number of bytes appended since the last successful {@link #flush()}. This is only
+   * an approximation when appends and flushes happen concurrently, and is meant to help decide
+   * when to flush.
+   *
+   * @return the number of bytes which may not be flushed yet
+   */
+  long getUnflushedBytes();
+
   /**
    * Opens a new {@link JournalReader}
    *
@@ -17,6 +17,14 @@ package io.camunda.zeebe.journal;
 
 import java.util.Iterator;
 
+/**
+ * Iterates over the records of a journal.
+ *
+ * <p>Records returned by {@link #next()} are not copied: their {@link JournalRecord#data()} is a
+ * view into the journal's storage. A record remains valid until the reader has moved past the
+ * record following it, is seeked, or is closed, even if the journal is compacted in the meantime.
+ * Callers which need to keep a record for longer must copy it.
+ */
 public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
 
   /**
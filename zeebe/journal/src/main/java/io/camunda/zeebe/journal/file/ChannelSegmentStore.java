@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.BitUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.ArrayUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SegmentStore} which serializes records into a staging buffer, and writes them to the
+ * segment file via positional writes. See {@link SegmentBackend#FILE_CHANNEL}.
+ *
+ * <p>The staging buffer is aligned to the page size, and grows as needed up to the size of the
+ * segment, such that any record which fits into the segment can be staged.
+ *
+ * <p>By default, each record is written in two steps: first everything but its frame, then its
+ * frame. Readers only consider a record once its frame is written, so they never observe a
+ * partially written record, even though positional writes are not atomic.
+ *
+ * <p>When the channel is opened with {@code O_DSYNC}, each write is synced on its own, so the frame
+ * and the record are instead written together with a single write, halving the number of syncs per
+ * append. A reader racing with that write may observe the frame before the rest of the record; this
+ * is fine as long as only the writer's thread reads past the last flushed (i.e. committed) entry,
+ * which is what the Raft log does.
+ *
+ * <p>The channel and the staging buffer are only needed while the segment is written to, so they
+ * are acquired when the first record is prepared, and {@link #release() released} again once the
+ * segment is sealed. Sealed segments which are only read never hold either.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to be used only by the segment writer;
+ * the only exception is {@link #flush()}, which may be called concurrently.
+ */
+final class ChannelSegmentStore implements SegmentStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChannelSegmentStore.class);
+  private static final int ALIGNMENT = 4 * 1024;
+  private static final int INITIAL_STAGING_CAPACITY = 64 * 1024;
+
+  private final Path file;
+  private final int segmentSize;
+  private final boolean dsync;
+  private final UnsafeBuffer stagingView = new UnsafeBuffer();
+  private volatile FileChannel channel;
+  private boolean released;
+  private ByteBuffer staging;
+  private int stagedPosition;
+  private int stagedLength;
+
+  /**
+   * @param file the segment file to write records to
+   * @param segmentSize the size of the segment
+   * @param dsync if true, the channel is opened with {@code O_DSYNC}, such that each write is
+   *     synced; a record and its frame are then written with a single write
+   */
+  ChannelSegmentStore(final Path file, final int segmentSize, final boolean dsync) {
+    this.file = file;
+    this.segmentSize = segmentSize;
+    this.dsync = dsync;
+  }
+
+  @Override
+  public void prepare(final int position) {
+    if (staging == null) {
+      openChannel();
+      staging = allocateStaging(Math.min(INITIAL_STAGING_CAPACITY, segmentSize));
+    }
+
+    stagedPosition = position;
+    wrapStaging();
+  }
+
+  @Override
+  public boolean grow() {
+    final int remaining = segmentSize - stagedPosition;
+    if (staging.capacity() >= remaining) {
+      return false;
+    }
+
+    final long grownCapacity = Math.min(2L * staging.capacity(), remaining);
+    staging = allocateStaging((int) grownCapacity);
+    wrapStaging();
+    return true;
+  }
+
+  @Override
+  public int offset(final int position) {
+    return position - stagedPosition;
+  }
+
+  @Override
+  public MutableDirectBuffer directBuffer() {
+    return stagingView;
+  }
+
+  @Override
+  public ByteBuffer byteBuffer() {
+    return staging;
+  }
+
+  @Override
+  public void writeRecord(final int position, final int length) {
+    if (dsync) {
+      // written together with the frame
+      stagedLength = length;
+      return;
+    }
+
+    final int frameLength = FrameUtil.getLength();
+    final int offset = offset(position);
+    write(
+        staging.duplicate().limit(offset + length).position(offset + frameLength),
+        (long) position + frameLength);
+  }
+
+  @Override
+  public void writeFrame(final int position) {
+    final int offset = offset(position);
+    FrameUtil.writeVersion(staging, offset);
+
+    final int length = dsync ? stagedLength : FrameUtil.getLength();
+    write(staging.duplicate().limit(offset + length).position(offset), position);
+  }
+
+  @Override
+  public synchronized void flush() {
+    if (channel == null) {
+      return;
+    }
+
+    try {
+      channel.force(false);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // everything written before the segment was sealed is flushed now
+    if (released) {
+      closeChannel();
+    }
+  }
+
+  @Override
+  public synchronized void release() {
+    staging = null;
+    stagingView.wrap(ArrayUtil.EMPTY_BYTE_ARRAY);
+
+    // with DSYNC, every write is already synced, otherwise the channel is kept until the next flush
+    released = true;
+    if (dsync) {
+      closeChannel();
+    }
+  }
+
+  @Override
+  public SegmentStore moveTo(final Path target) {
+    close();
+    return new ChannelSegmentStore(target, segmentSize, dsync);
+  }
+
+  @Override
+  public synchronized void close() {
+    staging = null;
+    closeChannel();
+  }
+
+  private synchronized void openChannel() {
+    released = false;
+    if (channel != null) {
+      return;
+    }
+
+    final OpenOption[] options =
+        dsync
+            ? new OpenOption[] {StandardOpenOption.WRITE, StandardOpenOption.DSYNC}
+            : new OpenOption[] {StandardOpenOption.WRITE};
+    try {
+      channel = FileChannel.open(file, options);
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to open file channel to segment %s", file), e);
+    }
+  }
+
+  private void closeChannel() {
+    if (channel == null) {
+      return;
+    }
+
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to close segment file channel", e);
+    }
+    channel = null;
+  }
+
+  private void write(final ByteBuffer source, final long filePosition) {
+    try {
+      long position = filePosition;
+      while (source.hasRemaining()) {
+        position += channel.write(source, position);
+      }
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
+  private void wrapStaging() {
+    stagingView.wrap(staging, 0, Math.min(staging.capacity(), segmentSize - stagedPosition));
+  }
+
+  private static ByteBuffer allocateStaging(final int capacity) {
+    final int alignedCapacity = BitUtil.align(capacity, ALIGNMENT);
+    return ByteBuffer.allocateDirect(alignedCapacity + ALIGNMENT)
+        .alignedSlice(ALIGNMENT)
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
@@ -29,7 +29,19 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes the given index, asqn and position within a segment. Useful when the record itself is
+   * not available, e.g. when restoring a {@link PersistedSegmentIndex}.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the given index
+   */
+  void index(long index, long asqn, int position);
 
   /**
    * Looks up the position of the given index.
@@ -89,4 +101,25 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries with an index between {@code fromIndex} and {@code toIndex} (both
+   * inclusive), in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer called for each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+
+    /**
+     * @param index the index of the entry
+     * @param position the position of the entry within its segment
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
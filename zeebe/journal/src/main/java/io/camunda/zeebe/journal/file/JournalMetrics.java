@@ -112,6 +112,67 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_size")
+          .help("Distribution of the number of appended bytes made durable by a single flush")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(4 * 1024, 4, 10)
+          .register();
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_latency")
+          .help(
+              "Distribution of time between the first append of a flush batch and the end of the"
+                  + " flush, i.e. how long appended data waited to be made durable")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
+          .register();
+
+  private static final Histogram SEGMENT_INDEX_PERSIST_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_persist_time")
+          .help("Time spent to persist the index of a sealed segment")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_INDEX_RESTORED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_restored")
+          .help("Number of segments whose index was restored from a persisted index on load")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge SEGMENT_POOL_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("segment_pool_size")
+          .help("Number of segments which are prepared, or being prepared, ahead of rollover")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram SEGMENT_ROLLOVER_STALL_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_rollover_stall_time")
+          .help("Time spent waiting for the next segment on rollover, when it was not ready yet")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
+          .register();
+
+  private static final Counter SEGMENT_RECYCLED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_recycled")
+          .help("Number of compacted segments whose file was recycled instead of deleted")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -123,6 +184,13 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child flushBatchSize;
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child segmentIndexPersistTime;
+  private final Counter.Child segmentIndexRestored;
+  private final Gauge.Child segmentPoolSize;
+  private final Histogram.Child segmentRolloverStallTime;
+  private final Counter.Child segmentRecycled;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -136,6 +204,13 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(partitionId);
+    flushLatency = FLUSH_LATENCY.labels(partitionId);
+    segmentIndexPersistTime = SEGMENT_INDEX_PERSIST_TIME.labels(partitionId);
+    segmentIndexRestored = SEGMENT_INDEX_RESTORED.labels(partitionId);
+    segmentPoolSize = SEGMENT_POOL_SIZE.labels(partitionId);
+    segmentRolloverStallTime = SEGMENT_ROLLOVER_STALL_TIME.labels(partitionId);
+    segmentRecycled = SEGMENT_RECYCLED.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -182,4 +257,29 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  void observeFlushBatch(final long flushedBytes, final long latencyNanos) {
+    flushBatchSize.observe(flushedBytes);
+    flushLatency.observe(latencyNanos / 1_000_000_000d);
+  }
+
+  Histogram.Timer observeSegmentIndexPersist() {
+    return segmentIndexPersistTime.startTimer();
+  }
+
+  void incSegmentIndexRestored() {
+    segmentIndexRestored.inc();
+  }
+
+  void setSegmentPoolSize(final int size) {
+    segmentPoolSize.set(size);
+  }
+
+  Histogram.Timer observeSegmentRolloverStall() {
+    return segmentRolloverStallTime.startTimer();
+  }
+
+  void incSegmentRecycled() {
+    segmentRecycled.inc();
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link SegmentStore} which serializes records directly into the segment's mapping, such that
+ * writing them is a no-op. See {@link SegmentBackend#MAPPED}.
+ *
+ * <p>The mapping is owned by the segment, so closing the store does not unmap it.
+ */
+final class MappedSegmentStore implements SegmentStore {
+  private final MappedByteBuffer buffer;
+  private final UnsafeBuffer writeBuffer;
+
+  MappedSegmentStore(final MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    writeBuffer = new UnsafeBuffer(buffer);
+  }
+
+  @Override
+  public void prepare(final int position) {}
+
+  @Override
+  public boolean grow() {
+    return false;
+  }
+
+  @Override
+  public int offset(final int position) {
+    return position;
+  }
+
+  @Override
+  public MutableDirectBuffer directBuffer() {
+    return writeBuffer;
+  }
+
+  @Override
+  public ByteBuffer byteBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public void writeRecord(final int position, final int length) {
+    // already written, since the record was serialized in place
+  }
+
+  @Override
+  public void writeFrame(final int position) {
+    FrameUtil.writeVersion(buffer, position);
+  }
+
+  @Override
+  public void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public void release() {
+    // the mapping is owned by the segment
+  }
+
+  @Override
+  public SegmentStore moveTo(final Path file) {
+    // the mapping stays valid when the file is moved
+    return this;
+  }
+
+  @Override
+  public void close() {}
+}
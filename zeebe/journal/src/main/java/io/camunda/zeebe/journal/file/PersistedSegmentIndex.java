@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment into a file next to the segment,
+ * such that the index can be restored when the journal is opened again, instead of being rebuilt by
+ * scanning the segment. The file is written once, when the segment is sealed on rollover, such that
+ * it is available even if the journal is not closed cleanly.
+ *
+ * <p>The file consists of a header, the indexed entries, and a trailing CRC32C checksum over both.
+ * It is only used if the checksum is valid and the header matches the descriptor of the segment it
+ * belongs to; otherwise it is ignored, and the segment is indexed on demand as usual. The file is
+ * deleted whenever its segment is modified again (e.g. truncated) or deleted.
+ *
+ * <p>Only what was indexed when the segment was sealed is persisted. If the segment was not fully
+ * indexed at that point (e.g. it was the active segment on start up), readers will still scan the
+ * segment to find the missing entries, as they would without a persisted index.
+ */
+final class PersistedSegmentIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(PersistedSegmentIndex.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Integer.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+
+  private static final int ENTRY_INDEX_OFFSET = 0;
+  private static final int ENTRY_POSITION_OFFSET = ENTRY_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRY_ASQN_OFFSET = ENTRY_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = ENTRY_ASQN_OFFSET + Long.BYTES;
+
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private PersistedSegmentIndex() {}
+
+  /**
+   * Writes the indexed entries of the given sealed segment to its index file, replacing any
+   * previous file atomically. The file is not flushed: if it is incomplete after a crash, its
+   * checksum will not match, and it will simply be ignored.
+   *
+   * @param segment the sealed segment
+   * @param index the journal index containing the segment's entries
+   * @throws IOException if the file could not be written
+   */
+  static void write(final Segment segment, final JournalIndex index) throws IOException {
+    final var descriptor = segment.descriptor();
+    final var buffer = new ExpandableArrayBuffer(HEADER_LENGTH + 64 * ENTRY_LENGTH);
+    final var entryCount = new int[1];
+
+    index.forEach(
+        descriptor.index(),
+        descriptor.lastIndex(),
+        (entryIndex, position, asqn) -> {
+          final int offset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+          buffer.putLong(offset + ENTRY_INDEX_OFFSET, entryIndex, ENDIANNESS);
+          buffer.putInt(offset + ENTRY_POSITION_OFFSET, position, ENDIANNESS);
+          buffer.putLong(offset + ENTRY_ASQN_OFFSET, asqn, ENDIANNESS);
+          entryCount[0]++;
+        });
+
+    buffer.putInt(VERSION_OFFSET, VERSION, ENDIANNESS);
+    buffer.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    buffer.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, descriptor.lastIndex(), ENDIANNESS);
+    buffer.putInt(LAST_POSITION_OFFSET, descriptor.lastPosition(), ENDIANNESS);
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    final var checksum = new CRC32C();
+    checksum.update(buffer.byteArray(), 0, checksumOffset);
+    buffer.putLong(checksumOffset, checksum.getValue(), ENDIANNESS);
+
+    final var indexFile = segment.file().indexFile();
+    final var tmpFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+    try (final var channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var content = ByteBuffer.wrap(buffer.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+
+    Files.move(
+        tmpFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    LOG.trace(
+        "Persisted {} index entries of segment {} to {}", entryCount[0], segment, indexFile);
+  }
+
+  /**
+   * Returns whether the given segment already has a persisted index matching its descriptor, in
+   * which case it doesn't need to be written again. Only the header is compared; the checksum is
+   * verified when the index is loaded.
+   *
+   * @param segmentFile the segment file
+   * @param descriptor the current descriptor of the segment
+   * @return true if the persisted index matches the descriptor, false otherwise
+   */
+  static boolean isUpToDate(final SegmentFile segmentFile, final SegmentDescriptor descriptor) {
+    final var indexFile = segmentFile.indexFile();
+    if (!Files.exists(indexFile)) {
+      return false;
+    }
+
+    try (final var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      final var header = ByteBuffer.allocate(HEADER_LENGTH).order(ENDIANNESS);
+      while (header.hasRemaining()) {
+        if (channel.read(header) < 0) {
+          return false;
+        }
+      }
+
+      final long entryCount = header.getInt(ENTRY_COUNT_OFFSET);
+      return header.getInt(VERSION_OFFSET) == VERSION
+          && channel.size() == HEADER_LENGTH + entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH
+          && header.getLong(SEGMENT_ID_OFFSET) == descriptor.id()
+          && header.getLong(FIRST_INDEX_OFFSET) == descriptor.index()
+          && header.getLong(LAST_INDEX_OFFSET) == descriptor.lastIndex()
+          && header.getInt(LAST_POSITION_OFFSET) == descriptor.lastPosition();
+    } catch (final IOException e) {
+      LOG.debug("Failed to read header of persisted index {}", indexFile, e);
+      return false;
+    }
+  }
+
+  /**
+   * Restores the entries of the persisted index of the given segment into the journal index, if
+   * the file exists and is valid for the segment with the given descriptor.
+   *
+   * @param segmentFile the segment file
+   * @param descriptor the descriptor of the segment, as read from the segment file
+   * @param index the journal index to restore the entries into
+   * @return true if the entries were restored, false otherwise
+   */
+  static boolean load(
+      final SegmentFile segmentFile, final SegmentDescriptor descriptor, final JournalIndex index) {
+    final var indexFile = segmentFile.indexFile();
+    // without the last position we cannot verify the index belongs to the current segment content
+    if (descriptor.lastPosition() <= 0 || !Files.exists(indexFile)) {
+      return false;
+    }
+
+    try (final var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < HEADER_LENGTH + CHECKSUM_LENGTH || size > Integer.MAX_VALUE) {
+        LOG.debug("Ignoring persisted index {} with unexpected size {}", indexFile, size);
+        return false;
+      }
+
+      final MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, size);
+      try {
+        return restore(indexFile, mapped.order(ENDIANNESS), descriptor, index);
+      } finally {
+        IoUtil.unmap(mapped);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to read persisted index {}, will index segment on demand", indexFile, e);
+      return false;
+    }
+  }
+
+  /**
+   * Deletes the persisted index of the given segment, if any.
+   *
+   * @param segmentFile the segment file
+   */
+  static void delete(final SegmentFile segmentFile) {
+    final var indexFile = segmentFile.indexFile();
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete persisted segment index {}. This can lead to increased disk usage.",
+          indexFile,
+          e);
+    }
+  }
+
+  private static boolean restore(
+      final Path indexFile,
+      final ByteBuffer buffer,
+      final SegmentDescriptor descriptor,
+      final JournalIndex index) {
+    final int size = buffer.capacity();
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+    final int checksumOffset = size - CHECKSUM_LENGTH;
+
+    if (buffer.getInt(VERSION_OFFSET) != VERSION
+        || entryCount < 0
+        || (long) HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH != checksumOffset) {
+      LOG.debug("Ignoring persisted index {} with unknown version or layout", indexFile);
+      return false;
+    }
+
+    final var checksum = new CRC32C();
+    checksum.update(buffer.duplicate().position(0).limit(checksumOffset));
+    if (checksum.getValue() != buffer.getLong(checksumOffset)) {
+      LOG.debug("Ignoring persisted index {} with invalid checksum", indexFile);
+      return false;
+    }
+
+    if (buffer.getLong(SEGMENT_ID_OFFSET) != descriptor.id()
+        || buffer.getLong(FIRST_INDEX_OFFSET) != descriptor.index()
+        || buffer.getLong(LAST_INDEX_OFFSET) != descriptor.lastIndex()
+        || buffer.getInt(LAST_POSITION_OFFSET) != descriptor.lastPosition()) {
+      LOG.debug(
+          "Ignoring persisted index {} which does not match segment descriptor {}",
+          indexFile,
+          descriptor);
+      return false;
+    }
+
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      index.index(
+          buffer.getLong(offset + ENTRY_INDEX_OFFSET),
+          buffer.getLong(offset + ENTRY_ASQN_OFFSET),
+          buffer.getInt(offset + ENTRY_POSITION_OFFSET));
+    }
+
+    LOG.debug("Restored {} index entries from persisted index {}", entryCount, indexFile);
+    return true;
+  }
+}
@@ -49,6 +49,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
+  private final SegmentStore store;
   private final JournalMetrics metrics;
 
   // This needs to be volatile in case the flushing is asynchronous
@@ -60,12 +61,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final SegmentFile file,
       final SegmentDescriptor descriptor,
       final MappedByteBuffer buffer,
+      final SegmentStore store,
       final long lastWrittenAsqn,
       final JournalIndex index,
       final JournalMetrics metrics) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
+    this.store = store;
     this.index = index;
     this.metrics = metrics;
 
@@ -111,7 +114,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * with a message about being unable to allocate memory. There are no other exceptions (other than
    * the usual suspects, like null pointers) possible, so it's safe to assume that if we get such an
    * error on calling {@link MappedByteBuffer#force()}, but the segment is closed/deleted, then we
-   * can safely ignore it (as flushing doesn't matter in that case).
+   * can safely ignore it (as flushing doesn't matter in that case). The same applies when flushing
+   * via a {@link java.nio.channels.FileChannel} (see {@link SegmentBackend#FILE_CHANNEL}), which
+   * fails with a closed channel exception instead.
    *
    * <p>{@inheritDoc}
    *
@@ -122,7 +127,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      store.flush();
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
         throw e;
@@ -191,7 +196,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+    return new SegmentWriter(buffer, store, this, index, lastWrittenAsqn, metrics);
   }
 
   /**
@@ -228,18 +233,64 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
+    store.close();
     IoUtil.unmap(buffer);
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    PersistedSegmentIndex.delete(file);
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
     }
   }
 
+  /**
+   * Recycles the file of this compacted segment for a new segment with the given ID, instead of
+   * deleting it. The file is renamed, and its descriptor and first entry are invalidated, such that
+   * it is treated like a newly created file until it is initialized again. The mapping is reused
+   * as is, so any previous entries after the first one are only invalidated as new entries are
+   * written (see {@link SegmentWriter}).
+   *
+   * <p>A segment which still has readers cannot be recycled, as they could observe the new
+   * entries; it should be deleted instead.
+   *
+   * @param target the new segment file
+   * @param segmentId the ID of the new segment
+   * @return the recycled segment, or null if the segment still has readers
+   * @throws JournalException if the file could not be renamed
+   */
+  UninitializedSegment recycle(final SegmentFile target, final long segmentId) {
+    if (!readers.isEmpty()) {
+      return null;
+    }
+
+    open = false;
+    PersistedSegmentIndex.delete(file);
+
+    final int invalidatedLength = SegmentDescriptor.getEncodingLength() + FrameUtil.getLength();
+    for (int i = 0; i < invalidatedLength; i++) {
+      buffer.put(i, (byte) 0);
+    }
+    buffer.force(0, invalidatedLength);
+
+    try {
+      FileUtil.moveDurably(file.file().toPath(), target.file().toPath());
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+
+    return new UninitializedSegment(
+        target,
+        segmentId,
+        descriptor.maxSegmentSize(),
+        buffer,
+        store.moveTo(target.file().toPath()),
+        index);
+  }
+
   private void safeDelete() {
     if (!readers.isEmpty()) {
       throw new JournalException(
@@ -248,6 +299,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
+      store.close();
       IoUtil.unmap(buffer);
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
@@ -278,6 +330,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
     markedForDeletion = true;
   }
 
+  /**
+   * Seals the segment, i.e. it will not be written to anymore unless it is truncated. Releases the
+   * resources which are only needed to write to it.
+   */
+  void seal() {
+    store.release();
+  }
+
   void updateDescriptor() {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
@@ -285,6 +345,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment will be modified again, so its persisted index is not valid anymore
+    PersistedSegmentIndex.delete(file);
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
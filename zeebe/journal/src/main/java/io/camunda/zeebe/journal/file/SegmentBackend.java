@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * Defines how records appended to a segment are written to and flushed to disk. Regardless of the
+ * backend, segments are always memory mapped, and readers always read through that mapping.
+ */
+public enum SegmentBackend {
+  /**
+   * Records are serialized directly into the memory mapped segment, and the segment is flushed via
+   * {@code msync}. This is the default.
+   */
+  MAPPED,
+
+  /**
+   * Records are serialized into an aligned staging buffer, and written to the segment file via
+   * positional writes. The segment is flushed via {@code fdatasync}. Since the writes go through
+   * the page cache, they are immediately visible to readers through the segment's mapping, but the
+   * writer never faults in pages of the mapping.
+   */
+  FILE_CHANNEL,
+
+  /**
+   * Same as {@link #FILE_CHANNEL}, but the segment file is opened with {@code O_DSYNC}, such that
+   * each write is durable once it returns. This keeps the amount of dirty pages, and thus the cost
+   * of a flush, to a minimum, at the cost of a slower append. Each record is written, together
+   * with its frame, with a single write.
+   */
+  FILE_CHANNEL_DSYNC
+}
@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -112,6 +113,39 @@ public final class SegmentFile {
             EXTENSION));
   }
 
+  /**
+   * Returns a boolean value indicating whether the given file appears to be a persisted segment
+   * index file, see {@link PersistedSegmentIndex}.
+   *
+   * @param journalName the name of the journal
+   * @param fileName the name of the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  static boolean isSegmentIndexFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    if (!fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION)) {
+      return false;
+    }
+
+    return isSegmentFile(
+        journalName,
+        fileName.substring(0, fileName.length() - INDEX_EXTENSION.length()) + EXTENSION);
+  }
+
+  /**
+   * Returns the path of the segment file which belongs to the given segment index file.
+   *
+   * @param indexFile the persisted segment index file
+   * @return the path of the segment file
+   */
+  static Path segmentFileOfIndexFile(final Path indexFile) {
+    final var fileName = indexFile.getFileName().toString();
+    return indexFile.resolveSibling(
+        fileName.substring(0, fileName.length() - INDEX_EXTENSION.length()) + EXTENSION);
+  }
+
   /**
    * Returns the segment file.
    *
@@ -125,6 +159,18 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the persisted index of this segment, see {@link PersistedSegmentIndex}. The
+   * file may not exist.
+   *
+   * @return the path of the persisted segment index
+   */
+  Path indexFile() {
+    final var fileName = file.getName();
+    final var baseName = fileName.substring(0, fileName.lastIndexOf(EXTENSION_SEPARATOR) + 1);
+    return Path.of(file.getParent(), baseName + INDEX_EXTENSION);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -32,6 +32,8 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final boolean persistSegmentIndex;
+  private final SegmentBackend backend;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +41,20 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, false, SegmentBackend.MAPPED);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final boolean persistSegmentIndex,
+      final SegmentBackend backend) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.backend = backend;
   }
 
   Segment createSegment(
@@ -109,6 +122,7 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
+        createStore(segmentFile, mappedSegment),
         journalIndex);
   }
 
@@ -127,6 +141,14 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
+      // restore the index before loading the segment, such that the entries indexed when resetting
+      // the segment writer are indexed in order
+      if (persistSegmentIndex
+          && PersistedSegmentIndex.load(
+              new SegmentFile(segmentFile.toFile()), descriptor, journalIndex)) {
+        metrics.incSegmentIndexRestored();
+      }
+
       return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
     } catch (final IOException e) {
       throw new JournalException(
@@ -134,6 +156,30 @@ final class SegmentLoader {
     }
   }
 
+  /**
+   * Persists the index entries of the given segment, if enabled, such that they can be restored
+   * instead of re-indexing the segment when loading it again. Should only be called once the
+   * segment is sealed, i.e. it will not be written to anymore. Does nothing if the segment's
+   * persisted index is already up to date.
+   *
+   * @param segment the sealed segment
+   * @param journalIndex the journal index containing the segment's entries
+   */
+  void persistSegmentIndex(final Segment segment, final JournalIndex journalIndex) {
+    if (!persistSegmentIndex
+        || PersistedSegmentIndex.isUpToDate(segment.file(), segment.descriptor())) {
+      return;
+    }
+
+    try (final var ignored = metrics.observeSegmentIndexPersist()) {
+      PersistedSegmentIndex.write(segment, journalIndex);
+    } catch (final IOException e) {
+      // the persisted index is only an optimization, so it's safe to proceed without it
+      LOGGER.warn("Failed to persist index of segment {}, ignoring", segment, e);
+      PersistedSegmentIndex.delete(segment.file());
+    }
+  }
+
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
@@ -142,7 +188,24 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile,
+        descriptor,
+        buffer,
+        createStore(file, buffer),
+        lastWrittenAsqn,
+        journalIndex,
+        metrics);
+  }
+
+  private SegmentStore createStore(final Path file, final MappedByteBuffer buffer) {
+    if (backend == SegmentBackend.MAPPED) {
+      return new MappedSegmentStore(buffer);
+    }
+
+    // the channel is only opened once the segment is written to
+    return new ChannelSegmentStore(
+        file, buffer.capacity(), backend == SegmentBackend.FILE_CHANNEL_DSYNC);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a pool of segments which are prepared ahead of rollover, such that creating, allocating and
+ * mapping the next segment file does not happen on the append path. Segments are prepared
+ * asynchronously, or recycled from compacted segments (see {@link #offer(UninitializedSegment)}).
+ *
+ * <p>Recycled segments are kept on top of the segments prepared ahead, up to twice the pool's
+ * capacity in total. This way, the rollovers between two compactions are served by recycled files
+ * without allocating new ones, while bounding the disk space kept around for unused segments.
+ *
+ * <p>Segments are handed out in the order of their IDs, and every segment in the pool has a greater
+ * ID than any segment handed out before. On restart, pooled segments which were never used have no
+ * valid descriptor, and are deleted like any other partially created segment.
+ *
+ * <p>This class is not thread safe, and is meant to be used only by the {@link SegmentsManager}.
+ */
+final class SegmentPool implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPool.class);
+
+  private final Deque<CompletableFuture<UninitializedSegment>> segments = new ArrayDeque<>();
+  private final int capacity;
+  private final LongFunction<UninitializedSegment> segmentFactory;
+  private final JournalMetrics metrics;
+
+  private long lastSegmentId;
+
+  /**
+   * @param capacity the number of segments to keep ready; if 0, no segments are prepared ahead
+   * @param segmentFactory creates a new, uninitialized segment with the given ID
+   * @param metrics the journal metrics
+   */
+  SegmentPool(
+      final int capacity,
+      final LongFunction<UninitializedSegment> segmentFactory,
+      final JournalMetrics metrics) {
+    this.capacity = capacity;
+    this.segmentFactory = segmentFactory;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Asynchronously prepares as many segments as needed to fill the pool. New segments get IDs
+   * greater than the given current segment ID and any segment ID handed out before.
+   *
+   * @param currentSegmentId the ID of the current segment
+   */
+  void fill(final long currentSegmentId) {
+    while (segments.size() < capacity) {
+      final long segmentId = nextSegmentId(currentSegmentId);
+      segments.addLast(CompletableFuture.supplyAsync(() -> segmentFactory.apply(segmentId)));
+    }
+
+    metrics.setSegmentPoolSize(segments.size());
+  }
+
+  /**
+   * Returns the next segment of the pool, waiting for it to be prepared if necessary.
+   *
+   * @return the next segment, or null if the pool is empty
+   * @throws CompletionException if the segment could not be prepared
+   */
+  UninitializedSegment take() {
+    final var next = segments.pollFirst();
+    metrics.setSegmentPoolSize(segments.size());
+
+    if (next == null) {
+      return null;
+    }
+
+    if (next.isDone()) {
+      return next.join();
+    }
+
+    try (final var ignored = metrics.observeSegmentRolloverStall()) {
+      return next.join();
+    }
+  }
+
+  /**
+   * Adds an already prepared segment to the pool, e.g. a recycled one. Its ID must have been
+   * obtained via {@link #nextSegmentId(long)}.
+   *
+   * @param segment the prepared segment
+   */
+  void offer(final UninitializedSegment segment) {
+    segments.addLast(CompletableFuture.completedFuture(segment));
+    metrics.setSegmentPoolSize(segments.size());
+  }
+
+  /**
+   * @return true if another recycled segment can be added via {@link #offer(UninitializedSegment)}
+   */
+  boolean canRecycle() {
+    return segments.size() < 2 * capacity;
+  }
+
+  /**
+   * Reserves the next segment ID, which is greater than the given current segment ID and any
+   * segment ID handed out before.
+   *
+   * @param currentSegmentId the ID of the current segment
+   * @return the reserved segment ID
+   */
+  long nextSegmentId(final long currentSegmentId) {
+    lastSegmentId = Math.max(lastSegmentId, currentSegmentId) + 1;
+    return lastSegmentId;
+  }
+
+  @Override
+  public void close() {
+    for (final var segment : segments) {
+      try {
+        segment.join().close();
+      } catch (final Exception e) {
+        LOG.warn("Segment preparation failed during close, ignoring and proceeding to close", e);
+      }
+    }
+
+    segments.clear();
+    metrics.setSegmentPoolSize(0);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Defines where the {@link SegmentWriter} serializes appended records into, and how these are
+ * written to and flushed to the segment file. See {@link SegmentBackend} for the available
+ * implementations.
+ *
+ * <p>Positions are always relative to the start of the segment. A record starting at a given
+ * position is serialized into {@link #directBuffer()} at {@link #offset(int)}, after calling
+ * {@link #prepare(int)} with the same position.
+ *
+ * <p>Small updates, such as invalidating the next entry or updating the descriptor, are always
+ * written through the segment's mapping, independently of the store.
+ */
+interface SegmentStore extends AutoCloseable {
+
+  /**
+   * Prepares the store to serialize a record starting at the given position. The capacity of
+   * {@link #directBuffer()} is then bounded by the space left in the segment.
+   *
+   * @param position the position in the segment of the record to serialize
+   */
+  void prepare(int position);
+
+  /**
+   * Tries to make more room for the record at the prepared position, if the record did not fit
+   * into the {@link #directBuffer()}, but may still fit into the segment.
+   *
+   * @return true if there is more room now, false if the segment is full
+   */
+  boolean grow();
+
+  /**
+   * @param position a position in the segment
+   * @return the offset in the store's buffers corresponding to the given position
+   */
+  int offset(int position);
+
+  /** Returns the buffer to serialize the prepared record into. */
+  MutableDirectBuffer directBuffer();
+
+  /** Returns the same memory as {@link #directBuffer()}, e.g. to compute checksums. */
+  ByteBuffer byteBuffer();
+
+  /**
+   * Writes the serialized record, except for its frame, to the segment. The record is not visible
+   * to readers until its frame is written via {@link #writeFrame(int)}. Implementations may defer
+   * the write, and write the record together with its frame.
+   *
+   * @param position the position of the record in the segment
+   * @param length the length of the record, including its frame
+   */
+  void writeRecord(int position, int length);
+
+  /**
+   * Writes the frame of the record at the given position, making it visible to readers.
+   *
+   * @param position the position of the record in the segment
+   */
+  void writeFrame(int position);
+
+  /**
+   * Flushes everything written to the segment so far to disk.
+   *
+   * @throws UncheckedIOException if the flush failed
+   */
+  void flush();
+
+  /**
+   * Releases the resources which are only needed to write to the segment, once it is sealed. They
+   * are acquired again if the segment is written to again, e.g. after it was truncated. Everything
+   * written so far must still be flushed by the next {@link #flush()}.
+   */
+  void release();
+
+  /**
+   * Returns the store to use once the segment file was moved to the given path, e.g. when the
+   * segment is recycled. This store must not be used anymore afterwards.
+   *
+   * @param file the new path of the segment file
+   * @return the store for the moved segment file
+   */
+  SegmentStore moveTo(Path file);
+
+  @Override
+  void close();
+}
@@ -46,6 +46,7 @@ final class SegmentWriter {
   private static final Logger LOG = LoggerFactory.getLogger(SegmentWriter.class);
 
   private final MappedByteBuffer buffer;
+  private final SegmentStore store;
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
@@ -62,6 +63,7 @@ final class SegmentWriter {
 
   SegmentWriter(
       final MappedByteBuffer buffer,
+      final SegmentStore store,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
@@ -72,6 +74,7 @@ final class SegmentWriter {
     this.index = index;
     firstIndex = segment.index();
     this.buffer = buffer;
+    this.store = store;
     writeBuffer.wrap(buffer);
     firstAsqn = lastWrittenAsqn + 1;
     lastAsqn = lastWrittenAsqn;
@@ -121,18 +124,12 @@ final class SegmentWriter {
 
     verifyAsqnIsIncreasing(asqn);
 
-    final int startPosition = buffer.position();
-    final int frameLength = FrameUtil.getLength();
-    final int metadataLength = serializer.getMetadataLength();
-
     // Write using sbe old version because the checksum is calculated based on that version. This is
     // to handle all append requests coming from leaders that are at versions 8.2.x or older.
-    final var writeResult =
-        writeRecordAtOldVersion(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
-
-    return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+    return appendRecord(
+        expectedChecksum,
+        (target, offset) ->
+            writeRecordAtOldVersion(entryIndex, asqn, target, offset, recordDataWriter));
   }
 
   Either<SegmentFull, JournalRecord> append(final long asqn, final BufferWriter recordDataWriter) {
@@ -147,35 +144,34 @@ final class SegmentWriter {
 
     verifyAsqnIsIncreasing(asqn);
 
-    final int startPosition = buffer.position();
-    final int frameLength = FrameUtil.getLength();
-    final int metadataLength = serializer.getMetadataLength();
-
-    final var writeResult =
-        writeRecord(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
-
-    return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+    return appendRecord(
+        expectedChecksum,
+        (target, offset) -> writeRecord(entryIndex, asqn, target, offset, recordDataWriter));
   }
 
   Either<SegmentFull, JournalRecord> append(
       final long expectedChecksum, final byte[] serializedRecord) {
+    return appendRecord(
+        expectedChecksum,
+        (target, offset) -> writeSerializedRecord(target, offset, serializedRecord));
+  }
 
+  private Either<SegmentFull, JournalRecord> appendRecord(
+      final Long expectedChecksum, final RecordWriter recordWriter) {
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
-    final int recordLength = serializedRecord.length;
     final int metadataLength = serializer.getMetadataLength();
 
-    if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
-      return Either.left(new SegmentFull("Not enough space to write record"));
-    }
-
-    // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+    store.prepare(startPosition);
+    Either<SegmentFull, Integer> writeResult;
+    do {
+      writeResult =
+          recordWriter.write(
+              store.directBuffer(), store.offset(startPosition) + frameLength + metadataLength);
+    } while (writeResult.isLeft() && store.grow());
 
-    finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
-    return Either.right(lastEntry);
+    return tryFinalizeAppend(
+        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
   }
 
   private void verifyAsqnIsIncreasing(final long asqn) {
@@ -224,9 +220,10 @@ final class SegmentWriter {
       final int frameLength,
       final int metadataLength,
       final int recordLength) {
+    final int offset = store.offset(startPosition);
     final long checksum =
         checksumGenerator.compute(
-            buffer, startPosition + frameLength + metadataLength, recordLength);
+            store.byteBuffer(), offset + frameLength + metadataLength, recordLength);
 
     if (expectedChecksum != null && expectedChecksum != checksum) {
       buffer.position(startPosition);
@@ -236,15 +233,24 @@ final class SegmentWriter {
               checksum, expectedChecksum));
     }
 
-    writeMetadata(startPosition, frameLength, recordLength, checksum);
+    writeMetadata(offset + frameLength, recordLength, checksum);
 
-    final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
+    // verified on the serialized record, before anything of it is written to the segment
+    final var serializedData =
+        serializer.readData(store.directBuffer(), offset + frameLength + metadataLength);
+    verifyNoIndexGap(serializedData.index(), getNextIndex());
+
+    final int appendedBytes = frameLength + metadataLength + recordLength;
+    store.writeRecord(startPosition, appendedBytes);
+
+    final int nextEntryOffset = startPosition + appendedBytes;
     invalidateNextEntry(nextEntryOffset);
 
+    // the store may defer writing the record until its frame is written, so the record can only be
+    // read back from the segment afterwards
+    store.writeFrame(startPosition);
     updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
-    FrameUtil.writeVersion(buffer, startPosition);
 
-    final int appendedBytes = frameLength + metadataLength + recordLength;
     buffer.position(startPosition + appendedBytes);
     metrics.observeAppend(appendedBytes);
   }
@@ -256,7 +262,6 @@ final class SegmentWriter {
       final int recordLength) {
     final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
     final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
-    verifyNoIndexGap(data.index(), getNextIndex());
 
     lastEntry =
         new PersistedJournalRecord(
@@ -273,26 +278,43 @@ final class SegmentWriter {
     lastAsqn = asqn != ASQN_IGNORE ? asqn : lastAsqn;
   }
 
-  private void writeMetadata(
-      final int startPosition, final int frameLength, final int recordLength, final long checksum) {
+  private void writeMetadata(final int offset, final int recordLength, final long checksum) {
     final RecordMetadata recordMetadata = new RecordMetadata(checksum, recordLength);
-    serializer.writeMetadata(recordMetadata, writeBuffer, startPosition + frameLength);
+    serializer.writeMetadata(recordMetadata, store.directBuffer(), offset);
   }
 
   private Either<SegmentFull, Integer> writeRecord(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer target,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeData(index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeData(index, asqn, recordDataWriter, target, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
   private Either<SegmentFull, Integer> writeRecordAtOldVersion(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer target,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeDataAtVersion(1, index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeDataAtVersion(1, index, asqn, recordDataWriter, target, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
+  private Either<SegmentFull, Integer> writeSerializedRecord(
+      final MutableDirectBuffer target, final int offset, final byte[] serializedRecord) {
+    if (offset + serializedRecord.length > target.capacity()) {
+      return Either.left(new SegmentFull("Not enough space to write record"));
+    }
+
+    target.putBytes(offset, serializedRecord);
+    return Either.right(serializedRecord.length);
+  }
+
   private void invalidateNextEntry(final int position) {
     if (position >= buffer.capacity()) {
       return;
@@ -365,12 +387,27 @@ final class SegmentWriter {
         throw e;
       }
       resetPartiallyWrittenEntry(e, position);
+    } catch (final InvalidIndex e) {
+      // a valid entry from before this segment can only be a stale entry left over in a recycled
+      // segment file, which was not invalidated before a crash; like a partially written entry, it
+      // was never flushed as part of this segment. Any other unexpected index is a corruption.
+      if (detectCorruption || !isStaleEntry(position)) {
+        throw e;
+      }
+      resetPartiallyWrittenEntry(e, position);
     } finally {
       buffer.reset();
     }
   }
 
-  private void resetPartiallyWrittenEntry(final CorruptedJournalException e, final int position) {
+  private boolean isStaleEntry(final int position) {
+    final int frameLength = FrameUtil.getLength();
+    final int metadataLength = serializer.getMetadataLength(writeBuffer, position + frameLength);
+    final var data = serializer.readData(writeBuffer, position + frameLength + metadataLength);
+    return data.index() < firstIndex;
+  }
+
+  private void resetPartiallyWrittenEntry(final RuntimeException e, final int position) {
     LOG.debug(
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
         e.getMessage(),
@@ -407,4 +444,10 @@ final class SegmentWriter {
       invalidateNextEntry(buffer.position());
     }
   }
+
+  /** Serializes a record into the given buffer, returning its length if it fits. */
+  @FunctionalInterface
+  private interface RecordWriter {
+    Either<SegmentFull, Integer> write(MutableDirectBuffer target, int offset);
+  }
 }
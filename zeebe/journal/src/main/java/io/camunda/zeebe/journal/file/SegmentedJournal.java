@@ -170,6 +170,11 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public long getUnflushedBytes() {
+    return writer.getUnflushedBytes();
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
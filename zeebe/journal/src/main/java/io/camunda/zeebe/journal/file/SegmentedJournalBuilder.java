@@ -32,6 +32,11 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final SegmentBackend DEFAULT_SEGMENT_BACKEND = SegmentBackend.MAPPED;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +48,11 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayJournalIndex = DEFAULT_SORTED_ARRAY_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private SegmentBackend segmentBackend = DEFAULT_SEGMENT_BACKEND;
+  private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -126,6 +136,76 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays (see {@link
+   * SortedArrayJournalIndex}) instead of skip lists (see {@link SparseJournalIndex}). The array
+   * based index avoids boxing and per-entry allocations, which reduces GC pressure for large
+   * journals.
+   *
+   * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSortedArrayJournalIndex(
+      final boolean sortedArrayJournalIndex) {
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted next to it once the segment is sealed. If
+   * true, the persisted index is verified and restored when the journal is opened again, which
+   * avoids having to scan these segments to rebuild the index. Only the active segment still needs
+   * to be indexed by scanning.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets how records are written to and flushed to the segment files. See {@link SegmentBackend}
+   * for the available options; defaults to {@link SegmentBackend#MAPPED}.
+   *
+   * @param segmentBackend the backend used to write segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentBackend(final SegmentBackend segmentBackend) {
+    this.segmentBackend = checkNotNull(segmentBackend, "segmentBackend cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared asynchronously ahead of rollover, such that creating and
+   * allocating the next segment file does not happen on the append path. If 0, segments are only
+   * created on rollover. Defaults to 1.
+   *
+   * @param segmentPoolSize the number of segments to keep ready
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code segmentPoolSize} is negative
+   */
+  public SegmentedJournalBuilder withSegmentPoolSize(final int segmentPoolSize) {
+    checkArgument(segmentPoolSize >= 0, "segmentPoolSize must be positive or zero");
+    this.segmentPoolSize = segmentPoolSize;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are recycled into the segment pool (see {@link
+   * #withSegmentPoolSize(int)}) instead of being deleted, as long as the pool is not full. This
+   * avoids creating and allocating new files, at the cost of keeping the disk space of compacted
+   * segments around.
+   *
+   * @param recycleSegments true to recycle compacted segments, false to delete them
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentRecycling(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -162,11 +242,16 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        sortedArrayJournalIndex
+            ? new SortedArrayJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace, journalMetrics, segmentAllocator, persistSegmentIndex, segmentBackend);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +260,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentPoolSize,
+            recycleSegments);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
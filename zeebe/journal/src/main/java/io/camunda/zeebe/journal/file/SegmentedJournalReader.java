@@ -22,11 +22,22 @@ import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.util.NoSuchElementException;
 
+/**
+ * Reads the journal across segments. Records are not copied: their data is a view into the mapped
+ * memory of the segment they were read from.
+ *
+ * <p>When moving forward into the next segment, the reader of the previous segment is kept open
+ * until the reader moves past the following segment, seeks, or is closed. A segment is not unmapped
+ * while it still has readers, even if it was compacted, so records read from the previous segment
+ * remain valid across a single segment switch. This lets consumers which look ahead by one record,
+ * e.g. the log storage reader, hand out records without copying them.
+ */
 class SegmentedJournalReader implements JournalReader {
 
   private final SegmentedJournal journal;
   private Segment currentSegment;
   private SegmentReader currentReader;
+  private SegmentReader previousReader;
   private final JournalMetrics metrics;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
@@ -164,6 +175,7 @@ class SegmentedJournalReader implements JournalReader {
 
   @Override
   public void close() {
+    releasePreviousReader();
     currentReader.close();
     journal.closeReader(this);
   }
@@ -232,7 +244,7 @@ class SegmentedJournalReader implements JournalReader {
 
       final Segment nextSegment = journal.getNextSegment(currentSegment.index());
       if (nextSegment != null && nextSegment.index() == getNextIndex()) {
-        replaceCurrentSegment(nextSegment);
+        advanceToSegment(nextSegment);
         return currentReader.hasNext();
       }
       return false;
@@ -241,6 +253,7 @@ class SegmentedJournalReader implements JournalReader {
   }
 
   private void replaceCurrentSegment(final Segment nextSegment) {
+    releasePreviousReader();
     if (currentSegment.equals(nextSegment)) {
       currentReader.reset();
       return;
@@ -250,4 +263,22 @@ class SegmentedJournalReader implements JournalReader {
     currentSegment = nextSegment;
     currentReader = currentSegment.createReader();
   }
+
+  /**
+   * Moves on to the next segment, keeping the reader of the current one open such that records
+   * previously returned from it remain valid. Any older segment reader is released.
+   */
+  private void advanceToSegment(final Segment nextSegment) {
+    releasePreviousReader();
+    previousReader = currentReader;
+    currentSegment = nextSegment;
+    currentReader = currentSegment.createReader();
+  }
+
+  private void releasePreviousReader() {
+    if (previousReader != null) {
+      previousReader.close();
+      previousReader = null;
+    }
+  }
 }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 final class SegmentedJournalWriter {
@@ -28,6 +29,10 @@ final class SegmentedJournalWriter {
   private final SegmentsFlusher flusher;
   private final JournalMetrics journalMetrics;
 
+  // appends and flushes may happen on different threads, e.g. when flushing is delayed
+  private final AtomicLong unflushedBytes = new AtomicLong();
+  private final AtomicLong firstUnflushedAppendNanos = new AtomicLong();
+
   private Segment currentSegment;
   private SegmentWriter currentWriter;
 
@@ -51,6 +56,10 @@ final class SegmentedJournalWriter {
     return currentWriter.getNextIndex();
   }
 
+  long getUnflushedBytes() {
+    return unflushedBytes.get();
+  }
+
   JournalRecord append(final long asqn, final BufferWriter recordDataWriter) {
     return appendInCurrentSegmentOrNext(
         segmentWriter -> segmentWriter.append(asqn, recordDataWriter));
@@ -77,7 +86,7 @@ final class SegmentedJournalWriter {
       final Function<SegmentWriter, Either<SegmentFull, JournalRecord>> inSegmentAppender) {
     final var appendResult = inSegmentAppender.apply(currentWriter);
     if (appendResult.isRight()) {
-      return appendResult.get();
+      return onAppended(appendResult.get());
     }
 
     if (currentSegment.index() == currentWriter.getNextIndex()) {
@@ -89,7 +98,13 @@ final class SegmentedJournalWriter {
     if (appendResultOnNewSegment.isLeft()) {
       throw appendResultOnNewSegment.getLeft();
     }
-    return appendResultOnNewSegment.get();
+    return onAppended(appendResultOnNewSegment.get());
+  }
+
+  private JournalRecord onAppended(final JournalRecord record) {
+    firstUnflushedAppendNanos.compareAndSet(0, System.nanoTime());
+    unflushedBytes.addAndGet(record.serializedRecord().capacity());
+    return record;
   }
 
   void reset(final long index) {
@@ -119,10 +134,20 @@ final class SegmentedJournalWriter {
   }
 
   void flush() {
+    // anything appended concurrently from here on may or may not be part of this flush, in which
+    // case it is conservatively accounted for in the next one
+    final long flushedBytes = unflushedBytes.get();
+    final long firstAppendNanos = firstUnflushedAppendNanos.get();
+
     // even if the next flush index has not been written, this will always flush at least the last
     // segment if only to cover cases such as truncating the log, where the next flush index may not
     // have been written yet but we still want to flush that segment after modifying it
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()));
+
+    unflushedBytes.addAndGet(-flushedBytes);
+    if (flushedBytes > 0 && firstUnflushedAppendNanos.compareAndSet(firstAppendNanos, 0)) {
+      journalMetrics.observeFlushBatch(flushedBytes, System.nanoTime() - firstAppendNanos);
+    }
   }
 
   private void createNewSegment() {
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
 import org.slf4j.Logger;
@@ -41,12 +40,12 @@ final class SegmentsManager implements AutoCloseable {
   private static final long FIRST_SEGMENT_ID = 1;
   private static final long INITIAL_INDEX = 1;
   private static final long INITIAL_ASQN = SegmentedJournal.ASQN_IGNORE;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentsManager.class);
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +54,8 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentPool segmentPool;
+  private final boolean recycleSegments;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +67,28 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        DEFAULT_SEGMENT_POOL_SIZE,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final int segmentPoolSize,
+      final boolean recycleSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +96,9 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.recycleSegments = recycleSegments;
+    segmentPool =
+        new SegmentPool(segmentPoolSize, this::createUninitializedSegment, journalMetrics);
   }
 
   @Override
@@ -85,16 +111,7 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
-      try {
-        nextSegment.join();
-      } catch (final Exception e) {
-        LOG.warn(
-            "Next segment preparation failed during close, ignoring and proceeding to close", e);
-      }
-      nextSegment = null;
-    }
-
+    segmentPool.close();
     currentSegment = null;
   }
 
@@ -119,31 +136,38 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is sealed now, so its index will not change anymore
+    segmentLoader.persistSegmentIndex(currentSegment, journalIndex);
+    currentSegment.seal();
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
     final var nextSegmentIndex = currentSegment.lastIndex() + 1;
-    final SegmentDescriptor descriptor =
-        SegmentDescriptor.builder()
-            .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
-            .withIndex(nextSegmentIndex)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
+    UninitializedSegment nextSegment;
+    try {
+      nextSegment = segmentPool.take();
+    } catch (final CompletionException e) {
+      LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
+      nextSegment = null;
+    }
+
     if (nextSegment != null) {
-      try {
-        currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
-      } catch (final CompletionException e) {
-        LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
+      currentSegment =
+          nextSegment.initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+    } else {
+      final SegmentDescriptor descriptor =
+          SegmentDescriptor.builder()
+              .withId(segmentPool.nextSegmentId(currentSegment.id()))
+              .withIndex(nextSegmentIndex)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      try (final var ignored = journalMetrics.observeSegmentRolloverStall()) {
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
-    } else {
-      currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    segmentPool.fill(currentSegment.id());
 
-    segments.put(descriptor.index(), currentSegment);
+    segments.put(nextSegmentIndex, currentSegment);
     journalMetrics.incSegmentCount();
     return currentSegment;
   }
@@ -196,8 +220,10 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.get(compactSegments.lastKey()).index(),
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
-      LOG.trace("{} - Deleting segment: {}", name, segment);
-      segment.delete();
+      if (!recycleSegment(segment)) {
+        LOG.trace("{} - Deleting segment: {}", name, segment);
+        segment.delete();
+      }
       journalMetrics.decSegmentCount();
     }
 
@@ -316,14 +342,37 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Recycles the file of the given compacted segment into the segment pool, if enabled and the pool
+   * can take more recycled segments.
+   *
+   * @return true if the segment was recycled, false if it should be deleted instead
+   */
+  private boolean recycleSegment(final Segment segment) {
+    if (!recycleSegments
+        || !segmentPool.canRecycle()
+        || segment.descriptor().maxSegmentSize() != maxSegmentSize) {
+      return false;
+    }
+
+    final var segmentId = segmentPool.nextSegmentId(currentSegment.id());
+    final var target = new SegmentFile(SegmentFile.createSegmentFile(name, directory, segmentId));
+    final UninitializedSegment recycled;
+    try {
+      recycled = segment.recycle(target, segmentId);
+    } catch (final JournalException e) {
+      LOG.warn("{} - Failed to recycle segment {}, deleting it instead", name, segment, e);
+      return false;
+    }
+
+    if (recycled == null) {
+      return false;
+    }
+
+    LOG.trace("{} - Recycled segment {} as {}", name, segment, target.name());
+    segmentPool.offer(recycled);
+    journalMetrics.incSegmentRecycled();
+    return true;
   }
 
   Collection<Segment> getTailSegments(final long index) {
@@ -335,7 +384,13 @@ final class SegmentsManager implements AutoCloseable {
     return Collections.unmodifiableSortedMap(segments.tailMap(segment.index(), true)).values();
   }
 
-  private UninitializedSegment createUninitializedSegment(final SegmentDescriptor descriptor) {
+  private UninitializedSegment createUninitializedSegment(final long segmentId) {
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder()
+            .withId(segmentId)
+            .withIndex(INITIAL_INDEX)
+            .withMaxSegmentSize(maxSegmentSize)
+            .build();
     final var segmentFile = SegmentFile.createSegmentFile(name, directory, descriptor.id());
     return segmentLoader.createUninitializedSegment(segmentFile.toPath(), descriptor, journalIndex);
   }
@@ -482,6 +537,21 @@ final class SegmentsManager implements AutoCloseable {
           directory.toPath(),
           e);
     }
+
+    // persisted segment indexes whose segment was deleted are not needed anymore
+    try (final DirectoryStream<Path> orphanedIndexes =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path ->
+                SegmentFile.isSegmentIndexFile(name, path.getFileName().toString())
+                    && !Files.exists(SegmentFile.segmentFileOfIndexFile(path)))) {
+      orphanedIndexes.forEach(this::deleteDeferredFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned segment index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
   }
 
   private void deleteDeferredFile(final Path segmentFileToDelete) {
@@ -0,0 +1,344 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+
+/**
+ * A {@link JournalIndex} which stores its entries in sorted primitive arrays instead of skip lists,
+ * avoiding boxing and per-entry node allocation. Lookups are binary searches over the arrays.
+ *
+ * <p>Entries are almost always indexed in increasing order, in which case they are appended in
+ * place. Readers never observe a partially written entry: the arrays are only ever written beyond
+ * the published size, and any other modification (truncation, compaction, out of order inserts)
+ * publishes a new copy of the arrays. Modifications are serialized, as readers may also index
+ * entries while seeking; lookups are lock-free.
+ *
+ * <p>The asqn entries rely on the asqn increasing monotonically with the index, which is enforced
+ * by the {@link SegmentWriter}.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private volatile PositionEntries positionEntries = new PositionEntries(INITIAL_CAPACITY);
+  private volatile AsqnEntries asqnEntries = new AsqnEntries(INITIAL_CAPACITY);
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density == 0) {
+      synchronized (this) {
+        final var currentPositions = positionEntries;
+        final var updatedPositions = currentPositions.put(index, position);
+        if (updatedPositions != currentPositions) {
+          positionEntries = updatedPositions;
+        }
+
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          final var currentAsqns = asqnEntries;
+          final var updatedAsqns = currentAsqns.put(index, asqn);
+          if (updatedAsqns != currentAsqns) {
+            asqnEntries = updatedAsqns;
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final var entries = positionEntries;
+    final int size = entries.size;
+    final int slot = floorSlot(entries.indexes, 0, size, index);
+    return slot >= 0 ? new IndexInfo(entries.indexes[slot], entries.positions[slot]) : null;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final var entries = asqnEntries;
+    final int size = entries.size;
+    final int slot = floorSlot(entries.asqns, 0, size, asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    final long index = entries.indexes[slot];
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int boundedSlot =
+        floorSlot(entries.indexes, entries.boundedStart, size, indexUpperBound);
+    return boundedSlot >= 0 ? entries.indexes[boundedSlot] : null;
+  }
+
+  @Override
+  public synchronized void deleteAfter(final long index) {
+    positionEntries = positionEntries.truncateAfter(index);
+    asqnEntries = asqnEntries.truncateAfter(index);
+  }
+
+  @Override
+  public synchronized void deleteUntil(final long index) {
+    positionEntries = positionEntries.compactUntil(index);
+    asqnEntries = asqnEntries.compactUntil(index);
+  }
+
+  @Override
+  public synchronized void clear() {
+    positionEntries = new PositionEntries(INITIAL_CAPACITY);
+    asqnEntries = new AsqnEntries(INITIAL_CAPACITY);
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final var positions = positionEntries;
+    final int positionsSize = positions.size;
+    final var asqns = asqnEntries;
+    final int asqnsSize = asqns.size;
+
+    int asqnSlot = ceilingSlot(asqns.indexes, asqnsSize, fromIndex);
+    for (int slot = ceilingSlot(positions.indexes, positionsSize, fromIndex);
+        slot < positionsSize && positions.indexes[slot] <= toIndex;
+        slot++) {
+      final long index = positions.indexes[slot];
+      while (asqnSlot < asqnsSize && asqns.indexes[asqnSlot] < index) {
+        asqnSlot++;
+      }
+
+      final long asqn =
+          asqnSlot < asqnsSize && asqns.indexes[asqnSlot] == index
+              ? asqns.asqns[asqnSlot]
+              : SegmentedJournal.ASQN_IGNORE;
+      consumer.accept(index, positions.positions[slot], asqn);
+    }
+  }
+
+  /**
+   * Returns the slot of the greatest key less than or equal to the given key within {@code [from,
+   * to)}, or -1 if there is none.
+   */
+  private static int floorSlot(final long[] keys, final int from, final int to, final long key) {
+    final int slot = Arrays.binarySearch(keys, from, to, key);
+    final int floor = slot >= 0 ? slot : -(slot + 1) - 1;
+    return floor >= from ? floor : -1;
+  }
+
+  private static int ceilingSlot(final long[] keys, final int to, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, to, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+
+  private static int grow(final int capacity, final int minCapacity) {
+    return Math.max(Math.max(INITIAL_CAPACITY, minCapacity), capacity << 1);
+  }
+
+  /** Index to position mapping, sorted by index. */
+  private static final class PositionEntries {
+    private final long[] indexes;
+    private final int[] positions;
+    private volatile int size;
+
+    private PositionEntries(final int capacity) {
+      this(new long[capacity], new int[capacity], 0);
+    }
+
+    private PositionEntries(final long[] indexes, final int[] positions, final int size) {
+      this.indexes = indexes;
+      this.positions = positions;
+      this.size = size;
+    }
+
+    private PositionEntries put(final long index, final int position) {
+      final int currentSize = size;
+      if (currentSize == 0 || indexes[currentSize - 1] < index) {
+        if (currentSize < indexes.length) {
+          indexes[currentSize] = index;
+          positions[currentSize] = position;
+          size = currentSize + 1;
+          return this;
+        }
+
+        final int capacity = grow(indexes.length, currentSize + 1);
+        final var grown =
+            new PositionEntries(
+                Arrays.copyOf(indexes, capacity), Arrays.copyOf(positions, capacity), currentSize);
+        return grown.put(index, position);
+      }
+
+      final int slot = Arrays.binarySearch(indexes, 0, currentSize, index);
+      if (slot >= 0) {
+        if (positions[slot] == position) {
+          return this;
+        }
+
+        final var copy = copy(0, currentSize, indexes.length);
+        copy.positions[slot] = position;
+        return copy;
+      }
+
+      final int insertAt = -(slot + 1);
+      final int capacity = Math.max(indexes.length, currentSize + 1);
+      final var newIndexes = new long[capacity];
+      final var newPositions = new int[capacity];
+      System.arraycopy(indexes, 0, newIndexes, 0, insertAt);
+      System.arraycopy(positions, 0, newPositions, 0, insertAt);
+      newIndexes[insertAt] = index;
+      newPositions[insertAt] = position;
+      System.arraycopy(indexes, insertAt, newIndexes, insertAt + 1, currentSize - insertAt);
+      System.arraycopy(positions, insertAt, newPositions, insertAt + 1, currentSize - insertAt);
+      return new PositionEntries(newIndexes, newPositions, currentSize + 1);
+    }
+
+    /** Keeps only the entries with an index less than or equal to the given index. */
+    private PositionEntries truncateAfter(final long index) {
+      final int currentSize = size;
+      final int newSize = floorSlot(indexes, 0, currentSize, index) + 1;
+      return newSize == currentSize ? this : copy(0, newSize, indexes.length);
+    }
+
+    /** Keeps only the entries with an index greater than or equal to the given index. */
+    private PositionEntries compactUntil(final long index) {
+      final int currentSize = size;
+      final int from = ceilingSlot(indexes, currentSize, index);
+      return from == 0 ? this : copy(from, currentSize, currentSize - from);
+    }
+
+    private PositionEntries copy(final int from, final int to, final int minCapacity) {
+      final int capacity = Math.max(INITIAL_CAPACITY, minCapacity);
+      final var newIndexes = new long[capacity];
+      final var newPositions = new int[capacity];
+      System.arraycopy(indexes, from, newIndexes, 0, to - from);
+      System.arraycopy(positions, from, newPositions, 0, to - from);
+      return new PositionEntries(newIndexes, newPositions, to - from);
+    }
+  }
+
+  /**
+   * Index to asqn mapping, sorted by both index and asqn. Entries before {@link #boundedStart} are
+   * only visible to lookups by asqn, but not to the index bounded fallback; this mirrors how the
+   * {@link SparseJournalIndex} compacts its asqn mappings.
+   */
+  private static final class AsqnEntries {
+    private final long[] indexes;
+    private final long[] asqns;
+    private final int boundedStart;
+    private volatile int size;
+
+    private AsqnEntries(final int capacity) {
+      this(new long[capacity], new long[capacity], 0, 0);
+    }
+
+    private AsqnEntries(
+        final long[] indexes, final long[] asqns, final int size, final int boundedStart) {
+      this.indexes = indexes;
+      this.asqns = asqns;
+      this.size = size;
+      this.boundedStart = boundedStart;
+    }
+
+    private AsqnEntries put(final long index, final long asqn) {
+      final int currentSize = size;
+      if (currentSize == 0 || indexes[currentSize - 1] < index) {
+        if (currentSize < indexes.length) {
+          indexes[currentSize] = index;
+          asqns[currentSize] = asqn;
+          size = currentSize + 1;
+          return this;
+        }
+
+        final int capacity = grow(indexes.length, currentSize + 1);
+        final var grown =
+            new AsqnEntries(
+                Arrays.copyOf(indexes, capacity),
+                Arrays.copyOf(asqns, capacity),
+                currentSize,
+                boundedStart);
+        return grown.put(index, asqn);
+      }
+
+      final int slot = Arrays.binarySearch(indexes, 0, currentSize, index);
+      if (slot >= 0) {
+        if (asqns[slot] == asqn) {
+          return this;
+        }
+
+        final var copy = copy(0, currentSize, indexes.length, boundedStart);
+        copy.asqns[slot] = asqn;
+        return copy;
+      }
+
+      final int insertAt = -(slot + 1);
+      final int capacity = Math.max(indexes.length, currentSize + 1);
+      final var newIndexes = new long[capacity];
+      final var newAsqns = new long[capacity];
+      System.arraycopy(indexes, 0, newIndexes, 0, insertAt);
+      System.arraycopy(asqns, 0, newAsqns, 0, insertAt);
+      newIndexes[insertAt] = index;
+      newAsqns[insertAt] = asqn;
+      System.arraycopy(indexes, insertAt, newIndexes, insertAt + 1, currentSize - insertAt);
+      System.arraycopy(asqns, insertAt, newAsqns, insertAt + 1, currentSize - insertAt);
+      return new AsqnEntries(
+          newIndexes, newAsqns, currentSize + 1, Math.min(boundedStart, insertAt));
+    }
+
+    /** Keeps only the entries with an index less than or equal to the given index. */
+    private AsqnEntries truncateAfter(final long index) {
+      final int currentSize = size;
+      final int newSize = floorSlot(indexes, 0, currentSize, index) + 1;
+      return newSize == currentSize
+          ? this
+          : copy(0, newSize, indexes.length, Math.min(boundedStart, newSize));
+    }
+
+    /**
+     * Keeps the greatest entry with an index less than or equal to the given index, and all
+     * following entries. The retained lower entry is only visible to lookups by asqn.
+     */
+    private AsqnEntries compactUntil(final long index) {
+      final int currentSize = size;
+      final int floor = floorSlot(indexes, boundedStart, currentSize, index);
+      if (floor < 0) {
+        return this;
+      }
+
+      final int newBoundedStart = indexes[floor] == index ? 0 : 1;
+      return copy(floor, currentSize, currentSize - floor, newBoundedStart);
+    }
+
+    private AsqnEntries copy(
+        final int from, final int to, final int minCapacity, final int newBoundedStart) {
+      final int capacity = Math.max(INITIAL_CAPACITY, minCapacity);
+      final var newIndexes = new long[capacity];
+      final var newAsqns = new long[capacity];
+      System.arraycopy(indexes, from, newIndexes, 0, to - from);
+      System.arraycopy(asqns, from, newAsqns, 0, to - from);
+      return new AsqnEntries(newIndexes, newAsqns, to - from, newBoundedStart);
+    }
+  }
+}
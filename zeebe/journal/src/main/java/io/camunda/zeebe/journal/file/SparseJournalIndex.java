@@ -15,7 +15,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import io.camunda.zeebe.journal.JournalRecord;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -35,11 +34,9 @@ final class SparseJournalIndex implements JournalIndex {
   }
 
   @Override
-  public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
       indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
         asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
@@ -111,4 +108,21 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    indexToPosition
+        .subMap(fromIndex, true, toIndex, true)
+        .forEach(
+            (index, position) ->
+                consumer.accept(
+                    index,
+                    position,
+                    indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE)));
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.journal.file;
 
 import java.nio.MappedByteBuffer;
+import org.agrona.IoUtil;
 
 /**
  * Holds a normal segment file that hasn't been written to and that has no {@link
@@ -18,6 +19,7 @@ public record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
+    SegmentStore store,
     JournalIndex journalIndex) {
 
   /**
@@ -33,6 +35,13 @@ public record UninitializedSegment(
             .withMaxSegmentSize(maxSegmentSize)
             .build();
     updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        file, updatedDescriptor, buffer, store, lastWrittenAsqn, journalIndex, metrics);
+  }
+
+  /** Releases the resources of a segment which was never used. The file is left as is. */
+  void close() {
+    store.close();
+    IoUtil.unmap(buffer);
   }
 }
@@ -7,18 +7,23 @@
  */
 package io.camunda.zeebe.journal.util;
 
+import io.camunda.zeebe.util.ChecksumUtil;
 import java.nio.ByteBuffer;
-import java.util.zip.CRC32C;
+import org.agrona.DirectBuffer;
 
+/**
+ * Computes the checksums of journal records and segment descriptors. The checksums are CRC32C,
+ * computed via {@link ChecksumUtil} directly on the given memory, without copies.
+ */
 public final class ChecksumGenerator {
 
-  private final CRC32C crc32 = new CRC32C();
-
   /** Compute checksum of given ByteBuffer */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
-    crc32.reset();
-    crc32.update(slice.limit(length));
-    return crc32.getValue();
+    return ChecksumUtil.crc32c(buffer, offset, length);
+  }
+
+  /** Compute checksum of given DirectBuffer */
+  public long compute(final DirectBuffer buffer, final int offset, final int length) {
+    return ChecksumUtil.crc32c(buffer, offset, length);
   }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.ChecksumUtil;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the checksum computation of journal records, comparing the previous approach (a read
+ * only slice of the segment buffer per record) with {@link ChecksumUtil}, as well as the resulting
+ * append throughput of a journal.
+ *
+ * <p>Both record checksum approaches end up in the same CRC32C intrinsic, so the record benchmark
+ * guards against a regression rather than showing an improvement. The append benchmark always uses
+ * the current implementation, and is meant to be compared across revisions. Snapshot verification
+ * is where the shared implementation is expected to be faster, see {@code
+ * SnapshotChecksumPerformanceTest}.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ChecksumPerformanceTest {
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({"legacy", "shared"})
+  public String checksumType;
+
+  @Param({"1024"})
+  public int recordSize;
+
+  private final CRC32C legacyChecksum = new CRC32C();
+  private ByteBuffer segmentBuffer;
+  private int maxRecordOffset;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private DirectBufferWriter entry;
+  private long lastIndex;
+
+  @Setup
+  public void setup() throws IOException {
+    segmentBuffer = ByteBuffer.allocateDirect(SEGMENT_SIZE);
+    ThreadLocalRandom.current().ints(SEGMENT_SIZE / Integer.BYTES).forEach(segmentBuffer::putInt);
+    maxRecordOffset = SEGMENT_SIZE - recordSize;
+
+    final var data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+    entry = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+
+    directory = Files.createTempDirectory("checksum-perf");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureRecordChecksum() {
+    final int offset = ThreadLocalRandom.current().nextInt(maxRecordOffset);
+    if ("legacy".equals(checksumType)) {
+      final var slice = segmentBuffer.asReadOnlyBuffer().position(offset).slice();
+      legacyChecksum.reset();
+      legacyChecksum.update(slice.limit(recordSize));
+      return legacyChecksum.getValue();
+    }
+
+    return ChecksumUtil.crc32c(segmentBuffer, offset, recordSize);
+  }
+
+  @Benchmark
+  public long measureAppend() {
+    final long index = journal.append(entry).index();
+    // keep the disk usage bounded; compaction only ever deletes whole segments
+    if (index - lastIndex > 4L * SEGMENT_SIZE / recordSize) {
+      journal.deleteUntil(index);
+      lastIndex = index;
+    }
+
+    return index;
+  }
+
+  @JMHTest("measureRecordChecksum")
+  void shouldNotBeSlowerThanLegacyChecksum(final JMHTestCase testCase) throws RunnerException {
+    // given - the score of slicing the segment buffer per record as reference
+    final var legacyResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + ChecksumPerformanceTest.class.getName()
+                            + ".measureRecordChecksum\\E$")
+                    .param("checksumType", "legacy")
+                    .build())
+            .runSingle();
+    final var referenceScore = legacyResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("checksumType", "shared")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the {@link SortedArrayJournalIndex}. The index is
+ * pre-filled with {@link #ENTRIES} entries, and then measured for lookups as done by readers, and
+ * for the indexing of new entries as done by the writer (while compacting to keep the size stable).
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+  private static final int ENTRIES = 100_000;
+  private static final long LAST_INDEX = (long) ENTRIES * DENSITY;
+
+  @Param({"sparse", "sortedArray"})
+  public String indexType;
+
+  private JournalIndex index;
+  private long nextIndex;
+
+  @Setup
+  public void setup() {
+    index =
+        "sparse".equals(indexType)
+            ? new SparseJournalIndex(DENSITY)
+            : new SortedArrayJournalIndex(DENSITY);
+
+    for (long i = DENSITY; i <= LAST_INDEX; i += DENSITY) {
+      index.index(record(i), (int) (i % Integer.MAX_VALUE));
+    }
+    nextIndex = LAST_INDEX + 1;
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, LAST_INDEX));
+  }
+
+  @Benchmark
+  public Long measureLookupAsqn() {
+    final var random = ThreadLocalRandom.current();
+    final long asqn = random.nextLong(1, LAST_INDEX) * 2;
+    return index.lookupAsqn(asqn, random.nextLong(1, LAST_INDEX));
+  }
+
+  @Benchmark
+  public long measureIndex() {
+    final long entryIndex = nextIndex++;
+    index.index(record(entryIndex), (int) (entryIndex % Integer.MAX_VALUE));
+    if (entryIndex % ((long) DENSITY * ENTRIES) == 0) {
+      index.deleteUntil(entryIndex - LAST_INDEX);
+    }
+
+    return entryIndex;
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupAtLeastAsFastAsSparseIndex(final JMHTestCase testCase) throws RunnerException {
+    // given - the score of the skip list based sparse index as reference
+    final var referenceScore = sparseIndexScore("measureLookup");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "sortedArray")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+
+  @JMHTest("measureLookupAsqn")
+  void shouldLookupAsqnAtLeastAsFastAsSparseIndex(final JMHTestCase testCase)
+      throws RunnerException {
+    // given
+    final var referenceScore = sparseIndexScore("measureLookupAsqn");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "sortedArray")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+
+  @JMHTest("measureIndex")
+  void shouldIndexAtLeastAsFastAsSparseIndex(final JMHTestCase testCase) throws RunnerException {
+    // given
+    final var referenceScore = sparseIndexScore("measureIndex");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "sortedArray")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+
+  private static double sparseIndexScore(final String benchmark) throws RunnerException {
+    final var sparseResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + JournalIndexPerformanceTest.class.getName()
+                            + "."
+                            + benchmark
+                            + "\\E$")
+                    .param("indexType", "sparse")
+                    .build())
+            .runSingle();
+    return sparseResult.getPrimaryResult().getScore();
+  }
+
+  private static TestJournalRecord record(final long index) {
+    return new TestJournalRecord(index, index * 2, 0, null, null);
+  }
+}
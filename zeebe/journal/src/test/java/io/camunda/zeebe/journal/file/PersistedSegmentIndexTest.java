@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class PersistedSegmentIndexTest {
+  private static final int ENTRIES_PER_SEGMENT = 5;
+
+  private final TestJournalFactory journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldPersistIndexOfSealedSegmentsOnly() {
+    // when
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+    }
+
+    // then
+    assertThat(directory.resolve("journal-1.idx")).exists();
+    assertThat(directory.resolve("journal-2.idx")).exists();
+    assertThat(directory.resolve("journal-3.idx")).doesNotExist();
+  }
+
+  @Test
+  void shouldPersistIndexOnRollover() {
+    // when
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+
+      // then
+      assertThat(directory.resolve("journal-1.idx")).exists();
+      assertThat(directory.resolve("journal-2.idx")).exists();
+      assertThat(directory.resolve("journal-3.idx")).doesNotExist();
+    }
+  }
+
+  @Test
+  void shouldDetectUpToDateIndex() {
+    try (final var journal = openJournal()) {
+      // given
+      appendEntries(journal, 2 * ENTRIES_PER_SEGMENT);
+      final var sealedSegment = journal.getFirstSegment();
+      final var currentSegment = journal.getLastSegment();
+
+      // then
+      assertThat(PersistedSegmentIndex.isUpToDate(sealedSegment.file(), sealedSegment.descriptor()))
+          .isTrue();
+      assertThat(
+              PersistedSegmentIndex.isUpToDate(currentSegment.file(), currentSegment.descriptor()))
+          .isFalse();
+    }
+  }
+
+  @Test
+  void shouldRestoreIndexOnOpen() {
+    // given
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+    }
+
+    // when
+    try (final var journal = openJournal()) {
+      // then - without the persisted index, only the last entry of each segment is indexed on open
+      assertThat(journal.getJournalIndex().lookup(3)).returns(3L, IndexInfo::index);
+      assertThat(journal.getJournalIndex().lookup(7)).returns(7L, IndexInfo::index);
+      assertThat(journal.getJournalIndex().lookupAsqn(8)).isEqualTo(8);
+    }
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndex() throws IOException {
+    // given
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 2 * ENTRIES_PER_SEGMENT);
+    }
+    Files.write(directory.resolve("journal-1.idx"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+
+    // when
+    try (final var journal = openJournal()) {
+      // then
+      assertThat(journal.getJournalIndex().lookup(3)).isNull();
+      try (final var reader = journal.openReader()) {
+        assertThat(reader.seek(3)).isEqualTo(3);
+        assertThat(reader.next().index()).isEqualTo(3);
+      }
+    }
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnTruncate() {
+    // given
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+
+      // when
+      journal.deleteAfter(3);
+    }
+
+    // then
+    assertThat(directory.resolve("journal-1.idx")).doesNotExist();
+    assertThat(directory.resolve("journal-2.idx")).doesNotExist();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnCompaction() {
+    // given
+    try (final var journal = openJournal()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+
+      // when
+      journal.deleteUntil(2 * ENTRIES_PER_SEGMENT + 1);
+    }
+
+    // then
+    assertThat(directory.resolve("journal-1.idx")).doesNotExist();
+    assertThat(directory.resolve("journal-2.idx")).doesNotExist();
+  }
+
+  private void appendEntries(final SegmentedJournal journal, final int count) {
+    for (int i = 1; i <= count; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(journalFactory.maxSegmentSize())
+        .withJournalIndexDensity(1)
+        .withPersistedSegmentIndex(true)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link SegmentBackend}s when appending records, flushing after each append as done
+ * when the Raft log is flushed directly. {@link #measureAppend()} measures the throughput, and
+ * {@link #measureAppendLatency()} samples the latency of each append, such that JMH reports its
+ * percentiles, e.g. the p99 and p99.9 tail latency.
+ *
+ * <p>The test compares the throughput of the {@link SegmentBackend#FILE_CHANNEL} backend with the
+ * memory mapped one, measured in the same run, as the results depend mostly on the disk.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentBackendPerformanceTest {
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int RECORD_SIZE = 1024;
+
+  @Param({"MAPPED", "FILE_CHANNEL", "FILE_CHANNEL_DSYNC"})
+  public SegmentBackend backend;
+
+  private final DirectBufferWriter record = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private long nextAsqn;
+
+  @Setup
+  public void setup() {
+    final var data = new UnsafeBuffer(new byte[RECORD_SIZE]);
+    ThreadLocalRandom.current().nextBytes(data.byteArray());
+    record.wrap(data);
+  }
+
+  /** A fresh journal per iteration, such that the journal does not grow indefinitely. */
+  @Setup(Level.Iteration)
+  public void openJournal() throws IOException {
+    directory = Files.createTempDirectory("segment-backend");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withSegmentBackend(backend)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+    nextAsqn = 1;
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeJournal() throws IOException {
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public long measureAppend() {
+    return append();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long measureAppendLatency() {
+    return append();
+  }
+
+  private long append() {
+    final var appended = journal.append(nextAsqn++, record);
+    journal.flush();
+    return appended.index();
+  }
+
+  @JMHTest("measureAppend")
+  void shouldAppendAtLeastAsFastAsMappedBackend(final JMHTestCase testCase)
+      throws RunnerException {
+    // given - the score of the memory mapped backend on the same disk as reference
+    final var mappedResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + SegmentBackendPerformanceTest.class.getName()
+                            + ".measureAppend\\E$")
+                    .param("backend", "MAPPED")
+                    .build())
+            .runSingle();
+    final var referenceScore = mappedResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("backend", "FILE_CHANNEL")).run();
+
+    // then - flushing dominates, which varies more between iterations than computations do
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
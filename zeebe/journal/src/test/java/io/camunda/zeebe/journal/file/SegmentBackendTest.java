@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatException;
+
+import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class SegmentBackendTest {
+  private static final int ENTRIES_PER_SEGMENT = 5;
+
+  private final TestJournalFactory journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+
+  private @TempDir Path directory;
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldReadAppendedEntriesAcrossSegments(final SegmentBackend backend) {
+    // given
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      // when
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+
+      // then
+      assertThat(readIndexes(journal)).hasSize(3 * ENTRIES_PER_SEGMENT);
+      assertThat(journal.getLastIndex()).isEqualTo(3 * ENTRIES_PER_SEGMENT);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldReturnAppendedRecordAsRead(final SegmentBackend backend) {
+    // given
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      // when
+      final var first = journal.append(10, journalFactory.entry());
+      final var second = journal.append(20, journalFactory.entry());
+
+      // then
+      assertThat(second.index()).isEqualTo(2);
+      assertThat(second.asqn()).isEqualTo(20);
+      assertThat(second.data()).isEqualTo(journalFactory.entryData());
+      try (final var reader = journal.openReader()) {
+        assertThat(reader.next().checksum()).isEqualTo(first.checksum());
+        assertThat(reader.next().checksum()).isEqualTo(second.checksum());
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldNotWriteRecordWithUnexpectedIndex(final SegmentBackend backend) {
+    // given
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      journal.append(1, journalFactory.entry());
+      final var record = journal.append(2, journalFactory.entry());
+
+      // when
+      assertThatException()
+          .isThrownBy(
+              () ->
+                  journal.append(
+                      record.checksum(), BufferUtil.bufferAsArray(record.serializedRecord())))
+          .isInstanceOf(InvalidIndex.class);
+      journal.append(3, journalFactory.entry());
+
+      // then
+      assertThat(readIndexes(journal)).containsExactly(1L, 2L, 3L);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldReadEntriesAfterReopen(final SegmentBackend backend) {
+    // given
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      appendEntries(journal, 2 * ENTRIES_PER_SEGMENT + 2);
+      journal.flush();
+    }
+
+    // when
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      // then
+      assertThat(readIndexes(journal)).hasSize(2 * ENTRIES_PER_SEGMENT + 2);
+      try (final var reader = journal.openReader()) {
+        assertThat(reader.next().data()).isEqualTo(journalFactory.entryData());
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldAppendAfterTruncation(final SegmentBackend backend) {
+    // given
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      appendEntries(journal, 2 * ENTRIES_PER_SEGMENT);
+
+      // when
+      journal.deleteAfter(3);
+      journal.append(4, journalFactory.entry());
+
+      // then
+      assertThat(readIndexes(journal)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    try (final var journal = openJournal(backend, journalFactory.maxSegmentSize())) {
+      assertThat(readIndexes(journal)).containsExactly(1L, 2L, 3L, 4L);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldAppendToRecycledSegment(final SegmentBackend backend) {
+    // given
+    try (final var journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(journalFactory.maxSegmentSize())
+            .withJournalIndexDensity(1)
+            .withSegmentBackend(backend)
+            .withSegmentPoolSize(1)
+            .withSegmentRecycling(true)
+            .withMetaStore(metaStore)
+            .build()) {
+      appendEntries(journal, 3 * ENTRIES_PER_SEGMENT);
+      journal.deleteUntil(2 * ENTRIES_PER_SEGMENT + 1);
+
+      // when - rolls over into the prepared segment, then into the recycled one
+      for (int i = 3 * ENTRIES_PER_SEGMENT + 1; i <= 5 * ENTRIES_PER_SEGMENT; i++) {
+        journal.append(i, journalFactory.entry());
+      }
+      journal.flush();
+
+      // then
+      assertThat(readIndexes(journal)).hasSize(3 * ENTRIES_PER_SEGMENT);
+      assertThat(journal.getLastIndex()).isEqualTo(5 * ENTRIES_PER_SEGMENT);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldAppendEntryLargerThanStagingBuffer(final SegmentBackend backend) {
+    // given
+    final var data = new UnsafeBuffer(new byte[256 * 1024]);
+    data.setMemory(0, data.capacity(), (byte) 7);
+
+    try (final var journal = openJournal(backend, 1024 * 1024)) {
+      // when
+      final JournalRecord appended = journal.append(1, new DirectBufferWriter().wrap(data));
+
+      // then
+      try (final var reader = journal.openReader()) {
+        final var read = reader.next();
+        assertThat(read.index()).isEqualTo(appended.index());
+        assertThat(BufferUtil.equals(read.data(), data)).isTrue();
+      }
+    }
+  }
+
+  private void appendEntries(final SegmentedJournal journal, final int count) {
+    for (int i = 1; i <= count; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+  }
+
+  private List<Long> readIndexes(final SegmentedJournal journal) {
+    final var indexes = new ArrayList<Long>();
+    try (final var reader = journal.openReader()) {
+      while (reader.hasNext()) {
+        indexes.add(reader.next().index());
+      }
+    }
+    return indexes;
+  }
+
+  private SegmentedJournal openJournal(final SegmentBackend backend, final int maxSegmentSize) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(maxSegmentSize)
+        .withJournalIndexDensity(1)
+        .withSegmentBackend(backend)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentPoolTest {
+  private static final String JOURNAL_NAME = "journal";
+  private static final int ENTRIES_PER_SEGMENT = 5;
+
+  private final TestJournalFactory journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldPrepareSegmentsAheadOfRollover() {
+    // given
+    try (final var journal = openJournal(3, false)) {
+      // when
+      appendEntries(journal, 1, ENTRIES_PER_SEGMENT + 1);
+    }
+
+    // then - two segments in use, three prepared ahead
+    assertThat(segmentFiles()).hasSize(5);
+  }
+
+  @Test
+  void shouldRecycleCompactedSegments() {
+    // given
+    try (final var journal = openJournal(1, true)) {
+      appendEntries(journal, 1, 4 * ENTRIES_PER_SEGMENT);
+
+      // when
+      journal.deleteUntil(3 * ENTRIES_PER_SEGMENT + 1);
+
+      // then - only as many segments as the pool can take are recycled, the others are deleted
+      assertThat(directory.resolve("journal-1.log")).doesNotExist();
+      assertThat(directory.resolve("journal-6.log")).exists();
+      assertThat(segmentFiles()).hasSize(3);
+    }
+  }
+
+  @Test
+  void shouldReadEntriesWrittenToRecycledSegments() {
+    // given
+    try (final var journal = openJournal(1, true)) {
+      appendEntries(journal, 1, 4 * ENTRIES_PER_SEGMENT);
+      journal.deleteUntil(3 * ENTRIES_PER_SEGMENT + 1);
+
+      // when - rolls over into the prepared segment, then into the recycled one
+      appendEntries(journal, 4 * ENTRIES_PER_SEGMENT + 1, 6 * ENTRIES_PER_SEGMENT);
+      journal.flush();
+
+      // then
+      assertThat(readIndexes(journal)).isEqualTo(expectedIndexes());
+    }
+
+    // then - the unused prepared segment is discarded on restart
+    try (final var journal = openJournal(1, true)) {
+      assertThat(readIndexes(journal)).isEqualTo(expectedIndexes());
+      assertThat(journal.getLastIndex()).isEqualTo(6 * ENTRIES_PER_SEGMENT);
+    }
+  }
+
+  @Test
+  void shouldDiscardStaleEntriesOfRecycledSegmentFile() throws IOException {
+    // given - a second segment whose file still contains the entries of a previous segment, as if
+    // it was recycled and the node crashed before the new entries were flushed
+    try (final var journal = openJournal(1, true)) {
+      appendEntries(journal, 1, ENTRIES_PER_SEGMENT + 2);
+    }
+    copyEntries(directory.resolve("journal-1.log"), directory.resolve("journal-2.log"));
+
+    // when
+    try (final var journal = openJournal(1, true, new MockJournalMetastore())) {
+      // then
+      assertThat(journal.getLastIndex()).isEqualTo(ENTRIES_PER_SEGMENT);
+      assertThat(readIndexes(journal))
+          .isEqualTo(LongStream.rangeClosed(1, ENTRIES_PER_SEGMENT).boxed().toList());
+    }
+  }
+
+  @Test
+  void shouldNotDiscardEntriesWithUnexpectedIndexFromLaterSegment() throws IOException {
+    // given - a first segment containing the entries of a later segment, which cannot be stale
+    try (final var journal = openJournal(1, true)) {
+      appendEntries(journal, 1, 2 * ENTRIES_PER_SEGMENT);
+    }
+    copyEntries(directory.resolve("journal-2.log"), directory.resolve("journal-1.log"));
+
+    // when - then
+    assertThatThrownBy(() -> openJournal(1, true, new MockJournalMetastore()))
+        .isInstanceOf(InvalidIndex.class);
+  }
+
+  private List<Long> expectedIndexes() {
+    return LongStream.rangeClosed(3 * ENTRIES_PER_SEGMENT + 1, 6 * ENTRIES_PER_SEGMENT)
+        .boxed()
+        .toList();
+  }
+
+  private void appendEntries(final SegmentedJournal journal, final long from, final long to) {
+    for (long i = from; i <= to; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+  }
+
+  private List<Long> readIndexes(final SegmentedJournal journal) {
+    final var indexes = new ArrayList<Long>();
+    try (final var reader = journal.openReader()) {
+      while (reader.hasNext()) {
+        indexes.add(reader.next().index());
+      }
+    }
+    return indexes;
+  }
+
+  private File[] segmentFiles() {
+    return Objects.requireNonNull(
+        directory
+            .toFile()
+            .listFiles(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName())));
+  }
+
+  /** Overwrites everything after the descriptor of the target segment with that of the source. */
+  private void copyEntries(final Path source, final Path target) throws IOException {
+    final int descriptorLength = SegmentDescriptor.getEncodingLength();
+    final byte[] sourceBytes = Files.readAllBytes(source);
+    final byte[] targetBytes = Files.readAllBytes(target);
+    System.arraycopy(
+        sourceBytes,
+        descriptorLength,
+        targetBytes,
+        descriptorLength,
+        Math.min(sourceBytes.length, targetBytes.length) - descriptorLength);
+    Files.write(target, targetBytes);
+  }
+
+  private SegmentedJournal openJournal(final int poolSize, final boolean recycleSegments) {
+    return openJournal(poolSize, recycleSegments, metaStore);
+  }
+
+  private SegmentedJournal openJournal(
+      final int poolSize, final boolean recycleSegments, final JournalMetaStore metaStore) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(journalFactory.maxSegmentSize())
+        .withJournalIndexDensity(1)
+        .withSegmentPoolSize(poolSize)
+        .withSegmentRecycling(recycleSegments)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
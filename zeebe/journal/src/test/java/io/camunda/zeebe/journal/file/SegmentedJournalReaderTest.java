@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -170,6 +172,54 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldKeepRecordOfCompactedSegmentValidAfterSwitchingSegment() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    JournalRecord lastRecordOfFirstSegment = null;
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT; i++) {
+      lastRecordOfFirstSegment = reader.next();
+    }
+
+    // when - look ahead into the second segment, then compact the first one
+    assertThat(reader.next().index()).isEqualTo(ENTRIES_PER_SEGMENT + 1);
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // then
+    assertThat(lastRecordOfFirstSegment.index()).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(lastRecordOfFirstSegment.data()).isEqualTo(data);
+    assertThat(countDeletedSegmentFiles()).isOne();
+  }
+
+  @Test
+  void shouldReleaseCompactedSegmentOnceReaderMovesPastFollowingSegment() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT + 1; i++) {
+      reader.next();
+    }
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // when
+    while (reader.hasNext()) {
+      reader.next();
+    }
+
+    // then
+    assertThat(countDeletedSegmentFiles()).isZero();
+  }
+
+  private long countDeletedSegmentFiles() {
+    final var files = directory.resolve("data").toFile().list();
+    return Arrays.stream(files)
+        .filter(name -> SegmentFile.isDeletedSegmentFile("journal", name))
+        .count();
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
@@ -81,6 +81,23 @@ final class SegmentedJournalWriterTest {
     assertThat(journalFactory.metaStore().hasLastFlushedIndex()).isFalse();
   }
 
+  @Test
+  void shouldTrackUnflushedBytes() {
+    // given
+    final var first = writer.append(1, journalFactory.entry());
+    final var second = writer.append(2, journalFactory.entry());
+
+    // when
+    final long unflushedBeforeFlush = writer.getUnflushedBytes();
+    writer.flush();
+
+    // then
+    assertThat(unflushedBeforeFlush)
+        .isEqualTo(
+            first.serializedRecord().capacity() + (long) second.serializedRecord().capacity());
+    assertThat(writer.getUnflushedBytes()).isZero();
+  }
+
   @Test
   void shouldUpdateDescriptor() {
     // given
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class SortedArrayJournalIndexTest {
+
+  @Test
+  void shouldFindIndexWhenReachedDensity() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+
+    // when
+    for (int i = 1; i <= 8; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(4)).isNull();
+    assertThat(index.lookup(8)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookupAsqn(40)).isNull();
+    assertThat(index.lookupAsqn(80)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookup(5_000)).isEqualTo(new IndexInfo(5_000, 10_000));
+    assertThat(index.lookup(20_000)).isEqualTo(new IndexInfo(10_000, 20_000));
+    assertThat(index.lookupAsqn(50_005)).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 8));
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(6, 12));
+    assertThat(index.lookupAsqn(50)).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 5)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldIgnoreAsqnWhenNotSet() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, SegmentedJournal.ASQN_IGNORE), 4);
+
+    // then
+    assertThat(index.lookup(2)).isEqualTo(new IndexInfo(2, 4));
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTruncateAndAppendAgain() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteAfter(8);
+    index.index(asJournalRecord(10, 200), 30);
+
+    // then
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 30));
+    assertThat(index.lookupAsqn(100)).isEqualTo(5);
+    assertThat(index.lookupAsqn(200)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldCompactIndex() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 15; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(11);
+
+    // then
+    assertThat(index.lookup(10)).isNull();
+    assertThat(index.lookup(15)).isEqualTo(new IndexInfo(15, 30));
+    assertThat(index.lookupAsqn(80)).isNull();
+    assertThat(index.lookupAsqn(120)).isEqualTo(10);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 12)).isNull();
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 15)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldClearIndex() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    index.index(asJournalRecord(1, 10), 2);
+
+    // when
+    index.clear();
+
+    // then
+    assertThat(index.lookup(1)).isNull();
+    assertThat(index.lookupAsqn(10)).isNull();
+    assertThat(index.hasIndexed(1)).isFalse();
+  }
+}
@@ -23,8 +23,6 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
 import java.util.List;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 /**
  * Maintains a view of in-flight entries as they are being appended, written, committed and finally
@@ -39,10 +37,9 @@ import java.util.TreeMap;
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, serialized through the
- *       sequencers write lock.
- *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from any writer, concurrently.
+ *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized by the
+ *       single thread handing batches over to the log storage at any time.
  *   <li>Calls to {@link #onWrite(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onCommit(long, long)} from the log storage, serialized through the single
@@ -63,8 +60,10 @@ import java.util.TreeMap;
  * The weak ordering forces us to program quite defensively and carefully choose where and how we
  * modify internal state.
  *
- * <p>The {@link #inFlight} map is only modified in the {@link #onAppend(InFlightEntry, long)}
- * method. All other methods only read from it.
+ * <p>The {@link #inFlight} entries are only modified in the {@link #onAppend(InFlightEntry, long)}
+ * method. All other methods only read from it, each through their own cursor. As the sequencer may
+ * append several batches as a single block, the write and commit notifications apply to all
+ * entries up to the given position, and not only to the entry with that exact position.
  *
  * <p>A volatile field {@link #lastProcessedPosition} is only modified in {@link #onProcessed(long)}
  * and used in {@link #onAppend(InFlightEntry, long)} to clean up old entries.
@@ -92,7 +91,10 @@ public final class FlowControl implements AppendListener {
   private volatile long lastProcessedPosition = -1;
   private volatile long lastExportedPosition;
 
-  private final NavigableMap<Long, InFlightEntry> inFlight = new TreeMap<>();
+  private final InFlightEntries inFlight = new InFlightEntries();
+  private final InFlightEntries.Cursor writtenCursor = inFlight.cursor();
+  private final InFlightEntries.Cursor committedCursor = inFlight.cursor();
+  private final InFlightEntries.Cursor processedCursor = inFlight.cursor();
 
   public FlowControl(final LogStreamMetrics metrics) {
     this(metrics, StabilizingAIMDLimit.newBuilder().build(), RateLimit.disabled());
@@ -155,11 +157,8 @@ public final class FlowControl implements AppendListener {
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
     entry.onAppend();
-    metrics.increaseInflightAppends();
-    final var clearable = inFlight.headMap(lastProcessedPosition, true);
-    clearable.forEach((position, inFlightEntry) -> inFlightEntry.cleanup());
-    clearable.clear();
-    inFlight.put(highestPosition, entry);
+    inFlight.removeUntil(lastProcessedPosition);
+    inFlight.add(highestPosition, entry);
   }
 
   @Override
@@ -167,10 +166,7 @@ public final class FlowControl implements AppendListener {
     lastWrittenPosition = highestPosition;
     updateWriteRateThrottle();
     metrics.setLastWrittenPosition(highestPosition);
-    final var inFlightEntry = inFlight.get(highestPosition);
-    if (inFlightEntry != null) {
-      inFlightEntry.onWrite();
-    }
+    writtenCursor.forEachUntil(highestPosition, InFlightEntry::onWrite);
     if (writeRate.observe(highestPosition) && writeRateLimit != null && writeRateLimit.enabled()) {
       metrics.setPartitionLoad(
           Math.min((float) (writeRate.rate() / writeRateLimiter.getRate() * 100L), 100));
@@ -180,18 +176,11 @@ public final class FlowControl implements AppendListener {
   @Override
   public void onCommit(final long index, final long highestPosition) {
     metrics.setLastCommittedPosition(highestPosition);
-    metrics.decreaseInflightAppends();
-    final var inFlightEntry = inFlight.get(highestPosition);
-    if (inFlightEntry != null) {
-      inFlightEntry.onCommit();
-    }
+    committedCursor.forEachUntil(highestPosition, InFlightEntry::onCommit);
   }
 
   public void onProcessed(final long position) {
-    final var inFlightEntry = inFlight.get(position);
-    if (inFlightEntry != null) {
-      inFlightEntry.onProcessed();
-    }
+    processedCursor.forEachUntil(position, InFlightEntry::onProcessed);
     lastProcessedPosition = position;
   }
 
@@ -213,6 +202,14 @@ public final class FlowControl implements AppendListener {
     }
   }
 
+  /**
+   * @return the highest position which was written to the log storage, or -1 if nothing was
+   *     written yet
+   */
+  public long getLastWrittenPosition() {
+    return lastWrittenPosition;
+  }
+
   public Limit getRequestLimit() {
     return requestLimit;
   }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import java.util.function.Consumer;
+
+/**
+ * Keeps the {@link InFlightEntry in-flight entries} ordered by their highest position, in a
+ * growable ring of primitive positions and entries. Entries are always added in increasing order
+ * of their position, so no sorting or boxing is required.
+ *
+ * <h3>Thread safety</h3>
+ *
+ * Entries are only added and removed by a single thread at a time, i.e. the one appending to the
+ * log (see {@link FlowControl#onAppend(InFlightEntry, long)}). Each {@link Cursor} is used by a
+ * single thread at a time as well, concurrently to additions and removals. Cursors only ever read
+ * the ring, and validate that what they read was not removed in the meantime.
+ */
+final class InFlightEntries {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+  // sequence of the oldest entry, and of the next entry to add; entries are kept in [head, tail)
+  private volatile long head;
+  private volatile long tail;
+
+  /**
+   * Adds a new entry; its position must be greater than the position of any entry added before.
+   */
+  void add(final long highestPosition, final InFlightEntry entry) {
+    final long sequence = tail;
+    var current = slots;
+    if (sequence - head == current.capacity()) {
+      current = grow(current);
+    }
+
+    final int index = current.index(sequence);
+    current.positions[index] = highestPosition;
+    current.entries[index] = entry;
+    tail = sequence + 1;
+  }
+
+  /** Removes all entries up to and including the given position, cleaning them up. */
+  void removeUntil(final long position) {
+    final var current = slots;
+    final long end = tail;
+    long sequence = head;
+    while (sequence < end && current.positions[current.index(sequence)] <= position) {
+      final int index = current.index(sequence);
+      final var entry = current.entries[index];
+      current.entries[index] = null;
+      entry.cleanup();
+      sequence++;
+    }
+
+    head = sequence;
+  }
+
+  /**
+   * @return a new cursor, which starts at the oldest entry
+   */
+  Cursor cursor() {
+    return new Cursor();
+  }
+
+  private Slots grow(final Slots current) {
+    final var grown = new Slots(current.capacity() * 2);
+    for (long sequence = head; sequence < tail; sequence++) {
+      grown.positions[grown.index(sequence)] = current.positions[current.index(sequence)];
+      grown.entries[grown.index(sequence)] = current.entries[current.index(sequence)];
+    }
+
+    slots = grown;
+    return grown;
+  }
+
+  /**
+   * Iterates once over the entries in order of their position, as the log progresses. Used to
+   * notify entries as they are written, committed and processed, which each happen in order.
+   */
+  final class Cursor {
+    private long next;
+
+    /**
+     * Calls the given action for every entry up to and including the given position, which was not
+     * visited by this cursor before.
+     */
+    void forEachUntil(final long position, final Consumer<InFlightEntry> action) {
+      // read the tail first, as it is written last when adding
+      final long end = tail;
+      final var current = slots;
+      long sequence = Math.max(next, head);
+      while (sequence < end) {
+        final int index = current.index(sequence);
+        final long entryPosition = current.positions[index];
+        final var entry = current.entries[index];
+        final long start = head;
+        if (sequence < start) {
+          // removed concurrently, so the slot may have been reused in the meantime
+          sequence = start;
+          continue;
+        }
+
+        if (entryPosition > position) {
+          break;
+        }
+
+        if (entry != null) {
+          action.accept(entry);
+        }
+        sequence++;
+      }
+
+      next = sequence;
+    }
+  }
+
+  private record Slots(long[] positions, InFlightEntry[] entries) {
+    private Slots(final int capacity) {
+      this(new long[capacity], new InFlightEntry[capacity]);
+    }
+
+    private int capacity() {
+      return positions.length;
+    }
+
+    private int index(final long sequence) {
+      return (int) (sequence & (positions.length - 1));
+    }
+  }
+}
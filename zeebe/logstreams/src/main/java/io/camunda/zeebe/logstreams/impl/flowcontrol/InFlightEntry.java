@@ -34,6 +34,7 @@ public final class InFlightEntry {
   public void onAppend() {
     writeTimer = metrics.startWriteTimer();
     commitTimer = metrics.startCommitTimer();
+    metrics.increaseInflightAppends();
     if (requestListener != null) {
       metrics.increaseInflightRequests();
     }
@@ -59,6 +60,7 @@ public final class InFlightEntry {
     final var commitTimer = this.commitTimer;
     if (commitTimer != null) {
       commitTimer.close();
+      metrics.decreaseInflightAppends();
       this.commitTimer = null;
     }
   }
@@ -84,6 +86,7 @@ public final class InFlightEntry {
     final var commitTimer = this.commitTimer;
     if (commitTimer != null) {
       commitTimer.close();
+      metrics.decreaseInflightAppends();
     }
   }
 }
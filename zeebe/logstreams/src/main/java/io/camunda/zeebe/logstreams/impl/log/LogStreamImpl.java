@@ -18,6 +18,8 @@ import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.CommitListener;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.camunda.zeebe.util.health.HealthReport;
 import java.time.InstantSource;
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -29,6 +31,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
 
   private final Collection<LogStreamReader> readers = new CopyOnWriteArrayList<>();
   private final Collection<LogRecordAwaiter> recordAwaiters = new CopyOnWriteArrayList<>();
+  private final Collection<FailureListener> failureListeners = new CopyOnWriteArrayList<>();
 
   private final String logName;
   private final int partitionId;
@@ -38,6 +41,9 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final Sequencer sequencer;
   private volatile boolean closed;
 
+  @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
+  private volatile HealthReport healthReport;
+
   LogStreamImpl(
       final String logName,
       final int partitionId,
@@ -47,6 +53,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final Limit requestLimit,
       final RateLimit writeRateLimit) {
     this.logName = logName;
+    healthReport = HealthReport.healthy(this);
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     logStreamMetrics = new LogStreamMetrics(partitionId);
@@ -58,7 +65,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             maxFragmentSize,
             clock,
             new SequencerMetrics(partitionId),
-            flowControl);
+            flowControl,
+            this::onAppendFailed);
     logStorage.addCommitListener(this);
   }
 
@@ -71,6 +79,26 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     logStreamMetrics.remove();
   }
 
+  @Override
+  public String getName() {
+    return logName;
+  }
+
+  @Override
+  public HealthReport getHealthReport() {
+    return healthReport;
+  }
+
+  @Override
+  public void addFailureListener(final FailureListener failureListener) {
+    failureListeners.add(failureListener);
+  }
+
+  @Override
+  public void removeFailureListener(final FailureListener failureListener) {
+    failureListeners.remove(failureListener);
+  }
+
   @Override
   public int getPartitionId() {
     return partitionId;
@@ -121,6 +149,16 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     recordAwaiters.forEach(LogRecordAwaiter::onRecordAvailable);
   }
 
+  /**
+   * Called by the sequencer after it closed itself, as the log storage failed to append a block. No
+   * further entries can be written to this log stream, so it is reported as dead.
+   */
+  private void onAppendFailed(final Throwable failure) {
+    final var report = HealthReport.dead(this).withIssue(failure);
+    healthReport = report;
+    failureListeners.forEach(l -> l.onUnrecoverableFailure(report));
+  }
+
   private void ensureOpen() {
     if (closed) {
       throw new IllegalStateException("%s is closed".formatted(logName));
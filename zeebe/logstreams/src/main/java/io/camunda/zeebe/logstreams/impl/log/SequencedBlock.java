@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Several consecutive batches, appended to the log storage as a single block. As each entry is
+ * serialized with its own position and source position, the block is read exactly as if the
+ * batches had been appended one by one.
+ */
+record SequencedBlock(List<SequencedBatch> batches, int length) implements BufferWriter {
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var batch : batches) {
+      batch.write(buffer, currentOffset);
+      currentOffset += batch.length();
+    }
+  }
+}
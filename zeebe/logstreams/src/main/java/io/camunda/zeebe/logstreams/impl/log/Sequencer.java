@@ -20,11 +20,18 @@ import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.io.Closeable;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,18 +39,49 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers do not serialize on a lock. Each writer claims the positions for its batch with a
+ * single atomic increment, and publishes the batch in a ring of pending batches, indexed by the
+ * first position of the batch. Batches are then handed over to the log storage in order of their
+ * positions by whichever writer manages to become the appender; other writers wait until the
+ * current appender has appended their batch, such that a write is only reported as successful once
+ * its batch was handed over to the log storage. The appender coalesces consecutive pending batches
+ * into a single block, up to the max fragment size, such that contention results in fewer but
+ * larger appends.
+ *
+ * <p>A writer which claims a position too far ahead of the last appended one, such that it could
+ * collide with an earlier batch in the ring, helps appending until its slot is free, backing off
+ * from spinning to yielding and then parking while it waits.
+ *
+ * <p>If the log storage fails to append a block, the sequencer is closed and no further batches are
+ * appended, such that no gap is left in the log. The in-flight entries of all batches which were
+ * not appended are cleaned up, writers whose batch was not appended are rejected, and the failure
+ * is reported to the given listener.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+
+  /**
+   * How many positions may be claimed ahead of the last appended position before writers have to
+   * wait; must be a power of two.
+   */
+  private static final int PENDING_POSITIONS_CAPACITY = 8 * 1024;
+
   private final int maxFragmentSize;
 
-  private volatile long position;
+  private final AtomicLong position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private volatile boolean hasFailed = false;
+  private final AtomicReferenceArray<PendingBatch> pendingBatches =
+      new AtomicReferenceArray<>(PENDING_POSITIONS_CAPACITY);
+  private final AtomicBoolean appending = new AtomicBoolean();
+  // only written by the current appender
+  private volatile long nextAppendPosition;
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
+  private final Consumer<Throwable> appendFailureListener;
 
   Sequencer(
       final LogStorage logStorage,
@@ -52,14 +90,34 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final InstantSource clock,
       final SequencerMetrics sequencerMetrics,
       final FlowControl flowControl) {
+    this(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        clock,
+        sequencerMetrics,
+        flowControl,
+        failure -> {});
+  }
+
+  Sequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final Consumer<Throwable> appendFailureListener) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
-    position = initialPosition;
+    position = new AtomicLong(initialPosition);
+    nextAppendPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+    this.appendFailureListener = Objects.requireNonNull(appendFailureListener);
   }
 
   /** {@inheritDoc} */
@@ -106,23 +164,21 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
+    final long firstPosition = position.getAndAdd(batchSize);
+    final var batch =
+        new PendingBatch(firstPosition, sourcePosition, appendEntries, batchLength, inFlightEntry);
 
-    lock.lock();
-    try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
-    } finally {
-      lock.unlock();
-      sequencerMetrics.observeBatchLengthBytes(batchLength);
-      sequencerMetrics.observeBatchSize(batchSize);
+    if (!publish(batch)) {
+      inFlightEntry.cleanup();
+      return Either.left(WriteFailure.CLOSED);
     }
+    if (!awaitAppended(batch)) {
+      return Either.left(WriteFailure.CLOSED);
+    }
+
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(firstPosition + batchSize - 1);
   }
 
   /**
@@ -135,7 +191,167 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  /**
+   * Publishes the batch to be appended. Returns false if the sequencer failed while waiting for a
+   * free slot, in which case the batch is not published.
+   */
+  private boolean publish(final PendingBatch batch) {
+    // wait until every earlier batch which could use the same slot has been appended; as this may
+    // depend on a writer which claimed its positions but was descheduled before publishing, back
+    // off from spinning to yielding and parking instead of burning the CPU it needs
+    IdleStrategy idleStrategy = null;
+    while (batch.firstPosition() - nextAppendPosition >= PENDING_POSITIONS_CAPACITY) {
+      if (hasFailed) {
+        return false;
+      }
+      appendPendingBatches();
+      if (idleStrategy == null) {
+        idleStrategy = new BackoffIdleStrategy();
+      }
+      idleStrategy.idle();
+    }
+
+    pendingBatches.set(slot(batch.firstPosition()), batch);
+    return true;
+  }
+
+  /**
+   * Helps appending pending batches until the given batch was appended, backing off while another
+   * writer is the appender. Returns false if the sequencer failed before the batch was appended.
+   */
+  private boolean awaitAppended(final PendingBatch batch) {
+    IdleStrategy idleStrategy = null;
+    while (true) {
+      appendPendingBatches();
+      if (batch.firstPosition() < nextAppendPosition) {
+        return true;
+      }
+      if (hasFailed) {
+        return wasAppended(batch);
+      }
+      if (idleStrategy == null) {
+        idleStrategy = new BackoffIdleStrategy();
+      }
+      idleStrategy.idle();
+    }
+  }
+
+  /**
+   * Only called after the sequencer failed. Whoever removes a batch from its slot is responsible
+   * for cleaning it up: either the writer itself, or the failed appender. A batch which was taken
+   * by the appender was only appended if the append position moved past it.
+   */
+  private boolean wasAppended(final PendingBatch batch) {
+    if (pendingBatches.compareAndSet(slot(batch.firstPosition()), batch, null)) {
+      batch.inFlightEntry().cleanup();
+      return false;
+    }
+
+    return batch.firstPosition() < nextAppendPosition;
+  }
+
+  /**
+   * Appends all pending batches, unless another writer is already doing so. After releasing the
+   * appender role, the next slot is checked again, as a batch published in the meantime might have
+   * been missed by the previous appender, while its writer failed to become the appender.
+   */
+  private void appendPendingBatches() {
+    while (!hasFailed
+        && pendingBatches.get(slot(nextAppendPosition)) != null
+        && appending.compareAndSet(false, true)) {
+      try {
+        appendPendingBlocks();
+      } finally {
+        appending.set(false);
+      }
+    }
+  }
+
+  /**
+   * Only called by the current appender. The slot of the next position to append either holds the
+   * batch starting at that position, or is empty if that batch was not published yet.
+   */
+  private void appendPendingBlocks() {
+    long next = nextAppendPosition;
+    PendingBatch batch = pendingBatches.get(slot(next));
+
+    while (batch != null) {
+      final long lowestPosition = next;
+      final long timestamp = clock.millis();
+      final List<SequencedBatch> batches = new ArrayList<>();
+      final List<InFlightEntry> inFlightEntries = new ArrayList<>();
+      int blockLength = 0;
+
+      do {
+        pendingBatches.set(slot(next), null);
+        batches.add(
+            new SequencedBatch(
+                timestamp, next, batch.sourcePosition(), batch.entries(), batch.length()));
+        next += batch.entries().size();
+        blockLength += batch.length();
+        flowControl.onAppend(batch.inFlightEntry(), next - 1);
+        inFlightEntries.add(batch.inFlightEntry());
+
+        batch = pendingBatches.get(slot(next));
+      } while (batch != null && blockLength + batch.length() <= maxFragmentSize);
+
+      final BufferWriter block =
+          batches.size() == 1 ? batches.get(0) : new SequencedBlock(batches, blockLength);
+      try {
+        logStorage.append(lowestPosition, next - 1, block, flowControl);
+      } catch (final RuntimeException e) {
+        onAppendFailed(lowestPosition, next - 1, inFlightEntries, e);
+        return;
+      }
+
+      nextAppendPosition = next;
+    }
+  }
+
+  /**
+   * Only called by the current appender. Closes the sequencer without advancing the append
+   * position, and cleans up the in-flight entries of the failed block and of all batches which are
+   * already published after it. Batches which are published later are cleaned up by their writers.
+   */
+  private void onAppendFailed(
+      final long lowestPosition,
+      final long highestPosition,
+      final List<InFlightEntry> inFlightEntries,
+      final RuntimeException failure) {
+    LOG.error(
+        "Failed to append block with positions {} - {}, closing sequencer",
+        lowestPosition,
+        highestPosition,
+        failure);
+    hasFailed = true;
+    isClosed = true;
+    inFlightEntries.forEach(InFlightEntry::cleanup);
+
+    long next = highestPosition + 1;
+    PendingBatch batch = pendingBatches.get(slot(next));
+    while (batch != null) {
+      if (pendingBatches.compareAndSet(slot(next), batch, null)) {
+        batch.inFlightEntry().cleanup();
+      }
+      next += batch.entries().size();
+      batch = pendingBatches.get(slot(next));
+    }
+
+    appendFailureListener.accept(failure);
+  }
+
+  private static int slot(final long position) {
+    return (int) (position & (PENDING_POSITIONS_CAPACITY - 1));
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  private record PendingBatch(
+      long firstPosition,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int length,
+      InFlightEntry inFlightEntry) {}
 }
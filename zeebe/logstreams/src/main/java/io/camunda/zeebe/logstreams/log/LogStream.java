@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.log.LogStreamBuilderImpl;
+import io.camunda.zeebe.util.health.HealthMonitorable;
 
 /**
  * Represents a stream of events. New events are append to the end of the log. With {@link
@@ -17,7 +18,7 @@ import io.camunda.zeebe.logstreams.impl.log.LogStreamBuilderImpl;
  *
  * <p>To read events, the {@link LogStream#newLogStreamReader()} ()} can be used.
  */
-public interface LogStream extends AutoCloseable {
+public interface LogStream extends AutoCloseable, HealthMonitorable {
 
   @Override
   void close();
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class InFlightEntriesTest {
+  private final LogStreamMetrics metrics = new LogStreamMetrics(1);
+  private final InFlightEntries inFlight = new InFlightEntries();
+
+  @Test
+  void shouldVisitEntriesUpToPositionOnlyOnce() {
+    // given
+    final var first = add(2);
+    final var second = add(5);
+    final var third = add(9);
+    final var cursor = inFlight.cursor();
+    final List<InFlightEntry> visited = new ArrayList<>();
+
+    // when
+    cursor.forEachUntil(6, visited::add);
+    cursor.forEachUntil(8, visited::add);
+    cursor.forEachUntil(9, visited::add);
+
+    // then
+    assertThat(visited).containsExactly(first, second, third);
+  }
+
+  @Test
+  void shouldNotVisitRemovedEntries() {
+    // given
+    add(1);
+    add(2);
+    final var third = add(3);
+    final var cursor = inFlight.cursor();
+    final List<InFlightEntry> visited = new ArrayList<>();
+
+    // when
+    inFlight.removeUntil(2);
+    cursor.forEachUntil(3, visited::add);
+
+    // then
+    assertThat(visited).containsExactly(third);
+  }
+
+  @Test
+  void shouldKeepEntriesWhenGrowing() {
+    // given
+    final List<InFlightEntry> added = new ArrayList<>();
+    for (int position = 1; position <= 1500; position++) {
+      added.add(add(position));
+    }
+    inFlight.removeUntil(1000);
+    for (int position = 1501; position <= 5000; position++) {
+      added.add(add(position));
+    }
+    final List<InFlightEntry> visited = new ArrayList<>();
+
+    // when
+    inFlight.cursor().forEachUntil(5000, visited::add);
+
+    // then
+    assertThat(visited).containsExactlyElementsOf(added.subList(1000, 5000));
+  }
+
+  private InFlightEntry add(final long highestPosition) {
+    final var entry = new InFlightEntry(metrics, List.of(), null);
+    inFlight.add(highestPosition, entry);
+    return entry;
+  }
+}
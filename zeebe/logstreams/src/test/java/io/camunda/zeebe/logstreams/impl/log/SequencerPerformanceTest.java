@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the aggregate throughput of writers contending on the sequencer. The log storage does
+ * nothing but acknowledge appends, and all entries are marked as processed right away, such that
+ * only the sequencer and the flow control are measured. The test runs it with 1 to 16 threads, to
+ * see how the throughput behaves under contention.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+  private final List<LogAppendEntry> batch = List.of(TestEntry.ofDefaults());
+
+  private Sequencer sequencer;
+
+  @Setup
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(1));
+    sequencer =
+        new Sequencer(
+            new AcknowledgingLogStorage(flowControl),
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            flowControl);
+  }
+
+  @TearDown
+  public void tearDown() {
+    sequencer.close();
+  }
+
+  @Benchmark
+  public Object measureWrite() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  @JMHTest("measureWrite")
+  void shouldNotDegradeUnderContention(final JMHTestCase testCase) throws RunnerException {
+    // given - the score of a single, uncontended writer, measured in the same run as reference,
+    // such that the test doesn't depend on the machine it runs on
+    final var singleWriterResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q" + SequencerPerformanceTest.class.getName() + ".measureWrite\\E$")
+                    .threads(1)
+                    .build())
+            .runSingle();
+    final var referenceScore = singleWriterResult.getPrimaryResult().getScore();
+
+    for (final int threads : new int[] {2, 4, 8, 16}) {
+      // when
+      final var assertResult = testCase.withOptions(options -> options.threads(threads)).run();
+
+      // then - the aggregate throughput of contending writers doesn't collapse
+      assertResult.isAtLeast(referenceScore, 0.25);
+    }
+  }
+
+  private record AcknowledgingLogStorage(FlowControl flowControl) implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
@@ -13,18 +13,24 @@ import static org.mockito.ArgumentMatchers.eq;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
 import io.camunda.zeebe.logstreams.util.TestEntry;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.lang.Thread.State;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -127,6 +133,34 @@ final class SequencerTest {
     Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
   }
 
+  @Test
+  void closesWhenLogStorageFailsToAppend() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(logStreamMetrics));
+
+    // when
+    final var failedWrite = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    final var nextWrite = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- neither write is reported as written, and no later position is appended
+    EitherAssert.assertThat(failedWrite).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    EitherAssert.assertThat(nextWrite).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    Mockito.verify(logStorage).append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    Mockito.verifyNoMoreInteractions(logStorage);
+  }
+
   @Test
   void maintainsPositionWithSingleWriterAndSingleEntry() throws InterruptedException {
     // given
@@ -246,6 +280,134 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void coalescesPendingBatchesIntoSingleAppend() throws InterruptedException {
+    // given - a log storage which blocks the first append
+    final var appendStarted = new CountDownLatch(1);
+    final var appendReleased = new CountDownLatch(1);
+    final var appends = new ConcurrentLinkedQueue<List<Long>>();
+    final LogStorage logStorage =
+        new VerifyingLogStorage() {
+          @Override
+          public void append(
+              final long lowestPosition,
+              final long highestPosition,
+              final BufferWriter bufferWriter,
+              final AppendListener listener) {
+            appends.add(List.of(lowestPosition, highestPosition));
+            appendStarted.countDown();
+            awaitUninterruptibly(appendReleased);
+            super.append(lowestPosition, highestPosition, bufferWriter, listener);
+          }
+        };
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var entry = TestEntry.ofDefaults();
+    final var appender = new Thread(() -> sequencer.tryWrite(WriteContext.internal(), entry));
+    appender.start();
+    appendStarted.await();
+
+    // when - more batches are written while the first one is being appended
+    final var secondPosition = new AtomicReference<Either<WriteFailure, Long>>();
+    final var thirdPosition = new AtomicReference<Either<WriteFailure, Long>>();
+    final var secondWriter =
+        startWaitingWriter(
+            () -> secondPosition.set(sequencer.tryWrite(WriteContext.internal(), entry)));
+    final var thirdWriter =
+        startWaitingWriter(
+            () ->
+                thirdPosition.set(
+                    sequencer.tryWrite(WriteContext.internal(), List.of(entry, entry))));
+    appendReleased.countDown();
+    appender.join();
+    secondWriter.join();
+    thirdWriter.join();
+
+    // then - they are appended as a single block by the writer which was already appending
+    EitherAssert.assertThat(secondPosition.get()).isRight().right().isEqualTo(2L);
+    EitherAssert.assertThat(thirdPosition.get()).isRight().right().isEqualTo(4L);
+    Assertions.assertThat(appends).containsExactly(List.of(1L, 1L), List.of(2L, 4L));
+  }
+
+  @Test
+  void rejectsWritesOfOtherWritersInFailedBlock() throws InterruptedException {
+    // given - a log storage which blocks the first append and fails the second one
+    final var appendStarted = new CountDownLatch(1);
+    final var appendReleased = new CountDownLatch(1);
+    final LogStorage logStorage =
+        new VerifyingLogStorage() {
+          @Override
+          public void append(
+              final long lowestPosition,
+              final long highestPosition,
+              final BufferWriter bufferWriter,
+              final AppendListener listener) {
+            if (lowestPosition > 1) {
+              throw new IllegalStateException("expected");
+            }
+            appendStarted.countDown();
+            awaitUninterruptibly(appendReleased);
+            super.append(lowestPosition, highestPosition, bufferWriter, listener);
+          }
+        };
+    final var appendFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)),
+            appendFailures::add);
+    final var entry = TestEntry.ofDefaults();
+    final var firstPosition = new AtomicReference<Either<WriteFailure, Long>>();
+    final var appender =
+        new Thread(() -> firstPosition.set(sequencer.tryWrite(WriteContext.internal(), entry)));
+    appender.start();
+    appendStarted.await();
+
+    // when - another writer publishes its batch while the first one is being appended, such that
+    // it is appended in the next block by the first writer
+    final var secondPosition = new AtomicReference<Either<WriteFailure, Long>>();
+    final var secondWriter =
+        startWaitingWriter(
+            () -> secondPosition.set(sequencer.tryWrite(WriteContext.internal(), entry)));
+    appendReleased.countDown();
+    appender.join();
+    secondWriter.join();
+
+    // then - only the write which was appended is reported as written, and the failure is reported
+    EitherAssert.assertThat(firstPosition.get()).isRight().right().isEqualTo(1L);
+    EitherAssert.assertThat(secondPosition.get()).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    Assertions.assertThat(appendFailures).singleElement().isInstanceOf(IllegalStateException.class);
+  }
+
+  /**
+   * Starts a writer thread, and returns once it parked while waiting for its batch to be appended.
+   */
+  private static Thread startWaitingWriter(final Runnable write) {
+    final var writer = new Thread(write);
+    writer.start();
+    Awaitility.await("until writer waits for its batch to be appended")
+        .until(writer::getState, state -> state == State.TIMED_WAITING);
+    return writer;
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -279,7 +441,7 @@ final class SequencerTest {
     return thread;
   }
 
-  private static final class VerifyingLogStorage implements LogStorage {
+  private static class VerifyingLogStorage implements LogStorage {
 
     private long position = -1;
 
@@ -17,6 +17,8 @@ import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Supplier;
@@ -74,6 +76,21 @@ public class SyncLogStream implements SynchronousLogStream {
     logStream.close();
   }
 
+  @Override
+  public HealthReport getHealthReport() {
+    return logStream.getHealthReport();
+  }
+
+  @Override
+  public void addFailureListener(final FailureListener failureListener) {
+    logStream.addFailureListener(failureListener);
+  }
+
+  @Override
+  public void removeFailureListener(final FailureListener failureListener) {
+    logStream.removeFailureListener(failureListener);
+  }
+
   @Override
   public int getPartitionId() {
     return logStream.getPartitionId();
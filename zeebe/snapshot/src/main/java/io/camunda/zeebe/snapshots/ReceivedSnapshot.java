@@ -8,6 +8,9 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +33,19 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses files of an existing local snapshot which are also part of this snapshot, such that
+   * they don't have to be received again. Files for which a chunk was already applied are never
+   * reused. The sender is expected to skip the chunks of the reused files, see {@link
+   * SnapshotChunkReader#skip(Set)}.
+   *
+   * <p>By default, no files are reused.
+   *
+   * @param fileChecksums the checksums of all files of the snapshot, by file name
+   * @return the names of the reused files
+   */
+  default ActorFuture<Set<String>> reuseFiles(final Map<String, Long> fileChecksums) {
+    return CompletableActorFuture.completed(Set.of());
+  }
 }
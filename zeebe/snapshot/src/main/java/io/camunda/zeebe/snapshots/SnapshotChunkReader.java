@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips all chunks of the given files, e.g. because the receiver already has them. The skipped
+   * files are still counted in the total count of the chunks, and stay skipped until the reader is
+   * {@link #reset()}.
+   *
+   * @param fileNames the names of the files which should not be read
+   */
+  void skip(final Set<String> fileNames);
 }
@@ -18,10 +18,15 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +45,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  // files hard linked from another snapshot; they must never be written to
+  private final Set<String> reusedFiles = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -85,6 +92,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (reusedFiles.contains(chunkName)) {
+      LOGGER.debug(
+          "Ignore snapshot snapshotChunk {}, because the file was reused from another snapshot.",
+          chunkName);
+      return;
+    }
+
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
@@ -115,6 +129,84 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final Map<String, Long> fileChecksums) {
+    return actor.call(() -> reuseFilesInternal(fileChecksums));
+  }
+
+  /**
+   * Hard links the files of the latest persisted snapshot, which have the same name and checksum as
+   * a file of this snapshot, into the pending snapshot directory. SST files are immutable, so
+   * consecutive snapshots usually share most of them. The files are compared with the checksums
+   * recorded in the checksum file of the persisted snapshot, such that no local file is read.
+   *
+   * <p>The metadata file and the last file of the snapshot are never reused, such that the sender
+   * always has a chunk left to complete the snapshot with.
+   */
+  private Set<String> reuseFilesInternal(final Map<String, Long> fileChecksums)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()
+        || fileChecksums.isEmpty()
+        || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return Set.copyOf(reusedFiles);
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    final var sourceDirectory = latestSnapshot.get().getPath();
+    final var sourceChecksums = latestSnapshot.get().getChecksums().getChecksums();
+    final var lastFileName = Collections.max(fileChecksums.keySet());
+    for (final var entry : fileChecksums.entrySet()) {
+      final var fileName = entry.getKey();
+      final var source = sourceDirectory.resolve(fileName);
+      final var target = directory.resolve(fileName);
+      if (fileName.equals(lastFileName)
+          || fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+          || !entry.getValue().equals(sourceChecksums.get(fileName))
+          || Files.exists(target)
+          || !Files.isRegularFile(source)) {
+        continue;
+      }
+
+      try {
+        linkOrCopy(source, target);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse file %s of snapshot %s", source, latestSnapshot.get()),
+            e);
+      }
+
+      if (checksumCollection == null) {
+        checksumCollection = new SfvChecksumImpl();
+      }
+      checksumCollection.updateFromChecksum(target, entry.getValue());
+      reusedFiles.add(fileName);
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files of snapshot {} from snapshot {}",
+        reusedFiles.size(),
+        fileChecksums.size(),
+        snapshotId,
+        latestSnapshot.get().getId());
+    return Set.copyOf(reusedFiles);
+  }
+
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | IOException e) {
+      LOGGER.trace("Failed to hard link {} to {}, copying it instead", source, target, e);
+      Files.copy(source, target);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -15,17 +15,23 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files can be {@link #skip(Set) skipped} if the receiver already has them. They still count
+ * towards the total count of the chunks, since the receiver's copy is part of the snapshot.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Set<String> skippedChunks = new HashSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -59,6 +65,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public void reset() {
+    skippedChunks.clear();
     chunksView = new TreeSet<>(chunks);
   }
 
@@ -70,9 +77,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var chunkId = new SnapshotChunkId(id);
 
-    offset = chunkId.offset();
-
     chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    chunksView.removeAll(skippedChunks);
+
+    // if the file of the chunk was skipped, we continue with the start of the next file
+    final var isSkipped = skippedChunks.contains(chunkId.fileName());
+    offset = isSkipped ? 0 : chunkId.offset();
   }
 
   @Override
@@ -89,10 +99,21 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Set<String> fileNames) {
+    if (!chunksView.isEmpty() && fileNames.contains(chunksView.first().toString())) {
+      offset = 0;
+    }
+
+    skippedChunks.addAll(fileNames);
+    chunksView.removeAll(fileNames);
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    skippedChunks.clear();
   }
 
   @Override
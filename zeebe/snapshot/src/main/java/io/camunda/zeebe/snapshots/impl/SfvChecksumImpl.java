@@ -9,22 +9,18 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
-import org.agrona.IoUtil;
 
 /**
  * Supports building individual CRCs compatible with SFV file format and also supports backward
@@ -83,25 +79,12 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
     final String fileName = filePath.getFileName().toString();
-
-    final Checksum checksum = new CRC32C();
-    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
-    try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        checksum.update(readBuffer);
-        readBuffer.clear();
-      }
-    }
-    checksums.put(fileName, checksum.getValue());
+    checksums.put(fileName, ChecksumUtil.crc32c(filePath));
   }
 
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
-    final Checksum checksum = new CRC32C();
-    checksum.update(bytes);
-    checksums.put(fileName, checksum.getValue());
+    checksums.put(fileName, ChecksumUtil.crc32c(bytes));
   }
 
   @Override
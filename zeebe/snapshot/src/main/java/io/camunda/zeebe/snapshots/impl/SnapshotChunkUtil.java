@@ -8,21 +8,14 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
-import java.util.zip.CRC32C;
-import java.util.zip.Checksum;
+import io.camunda.zeebe.util.ChecksumUtil;
 
 final class SnapshotChunkUtil {
 
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
-    final Checksum checksum = newChecksum();
-    checksum.update(content);
-    return checksum.getValue();
-  }
-
-  static Checksum newChecksum() {
-    return new CRC32C();
+    return ChecksumUtil.crc32c(content);
   }
 
   static SnapshotChunk createSnapshotChunkFromFileChunk(
@@ -26,7 +26,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -348,6 +350,63 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseUnchangedFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final Set<String> reusedFiles;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      reusedFiles =
+          receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+
+      snapshotChunkReader.skip(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(reusedFiles)
+        .as("neither the already received file nor the metadata file are reused")
+        .containsExactly("file2");
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("file2"),
+                previousSnapshot.getPath().resolve("file2")))
+        .as("the reused file is linked to the file of the previous snapshot")
+        .isTrue();
+
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .containsEntry("file2", persistedSnapshot.getChecksums().getChecksums().get("file2"));
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2"))
+        .hasBinaryContent(Files.readAllBytes(persistedSnapshot.getPath().resolve("file2")));
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var fileChecksums = new HashMap<>(persistedSnapshot.getChecksums().getChecksums());
+    fileChecksums.computeIfPresent("file2", (fileName, checksum) -> checksum + 1);
+
+    // when
+    final var reusedFiles = receivedSnapshot.reuseFiles(fileChecksums).join();
+
+    // then
+    assertThat(reusedFiles).doesNotContain("file2");
+    assertThat(receivedSnapshot.getPath().resolve("file2")).doesNotExist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
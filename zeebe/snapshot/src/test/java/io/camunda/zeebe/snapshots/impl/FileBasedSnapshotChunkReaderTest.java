@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -332,6 +334,50 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSkipChunksOfFiles() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+
+    // when
+    snapshotChunkReader.skip(Set.of("file2"));
+
+    // then
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getTotalCount)
+        .containsExactly(tuple("file1", 3), tuple("file3", 3));
+  }
+
+  @Test
+  public void shouldSeekToNextFileIfFileIsSkipped() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+    snapshotChunkReader.next();
+    snapshotChunkReader.skip(Set.of("file2"));
+
+    // when
+    snapshotChunkReader.seek(asByteBuffer("file2__0"));
+
+    // then
+    assertThat(snapshotChunkReader.nextId()).isEqualTo(asByteBuffer("file3__0"));
+    assertThat(snapshotChunkReader.next().getFileBlockPosition()).isZero();
+  }
+
+  @Test
+  public void shouldNotSkipFilesAfterReset() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.skip(Set.of("file2"));
+
+    // when
+    snapshotChunkReader.reset();
+
+    // then
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file2", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.ChecksumUtil;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the verification of a snapshot, i.e. computing the checksums of all its files, comparing
+ * the previous approach (reading each file in blocks of {@link IoUtil#BLOCK_SIZE} into the heap)
+ * with {@link ChecksumUtil#crc32c(Path)}, which maps the files in large regions. The files are in
+ * the page cache after the first iteration, so this measures the CPU cost of verification rather
+ * than the disk.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SnapshotChecksumPerformanceTest {
+  private static final int FILE_COUNT = 8;
+  private static final int FILE_SIZE = 16 * 1024 * 1024;
+
+  @Param({"legacy", "shared"})
+  public String checksumType;
+
+  private Path snapshotDirectory;
+  private Path[] files;
+
+  @Setup
+  public void setup() throws IOException {
+    snapshotDirectory = Files.createTempDirectory("snapshot-checksum-perf");
+    files = new Path[FILE_COUNT];
+    final var content = new byte[FILE_SIZE];
+    for (int i = 0; i < FILE_COUNT; i++) {
+      ThreadLocalRandom.current().nextBytes(content);
+      files[i] = Files.write(snapshotDirectory.resolve(i + ".sst"), content);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(snapshotDirectory);
+  }
+
+  @Benchmark
+  public long[] measureSnapshotVerification() throws IOException {
+    final var checksums = new long[FILE_COUNT];
+    for (int i = 0; i < FILE_COUNT; i++) {
+      checksums[i] =
+          "legacy".equals(checksumType) ? legacyChecksum(files[i]) : ChecksumUtil.crc32c(files[i]);
+    }
+
+    return checksums;
+  }
+
+  @JMHTest("measureSnapshotVerification")
+  void shouldBeFasterThanLegacyChecksum(final JMHTestCase testCase) throws RunnerException {
+    // given - the score of reading each file in small blocks as reference
+    final var legacyResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + SnapshotChecksumPerformanceTest.class.getName()
+                            + ".measureSnapshotVerification\\E$")
+                    .param("checksumType", "legacy")
+                    .build())
+            .runSingle();
+    final var referenceScore = legacyResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("checksumType", "shared")).run();
+
+    // then - mapping large regions avoids a read syscall and a heap copy per 4 KiB block
+    assertResult.isAtLeast(referenceScore * 1.2, 0.1);
+  }
+
+  private static long legacyChecksum(final Path file) throws IOException {
+    final var checksum = new CRC32C();
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+
+    return checksum.getValue();
+  }
+}
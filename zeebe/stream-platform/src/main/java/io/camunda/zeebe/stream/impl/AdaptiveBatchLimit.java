@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * Adapts the maximum number of commands which are processed in one batch at runtime, between one
+ * and the configured maximum.
+ *
+ * <p>The limit follows the time it takes to process and commit a command, so that a batch stays
+ * within a time budget. Under high load, when more commands are waiting on the log after a batch,
+ * the budget is the target batch duration, which favors throughput. Under low load, it is a fraction
+ * of it, which favors the latency of the individual command, as its responses are only sent once
+ * the whole batch is processed.
+ *
+ * <p>If writing the results of a batch is rejected due to backpressure, the limit is halved. It
+ * then recovers by one command per committed batch.
+ */
+final class AdaptiveBatchLimit {
+
+  private static final int MIN_LIMIT = 1;
+  private static final int LOW_LOAD_BUDGET_DIVISOR = 10;
+  // weight of the latest observation in the moving average of the time per command
+  private static final double SMOOTHING_FACTOR = 0.2;
+
+  private final int maxLimit;
+  private final long highLoadBudgetNanos;
+  private final long lowLoadBudgetNanos;
+
+  private int limit;
+  private int backpressureLimit;
+  private boolean throttled;
+  private double nanosPerCommand;
+
+  private int processedCommands;
+  private long processingNanos;
+
+  AdaptiveBatchLimit(final int maxLimit, final Duration targetBatchDuration) {
+    this.maxLimit = maxLimit;
+    highLoadBudgetNanos = targetBatchDuration.toNanos();
+    lowLoadBudgetNanos = highLoadBudgetNanos / LOW_LOAD_BUDGET_DIVISOR;
+    limit = maxLimit;
+    backpressureLimit = maxLimit;
+  }
+
+  int limit() {
+    return limit;
+  }
+
+  /**
+   * @return the moving average of the time it takes to process and commit a command, or 0 if no
+   *     batch was committed yet
+   */
+  double nanosPerCommand() {
+    return nanosPerCommand;
+  }
+
+  void onProcessed(final int commands, final long durationNanos) {
+    processedCommands = commands;
+    processingNanos = durationNanos;
+  }
+
+  /**
+   * Adapts the limit to the last processed batch, once it is committed.
+   *
+   * @param highLoad true if more commands are waiting to be processed
+   */
+  void onCommitted(final long commitNanos, final boolean highLoad) {
+    throttled = false;
+    if (processedCommands == 0) {
+      return;
+    }
+
+    final double observed = (double) (processingNanos + commitNanos) / processedCommands;
+    nanosPerCommand =
+        nanosPerCommand == 0
+            ? observed
+            : nanosPerCommand + SMOOTHING_FACTOR * (observed - nanosPerCommand);
+    processedCommands = 0;
+
+    if (backpressureLimit < maxLimit) {
+      backpressureLimit++;
+    }
+
+    final long budgetNanos = highLoad ? highLoadBudgetNanos : lowLoadBudgetNanos;
+    final double budgetLimit = Math.max(budgetNanos / Math.max(nanosPerCommand, 1), MIN_LIMIT);
+    limit = (int) Math.min(Math.min(budgetLimit, maxLimit), backpressureLimit);
+  }
+
+  /** Halves the limit once per batch, as writes may be retried until they are accepted. */
+  void onBackpressure() {
+    if (!throttled) {
+      throttled = true;
+      backpressureLimit = Math.max(limit / 2, MIN_LIMIT);
+      limit = backpressureLimit;
+    }
+  }
+}
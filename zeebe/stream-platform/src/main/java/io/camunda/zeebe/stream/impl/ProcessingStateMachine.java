@@ -10,9 +10,11 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -25,6 +27,7 @@ import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.AbortableRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EmptyProcessingResult;
@@ -39,7 +42,10 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics.ProcessingStage;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -54,6 +60,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -95,6 +102,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>Each transition between writeRecords(), updateState() and executeSideEffects() is usually
+ * scheduled as a separate job on the actor. If inline processing stages are enabled, the first
+ * attempt of each of these stages runs directly after the previous stage instead, and only a failed
+ * attempt is retried via the actor.
+ *
+ * <p>If adaptive batch sizing is enabled, the number of commands processed in one batch is limited
+ * by an {@link AdaptiveBatchLimit}, instead of the fixed maximum.
  */
 public final class ProcessingStateMachine {
 
@@ -160,6 +175,13 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final boolean inlineProcessingStages;
+  private final AdaptiveBatchLimit adaptiveBatchLimit;
+  // reads past the records written by the current batch, to find commands waiting to be processed;
+  // null if the batch limit is not adaptive
+  private final LogStreamReader lookaheadReader;
+  private final FlowControl flowControl;
+  private final ProcessingProfiler processingProfiler;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -182,6 +204,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    inlineProcessingStages = context.enableInlineProcessingStages();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -196,6 +219,18 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    processingMetrics.setBatchLimit(maxCommandsInBatch);
+    adaptiveBatchLimit =
+        context.enableAdaptiveBatchSizing()
+            ? new AdaptiveBatchLimit(maxCommandsInBatch, context.getAdaptiveBatchDurationTarget())
+            : null;
+    lookaheadReader =
+        adaptiveBatchLimit != null ? context.getLogStream().newLogStreamReader() : null;
+    flowControl = context.getLogStream().getFlowControl();
+    processingProfiler =
+        context.enableProcessingProfiling()
+            ? new ProcessingProfiler(partitionId, context.getStateAccessCounter())
+            : null;
 
     processingFilter =
         new MetadataEventFilter(
@@ -259,6 +294,12 @@ public final class ProcessingStateMachine {
     return reachedEnd;
   }
 
+  public void close() {
+    if (lookaheadReader != null) {
+      lookaheadReader.close();
+    }
+  }
+
   private void processCommand(final LoggedEvent loggedEvent) {
     // we have to mark ourself has inProcessing to not interfere with readNext calls, which
     // are triggered from commit listener
@@ -281,9 +322,15 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
-      try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+      try (final var timer = processingMetrics.startBatchProcessingDurationTimer();
+          final var stageTimer = metrics.startStageDurationTimer(ProcessingStage.PROCESS)) {
+        final long processingStart = System.nanoTime();
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
+        if (adaptiveBatchLimit != null) {
+          adaptiveBatchLimit.onProcessed(
+              processedCommandsCount, System.nanoTime() - processingStart);
+        }
       }
 
       finalizeCommandProcessing();
@@ -304,7 +351,7 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            currentMaxCommandsInBatch(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
@@ -337,6 +384,10 @@ public final class ProcessingStateMachine {
     processedCommandsCount = 0;
   }
 
+  private int currentMaxCommandsInBatch() {
+    return adaptiveBatchLimit != null ? adaptiveBatchLimit.limit() : maxCommandsInBatch;
+  }
+
   /**
    * Starts the batch processing with the given initial command and iterates over ProcessingResult
    * and applies all follow-up commands until the command limit is reached or no more follow-up
@@ -355,7 +406,7 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : currentMaxCommandsInBatch();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -372,7 +423,15 @@ public final class ProcessingStateMachine {
               .findFirst()
               .orElseThrow(() -> NoSuchProcessorException.forRecord(command));
 
+      if (processingProfiler != null) {
+        processingProfiler.startCommand();
+      }
       currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
+      if (processingProfiler != null) {
+        processingProfiler.endCommand(
+            command,
+            currentProcessingResult.getRecordBatch().entries().size() - lastProcessingResultSize);
+      }
 
       final BatchProcessingStepResult batchProcessingStepResult =
           collectBatchProcessingStepResult(
@@ -586,8 +645,6 @@ public final class ProcessingStateMachine {
   }
 
   private ActorFuture<Boolean> writeWithRetryAsync() {
-    final var sourceRecordPosition = typedCommand.getPosition();
-
     final ActorFuture<Boolean> writeFuture;
     if (currentProcessingResult.isEmpty()) {
       // we skipped the processing entirely; we have no results
@@ -599,29 +656,71 @@ public final class ProcessingStateMachine {
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
     } else {
-      writeFuture =
-          writeRetryStrategy.runWithRetry(
-              () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
-                if (writeResult.isRight()) {
-                  writtenPosition = writeResult.get();
-                  return true;
-                } else {
-                  return false;
-                }
-              },
-              abortCondition);
+      writeFuture = writeRetryStrategy.runWithRetry(this::tryWritePendingRecords, abortCondition);
     }
     return writeFuture;
   }
 
+  private boolean tryWritePendingRecords() {
+    final var writeResult =
+        logStreamWriter.tryWrite(
+            WriteContext.processingResult(), pendingWrites, typedCommand.getPosition());
+    if (writeResult.isRight()) {
+      writtenPosition = writeResult.get();
+      return true;
+    } else {
+      if (adaptiveBatchLimit != null && isBackpressure(writeResult.getLeft())) {
+        adaptiveBatchLimit.onBackpressure();
+      }
+      return false;
+    }
+  }
+
+  private static boolean isBackpressure(final WriteFailure failure) {
+    return failure == WriteFailure.WRITE_LIMIT_EXHAUSTED
+        || failure == WriteFailure.REQUEST_LIMIT_EXHAUSTED;
+  }
+
+  /**
+   * Runs the first attempt of a stage directly, if inline processing stages are enabled. This
+   * avoids scheduling the stage and its continuation as separate jobs on the actor.
+   *
+   * @param retryRecoverable whether the retry strategy of the stage retries on a {@link
+   *     RecoverableException}, instead of failing
+   * @return true if the stage completed and the completion handler was called, false if it has to
+   *     be run via its retry strategy
+   */
+  private boolean tryInline(
+      final OperationToRetry stage,
+      final boolean retryRecoverable,
+      final BiConsumer<Boolean, Throwable> onCompletion) {
+    if (!inlineProcessingStages) {
+      return false;
+    }
+
+    try {
+      if (!stage.run()) {
+        return false;
+      }
+    } catch (final RecoverableException e) {
+      if (retryRecoverable) {
+        return false;
+      }
+      onCompletion.accept(false, e);
+      return true;
+    } catch (final Exception e) {
+      onCompletion.accept(false, e);
+      return true;
+    }
+    onCompletion.accept(true, null);
+    return true;
+  }
+
   private void writeRecords() {
-    final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
-    actor.runOnCompletion(
-        writeFuture,
+    final var stageTimer = metrics.startStageDurationTimer(ProcessingStage.WRITE);
+    final BiConsumer<Boolean, Throwable> onWritten =
         (bool, t) -> {
+          stageTimer.close();
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
             onError(
@@ -638,24 +737,60 @@ public final class ProcessingStateMachine {
             metrics.recordsWritten(amount);
             updateState();
           }
-        });
+        };
+
+    if (!currentProcessingResult.isEmpty()
+        && !pendingWrites.isEmpty()
+        && tryInline(this::tryWritePendingRecords, false, onWritten)) {
+      return;
+    }
+    actor.runOnCompletion(writeWithRetryAsync(), onWritten);
   }
 
-  private void updateState() {
-    final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
-            () -> {
-              zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
-              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
-              lastWrittenPosition = writtenPosition;
-              return true;
-            },
-            abortCondition);
+  private boolean commitState() throws Exception {
+    final long commitStart = System.nanoTime();
+    zeebeDbTransaction.commit();
+    if (adaptiveBatchLimit != null) {
+      adaptiveBatchLimit.onCommitted(System.nanoTime() - commitStart, hasUnprocessedCommands());
+      processingMetrics.setBatchLimit(adaptiveBatchLimit.limit());
+      processingMetrics.setTimePerCommand(adaptiveBatchLimit.nanosPerCommand());
+    }
+    lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+    metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+    lastWrittenPosition = writtenPosition;
+    return true;
+  }
 
-    actor.runOnCompletion(
-        retryFuture,
+  /**
+   * The next record on the log is usually a follow-up event of the current batch, which is only
+   * skipped, so it doesn't tell whether more commands are waiting. Seeking past the batch is only
+   * necessary if anything was written after it, which is cheap to check first.
+   *
+   * @return true if commands are waiting to be processed after the current batch, i.e. follow-up
+   *     commands which exceeded the batch limit, or records written after the ones of the batch,
+   *     which are commands of others, e.g. of clients or other partitions
+   */
+  private boolean hasUnprocessedCommands() {
+    for (final var entry : pendingWrites) {
+      if (!entry.isProcessed() && entry.recordMetadata().getRecordType() == RecordType.COMMAND) {
+        return true;
+      }
+    }
+
+    final long batchEndPosition = Math.max(writtenPosition, currentRecord.getPosition());
+    if (flowControl.getLastWrittenPosition() <= batchEndPosition) {
+      return false;
+    }
+
+    lookaheadReader.seekToNextEvent(batchEndPosition);
+    return lookaheadReader.hasNext();
+  }
+
+  private void updateState() {
+    final var stageTimer = metrics.startStageDurationTimer(ProcessingStage.UPDATE_STATE);
+    final BiConsumer<Boolean, Throwable> onStateUpdated =
         (bool, throwable) -> {
+          stageTimer.close();
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
             onError(
@@ -668,39 +803,42 @@ public final class ProcessingStateMachine {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
             executeSideEffects();
           }
-        });
+        };
+
+    if (tryInline(this::commitState, true, onStateUpdated)) {
+      return;
+    }
+    actor.runOnCompletion(
+        updateStateRetryStrategy.runWithRetry(this::commitState, abortCondition), onStateUpdated);
   }
 
-  private void executeSideEffects() {
-    final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(
-            () -> {
-              // TODO refactor this into two parallel tasks, which are then combined, and on the
-              // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
-            },
-            abortCondition);
+  private boolean tryExecuteSideEffects() {
+    // TODO refactor this into two parallel tasks, which are then combined, and on the
+    // completion of which the process continues
+    for (final var processingResponse : pendingResponses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+    return executePostCommitTasks();
+  }
 
-    actor.runOnCompletion(
-        retryFuture,
+  private void executeSideEffects() {
+    final var stageTimer = metrics.startStageDurationTimer(ProcessingStage.SIDE_EFFECTS);
+    final BiConsumer<Boolean, Throwable> onSideEffectsExecuted =
         (bool, throwable) -> {
+          stageTimer.close();
           if (throwable != null) {
             LOG.error(
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
@@ -714,7 +852,14 @@ public final class ProcessingStateMachine {
           // continue with next record
           markProcessingCompleted();
           actor.submit(this::tryToReadNextRecord);
-        });
+        };
+
+    if (tryInline(this::tryExecuteSideEffects, false, onSideEffectsExecuted)) {
+      return;
+    }
+    actor.runOnCompletion(
+        sideEffectsRetryStrategy.runWithRetry(this::tryExecuteSideEffects, abortCondition),
+        onSideEffectsExecuted);
   }
 
   private boolean executePostCommitTasks() {
@@ -747,6 +892,13 @@ public final class ProcessingStateMachine {
     return lastWrittenPosition;
   }
 
+  /**
+   * @return the processing profile, or an empty list if processing profiling is disabled
+   */
+  public List<ProfileEntry> getProcessingProfile() {
+    return processingProfiler != null ? processingProfiler.snapshot() : List.of();
+  }
+
   public boolean isMakingProgress() {
     return errorHandlingPhase != ErrorHandlingPhase.ENDLESS_ERROR_LOOP;
   }
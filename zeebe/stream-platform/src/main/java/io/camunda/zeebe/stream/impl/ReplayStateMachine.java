@@ -38,7 +38,12 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state. Events are applied
+ * sequentially on the stream processor actor, in the order of the log; consecutive batches of
+ * events may share one transaction, see {@link
+ * StreamProcessorContext#getMaxBatchesInReplayTransaction()}.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -68,9 +73,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxBatchesInReplayTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
-  private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReadPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReplayedPosition = StreamProcessor.UNSET_POSITION;
+  private int replayedBatchesInTransaction;
+  private int replayedEventsInTransaction;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -98,6 +108,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     recordValues = context.getRecordValues();
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
+    maxBatchesInReplayTransaction = context.getMaxBatchesInReplayTransaction();
     keyGeneratorControls = context.getKeyGeneratorControls();
     lastProcessedPositionState = context.getLastProcessedPositionState();
 
@@ -159,9 +170,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+        transactionStartReadPosition = lastReadRecordPosition;
+        transactionStartReplayedPosition = lastReplayedEventPosition;
         final var batch = logStreamBatchReader.next();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(() -> tryToReplayBatches(batch), abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -171,10 +184,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                         failure);
                   } else {
                     // observe the replay duration
-                    replayDurationTimer.close();
+                    final double replayDuration = replayDurationTimer.observeDuration();
+                    replayMetrics.observeReplayRate(replayedEventsInTransaction, replayDuration);
                     // the position should be visible only after the batch is replayed successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -196,21 +210,34 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the given batch and, if configured, the following batches in one transaction, which
+   * reduces the overhead of committing the state. Batches are only added to the transaction while
+   * they are available, so that the replay doesn't wait for new records.
+   */
+  private boolean tryToReplayBatches(final Batch firstBatch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      resetToTransactionStart(firstBatch);
     }
 
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+    replayedBatchesInTransaction = 0;
+    replayedEventsInTransaction = 0;
+
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          replayBatch(firstBatch);
+          while (replayedBatchesInTransaction < maxBatchesInReplayTransaction
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean()) {
+            replayBatch(logStreamBatchReader.next());
+          }
 
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
@@ -220,6 +247,33 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  /**
+   * Restores the positions from before the transaction, and moves the reader back to its first
+   * batch to read the whole transaction again.
+   */
+  private void resetToTransactionStart(final Batch firstBatch) {
+    lastReadRecordPosition = transactionStartReadPosition;
+    lastReplayedEventPosition = transactionStartReplayedPosition;
+
+    if (replayedBatchesInTransaction <= 1) {
+      // reading the whole batch from the beginning again
+      firstBatch.head();
+    } else {
+      // the reader reuses the batch, so the first batch has to be read again from the log; as it
+      // was read successfully before, seeking to it can't fail
+      logStreamBatchReader.seekToNextBatch(
+          transactionStartReadPosition != StreamProcessor.UNSET_POSITION
+              ? transactionStartReadPosition
+              : snapshotPosition);
+      logStreamBatchReader.next();
+    }
+  }
+
+  private void replayBatch(final Batch batch) {
+    replayedBatchesInTransaction++;
+    batch.forEachRemaining(this::replayEvent);
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
@@ -270,6 +324,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    replayedEventsInTransaction++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -283,8 +338,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastReadRecordPosition = currentPosition;
 
     // we need to keep track of the last source event position to know where to start with
-    // processing after replay
-    batchSourceEventPosition = sourceEventPosition;
+    // processing after replay; events without a source pointer must not reset it
+    transactionSourceEventPosition = Math.max(transactionSourceEventPosition, sourceEventPosition);
 
     // records from other partitions should not influence the key generator of this partition
     if (Protocol.decodePartitionId(currentRecordKey) == partitionId) {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.stream.impl;
 
+import io.camunda.zeebe.db.StateAccessCounter;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.logstreams.impl.Loggers;
@@ -24,6 +25,7 @@ import io.camunda.zeebe.stream.api.StreamClock;
 import io.camunda.zeebe.stream.api.StreamClock.ControllableStreamClock.Modification;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StageableScheduledCommandCache;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
 import io.camunda.zeebe.stream.impl.metrics.ScheduledTaskMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
@@ -38,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
@@ -293,6 +296,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     streamProcessorContext.getLogStreamReader().close();
     logStream.removeRecordAvailableListener(this);
     replayStateMachine.close();
+    if (processingStateMachine != null) {
+      processingStateMachine.close();
+    }
     scheduledCommandCache.clear();
   }
 
@@ -365,6 +371,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   private long recoverFromSnapshot() {
     final TransactionContext transactionContext = zeebeDb.createContext();
     streamProcessorContext.transactionContext(transactionContext);
+    final Optional<StateAccessCounter> stateAccessCounter = zeebeDb.getStateAccessCounter();
+    streamProcessorContext.stateAccessCounter(stateAccessCounter.orElse(null));
     streamProcessorContext.keyGeneratorControls(
         new DbKeyGenerator(partitionId, zeebeDb, transactionContext));
 
@@ -559,6 +567,18 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     actor.run(processingStateMachine::tryToReadNextRecord);
   }
 
+  /**
+   * Returns the processing profile of this partition, if processing profiling is enabled. The
+   * profile is empty if profiling is disabled or no command was processed yet.
+   */
+  public ActorFuture<List<ProfileEntry>> getProcessingProfile() {
+    return actor.call(
+        () ->
+            processingStateMachine != null
+                ? processingStateMachine.getProcessingProfile()
+                : List.of());
+  }
+
   /**
    * Returns an immutable clock fixed at the time of the call, and with the current modification. We
    * do not return the instant source but really a fixed time since the instant source may not
@@ -147,6 +147,17 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxBatchesInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay batch limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplayTransaction()));
+    }
+    if (streamProcessorContext.enableAdaptiveBatchSizing()
+        && !streamProcessorContext.getAdaptiveBatchDurationTarget().isPositive()) {
+      throw new IllegalArgumentException(
+          "Adaptive batch duration target must be positive but was %s"
+              .formatted(streamProcessorContext.getAdaptiveBatchDurationTarget()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,11 +165,38 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    streamProcessorContext.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
   }
 
+  public StreamProcessorBuilder setEnableInlineProcessingStages(final boolean enabled) {
+    streamProcessorContext.setEnableInlineProcessingStages(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setEnableAdaptiveBatchSizing(final boolean enabled) {
+    streamProcessorContext.setEnableAdaptiveBatchSizing(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder adaptiveBatchDurationTarget(
+      final Duration adaptiveBatchDurationTarget) {
+    streamProcessorContext.adaptiveBatchDurationTarget(adaptiveBatchDurationTarget);
+    return this;
+  }
+
+  public StreamProcessorBuilder setEnableProcessingProfiling(final boolean enabled) {
+    streamProcessorContext.setEnableProcessingProfiling(enabled);
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
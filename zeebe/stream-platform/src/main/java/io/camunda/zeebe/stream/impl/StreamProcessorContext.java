@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.stream.impl;
 
+import io.camunda.zeebe.db.StateAccessCounter;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
@@ -30,6 +31,8 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
+  public static final Duration DEFAULT_ADAPTIVE_BATCH_DURATION_TARGET = Duration.ofMillis(10);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,7 +55,13 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enableInlineProcessingStages = false;
+  private boolean enableAdaptiveBatchSizing = false;
+  private boolean enableProcessingProfiling = false;
+  private StateAccessCounter stateAccessCounter;
+  private Duration adaptiveBatchDurationTarget = DEFAULT_ADAPTIVE_BATCH_DURATION_TARGET;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
@@ -223,11 +232,70 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
   }
 
+  public boolean enableInlineProcessingStages() {
+    return enableInlineProcessingStages;
+  }
+
+  public StreamProcessorContext setEnableInlineProcessingStages(final boolean enabled) {
+    enableInlineProcessingStages = enabled;
+    return this;
+  }
+
+  public boolean enableAdaptiveBatchSizing() {
+    return enableAdaptiveBatchSizing;
+  }
+
+  public StreamProcessorContext setEnableAdaptiveBatchSizing(final boolean enabled) {
+    enableAdaptiveBatchSizing = enabled;
+    return this;
+  }
+
+  public Duration getAdaptiveBatchDurationTarget() {
+    return adaptiveBatchDurationTarget;
+  }
+
+  public StreamProcessorContext adaptiveBatchDurationTarget(
+      final Duration adaptiveBatchDurationTarget) {
+    this.adaptiveBatchDurationTarget = adaptiveBatchDurationTarget;
+    return this;
+  }
+
+  public boolean enableProcessingProfiling() {
+    return enableProcessingProfiling;
+  }
+
+  public StreamProcessorContext setEnableProcessingProfiling(final boolean enabled) {
+    enableProcessingProfiling = enabled;
+    return this;
+  }
+
+  /**
+   * @return the counter of state accesses, or null if state accesses are not counted
+   */
+  public StateAccessCounter getStateAccessCounter() {
+    return stateAccessCounter;
+  }
+
+  public StreamProcessorContext stateAccessCounter(final StateAccessCounter stateAccessCounter) {
+    this.stateAccessCounter = stateAccessCounter;
+    return this;
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
@@ -10,9 +10,11 @@ package io.camunda.zeebe.stream.impl.metrics;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Enumeration;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
+import java.util.concurrent.TimeUnit;
 
 public class ProcessingMetrics {
 
@@ -54,6 +56,22 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help("The current maximum number of commands which are processed in one batch")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge BATCH_PROCESSING_TIME_PER_COMMAND =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_time_per_command")
+          .help("Average time spent in processing and committing a command (in seconds)")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -67,6 +85,8 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Gauge.Child batchProcessingLimit;
+  private final Gauge.Child batchProcessingTimePerCommand;
   private final Enumeration.Child errorHandlingPhase;
 
   public ProcessingMetrics(final String partitionIdLabel) {
@@ -74,6 +94,8 @@ public class ProcessingMetrics {
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
+    batchProcessingTimePerCommand = BATCH_PROCESSING_TIME_PER_COMMAND.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
   }
 
@@ -89,6 +111,14 @@ public class ProcessingMetrics {
     batchProcessingRetries.inc();
   }
 
+  public void setBatchLimit(final int batchLimit) {
+    batchProcessingLimit.set(batchLimit);
+  }
+
+  public void setTimePerCommand(final double timePerCommandNanos) {
+    batchProcessingTimePerCommand.set(timePerCommandNanos / TimeUnit.SECONDS.toNanos(1));
+  }
+
   public Timer startBatchProcessingPostCommitTasksTimer() {
     return batchProcessingPostCommitTasks.startTimer();
   }
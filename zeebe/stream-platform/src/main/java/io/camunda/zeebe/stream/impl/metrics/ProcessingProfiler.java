@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl.metrics;
+
+import io.camunda.zeebe.db.StateAccessCounter;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.prometheus.client.Counter;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiles the processing of commands per value type, intent and BPMN element type. For each
+ * processed command, it records the processing time, the state reads and writes, the written
+ * follow-up records, and the bytes allocated by the processing thread. The totals are exported as
+ * Prometheus counters, and can be queried as a {@link #snapshot()}.
+ *
+ * <p>The profiler is only created if profiling is enabled, and must only be used by the stream
+ * processor actor. State accesses are only counted if fine-grained access metrics are enabled for
+ * the state.
+ */
+public final class ProcessingProfiler {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String[] LABEL_NAMES = {"partition", "valueType", "intent", "elementType"};
+
+  private static final Counter COMMANDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_commands_total")
+          .help("Number of profiled commands")
+          .labelNames(LABEL_NAMES)
+          .register();
+  private static final Counter PROCESSING_TIME =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_processing_seconds_total")
+          .help("Time spent in processing the profiled commands (in seconds)")
+          .labelNames(LABEL_NAMES)
+          .register();
+  private static final Counter STATE_READS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_state_reads_total")
+          .help("Number of state reads while processing the profiled commands")
+          .labelNames(LABEL_NAMES)
+          .register();
+  private static final Counter STATE_WRITES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_state_writes_total")
+          .help("Number of state writes while processing the profiled commands")
+          .labelNames(LABEL_NAMES)
+          .register();
+  private static final Counter RECORDS_WRITTEN =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_records_written_total")
+          .help("Number of follow-up records written by the profiled commands")
+          .labelNames(LABEL_NAMES)
+          .register();
+  private static final Counter ALLOCATED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_profile_allocated_bytes_total")
+          .help("Bytes allocated while processing the profiled commands")
+          .labelNames(LABEL_NAMES)
+          .register();
+
+  private final String partitionIdLabel;
+  // null if state accesses are not counted
+  private final StateAccessCounter stateAccessCounter;
+  // null if the JVM cannot measure the allocated bytes per thread
+  private final com.sun.management.ThreadMXBean threadMXBean;
+  private final Map<ProfileKey, Profile> profiles = new HashMap<>();
+
+  private long startNanos;
+  private long startAllocatedBytes;
+  private long startReads;
+  private long startWrites;
+
+  public ProcessingProfiler(final int partitionId, final StateAccessCounter stateAccessCounter) {
+    partitionIdLabel = Integer.toString(partitionId);
+    this.stateAccessCounter = stateAccessCounter;
+    threadMXBean = allocationMeasuringThreadMXBean();
+  }
+
+  /** Marks the start of the processing of a command. */
+  public void startCommand() {
+    if (stateAccessCounter != null) {
+      startReads = stateAccessCounter.reads();
+      startWrites = stateAccessCounter.writes();
+    }
+    if (threadMXBean != null) {
+      startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+    startNanos = System.nanoTime();
+  }
+
+  /**
+   * Records the work done since the last {@link #startCommand()} for the given command.
+   *
+   * @param recordsWritten the number of follow-up records which the command produced
+   */
+  public void endCommand(final TypedRecord<?> command, final int recordsWritten) {
+    final long processingNanos = System.nanoTime() - startNanos;
+    final long allocatedBytes =
+        threadMXBean != null
+            ? threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes
+            : 0;
+    final long reads = stateAccessCounter != null ? stateAccessCounter.reads() - startReads : 0;
+    final long writes = stateAccessCounter != null ? stateAccessCounter.writes() - startWrites : 0;
+
+    final var key =
+        new ProfileKey(command.getValueType(), command.getIntent(), elementType(command));
+    profiles
+        .computeIfAbsent(key, this::newProfile)
+        .record(processingNanos, reads, writes, recordsWritten, allocatedBytes);
+  }
+
+  /**
+   * @return the totals recorded since the profiler was created, per value type, intent and element
+   *     type
+   */
+  public List<ProfileEntry> snapshot() {
+    return profiles.entrySet().stream()
+        .map(
+            entry -> {
+              final var key = entry.getKey();
+              final var profile = entry.getValue();
+              return new ProfileEntry(
+                  key.valueType().name(),
+                  key.intent().name(),
+                  key.elementType().name(),
+                  profile.commands,
+                  profile.processingNanos,
+                  profile.stateReads,
+                  profile.stateWrites,
+                  profile.recordsWritten,
+                  profile.allocatedBytes);
+            })
+        .toList();
+  }
+
+  private Profile newProfile(final ProfileKey key) {
+    final String[] labels = {
+      partitionIdLabel, key.valueType().name(), key.intent().name(), key.elementType().name()
+    };
+    return new Profile(
+        COMMANDS.labels(labels),
+        PROCESSING_TIME.labels(labels),
+        STATE_READS.labels(labels),
+        STATE_WRITES.labels(labels),
+        RECORDS_WRITTEN.labels(labels),
+        ALLOCATED_BYTES.labels(labels));
+  }
+
+  private static BpmnElementType elementType(final TypedRecord<?> command) {
+    if (command.getValue() instanceof final ProcessInstanceRecordValue processInstance
+        && processInstance.getBpmnElementType() != null) {
+      return processInstance.getBpmnElementType();
+    }
+    return BpmnElementType.UNSPECIFIED;
+  }
+
+  private static com.sun.management.ThreadMXBean allocationMeasuringThreadMXBean() {
+    if (ManagementFactory.getThreadMXBean() instanceof final com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()
+        && bean.isThreadAllocatedMemoryEnabled()) {
+      return bean;
+    }
+    return null;
+  }
+
+  /** The totals recorded for the commands of one value type, intent and element type. */
+  public record ProfileEntry(
+      String valueType,
+      String intent,
+      String elementType,
+      long commands,
+      long processingNanos,
+      long stateReads,
+      long stateWrites,
+      long recordsWritten,
+      long allocatedBytes) {}
+
+  private record ProfileKey(ValueType valueType, Intent intent, BpmnElementType elementType) {}
+
+  private static final class Profile {
+    private final Counter.Child commandsCounter;
+    private final Counter.Child processingTimeCounter;
+    private final Counter.Child stateReadsCounter;
+    private final Counter.Child stateWritesCounter;
+    private final Counter.Child recordsWrittenCounter;
+    private final Counter.Child allocatedBytesCounter;
+
+    private long commands;
+    private long processingNanos;
+    private long stateReads;
+    private long stateWrites;
+    private long recordsWritten;
+    private long allocatedBytes;
+
+    private Profile(
+        final Counter.Child commandsCounter,
+        final Counter.Child processingTimeCounter,
+        final Counter.Child stateReadsCounter,
+        final Counter.Child stateWritesCounter,
+        final Counter.Child recordsWrittenCounter,
+        final Counter.Child allocatedBytesCounter) {
+      this.commandsCounter = commandsCounter;
+      this.processingTimeCounter = processingTimeCounter;
+      this.stateReadsCounter = stateReadsCounter;
+      this.stateWritesCounter = stateWritesCounter;
+      this.recordsWrittenCounter = recordsWrittenCounter;
+      this.allocatedBytesCounter = allocatedBytesCounter;
+    }
+
+    private void record(
+        final long processingNanos,
+        final long stateReads,
+        final long stateWrites,
+        final long recordsWritten,
+        final long allocatedBytes) {
+      commands++;
+      this.processingNanos += processingNanos;
+      this.stateReads += stateReads;
+      this.stateWrites += stateWrites;
+      this.recordsWritten += recordsWritten;
+      this.allocatedBytes += allocatedBytes;
+
+      commandsCounter.inc();
+      processingTimeCounter.inc((double) processingNanos / TimeUnit.SECONDS.toNanos(1));
+      stateReadsCounter.inc(stateReads);
+      stateWritesCounter.inc(stateWrites);
+      recordsWrittenCounter.inc(recordsWritten);
+      allocatedBytesCounter.inc(allocatedBytes);
+    }
+  }
+}
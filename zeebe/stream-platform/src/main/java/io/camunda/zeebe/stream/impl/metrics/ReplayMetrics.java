@@ -41,6 +41,16 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge REPLAY_RATE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_events_per_second")
+          .help(
+              "Number of events the stream processor replays per second, measured over the last"
+                  + " replayed transaction")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private final String partitionIdLabel;
 
   public ReplayMetrics(final int partitionId) {
@@ -55,6 +65,12 @@ public final class ReplayMetrics {
     return REPLAY_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  public void observeReplayRate(final int events, final double durationInSeconds) {
+    if (durationInSeconds > 0) {
+      REPLAY_RATE.labels(partitionIdLabel).set(events / durationInSeconds);
+    }
+  }
+
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
@@ -58,6 +58,17 @@ public final class StreamProcessorMetrics {
           .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
           .register();
 
+  private static final String LABEL_NAME_STAGE = "stage";
+  private static final Histogram PROCESSING_STAGE_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_stage_duration")
+          .help(
+              "Time from starting a stage of processing a command until it completed, including"
+                  + " retries and waiting for the processing actor (in seconds)")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_STAGE)
+          .register();
+
   private static final Gauge STARTUP_RECOVERY_TIME =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -116,6 +127,10 @@ public final class StreamProcessorMetrics {
         .startTimer();
   }
 
+  public Histogram.Timer startStageDurationTimer(final ProcessingStage stage) {
+    return PROCESSING_STAGE_DURATION.labels(partitionIdLabel, stage.label).startTimer();
+  }
+
   /** We only process commands. */
   public void commandsProcessed() {
     event(LABEL_PROCESSED);
@@ -164,4 +179,18 @@ public final class StreamProcessorMetrics {
         setStreamProcessorFailed();
     }
   }
+
+  /** The stages of processing a command, in the order they are executed. */
+  public enum ProcessingStage {
+    PROCESS("process"),
+    WRITE("write"),
+    UPDATE_STATE("updateState"),
+    SIDE_EFFECTS("sideEffects");
+
+    private final String label;
+
+    ProcessingStage(final String label) {
+      this.label = label;
+    }
+  }
 }
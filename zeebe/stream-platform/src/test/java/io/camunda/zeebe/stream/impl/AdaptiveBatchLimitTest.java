@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveBatchLimitTest {
+
+  private static final int MAX_LIMIT = 100;
+  private static final long MICROSECOND = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AdaptiveBatchLimit batchLimit =
+      new AdaptiveBatchLimit(MAX_LIMIT, Duration.ofMillis(10));
+
+  @Test
+  void shouldStartWithMaxLimit() {
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  void shouldKeepMaxLimitUnderHighLoad() {
+    // when - 100µs per command fit 100 commands into the budget of 10ms
+    batchLimit.onProcessed(10, 900 * MICROSECOND);
+    batchLimit.onCommitted(100 * MICROSECOND, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT);
+    assertThat(batchLimit.nanosPerCommand()).isEqualTo(100 * MICROSECOND);
+  }
+
+  @Test
+  void shouldReduceLimitUnderLowLoad() {
+    // when - 100µs per command fit 10 commands into the budget of 1ms
+    batchLimit.onProcessed(10, 900 * MICROSECOND);
+    batchLimit.onCommitted(100 * MICROSECOND, false);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReduceLimitForSlowCommands() {
+    // when
+    batchLimit.onProcessed(2, 10 * MILLISECOND);
+    batchLimit.onCommitted(0, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotReduceLimitBelowOne() {
+    // when
+    batchLimit.onProcessed(1, 50 * MILLISECOND);
+    batchLimit.onCommitted(0, true);
+
+    // then
+    assertThat(batchLimit.limit()).isOne();
+  }
+
+  @Test
+  void shouldSmoothTimePerCommand() {
+    // given
+    batchLimit.onProcessed(1, MILLISECOND);
+    batchLimit.onCommitted(0, true);
+
+    // when
+    batchLimit.onProcessed(1, 6 * MILLISECOND);
+    batchLimit.onCommitted(0, true);
+
+    // then
+    assertThat(batchLimit.nanosPerCommand()).isEqualTo(2 * MILLISECOND);
+    assertThat(batchLimit.limit()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldHalveLimitOnceOnBackpressure() {
+    // when
+    batchLimit.onBackpressure();
+    batchLimit.onBackpressure();
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT / 2);
+  }
+
+  @Test
+  void shouldRecoverGraduallyAfterBackpressure() {
+    // given
+    batchLimit.onBackpressure();
+
+    // when
+    batchLimit.onProcessed(1, MICROSECOND);
+    batchLimit.onCommitted(0, true);
+    batchLimit.onProcessed(1, MICROSECOND);
+    batchLimit.onCommitted(0, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT / 2 + 2);
+  }
+
+  @Test
+  void shouldIgnoreCommitWithoutProcessedCommands() {
+    // when
+    batchLimit.onCommitted(50 * MILLISECOND, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT);
+    assertThat(batchLimit.nanosPerCommand()).isZero();
+  }
+}
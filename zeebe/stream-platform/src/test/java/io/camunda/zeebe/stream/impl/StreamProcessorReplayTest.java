@@ -30,6 +30,8 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -390,4 +392,68 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    writeBatchesOfEvents(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldRetryReplayOfMultipleBatchesInOneTransaction() {
+    // given
+    writeBatchesOfEvents(3);
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var replayedEvents = new AtomicInteger();
+    doAnswer(
+            invocation -> {
+              if (replayedEvents.incrementAndGet() == 2) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then -- the whole transaction is replayed again
+    verify(recordProcessor, TIMEOUT.times(5)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+  }
+
+  private void writeBatchesOfEvents(final int count) {
+    final var records = new RecordToWrite[count * 2];
+    for (int i = 0; i < count; i++) {
+      records[2 * i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1));
+      records[2 * i + 1] =
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .causedBy(2 * i);
+    }
+    streamPlatform.writeBatch(records);
+  }
 }
@@ -660,6 +660,64 @@ public final class StreamProcessorTest {
     verify(mockPostCommitTask, TIMEOUT.atLeast(5)).flush();
   }
 
+  @Test
+  public void shouldProcessWithInlineProcessingStages() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(true);
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendRecordReturnEither(
+        1,
+        Records.processInstance(1),
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .intent(ACTIVATE_ELEMENT)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason(""));
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultMockedRecordProcessor.process(any(), any())).thenReturn(resultBuilder.build());
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.setEnableInlineProcessingStages(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(mockPostCommitTask, TIMEOUT).flush();
+    await("Last written position should be updated")
+        .untilAsserted(
+            () -> assertThat(streamPlatform.getLogStream().getLastWrittenPosition()).isEqualTo(2));
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(1));
+  }
+
+  @Test
+  public void shouldRetryFailedInlineProcessingStage() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(false).thenReturn(true);
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultMockedRecordProcessor.process(any(), any())).thenReturn(resultBuilder.build());
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.setEnableInlineProcessingStages(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(mockPostCommitTask, TIMEOUT.times(2)).flush();
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT).onProcessed(any());
+  }
+
   @Test
   public void shouldNotRepeatPostCommitOnException() throws Exception {
     // given
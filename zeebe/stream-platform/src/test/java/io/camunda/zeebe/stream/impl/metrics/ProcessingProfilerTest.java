@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.StateAccessCounter;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingProfiler.ProfileEntry;
+import org.junit.jupiter.api.Test;
+
+final class ProcessingProfilerTest {
+
+  private static final int PARTITION_ID = 1;
+
+  @Test
+  void shouldRecordProfilePerValueTypeIntentAndElementType() {
+    // given
+    final var profiler = new ProcessingProfiler(PARTITION_ID, null);
+    final var activateTask =
+        command(
+            ValueType.PROCESS_INSTANCE,
+            ProcessInstanceIntent.ACTIVATE_ELEMENT,
+            new ProcessInstanceRecord().setBpmnElementType(BpmnElementType.SERVICE_TASK));
+    final var completeJob = command(ValueType.JOB, JobIntent.COMPLETE, new JobRecord());
+
+    // when
+    profile(profiler, activateTask, 2);
+    profile(profiler, activateTask, 3);
+    profile(profiler, completeJob, 1);
+
+    // then
+    assertThat(profiler.snapshot())
+        .extracting(
+            ProfileEntry::valueType,
+            ProfileEntry::intent,
+            ProfileEntry::elementType,
+            ProfileEntry::commands,
+            ProfileEntry::recordsWritten)
+        .containsExactlyInAnyOrder(
+            tuple("PROCESS_INSTANCE", "ACTIVATE_ELEMENT", "SERVICE_TASK", 2L, 5L),
+            tuple("JOB", "COMPLETE", "UNSPECIFIED", 1L, 1L));
+  }
+
+  @Test
+  void shouldCountStateAccessesOfCommand() {
+    // given
+    final var counter = new StateAccessCounter();
+    final var profiler = new ProcessingProfiler(PARTITION_ID, counter);
+    final var completeJob = command(ValueType.JOB, JobIntent.COMPLETE, new JobRecord());
+    counter.countRead();
+
+    // when
+    profiler.startCommand();
+    counter.countRead();
+    counter.countRead();
+    counter.countWrite();
+    profiler.endCommand(completeJob, 0);
+
+    // then
+    assertThat(profiler.snapshot())
+        .singleElement()
+        .satisfies(
+            entry -> {
+              assertThat(entry.stateReads()).isEqualTo(2);
+              assertThat(entry.stateWrites()).isOne();
+              assertThat(entry.processingNanos()).isNotNegative();
+            });
+  }
+
+  @Test
+  void shouldNotCountStateAccessesWithoutCounter() {
+    // given
+    final var profiler = new ProcessingProfiler(PARTITION_ID, null);
+    final var completeJob = command(ValueType.JOB, JobIntent.COMPLETE, new JobRecord());
+
+    // when
+    profile(profiler, completeJob, 0);
+
+    // then
+    assertThat(profiler.snapshot())
+        .singleElement()
+        .satisfies(
+            entry -> {
+              assertThat(entry.stateReads()).isZero();
+              assertThat(entry.stateWrites()).isZero();
+            });
+  }
+
+  private static void profile(
+      final ProcessingProfiler profiler, final TypedRecord<?> command, final int recordsWritten) {
+    profiler.startCommand();
+    profiler.endCommand(command, recordsWritten);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static TypedRecord<UnifiedRecordValue> command(
+      final ValueType valueType, final Intent intent, final UnifiedRecordValue value) {
+    final TypedRecord<UnifiedRecordValue> command = mock(TypedRecord.class);
+    when(command.getValueType()).thenReturn(valueType);
+    when(command.getIntent()).thenReturn(intent);
+    when(command.getValue()).thenReturn(value);
+    return command;
+  }
+}
@@ -25,4 +25,15 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   ActorFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Returns whether the consumer can currently accept a payload without blocking, e.g. because the
+   * underlying transport to the client applies back pressure. Consumers which are not ready are
+   * only pushed to as a last resort, and are not advertised to the servers as available.
+   *
+   * @return true if the consumer can accept a payload, false otherwise
+   */
+  default boolean isReady() {
+    return true;
+  }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures how payloads pushed to the same remote stream are batched together. Payloads are
+ * collected until either {@code maxBatchSize} payloads are pending, the batch would grow beyond
+ * {@code maxBatchBytes}, or the first pending payload waited for {@code maxBatchDelay}, at which
+ * point they are sent with a single request.
+ *
+ * <p>Receivers must support batched pushes; batching should therefore only be enabled once all
+ * clients were updated.
+ *
+ * @param maxBatchSize the maximum number of payloads per request; 1 disables batching
+ * @param maxBatchDelay the maximum time a payload waits for other payloads to be batched with
+ * @param maxBatchBytes the maximum encoded size of a batch request; must be below the maximum
+ *     message size of the transport, such that a batch can always be sent
+ */
+public record RemoteStreamBatchSettings(
+    int maxBatchSize, Duration maxBatchDelay, int maxBatchBytes) {
+
+  public RemoteStreamBatchSettings {
+    Objects.requireNonNull(maxBatchDelay, "must specify a maximum batch delay");
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected max batch size to be at least 1, but was %d".formatted(maxBatchSize));
+    }
+
+    if (maxBatchDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected max batch delay to be non-negative, but was %s".formatted(maxBatchDelay));
+    }
+
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException(
+          "Expected max batch bytes to be at least 1, but was %d".formatted(maxBatchBytes));
+    }
+  }
+
+  public boolean isEnabled() {
+    return maxBatchSize > 1;
+  }
+
+  public static RemoteStreamBatchSettings disabled() {
+    return new RemoteStreamBatchSettings(1, Duration.ZERO, Integer.MAX_VALUE);
+  }
+}
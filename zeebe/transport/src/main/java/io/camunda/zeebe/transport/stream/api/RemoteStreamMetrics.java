@@ -30,6 +30,13 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when multiple payloads are pushed to the same stream with a single request
+   *
+   * @param size the number of payloads in the batch
+   */
+  default void batchPushed(final int size) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -26,6 +26,7 @@ public interface RemoteStreamer<M, P extends BufferWriter> {
    * Returns a valid stream for the given streamType, or {@link Optional#empty()} if there is none.
    *
    * <p>The predicate should return false to exclude streams from the list of possible streams.
+   * Streams whose consumers all advertised that they cannot accept payloads are excluded as well.
    *
    * @param streamType the job type to look for
    * @param filter a filter to include/exclude eligible job streams based on their properties
@@ -19,6 +19,9 @@ import org.agrona.collections.Int2ObjectHashMap;
 /** Represents a stream which aggregates multiple logically equivalent client streams. * */
 final class AggregatedClientStream<M extends BufferWriter> {
 
+  /** Marks that the credits of this stream were not yet advertised to the servers. */
+  static final int UNKNOWN_CREDITS = -1;
+
   private final UUID streamId;
   private final LogicalId<M> logicalId;
   private final Set<MemberId> liveConnections = new HashSet<>();
@@ -27,6 +30,7 @@ final class AggregatedClientStream<M extends BufferWriter> {
 
   private boolean isOpened;
   private int nextLocalId;
+  private int advertisedCredits = UNKNOWN_CREDITS;
 
   AggregatedClientStream(final UUID streamId, final LogicalId<M> logicalId) {
     this(streamId, logicalId, ClientStreamMetrics.noop());
@@ -66,6 +70,8 @@ final class AggregatedClientStream<M extends BufferWriter> {
    */
   void add(final MemberId serverId) {
     liveConnections.add(serverId);
+    // the new server doesn't know the credits yet, so make sure they are advertised again
+    advertisedCredits = UNKNOWN_CREDITS;
   }
 
   /**
@@ -101,6 +107,30 @@ final class AggregatedClientStream<M extends BufferWriter> {
     metrics.observeAggregatedClientCount(clientStreams.size());
   }
 
+  /**
+   * Returns the credits of this stream, i.e. the number of client streams which can currently
+   * accept a payload.
+   */
+  int credits() {
+    int credits = 0;
+    for (final var clientStream : clientStreams.values()) {
+      if (clientStream.clientStreamConsumer().isReady()) {
+        credits++;
+      }
+    }
+
+    return credits;
+  }
+
+  /** Returns the credits last advertised to the servers, or {@link #UNKNOWN_CREDITS} */
+  int advertisedCredits() {
+    return advertisedCredits;
+  }
+
+  void advertisedCredits(final int credits) {
+    advertisedCredits = credits;
+  }
+
   /** returns true if there are no client streams for this stream * */
   boolean isEmpty() {
     return clientStreams.isEmpty();
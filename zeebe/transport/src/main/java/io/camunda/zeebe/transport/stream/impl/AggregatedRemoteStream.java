@@ -11,24 +11,73 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 /**
- * Keep tracks of {@link StreamConsumer}s which are logically similar.
+ * Keep tracks of {@link StreamConsumer}s which are logically similar, and of the credits they
+ * advertised, i.e. how many payloads they can currently accept.
  *
  * @param <M> type of the properties
  */
-record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>> streamConsumers)
+record AggregatedRemoteStream<M>(
+    LogicalId<M> logicalId,
+    List<StreamConsumer<M>> streamConsumers,
+    Map<StreamId, Integer> streamCredits)
     implements RemoteStreamInfo<M> {
 
+  /**
+   * Credits of a consumer which never advertised any, e.g. because its client does not support
+   * flow control. Such consumers are assumed to be able to accept payloads.
+   */
+  static final int UNKNOWN_CREDITS = -1;
+
+  AggregatedRemoteStream(
+      final LogicalId<M> logicalId, final List<StreamConsumer<M>> streamConsumers) {
+    this(logicalId, streamConsumers, new ConcurrentHashMap<>());
+  }
+
   void addConsumer(final StreamConsumer<M> consumer) {
     streamConsumers.add(consumer);
   }
 
   void removeConsumer(final StreamConsumer<M> consumer) {
     streamConsumers.remove(consumer);
+    streamCredits.remove(consumer.id());
+  }
+
+  void updateCredits(final StreamId id, final int credits) {
+    streamCredits.put(id, credits);
+  }
+
+  /** Returns the credits last advertised by the given consumer, or {@link #UNKNOWN_CREDITS} */
+  int credits(final StreamId id) {
+    return streamCredits.getOrDefault(id, UNKNOWN_CREDITS);
+  }
+
+  /**
+   * Returns true if the given consumer may accept another payload, i.e. it advertised more credits
+   * than there are payloads pushed to it which were not acknowledged yet. Consumers which never
+   * advertised credits always may.
+   */
+  boolean hasCredits(final StreamId id, final int inFlightPushes) {
+    final var credits = credits(id);
+    return credits == UNKNOWN_CREDITS || credits - inFlightPushes > 0;
+  }
+
+  /** Returns true if any consumer may currently accept another payload. */
+  boolean hasCredits(final ToIntFunction<StreamId> inFlightPushes) {
+    for (final var consumer : streamConsumers) {
+      if (hasCredits(consumer.id(), inFlightPushes.applyAsInt(consumer.id()))) {
+        return true;
+      }
+    }
+
+    return false;
   }
 
   @Override
@@ -11,12 +11,15 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.MutableInteger;
 
 final class ClientStreamApiHandler {
   private final ClientStreamManager<?> clientStreamManager;
@@ -38,6 +41,44 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Pushes every payload of the batch as if it was received with its own {@link
+   * PushStreamRequest}. The response lists only the payloads which could not be pushed, and is
+   * completed once all payloads were handled.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushStreamBatchRequest request) {
+    final CompletableFuture<StreamResponse> responseFuture = new CompletableFuture<>();
+    final var payloads = request.payloads();
+    final var response = new PushStreamBatchResponse();
+    if (payloads.isEmpty()) {
+      responseFuture.complete(response);
+      return responseFuture;
+    }
+
+    // all callbacks are executed on the same executor, so no synchronization is required
+    final var remaining = new MutableInteger(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      final var index = i;
+      final var pushRequest =
+          new PushStreamRequest().streamId(request.streamId()).payload(payloads.get(i));
+      final ActorFuture<Void> payloadPushed = new CompletableActorFuture<>();
+      clientStreamManager.onPayloadReceived(pushRequest, payloadPushed);
+      payloadPushed.onComplete(
+          (ok, error) -> {
+            if (error != null) {
+              response.addFailure(index, toErrorResponse(error));
+            }
+
+            if (remaining.decrementAndGet() == 0) {
+              responseFuture.complete(response);
+            }
+          },
+          executor);
+    }
+
+    return responseFuture;
+  }
+
   byte[] handleRestartRequest(final MemberId sender, final byte[] ignored) {
     clientStreamManager.onServerRemoved(MemberId.from(sender.id()));
     clientStreamManager.onServerJoined(MemberId.from(sender.id()));
@@ -51,12 +92,16 @@ final class ClientStreamApiHandler {
       return;
     }
 
+    response.complete(toErrorResponse(error));
+  }
+
+  private ErrorResponse toErrorResponse(final Throwable error) {
     final var errorResponse =
         new ErrorResponse().code(ErrorResponse.mapErrorToCode(error)).message(error.getMessage());
     for (final var detail : error.getSuppressed()) {
       errorResponse.addDetail(ErrorResponse.mapErrorToCode(detail), detail.getMessage());
     }
 
-    response.complete(errorResponse);
+    return errorResponse;
   }
 }
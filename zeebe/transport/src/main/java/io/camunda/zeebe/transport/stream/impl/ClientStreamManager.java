@@ -81,6 +81,24 @@ final class ClientStreamManager<M extends BufferWriter> {
         });
   }
 
+  /**
+   * Advertises the credits of every aggregated stream to the servers it is registered with, if
+   * they changed since they were last advertised. This lets the servers push only to gateways which
+   * have clients ready to receive payloads.
+   */
+  void publishCredits() {
+    registry.list().forEach(stream -> publishCredits(stream, false));
+  }
+
+  /**
+   * Advertises the credits of every aggregated stream to the servers it is registered with, even
+   * if they did not change. Credits are sent without acknowledgement, so this bounds how long a
+   * server keeps stale credits after an update was lost.
+   */
+  void refreshCredits() {
+    registry.list().forEach(stream -> publishCredits(stream, true));
+  }
+
   void close() {
     registry.clear();
     requestManager.removeAll(servers);
@@ -103,6 +121,14 @@ final class ClientStreamManager<M extends BufferWriter> {
     final var clientStream = registry.get(streamId);
     clientStream.ifPresentOrElse(
         stream -> {
+          // a failed push usually means clients became blocked, so advertise it right away
+          responseFuture.onComplete(
+              (ok, error) -> {
+                if (error != null) {
+                  publishCredits(stream, false);
+                }
+              });
+
           try {
             streamPusher.push(stream, payload, responseFuture);
           } catch (final Exception e) {
@@ -121,4 +147,14 @@ final class ClientStreamManager<M extends BufferWriter> {
                       .formatted(streamId)));
         });
   }
+
+  private void publishCredits(final AggregatedClientStream<M> stream, final boolean force) {
+    final var credits = stream.credits();
+    if ((!force && credits == stream.advertisedCredits()) || stream.liveConnections().isEmpty()) {
+      return;
+    }
+
+    stream.advertisedCredits(credits);
+    requestManager.updateCredits(stream.streamId(), credits, stream.liveConnections());
+  }
 }
@@ -70,8 +70,18 @@ final class ClientStreamPusher {
       return;
     }
 
-    final LinkedList<ClientStreamImpl<?>> targets = new LinkedList<>(streams);
-    Collections.shuffle(targets);
+    final List<ClientStreamImpl<?>> shuffled = new ArrayList<>(streams);
+    Collections.shuffle(shuffled);
+
+    // try clients which can accept the payload right away first, blocked ones only as last resort
+    final LinkedList<ClientStreamImpl<?>> targets = new LinkedList<>();
+    for (final var target : shuffled) {
+      if (target.clientStreamConsumer().isReady()) {
+        targets.addFirst(target);
+      } else {
+        targets.addLast(target);
+      }
+    }
 
     tryPush(stream.streamId(), targets, payload, future, new ArrayList<>());
   }
@@ -19,6 +19,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamCreditsRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.Either;
@@ -169,6 +170,21 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         });
   }
 
+  /**
+   * Advertises the credits of the given stream to the given servers. The update is sent without
+   * waiting for an acknowledgement; a lost update is corrected once the credits are refreshed, see
+   * {@link ClientStreamManager#refreshCredits()}.
+   */
+  void updateCredits(final UUID streamId, final int credits, final Collection<MemberId> servers) {
+    final var request = new StreamCreditsRequest().streamId(streamId).credits(credits);
+    final var payload = BufferUtil.bufferAsArray(request);
+
+    servers.forEach(
+        serverId ->
+            communicationService.unicast(
+                StreamTopics.CREDITS.topic(), payload, Function.identity(), serverId, true));
+  }
+
   private void add(final ClientStreamRegistration<M> registration) {
     if (registration.state() == State.ADDING || !registration.transitionToAdding()) {
       return;
@@ -22,6 +22,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Function;
@@ -35,6 +36,11 @@ import org.agrona.DirectBuffer;
  */
 public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     implements ClientStreamer<M>, ClientStreamService<M> {
+  // readiness of the clients is polled, as consumers don't notify when they become ready again
+  private static final Duration CREDITS_PUBLISH_INTERVAL = Duration.ofMillis(100);
+  // credits are only published when they change, and may get lost, so they are re-sent regularly
+  private static final Duration CREDITS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
   private final ClientStreamManager<M> clientStreamManager;
   private final ClusterCommunicationService communicationService;
   private final ClientStreamRegistry<M> registry;
@@ -62,12 +68,22 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         BufferUtil::bufferAsArray,
         actor::run);
 
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
+
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
         Function.identity(),
         apiHandler::handleRestartRequest,
         Function.identity(),
         actor::run);
+
+    actor.runAtFixedRate(CREDITS_PUBLISH_INTERVAL, clientStreamManager::publishCredits);
+    actor.runAtFixedRate(CREDITS_REFRESH_INTERVAL, clientStreamManager::refreshCredits);
   }
 
   @Override
@@ -14,11 +14,17 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Pushes payloads to one of the consumers of an aggregated stream. Consumers which advertised that
+ * they cannot accept payloads are skipped; among the others, the least loaded consumer is picked,
+ * i.e. the one with the fewest unacknowledged pushes per advertised credit. Ties are broken
+ * randomly.
+ */
 public final class RemoteStreamImpl<M, P extends BufferWriter> implements RemoteStream<M, P> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStreamImpl.class);
@@ -46,7 +52,7 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     if (initialConsumer == null) {
       errorHandler.handleError(
           new StreamExhaustedException(
-              "Failed to push to stream %s, all consumers were removed since it was picked"
+              "Failed to push to stream %s, no consumer has credits since it was picked"
                   .formatted(stream.logicalId())),
           payload);
       return;
@@ -57,24 +63,45 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
   }
 
   private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+    // copy, since the stream consumers list can be concurrently modified while we pick one
+    final var consumers = new ArrayList<>(stream.streamConsumers());
+    final var size = consumers.size();
+    if (size == 0) {
+      return null;
+    }
+
+    // start at a random offset so that ties are broken randomly
+    final var offset = ThreadLocalRandom.current().nextInt(size);
+    StreamConsumer<M> picked = null;
+    double pickedLoad = Double.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      final var consumer = consumers.get((offset + i) % size);
+      if (!hasCredits(consumer)) {
+        continue;
+      }
+
+      final var load = load(consumer);
+      if (load < pickedLoad) {
+        picked = consumer;
+        pickedLoad = load;
       }
     }
 
-    return null;
+    return picked;
+  }
+
+  private boolean hasCredits(final StreamConsumer<M> consumer) {
+    return stream.hasCredits(consumer.id(), streamer.inFlightPushes(consumer.id()));
+  }
+
+  /**
+   * Returns the number of unacknowledged pushes per credit. Consumers which never advertised
+   * credits are assumed to have a single one.
+   */
+  private double load(final StreamConsumer<M> consumer) {
+    final var credits = stream.credits(consumer.id());
+    final var inFlight = streamer.inFlightPushes(consumer.id());
+    return credits > 0 ? (double) inFlight / credits : inFlight;
   }
 
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
@@ -97,23 +124,33 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       consumers.remove(initialConsumer);
+      consumers.removeIf(consumer -> !hasCredits(consumer));
       Collections.shuffle(consumers);
-      final var iterator = consumers.iterator();
-      retry(error, data, iterator);
+      retry(error, data, consumers);
     }
 
-    /** Called during future retries */
+    /**
+     * Called during future retries; retries with the least loaded of the remaining consumers, as
+     * the load may have changed since the previous attempt.
+     */
     private void retry(
-        final Throwable throwable, final P payload, final Iterator<StreamConsumer<M>> iterator) {
-      if (!iterator.hasNext()) {
+        final Throwable throwable, final P payload, final List<StreamConsumer<M>> remaining) {
+      if (remaining.isEmpty()) {
         onConsumersExhausted(throwable, payload);
         return;
       }
 
-      final var client = iterator.next();
+      var next = 0;
+      for (int i = 1; i < remaining.size(); i++) {
+        if (load(remaining.get(i)) < load(remaining.get(next))) {
+          next = i;
+        }
+      }
+
+      final var client = remaining.remove(next);
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(payload, (error, data) -> retry(error, data, remaining), client.id());
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
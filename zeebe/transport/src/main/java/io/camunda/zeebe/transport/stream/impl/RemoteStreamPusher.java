@@ -8,19 +8,31 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchSettings;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +41,15 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>If batching is enabled, payloads pushed to the same stream are collected and sent with a
+ * single request, once either the maximum batch size is reached or the first payload of the batch
+ * waited for the maximum batch delay. A batch is also sent before it would grow beyond the maximum
+ * batch bytes, such that it stays below the maximum message size of the transport. Errors are still
+ * reported per payload.
+ *
+ * <p>The number of pushes which were not acknowledged yet is tracked per stream, such that callers
+ * can prefer the least loaded streams.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
@@ -38,15 +59,41 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
   private final ThrottledLogger pushWarnLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
+  private final Map<StreamId, PendingBatch<P>> pendingBatches = new HashMap<>();
+
+  // accessed by the callers of pushAsync as well, so it must be thread-safe
+  private final ConcurrentMap<StreamId, Integer> inFlightPushes = new ConcurrentHashMap<>();
+
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final ConcurrencyControl scheduler;
+  private final RemoteStreamBatchSettings batchSettings;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(transport, executor, null, metrics, RemoteStreamBatchSettings.disabled());
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final ConcurrencyControl executor,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchSettings batchSettings) {
+    this(transport, executor, executor, metrics, batchSettings);
+  }
+
+  private RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final ConcurrencyControl scheduler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchSettings batchSettings) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.batchSettings = Objects.requireNonNull(batchSettings, "must specify batch settings");
+    this.scheduler = scheduler;
   }
 
   public void pushAsync(
@@ -55,13 +102,47 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
-      executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+      final var instrumentedErrorHandler = instrumentingErrorHandler(errorHandler, streamId);
+      inFlightPushes.merge(streamId, 1, Integer::sum);
+      try {
+        if (batchSettings.isEnabled()) {
+          executor.execute(() -> addToBatch(payload, instrumentedErrorHandler, streamId));
+        } else {
+          executor.execute(() -> push(payload, instrumentedErrorHandler, streamId));
+        }
+      } catch (final Exception e) {
+        onPushCompleted(streamId);
+        throw e;
+      }
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
     }
   }
 
+  /**
+   * Returns the number of payloads pushed to the given stream which were not acknowledged yet,
+   * including the ones still waiting to be batched.
+   */
+  int inFlightPushes(final StreamId streamId) {
+    return inFlightPushes.getOrDefault(streamId, 0);
+  }
+
+  /**
+   * Reports all payloads which are still waiting to be batched as failed. Must be called from the
+   * executor's context, e.g. when the owning actor is closing.
+   */
+  void close() {
+    final var batches = new ArrayList<>(pendingBatches.values());
+    pendingBatches.clear();
+
+    final var error =
+        new IllegalStateException("Failed to push payload, the stream pusher was closed");
+    for (final var batch : batches) {
+      batch.cancelTimer();
+      batch.entries().forEach(entry -> entry.errorHandler().handleError(error, entry.payload()));
+    }
+  }
+
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
       final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     return (error, payload) -> {
@@ -69,6 +150,7 @@ final class RemoteStreamPusher<P extends BufferWriter> {
         return;
       }
 
+      onPushCompleted(streamId);
       if (error instanceof final StreamResponseException e) {
         logResponseError(streamId, payload, e);
         e.details().forEach(d -> metrics.pushTryFailed(d.code()));
@@ -110,7 +192,8 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, streamId, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
@@ -120,6 +203,7 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
       final byte[] responseBuffer,
       final Throwable error) {
     if (error != null) {
@@ -131,7 +215,111 @@ final class RemoteStreamPusher<P extends BufferWriter> {
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
         .ifRightOrLeft(
-            ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
+            ok -> onPushSucceeded(streamId),
+            failure -> errorHandler.handleError(failure, payload));
+  }
+
+  private void onPushSucceeded(final StreamId streamId) {
+    onPushCompleted(streamId);
+    metrics.pushSucceeded();
+  }
+
+  private void onPushCompleted(final StreamId streamId) {
+    inFlightPushes.computeIfPresent(streamId, (id, count) -> count > 1 ? count - 1 : null);
+  }
+
+  private void addToBatch(
+      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    final var payloadLength = PushStreamBatchRequest.payloadLength(payload);
+    final var pendingBatch = pendingBatches.get(streamId);
+    if (pendingBatch != null
+        && pendingBatch.length + payloadLength > batchSettings.maxBatchBytes()) {
+      flush(streamId, pendingBatch);
+    }
+
+    final var batch = pendingBatches.computeIfAbsent(streamId, ignored -> new PendingBatch<>());
+    batch.entries().add(new BatchEntry<>(payload, errorHandler));
+    batch.length += payloadLength;
+
+    if (batch.entries().size() >= batchSettings.maxBatchSize()
+        || batch.length >= batchSettings.maxBatchBytes()) {
+      flush(streamId, batch);
+    } else if (batch.timer == null) {
+      batch.timer = scheduler.schedule(batchSettings.maxBatchDelay(), () -> flush(streamId, batch));
+    }
+  }
+
+  private void flush(final StreamId streamId, final PendingBatch<P> batch) {
+    // the batch may have been flushed already, e.g. when it was full before its delay expired
+    if (!pendingBatches.remove(streamId, batch)) {
+      return;
+    }
+
+    batch.cancelTimer();
+    final var entries = batch.entries();
+    if (entries.size() == 1) {
+      final var entry = entries.get(0);
+      push(entry.payload(), entry.errorHandler(), streamId);
+      return;
+    }
+
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    entries.forEach(entry -> request.addPayload(entry.payload()));
+    try {
+      transport
+          .send(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> onBatchPush(streamId, entries, response, error), executor);
+      metrics.batchPushed(entries.size());
+      LOG.trace("Pushed batch of {} payloads to stream {}", entries.size(), streamId);
+    } catch (final Exception e) {
+      entries.forEach(entry -> entry.errorHandler().handleError(e, entry.payload()));
+    }
+  }
+
+  private void onBatchPush(
+      final StreamId streamId,
+      final List<BatchEntry<P>> entries,
+      final byte[] responseBuffer,
+      final Throwable error) {
+    if (error != null) {
+      entries.forEach(entry -> entry.errorHandler().handleError(error, entry.payload()));
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
+        .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(
+            response -> onBatchPushed(streamId, entries, response),
+            failure ->
+                entries.forEach(
+                    entry -> entry.errorHandler().handleError(failure, entry.payload())));
+  }
+
+  private void onBatchPushed(
+      final StreamId streamId,
+      final List<BatchEntry<P>> entries,
+      final PushStreamBatchResponse response) {
+    final var failed = new BitSet(entries.size());
+    for (final var failure : response.failures()) {
+      final var index = failure.index();
+      if (index < 0 || index >= entries.size() || failed.get(index)) {
+        pushErrorLogger.error(
+            "Received unexpected failure for payload {} of a batch of {} payloads",
+            index,
+            entries.size());
+        continue;
+      }
+
+      final var entry = entries.get(index);
+      failed.set(index);
+      entry.errorHandler().handleError(failure.error().asException(), entry.payload());
+    }
+
+    for (int i = failed.nextClearBit(0); i < entries.size(); i = failed.nextClearBit(i + 1)) {
+      onPushSucceeded(streamId);
+    }
   }
 
   /**
@@ -153,5 +341,38 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch of payloads out to the given receiver. Only called if batching is
+     * enabled.
+     *
+     * @param request the request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> send(final PushStreamBatchRequest request, final MemberId receiver)
+        throws Exception;
+  }
+
+  private record BatchEntry<P>(P payload, RemoteStreamErrorHandler<P> errorHandler) {}
+
+  private static final class PendingBatch<P> {
+    private final List<BatchEntry<P>> entries = new ArrayList<>();
+    private ScheduledTimer timer;
+    // the encoded length of the batch request with all entries
+    private int length = PushStreamBatchRequest.emptyLength();
+
+    private List<BatchEntry<P>> entries() {
+      return entries;
+    }
+
+    private void cancelTimer() {
+      if (timer != null) {
+        timer.cancel();
+        timer = null;
+      }
+    }
   }
 }
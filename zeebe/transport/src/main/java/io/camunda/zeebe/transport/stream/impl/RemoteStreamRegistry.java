@@ -115,6 +115,26 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
     }
   }
 
+  /**
+   * Updates the credits advertised by the given stream, i.e. how many payloads it can currently
+   * accept. Updates for unknown streams are ignored, e.g. if they were removed in the meantime.
+   *
+   * @param streamId id of the stream
+   * @param receiver The id of the node that receives data from the stream
+   * @param credits the number of payloads the stream can currently accept
+   */
+  public void updateCredits(final UUID streamId, final MemberId receiver, final int credits) {
+    final var consumer = idToConsumer.get(new StreamId(streamId, receiver));
+    if (consumer == null) {
+      return;
+    }
+
+    final var aggregatedStream = logicalIdToConsumers.get(consumer.logicalId());
+    if (aggregatedStream != null) {
+      aggregatedStream.updateCredits(consumer.id(), credits);
+    }
+  }
+
   /**
    * Removes all stream from the given receiver
    *
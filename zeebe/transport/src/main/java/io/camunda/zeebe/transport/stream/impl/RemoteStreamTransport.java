@@ -29,7 +29,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Server-side actor which takes care of the network communication between the remote stream clients
  * (e.g. gateways) and servers (e.g. brokers). Sets up handlers for shared topics to receive add,
- * remove, and remove all requests, and manages sending restart requests to added clients.
+ * remove, remove all and credits requests, and manages sending restart requests to added clients.
  *
  * @param <M> type of the stream's metadata
  */
@@ -77,6 +77,11 @@ public final class RemoteStreamTransport<M> extends Actor {
         this::onRemoveAll,
         Function.identity(),
         actor::run);
+    transport.consume(
+        StreamTopics.CREDITS.topic(),
+        MessageUtil::parseCreditsRequest,
+        requestHandler::updateCredits,
+        actor::run);
   }
 
   @Override
@@ -84,6 +89,7 @@ public final class RemoteStreamTransport<M> extends Actor {
     transport.unsubscribe(StreamTopics.ADD.topic());
     transport.unsubscribe(StreamTopics.REMOVE.topic());
     transport.unsubscribe(StreamTopics.REMOVE_ALL.topic());
+    transport.unsubscribe(StreamTopics.CREDITS.topic());
     requestHandler.close();
   }
 
@@ -11,9 +11,12 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchSettings;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -52,11 +55,26 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(transport, registry, errorHandler, metrics, RemoteStreamBatchSettings.disabled());
+  }
+
+  public RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchSettings batchSettings) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(new PushTransport(), actor, metrics, batchSettings);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    remoteStreamPusher.close();
   }
 
   @Override
@@ -80,8 +98,10 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    // streams whose credits are used up by unacknowledged pushes are skipped, such that the payload
+    // is not pushed at all rather than pushed to clients which cannot accept it
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
+      if (target.hasCredits(remoteStreamPusher::inFlightPushes)) {
         return Optional.of(target);
       }
     }
@@ -89,13 +109,30 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     return Optional.empty();
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+  private final class PushTransport implements Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH_BATCH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
@@ -20,6 +20,10 @@ public final class MessageUtil {
     return parseRequest(bytes, new PushStreamRequest());
   }
 
+  public static PushStreamBatchRequest parsePushBatchRequest(final byte[] bytes) {
+    return parseRequest(bytes, new PushStreamBatchRequest());
+  }
+
   public static RemoveStreamRequest parseRemoveRequest(final byte[] bytes) {
     return parseRequest(bytes, new RemoveStreamRequest());
   }
@@ -28,6 +32,10 @@ public final class MessageUtil {
     return parseRequest(bytes, new AddStreamRequest());
   }
 
+  public static StreamCreditsRequest parseCreditsRequest(final byte[] bytes) {
+    return parseRequest(bytes, new StreamCreditsRequest());
+  }
+
   private static <R extends BufferReader> R parseRequest(final byte[] bytes, final R request) {
     final var buffer = new UnsafeBuffer(bytes);
     request.wrap(buffer, 0, buffer.capacity());
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Objects;
+import java.util.UUID;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Advertises how many payloads a client stream can currently accept, i.e. how many of the clients
+ * aggregated by it are ready to receive more data.
+ */
+public final class StreamCreditsRequest implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final StreamCreditsRequestEncoder messageEncoder = new StreamCreditsRequestEncoder();
+  private final StreamCreditsRequestDecoder messageDecoder = new StreamCreditsRequestDecoder();
+
+  private UUID streamId;
+  private int credits;
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+    credits = messageDecoder.credits();
+  }
+
+  @Override
+  public int getLength() {
+    return headerEncoder.encodedLength() + messageEncoder.sbeBlockLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    if (streamId != null) {
+      messageEncoder
+          .id()
+          .high(streamId.getMostSignificantBits())
+          .low(streamId.getLeastSignificantBits());
+    }
+
+    messageEncoder.credits(credits);
+  }
+
+  public UUID streamId() {
+    return streamId;
+  }
+
+  public StreamCreditsRequest streamId(final UUID streamId) {
+    this.streamId = streamId;
+    return this;
+  }
+
+  public int credits() {
+    return credits;
+  }
+
+  public StreamCreditsRequest credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(streamId, credits);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final StreamCreditsRequest that = (StreamCreditsRequest) o;
+    return credits == that.credits && Objects.equals(streamId, that.streamId);
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCreditsRequest{" + "streamId=" + streamId + ", credits=" + credits + '}';
+  }
+}
@@ -9,10 +9,12 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.UUID;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
@@ -53,6 +55,36 @@ class AggregatedClientStreamTest {
     assertThat(metrics.getAggregatedClientCountObservations()).containsExactly(1, 0);
   }
 
+  @Test
+  void shouldCountReadyClientsAsCredits() {
+    // given
+    addClient(getNextStreamId());
+    addClient(getNextStreamId());
+    stream.addClient(
+        new ClientStreamImpl<>(
+            getNextStreamId(),
+            stream,
+            streamType,
+            metadata,
+            new ClientStreamConsumer() {
+              @Override
+              public ActorFuture<Void> push(final DirectBuffer payload) {
+                return CompletableActorFuture.completed(null);
+              }
+
+              @Override
+              public boolean isReady() {
+                return false;
+              }
+            }));
+
+    // when
+    final var credits = stream.credits();
+
+    // then
+    assertThat(credits).isEqualTo(2);
+  }
+
   private ClientStreamIdImpl getNextStreamId() {
     return new ClientStreamIdImpl(stream.streamId(), stream.nextLocalId());
   }
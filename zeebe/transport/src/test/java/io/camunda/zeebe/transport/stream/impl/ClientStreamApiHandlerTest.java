@@ -8,6 +8,8 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -19,11 +21,19 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse.Failure;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
+import org.agrona.ExpandableArrayBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
@@ -77,6 +87,74 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldPushEveryPayloadOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request = receiveBatch(streamId, "foo", "bar");
+    final var pushRequests = ArgumentCaptor.forClass(PushStreamRequest.class);
+    final var payloadsPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadReceived(pushRequests.capture(), payloadsPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+
+    // then
+    assertThat(response).isNotDone();
+    assertThat(pushRequests.getAllValues())
+        .extracting(PushStreamRequest::streamId, PushStreamRequest::payload)
+        .containsExactly(
+            tuple(streamId, BufferUtil.wrapString("foo")),
+            tuple(streamId, BufferUtil.wrapString("bar")));
+  }
+
+  @Test
+  void shouldReportOnlyFailedPayloadsOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var request = receiveBatch(UUID.randomUUID(), "foo", "bar", "baz");
+    final var payloadsPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing().when(clientStreamManager).onPayloadReceived(any(), payloadsPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadsPushed.getAllValues().get(0).complete(null);
+    payloadsPushed
+        .getAllValues()
+        .get(1)
+        .completeExceptionally(new ClientStreamBlockedException("failed"));
+    payloadsPushed.getAllValues().get(2).complete(null);
+
+    // then
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.class))
+        .extracting(
+            PushStreamBatchResponse::failures, InstanceOfAssertFactories.list(Failure.class))
+        .singleElement()
+        .returns(1, Failure::index)
+        .extracting(Failure::error)
+        .returns(ErrorCode.BLOCKED, ErrorResponse::code);
+  }
+
+  private PushStreamBatchRequest receiveBatch(final UUID streamId, final String... payloads) {
+    final var request = new PushStreamBatchRequest().streamId(streamId);
+    for (final var payload : payloads) {
+      request.addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString(payload)));
+    }
+
+    final var buffer = new ExpandableArrayBuffer();
+    request.write(buffer, 0);
+    final var received = new PushStreamBatchRequest();
+    received.wrap(buffer, 0, request.getLength());
+    return received;
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
@@ -11,10 +11,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -24,6 +27,7 @@ import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamCreditsRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
@@ -283,6 +287,116 @@ class ClientStreamManagerTest {
         .withCauseInstanceOf(RuntimeException.class);
   }
 
+  @Test
+  void shouldPublishCreditsOfReadyClients() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    clientStreamManager.add(streamType, metadata, new TestConsumer(false));
+    final var streamId = getServerStreamId(clientStreamId);
+
+    // when
+    clientStreamManager.publishCredits();
+
+    // then
+    verify(mockTransport)
+        .unicast(
+            eq(StreamTopics.CREDITS.topic()),
+            eq(creditsRequest(streamId, 1)),
+            any(),
+            eq(server),
+            eq(true));
+  }
+
+  @Test
+  void shouldNotPublishUnchangedCredits() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    clientStreamManager.publishCredits();
+
+    // when
+    clientStreamManager.publishCredits();
+
+    // then
+    verify(mockTransport, times(1))
+        .unicast(eq(StreamTopics.CREDITS.topic()), any(), any(), eq(server), eq(true));
+  }
+
+  @Test
+  void shouldPublishCreditsWhenPushFails() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var consumer = new TestConsumer(true);
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, consumer);
+    final var streamId = getServerStreamId(clientStreamId);
+    clientStreamManager.publishCredits();
+
+    // when
+    consumer.ready = false;
+    final var request =
+        new PushStreamRequest().streamId(streamId).payload(BufferUtil.wrapString("data"));
+    clientStreamManager.onPayloadReceived(request, new TestActorFuture<>());
+
+    // then
+    verify(mockTransport)
+        .unicast(
+            eq(StreamTopics.CREDITS.topic()),
+            eq(creditsRequest(streamId, 0)),
+            any(),
+            eq(server),
+            eq(true));
+  }
+
+  @Test
+  void shouldRepublishUnchangedCreditsOnRefresh() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    final var streamId = getServerStreamId(clientStreamId);
+    clientStreamManager.publishCredits();
+
+    // when
+    clientStreamManager.refreshCredits();
+
+    // then
+    verify(mockTransport, times(2))
+        .unicast(
+            eq(StreamTopics.CREDITS.topic()),
+            eq(creditsRequest(streamId, 1)),
+            any(),
+            eq(server),
+            eq(true));
+  }
+
+  @Test
+  void shouldRepublishUnchangedCreditsWhenServerRejoins() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    final var streamId = getServerStreamId(clientStreamId);
+    clientStreamManager.publishCredits();
+    clientStreamManager.onServerRemoved(server);
+
+    // when
+    clientStreamManager.onServerJoined(server);
+    clientStreamManager.publishCredits();
+
+    // then
+    verify(mockTransport, times(2))
+        .unicast(
+            eq(StreamTopics.CREDITS.topic()),
+            eq(creditsRequest(streamId, 1)),
+            any(),
+            eq(server),
+            eq(true));
+  }
+
   @Test
   void shouldRemoveServerFromClientStream() {
     // given
@@ -324,6 +438,11 @@ class ClientStreamManagerTest {
     assertThat(metrics.getServerCount()).isZero();
   }
 
+  private byte[] creditsRequest(final UUID streamId, final int credits) {
+    return BufferUtil.bufferAsArray(
+        new StreamCreditsRequest().streamId(streamId).credits(credits));
+  }
+
   private UUID getServerStreamId(final ClientStreamId clientStreamId) {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().streamId();
   }
@@ -339,4 +458,24 @@ class ClientStreamManagerTest {
       buffer.putInt(offset, data);
     }
   }
+
+  private static final class TestConsumer implements ClientStreamConsumer {
+    private boolean ready;
+
+    private TestConsumer(final boolean ready) {
+      this.ready = ready;
+    }
+
+    @Override
+    public ActorFuture<Void> push(final DirectBuffer payload) {
+      return ready
+          ? CompletableActorFuture.completed(null)
+          : CompletableActorFuture.completedExceptionally(new RuntimeException("Blocked"));
+    }
+
+    @Override
+    public boolean isReady() {
+      return ready;
+    }
+  }
 }
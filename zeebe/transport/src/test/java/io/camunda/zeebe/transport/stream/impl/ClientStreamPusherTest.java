@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
@@ -25,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -106,6 +108,42 @@ final class ClientStreamPusherTest {
     assertThat(pushSucceeded.get()).isTrue();
   }
 
+  @Test
+  void shouldPreferReadyClients() {
+    // given
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    final ClientStreamIdImpl blockedId = getNextStreamId();
+    addClient(
+        blockedId,
+        new ClientStreamConsumer() {
+          @Override
+          public ActorFuture<Void> push(final DirectBuffer payload) {
+            executedClients.add(blockedId);
+            return CompletableActorFuture.completed(null);
+          }
+
+          @Override
+          public boolean isReady() {
+            return false;
+          }
+        });
+    final ClientStreamIdImpl readyId = getNextStreamId();
+    addClient(
+        readyId,
+        p -> {
+          executedClients.add(readyId);
+          return CompletableActorFuture.completed(null);
+        });
+
+    // when
+    final TestActorFuture<Void> future = new TestActorFuture<>();
+    streamPusher.push(stream, null, future);
+
+    // then
+    assertThat(future).succeedsWithin(Duration.ofMillis(100));
+    assertThat(executedClients).containsExactly(readyId);
+  }
+
   @Test
   void shouldAddIndividualErrorsAsSuppressed() {
     // given
@@ -16,9 +16,12 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -98,26 +101,124 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldNotPushToConsumersWithoutCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    aggregatedStream.updateCredits(consumers.get(0).id(), 0);
+    aggregatedStream.updateCredits(consumers.get(1).id(), 0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(2).id().streamId());
+  }
+
+  @Test
+  void shouldFailIfNoConsumerHasCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    aggregatedStream
+        .streamConsumers()
+        .forEach(consumer -> aggregatedStream.updateCredits(consumer.id(), 0));
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+  }
+
+  @Test
+  void shouldNotPushToConsumersWhoseCreditsAreUsedUp() {
+    // given - the only consumer with credits has as many unacknowledged pushes as credits
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    final var consumers = aggregatedStream.streamConsumers();
+    final var consumer = consumers.get(0).id();
+    aggregatedStream.updateCredits(consumer, 1);
+    aggregatedStream.updateCredits(consumers.get(1).id(), 0);
+    aggregatedStream.updateCredits(consumers.get(2).id(), 0);
+    transport.neverRespond();
+    pusher.pushAsync(payload, (e, d) -> {}, consumer);
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).containsExactly(consumer.streamId());
+  }
+
+  @Test
+  void shouldPreferLeastLoadedConsumer() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    final var small = consumers.get(0).id();
+    final var large = consumers.get(1).id();
+    aggregatedStream.updateCredits(small, 1);
+    aggregatedStream.updateCredits(large, 4);
+    aggregatedStream.updateCredits(consumers.get(2).id(), 0);
+    transport.neverRespond();
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      remoteStream.push(payload);
+    }
+
+    // then
+    assertThat(transport.attemptedStreams)
+        .filteredOn(small.streamId()::equals)
+        .as("consumer with a single credit received a single payload")
+        .hasSize(1);
+    assertThat(transport.attemptedStreams)
+        .filteredOn(large.streamId()::equals)
+        .as("consumer with four credits received the remaining payloads")
+        .hasSize(4);
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
 
     private int succeedAfterAttempt = Integer.MAX_VALUE;
     private int attempt = 0;
+    private boolean respond = true;
 
     void succeedAfterAttempts(final int attempt) {
       succeedAfterAttempt = attempt;
     }
 
+    void neverRespond() {
+      respond = false;
+    }
+
     @Override
     public CompletableFuture<byte[]> send(
         final PushStreamRequest request, final MemberId receiver) {
-      attemptedStreams.add(request.streamId());
+      return attempt(request.streamId(), new PushStreamResponse());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return attempt(request.streamId(), new PushStreamBatchResponse());
+    }
+
+    private CompletableFuture<byte[]> attempt(final UUID streamId, final BufferWriter response) {
+      attemptedStreams.add(streamId);
+      if (!respond) {
+        return new CompletableFuture<>();
+      }
+
       attempt++;
       if (attempt <= succeedAfterAttempt) {
         return CompletableFuture.failedFuture(new RuntimeException("force fail"));
       }
-      return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+      return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(response));
     }
   }
 }
@@ -9,25 +9,34 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchSettings;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -100,6 +109,37 @@ final class RemoteStreamPusherTest {
         .containsExactly(payload, failure);
   }
 
+  @Test
+  void shouldTrackInFlightPushesUntilAcknowledged() {
+    // given
+    final var response = new CompletableFuture<byte[]>();
+    transport.response = response;
+    pusher.pushAsync(new Payload(1), new TestErrorHandler(), streamId);
+    pusher.pushAsync(new Payload(2), new TestErrorHandler(), streamId);
+    final var inFlightBeforeResponse = pusher.inFlightPushes(streamId);
+
+    // when
+    response.complete(BufferUtil.bufferAsArray(new PushStreamResponse()));
+
+    // then
+    assertThat(inFlightBeforeResponse).isEqualTo(2);
+    assertThat(pusher.inFlightPushes(streamId)).isZero();
+  }
+
+  @Test
+  void shouldReleaseInFlightPushOnFailure() {
+    // given
+    final var response = new CompletableFuture<byte[]>();
+    transport.response = response;
+    pusher.pushAsync(new Payload(1), new TestErrorHandler(), streamId);
+
+    // when
+    response.completeExceptionally(new RuntimeException("Async failure"));
+
+    // then
+    assertThat(pusher.inFlightPushes(streamId)).isZero();
+  }
+
   @Test
   void shouldFailOnNullPayload() {
     // given
@@ -149,6 +189,194 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Nested
+  final class BatchingTest {
+    private final TestScheduler scheduler = new TestScheduler();
+    private final RemoteStreamPusher<Payload> batchingPusher =
+        new RemoteStreamPusher<>(
+            transport,
+            scheduler,
+            metrics,
+            new RemoteStreamBatchSettings(3, Duration.ofMillis(5), Integer.MAX_VALUE));
+
+    @Test
+    void shouldPushBatchOnceFull() {
+      // given
+      final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+      final var errorHandler = new TestErrorHandler();
+
+      // when
+      payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+      // then
+      final var sentRequest = transport.batchMessage;
+      assertThat(errorHandler.errors).isEmpty();
+      assertThat(transport.message).isNull();
+      assertThat(sentRequest).isNotNull();
+      assertThat(sentRequest.request.streamId()).isEqualTo(streamId.streamId());
+      assertThat(sentRequest.request.payloadWriters()).containsExactlyElementsOf(payloads);
+      assertThat(sentRequest.receiver).isEqualTo(streamId.receiver());
+      assertThat(scheduler.scheduled).isEmpty();
+      assertThat(metrics.getBatchSizes()).containsExactly(3);
+      assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldPushBatchAfterMaxDelay() {
+      // given
+      final var errorHandler = new TestErrorHandler();
+      batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+      batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+
+      // when
+      scheduler.runScheduled();
+
+      // then
+      assertThat(transport.batchMessage).isNotNull();
+      assertThat(transport.batchMessage.request.payloadWriters())
+          .containsExactly(new Payload(1), new Payload(2));
+      assertThat(metrics.getBatchSizes()).containsExactly(2);
+      assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPushSinglePayloadWithoutBatch() {
+      // given
+      final var payload = new Payload(1);
+      final var errorHandler = new TestErrorHandler();
+      batchingPusher.pushAsync(payload, errorHandler, streamId);
+
+      // when
+      scheduler.runScheduled();
+
+      // then
+      assertThat(transport.batchMessage).isNull();
+      assertThat(transport.message).isNotNull();
+      assertThat(transport.message.request.payloadWriter()).isEqualTo(payload);
+      assertThat(metrics.getBatchSizes()).isEmpty();
+      assertThat(metrics.getPushSucceeded()).isOne();
+    }
+
+    @Test
+    void shouldBatchPayloadsPerStream() {
+      // given
+      final var otherStreamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+      final var errorHandler = new TestErrorHandler();
+
+      // when
+      batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+      batchingPusher.pushAsync(new Payload(2), errorHandler, otherStreamId);
+      batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+      batchingPusher.pushAsync(new Payload(4), errorHandler, streamId);
+
+      // then
+      assertThat(transport.batchMessage).isNotNull();
+      assertThat(transport.batchMessage.request.streamId()).isEqualTo(streamId.streamId());
+      assertThat(transport.batchMessage.request.payloadWriters())
+          .containsExactly(new Payload(1), new Payload(3), new Payload(4));
+      assertThat(scheduler.scheduled).hasSize(1);
+    }
+
+    @Test
+    void shouldReportOnlyFailedPayloadsOfBatch() {
+      // given
+      final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+      final var errorHandler = new TestErrorHandler();
+      final var response =
+          new PushStreamBatchResponse()
+              .addFailure(1, new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"));
+      transport.batchResponse =
+          CompletableFuture.completedFuture(BufferUtil.bufferAsArray(response));
+
+      // when
+      payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+      // then
+      assertThat(errorHandler.errors)
+          .singleElement()
+          .returns(new Payload(2), TestErrorHandler.Error::payload)
+          .extracting(TestErrorHandler.Error::error)
+          .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+          .returns(ErrorCode.BLOCKED, StreamResponseException::code);
+      assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+      assertThat(metrics.getPushFailed()).isOne();
+    }
+
+    @Test
+    void shouldReportBatchTransportErrorForEveryPayload() {
+      // given
+      final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+      final var errorHandler = new TestErrorHandler();
+      final var failure = new RuntimeException("Async failure");
+      transport.batchResponse = CompletableFuture.failedFuture(failure);
+
+      // when
+      payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+      // then
+      assertThat(errorHandler.errors)
+          .extracting(TestErrorHandler.Error::payload, TestErrorHandler.Error::error)
+          .containsExactly(
+              tuple(new Payload(1), failure),
+              tuple(new Payload(2), failure),
+              tuple(new Payload(3), failure));
+      assertThat(metrics.getPushFailed()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldPushBatchBeforeExceedingMaxBatchBytes() {
+      // given - a batch which fits two payloads, but not a third one
+      final var maxBatchBytes =
+          PushStreamBatchRequest.emptyLength()
+              + PushStreamBatchRequest.payloadLength(new Payload(1)) * 2
+              + 1;
+      final var pusher =
+          new RemoteStreamPusher<Payload>(
+              transport,
+              scheduler,
+              metrics,
+              new RemoteStreamBatchSettings(3, Duration.ofMillis(5), maxBatchBytes));
+      final var errorHandler = new TestErrorHandler();
+      pusher.pushAsync(new Payload(1), errorHandler, streamId);
+      pusher.pushAsync(new Payload(2), errorHandler, streamId);
+
+      // when
+      pusher.pushAsync(new Payload(3), errorHandler, streamId);
+
+      // then
+      assertThat(transport.batchMessage).isNotNull();
+      assertThat(transport.batchMessage.request.payloadWriters())
+          .containsExactly(new Payload(1), new Payload(2));
+      assertThat(transport.batchMessage.request.getLength()).isLessThanOrEqualTo(maxBatchBytes);
+      assertThat(metrics.getBatchSizes()).containsExactly(2);
+
+      // when
+      scheduler.runScheduled();
+
+      // then
+      assertThat(transport.message).isNotNull();
+      assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(3));
+    }
+
+    @Test
+    void shouldReportPendingPayloadsOnClose() {
+      // given
+      final var payload = new Payload(1);
+      final var errorHandler = new TestErrorHandler();
+      batchingPusher.pushAsync(payload, errorHandler, streamId);
+
+      // when
+      batchingPusher.close();
+
+      // then
+      assertThat(errorHandler.errors)
+          .singleElement()
+          .returns(payload, TestErrorHandler.Error::payload);
+      assertThat(scheduler.scheduled).isEmpty();
+      assertThat(transport.message).isNull();
+    }
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -176,10 +404,29 @@ final class RemoteStreamPusherTest {
     private record Error(Payload payload, Throwable error) {}
   }
 
+  private static final class TestScheduler extends TestConcurrencyControl {
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @Override
+    public ScheduledTimer schedule(final Duration delay, final Runnable runnable) {
+      scheduled.add(runnable);
+      return () -> scheduled.remove(runnable);
+    }
+
+    private void runScheduled() {
+      final var tasks = new ArrayList<>(scheduled);
+      scheduled.clear();
+      tasks.forEach(Runnable::run);
+    }
+  }
+
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
     private Message message;
+    private BatchMessage batchMessage;
     private Exception synchronousException;
 
     @Override
@@ -193,6 +440,19 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batchMessage = new BatchMessage(request, receiver);
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
@@ -105,6 +105,59 @@ final class RemoteStreamRegistryTest {
             new StreamConsumer<>(new StreamId(id, otherGateway), new LogicalId<>(typeFoo, 1)));
   }
 
+  @Test
+  void shouldUpdateCredits() {
+    // given
+    final UUID id = UUID.randomUUID();
+    streamRegistry.add(typeFoo, id, gateway, 1);
+    streamRegistry.add(typeFoo, id, otherGateway, 1);
+
+    // when
+    streamRegistry.updateCredits(id, gateway, 0);
+
+    // then
+    final AggregatedRemoteStream<Integer> aggregatedRemoteStream =
+        streamRegistry.get(typeFoo).stream().findFirst().orElseThrow();
+    assertThat(aggregatedRemoteStream.credits(new StreamId(id, gateway))).isZero();
+    assertThat(aggregatedRemoteStream.credits(new StreamId(id, otherGateway)))
+        .isEqualTo(AggregatedRemoteStream.UNKNOWN_CREDITS);
+    assertThat(aggregatedRemoteStream.hasCredits(streamId -> 0)).isTrue();
+  }
+
+  @Test
+  void shouldResetCreditsOfReAddedStream() {
+    // given
+    final UUID id = UUID.randomUUID();
+    streamRegistry.add(typeFoo, id, gateway, 1);
+    streamRegistry.add(typeFoo, id, otherGateway, 1);
+    streamRegistry.updateCredits(id, gateway, 0);
+    streamRegistry.remove(id, gateway);
+
+    // when
+    streamRegistry.add(typeFoo, id, gateway, 1);
+
+    // then
+    final AggregatedRemoteStream<Integer> aggregatedRemoteStream =
+        streamRegistry.get(typeFoo).stream().findFirst().orElseThrow();
+    assertThat(aggregatedRemoteStream.credits(new StreamId(id, gateway)))
+        .isEqualTo(AggregatedRemoteStream.UNKNOWN_CREDITS);
+  }
+
+  @Test
+  void shouldIgnoreCreditsOfUnknownStream() {
+    // given
+    final UUID id = UUID.randomUUID();
+    streamRegistry.add(typeFoo, id, gateway, 1);
+
+    // when
+    streamRegistry.updateCredits(id, otherGateway, 0);
+
+    // then
+    final AggregatedRemoteStream<Integer> aggregatedRemoteStream =
+        streamRegistry.get(typeFoo).stream().findFirst().orElseThrow();
+    assertThat(aggregatedRemoteStream.streamCredits()).isEmpty();
+  }
+
   @Test
   void shouldRemoveAggregatedStream() {
     // given
@@ -9,7 +9,9 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
@@ -18,6 +20,7 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
   private int pushSucceeded;
   private int pushFailed;
   private final Map<ErrorCode, Integer> failedPushTries = new EnumMap<>(ErrorCode.class);
+  private final List<Integer> batchSizes = new ArrayList<>();
 
   @Override
   public void addStream() {
@@ -44,6 +47,11 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     failedPushTries.compute(code, (ignored, value) -> value == null ? 1 : value + 1);
   }
 
+  @Override
+  public void batchPushed(final int size) {
+    batchSizes.add(size);
+  }
+
   public int getStreamCount() {
     return streamCount;
   }
@@ -59,4 +67,8 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
   public int getFailedPushTry(final ErrorCode code) {
     return failedPushTries.getOrDefault(code, 0);
   }
+
+  public List<Integer> getBatchSizes() {
+    return batchSizes;
+  }
 }
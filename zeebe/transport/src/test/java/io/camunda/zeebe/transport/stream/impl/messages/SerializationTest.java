@@ -140,6 +140,87 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+  }
+
+  @Test
+  void shouldSerializeStreamCreditsRequest() {
+    // given
+    final var request = new StreamCreditsRequest().streamId(UUID.randomUUID()).credits(3);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new StreamCreditsRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+  }
+
+  @Test
+  void shouldSerializeStreamCreditsRequestAtOffset() {
+    // given
+    final var request = new StreamCreditsRequest().streamId(UUID.randomUUID()).credits(3);
+
+    // when
+    request.write(buffer, 16);
+    final var deserialized = new StreamCreditsRequest();
+    deserialized.wrap(buffer, 16, request.getLength());
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .addFailure(
+                1,
+                new ErrorResponse()
+                    .code(ErrorCode.BLOCKED)
+                    .message("Stream is blocked")
+                    .addDetail(ErrorCode.INVALID, "Message is invalid"))
+            .addFailure(3, new ErrorResponse().code(ErrorCode.NOT_FOUND).message("No stream"));
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failures())
+        .extracting(
+            PushStreamBatchResponse.Failure::index,
+            failure -> failure.error().code(),
+            failure -> failure.error().message())
+        .containsExactly(
+            Tuple.tuple(1, ErrorCode.BLOCKED, "Stream is blocked"),
+            Tuple.tuple(3, ErrorCode.NOT_FOUND, "No stream"));
+    assertThat(deserialized.failures().getFirst().error().details())
+        .extracting(ErrorDetail::code, ErrorDetail::message)
+        .containsExactly(Tuple.tuple(ErrorCode.INVALID, "Message is invalid"));
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given
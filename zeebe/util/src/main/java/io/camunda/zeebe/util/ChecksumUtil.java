@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+
+/**
+ * Computes CRC32C checksums over buffers and files, shared by the journal and the snapshots.
+ *
+ * <p>All methods feed the given memory directly to {@link CRC32C}, whose update methods are JVM
+ * intrinsics for both heap arrays and direct memory. Ranges are passed as a whole instead of in
+ * small blocks, and nothing is copied, except for {@link DirectBuffer}s which wrap a raw address.
+ * None of the methods modify the position or limit of the given buffers, so they are safe to use
+ * on buffers shared with other readers.
+ */
+public final class ChecksumUtil {
+
+  /** Size of the file regions which are mapped at once when computing the checksum of a file. */
+  private static final long FILE_REGION_SIZE = 64L * 1024 * 1024;
+
+  private static final int COPY_CHUNK_SIZE = 8 * 1024;
+
+  private ChecksumUtil() {}
+
+  /**
+   * @return the CRC32C checksum of the given range of the buffer
+   */
+  public static long crc32c(final DirectBuffer buffer, final int offset, final int length) {
+    final var checksum = new CRC32C();
+    update(checksum, buffer, offset, length);
+    return checksum.getValue();
+  }
+
+  /**
+   * @return the CRC32C checksum of the given range of the buffer, regardless of its position and
+   *     limit
+   */
+  public static long crc32c(final ByteBuffer buffer, final int offset, final int length) {
+    final var checksum = new CRC32C();
+    update(checksum, buffer, offset, length);
+    return checksum.getValue();
+  }
+
+  /**
+   * @return the CRC32C checksum of the given bytes
+   */
+  public static long crc32c(final byte[] bytes) {
+    final var checksum = new CRC32C();
+    checksum.update(bytes, 0, bytes.length);
+    return checksum.getValue();
+  }
+
+  /**
+   * Computes the CRC32C checksum of the given file. The file is mapped in large regions, such that
+   * its content is neither read in small blocks nor copied to the heap.
+   *
+   * @param file the file to compute the checksum for
+   * @return the CRC32C checksum of the whole file
+   * @throws IOException if the file cannot be read
+   */
+  public static long crc32c(final Path file) throws IOException {
+    final var checksum = new CRC32C();
+
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      for (long position = 0; position < size; position += FILE_REGION_SIZE) {
+        final var region =
+            channel.map(MapMode.READ_ONLY, position, Math.min(FILE_REGION_SIZE, size - position));
+        try {
+          checksum.update(region);
+        } finally {
+          IoUtil.unmap(region);
+        }
+      }
+    }
+
+    return checksum.getValue();
+  }
+
+  /**
+   * Updates the given checksum with the given range of the buffer, e.g. to compute a single
+   * checksum over multiple ranges.
+   */
+  public static void update(
+      final CRC32C checksum, final DirectBuffer buffer, final int offset, final int length) {
+    buffer.boundsCheck(offset, length);
+
+    // the wrap adjustment is relative to the array if there is one, even if a buffer is wrapped
+    final var byteArray = buffer.byteArray();
+    if (byteArray != null) {
+      checksum.update(byteArray, buffer.wrapAdjustment() + offset, length);
+      return;
+    }
+
+    final var byteBuffer = buffer.byteBuffer();
+    if (byteBuffer != null) {
+      update(checksum, byteBuffer, buffer.wrapAdjustment() + offset, length);
+      return;
+    }
+
+    // the buffer wraps a raw address, which cannot be passed to the checksum without copying
+    final var chunk = new byte[Math.min(length, COPY_CHUNK_SIZE)];
+    for (int copied = 0; copied < length; copied += chunk.length) {
+      final int chunkLength = Math.min(chunk.length, length - copied);
+      buffer.getBytes(offset + copied, chunk, 0, chunkLength);
+      checksum.update(chunk, 0, chunkLength);
+    }
+  }
+
+  /**
+   * Updates the given checksum with the given range of the buffer, regardless of its position and
+   * limit.
+   */
+  public static void update(
+      final CRC32C checksum, final ByteBuffer buffer, final int offset, final int length) {
+    checksum.update(buffer.duplicate().limit(offset + length).position(offset));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.CRC32C;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ChecksumUtilTest {
+  private static final int OFFSET = 13;
+  private static final int LENGTH = 20_000;
+
+  private final byte[] bytes = new byte[OFFSET + LENGTH + 7];
+  private final long expected;
+
+  ChecksumUtilTest() {
+    new Random(42).nextBytes(bytes);
+    final var checksum = new CRC32C();
+    checksum.update(bytes, OFFSET, LENGTH);
+    expected = checksum.getValue();
+  }
+
+  @Test
+  void shouldComputeChecksumOfArrayBackedBuffer() {
+    // given
+    final var buffer = new UnsafeBuffer(bytes, 1, bytes.length - 1);
+
+    // when
+    final var checksum = ChecksumUtil.crc32c(buffer, OFFSET - 1, LENGTH);
+
+    // then
+    assertThat(checksum).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldComputeChecksumOfDirectBuffer() {
+    // given
+    final var byteBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+    final var buffer = new UnsafeBuffer(byteBuffer, 1, bytes.length - 1);
+
+    // when
+    final var checksum = ChecksumUtil.crc32c(buffer, OFFSET - 1, LENGTH);
+
+    // then
+    assertThat(checksum).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldComputeChecksumOfRawAddress() {
+    // given
+    final var byteBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+    final var buffer = new UnsafeBuffer(BufferUtil.address(byteBuffer), bytes.length);
+
+    // when
+    final var checksum = ChecksumUtil.crc32c(buffer, OFFSET, LENGTH);
+
+    // then
+    assertThat(checksum).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldIgnoreAndNotModifyByteBufferPositionAndLimit() {
+    // given
+    final var byteBuffer = ByteBuffer.wrap(bytes).position(5).limit(10);
+
+    // when
+    final var checksum = ChecksumUtil.crc32c(byteBuffer, OFFSET, LENGTH);
+
+    // then
+    assertThat(checksum).isEqualTo(expected);
+    assertThat(byteBuffer.position()).isEqualTo(5);
+    assertThat(byteBuffer.limit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldComputeChecksumOfFile(final @TempDir Path directory) throws IOException {
+    // given
+    final var file = Files.write(directory.resolve("file"), bytes);
+
+    // when
+    final var checksum = ChecksumUtil.crc32c(file);
+
+    // then
+    assertThat(checksum).isEqualTo(ChecksumUtil.crc32c(bytes));
+  }
+}
@@ -9,6 +9,8 @@ package io.camunda.zeebe.db;
 
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Represents an column family, where it is possible to store keys of type {@link KeyType} and
@@ -44,6 +46,24 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of multiple keys at once, which is cheaper than calling {@link
+   * #get(DbKey)} per key, as RocksDB is only called once. Like {@link #get(DbKey)}, the values
+   * reflect the writes of the current transaction.
+   *
+   * <p>The keys are passed via the given key instance: for each index from 0 to {@code count - 1},
+   * the key writer is called with the index, and has to wrap the corresponding key in the key
+   * instance. Once all keys are looked up, the consumer accepts the value of each index in the same
+   * order, or null if the key doesn't exist. Like in {@link #forEach(Consumer)}, the value wraps
+   * the stored value only until the consumer returns.
+   *
+   * @param key the key instance which is wrapped by the key writer
+   * @param count the number of keys to look up
+   * @param keyWriter wraps the key of the given index in the key instance
+   * @param consumer accepts the value, or null, and the index of each key
+   */
+  void multiGet(KeyType key, int count, IntConsumer keyWriter, ObjIntConsumer<ValueType> consumer);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Counts a read which was served by the state cache, without reading from RocksDB. */
+  void countCacheHit();
+
+  /** Counts a read of a cached column family which had to read from RocksDB. */
+  void countCacheMiss();
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Counts the reads and writes of all column families of a database, such that callers can attribute
+ * the state accesses to the work done in between two observations.
+ *
+ * <p>The counters are not thread-safe, as the state of a partition is usually only accessed by its
+ * stream processor. Accesses from other threads may be lost, so the counts are best effort.
+ */
+public final class StateAccessCounter {
+
+  private long reads;
+  private long writes;
+
+  public void countRead() {
+    reads++;
+  }
+
+  public void countWrite() {
+    writes++;
+  }
+
+  /**
+   * @return the number of gets and iterations since the database was opened
+   */
+  public long reads() {
+    return reads;
+  }
+
+  /**
+   * @return the number of puts and deletes since the database was opened
+   */
+  public long writes() {
+    return writes;
+  }
+}
@@ -53,6 +53,22 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * Returns the current value of a cumulative statistic of the database, e.g. the number of blocks
+   * which had to be read from disk.
+   *
+   * @param statisticName the name of the statistic
+   * @return the value of the statistic, or empty if statistics are disabled or it is unknown
+   */
+  Optional<Long> getStatistic(String statisticName);
+
+  /**
+   * Returns the counter of reads and writes of all column families of this database.
+   *
+   * @return the counter, or empty if fine-grained access metrics are disabled
+   */
+  Optional<StateAccessCounter> getStateAccessCounter();
+
   TransactionContext createContext();
 
   /**
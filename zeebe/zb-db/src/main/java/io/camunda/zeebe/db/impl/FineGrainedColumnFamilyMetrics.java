@@ -8,7 +8,9 @@
 package io.camunda.zeebe.db.impl;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.StateAccessCounter;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -24,38 +26,69 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
           .help("Latency of RocksDB operations per column family")
           .register();
 
+  private static final Counter CACHE_READS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_cache_reads_total")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Reads of cached column families, by whether they were served by the state cache")
+          .register();
+
   private final Child getLatency;
   private final Child putLatency;
   private final Child deleteLatency;
   private final Child iterateLatency;
+  private final Counter.Child cacheHits;
+  private final Counter.Child cacheMisses;
+  private final StateAccessCounter accessCounter;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
-      FineGrainedColumnFamilyMetrics(final int partitionId, final ColumnFamilyNames columnFamily) {
+      FineGrainedColumnFamilyMetrics(
+          final int partitionId,
+          final ColumnFamilyNames columnFamily,
+          final StateAccessCounter accessCounter) {
+    this.accessCounter = accessCounter;
     final var partitionLabel = String.valueOf(partitionId);
     final var columnFamilyLabel = columnFamily.name();
     getLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "get");
     putLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "put");
     deleteLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "delete");
     iterateLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "iterate");
+    cacheHits = CACHE_READS.labels(partitionLabel, columnFamilyLabel, "hit");
+    cacheMisses = CACHE_READS.labels(partitionLabel, columnFamilyLabel, "miss");
   }
 
   @Override
   public Timer measureGetLatency() {
+    accessCounter.countRead();
     return getLatency.startTimer();
   }
 
   @Override
   public Timer measurePutLatency() {
+    accessCounter.countWrite();
     return putLatency.startTimer();
   }
 
   @Override
   public Timer measureDeleteLatency() {
+    accessCounter.countWrite();
     return deleteLatency.startTimer();
   }
 
   @Override
   public Timer measureIterateLatency() {
+    accessCounter.countRead();
     return iterateLatency.startTimer();
   }
+
+  @Override
+  public void countCacheHit() {
+    cacheHits.inc();
+  }
+
+  @Override
+  public void countCacheMiss() {
+    cacheMisses.inc();
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+/**
+ * Options of a single logical column family, which are only applied when each logical column
+ * family is stored in its own physical RocksDB column family (see {@link
+ * RocksDbConfiguration#isPhysicalColumnFamiliesEnabled()}).
+ *
+ * <p>Keys always start with the 8 byte column family prefix, so the prefix length includes it. For
+ * example, a column family which is mostly iterated by a long key prefix can use a prefix length
+ * of 16 bytes. Per default, the prefix length is derived from the key layout of the column family
+ * when its physical column family is created, i.e. the column family prefix plus the first part of
+ * a composite key, if that has a fixed length.
+ */
+public final class ColumnFamilyTuning {
+
+  /** Derives the prefix length from the key layout. */
+  public static final int DEFAULT_PREFIX_LENGTH = 0;
+
+  public static final double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final Compression DEFAULT_COMPRESSION = Compression.DEFAULT;
+  public static final Compaction DEFAULT_COMPACTION = Compaction.LEVEL;
+  public static final long DEFAULT_FIFO_MAX_TABLE_FILES_SIZE = 1024 * 1024 * 1024L;
+
+  private int prefixLength = DEFAULT_PREFIX_LENGTH;
+  private double bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private Compression compression = DEFAULT_COMPRESSION;
+  private Compaction compaction = DEFAULT_COMPACTION;
+  private long fifoMaxTableFilesSize = DEFAULT_FIFO_MAX_TABLE_FILES_SIZE;
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  public ColumnFamilyTuning setPrefixLength(final int prefixLength) {
+    if (prefixLength != DEFAULT_PREFIX_LENGTH && prefixLength < Long.BYTES) {
+      throw new IllegalArgumentException(
+          ("Expected the prefix length to be %d, or to include the column family prefix of %d"
+                  + " bytes, but was %d")
+              .formatted(DEFAULT_PREFIX_LENGTH, Long.BYTES, prefixLength));
+    }
+    this.prefixLength = prefixLength;
+    return this;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public ColumnFamilyTuning setBloomFilterBitsPerKey(final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public Compression getCompression() {
+    return compression;
+  }
+
+  public ColumnFamilyTuning setCompression(final Compression compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  public Compaction getCompaction() {
+    return compaction;
+  }
+
+  public ColumnFamilyTuning setCompaction(final Compaction compaction) {
+    this.compaction = compaction;
+    return this;
+  }
+
+  public long getFifoMaxTableFilesSize() {
+    return fifoMaxTableFilesSize;
+  }
+
+  public ColumnFamilyTuning setFifoMaxTableFilesSize(final long fifoMaxTableFilesSize) {
+    this.fifoMaxTableFilesSize = fifoMaxTableFilesSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyTuning{"
+        + "prefixLength="
+        + prefixLength
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compression="
+        + compression
+        + ", compaction="
+        + compaction
+        + ", fifoMaxTableFilesSize="
+        + fifoMaxTableFilesSize
+        + '}';
+  }
+
+  public enum Compression {
+    /** No compression on the first two levels, LZ4 on the remaining ones. */
+    DEFAULT,
+    NONE,
+    LZ4,
+    ZSTD
+  }
+
+  public enum Compaction {
+    LEVEL,
+    UNIVERSAL,
+    /**
+     * Drops the oldest SST files once the column family exceeds {@link
+     * #getFifoMaxTableFilesSize()}. Only use it for data which may be lost, e.g. caches.
+     */
+    FIFO
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -20,7 +22,9 @@ public final class RocksDbConfiguration {
   /**
    * WARN: It is safe to disable wal as long as there is only one column family. With more than one
    * column family, consistency across multiple column family is ensured by WAL while taking a
-   * checkpoint.
+   * checkpoint. When {@link #isPhysicalColumnFamiliesEnabled() physical column families} are used,
+   * all column families are flushed atomically instead, such that a checkpoint is consistent
+   * without WAL too.
    *
    * <p>http://rocksdb.org/blog/2015/11/10/use-checkpoints-for-efficient-snapshots.html >>> The
    * Checkpoint feature enables RocksDB to create a consistent snapshot of a given RocksDB database
@@ -43,6 +47,29 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Per default, all logical column families share a single RocksDB column family, and are
+   * distinguished by their key prefix. When enabled, each logical column family is stored in its
+   * own RocksDB column family instead, with its own memtables, compaction and filters, which can be
+   * tuned per column family (see {@link #getColumnFamilyTuning(int)}).
+   *
+   * <p>Once a database was opened with physical column families, it keeps using them, even when
+   * disabled again. Existing data of the shared column family is migrated when opening it.
+   */
+  public static final boolean DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED = false;
+
+  /**
+   * Per default, transactions are optimistic RocksDB transactions, which track the keys they write
+   * to detect conflicts on commit. Since each column family of a partition is only written by a
+   * single actor, e.g. the exporter positions by the exporter director and the rest by the stream
+   * processor, conflicts can't happen. When enabled, a transaction instead collects its writes in
+   * an indexed write batch, which its reads go through, and writes it atomically on commit,
+   * skipping the conflict detection.
+   *
+   * <p>Both engines use the same storage format, so this can be toggled between restarts.
+   */
+  public static final boolean DEFAULT_SINGLE_WRITER_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +78,17 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean physicalColumnFamiliesEnabled = DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED;
+  private boolean singleWriterEnabled = DEFAULT_SINGLE_WRITER_ENABLED;
+
+  /** Tuning of physical column families, by the value of the logical column family. */
+  private Map<Integer, ColumnFamilyTuning> columnFamilyTuning = new HashMap<>();
+
+  /**
+   * In-memory caches in front of RocksDB, by the value of the logical column family. Column
+   * families without settings are not cached.
+   */
+  private Map<Integer, StateCacheSettings> stateCache = new HashMap<>();
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +193,61 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isPhysicalColumnFamiliesEnabled() {
+    return physicalColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setPhysicalColumnFamiliesEnabled(
+      final boolean physicalColumnFamiliesEnabled) {
+    this.physicalColumnFamiliesEnabled = physicalColumnFamiliesEnabled;
+    return this;
+  }
+
+  public boolean isSingleWriterEnabled() {
+    return singleWriterEnabled;
+  }
+
+  public RocksDbConfiguration setSingleWriterEnabled(final boolean singleWriterEnabled) {
+    this.singleWriterEnabled = singleWriterEnabled;
+    return this;
+  }
+
+  public Map<Integer, ColumnFamilyTuning> getColumnFamilyTuning() {
+    return columnFamilyTuning;
+  }
+
+  public RocksDbConfiguration setColumnFamilyTuning(
+      final Map<Integer, ColumnFamilyTuning> columnFamilyTuning) {
+    this.columnFamilyTuning = columnFamilyTuning;
+    return this;
+  }
+
+  /**
+   * @param columnFamilyValue the value of the logical column family, see {@link
+   *     io.camunda.zeebe.protocol.EnumValue#getValue()}
+   * @return the configured tuning of the column family, or the default tuning
+   */
+  public ColumnFamilyTuning getColumnFamilyTuning(final int columnFamilyValue) {
+    final var tuning = columnFamilyTuning.get(columnFamilyValue);
+    return tuning != null ? tuning : new ColumnFamilyTuning();
+  }
+
+  public Map<Integer, StateCacheSettings> getStateCache() {
+    return stateCache;
+  }
+
+  public RocksDbConfiguration setStateCache(final Map<Integer, StateCacheSettings> stateCache) {
+    this.stateCache = stateCache;
+    return this;
+  }
+
+  /**
+   * @param columnFamilyValue the value of the logical column family, see {@link
+   *     io.camunda.zeebe.protocol.EnumValue#getValue()}
+   * @return the settings of the cache of the column family, or null if it is not cached
+   */
+  public StateCacheSettings getStateCache(final int columnFamilyValue) {
+    return stateCache.get(columnFamilyValue);
+  }
 }
@@ -10,16 +10,21 @@ package io.camunda.zeebe.db.impl.rocksdb;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.StateAccessCounter;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.PhysicalColumnFamilies;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -62,6 +67,16 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("getProperty");
   }
 
+  @Override
+  public Optional<Long> getStatistic(final String statisticName) {
+    throw unsupported("getStatistic");
+  }
+
+  @Override
+  public Optional<StateAccessCounter> getStateAccessCounter() {
+    return Optional.empty();
+  }
+
   @Override
   public TransactionContext createContext() {
     throw unsupported("createContext");
@@ -91,6 +106,30 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     return new SnapshotOnlyDb<>(db, managedResources);
   }
 
+  /**
+   * Opens a database with physical column families. All of them must be opened, as a checkpoint
+   * only contains the column families which were opened.
+   */
+  static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeDb<ColumnFamilyType> openDb(
+          final RocksDbOptions options,
+          final String path,
+          final List<byte[]> physicalColumnFamilies,
+          final List<AutoCloseable> managedResources)
+          throws RocksDBException {
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db =
+        RocksDB.openReadOnly(
+            options.dbOptions(),
+            path,
+            PhysicalColumnFamilies.descriptors(options, physicalColumnFamilies),
+            handles);
+    managedResources.add(db);
+    managedResources.addAll(handles);
+
+    return new SnapshotOnlyDb<>(db, managedResources);
+  }
+
   private UnsupportedOperationException unsupported(final String operation) {
     return new UnsupportedOperationException(
         "Failed to execute 'ZeebeDb#%s'; this operation is not supported on a snapshot-only DB"
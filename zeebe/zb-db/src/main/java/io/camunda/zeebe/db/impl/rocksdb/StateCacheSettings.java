@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+/**
+ * Settings of the in-memory cache of a single column family, which sits in front of RocksDB. It
+ * keeps the serialized values of recently read and written keys, such that reading them again
+ * neither crosses JNI nor allocates a new array.
+ *
+ * <p>The size of an entry is estimated by the length of its key and value, plus a fixed overhead.
+ * Once the cache exceeds its maximum size, entries are evicted according to the eviction policy.
+ */
+public final class StateCacheSettings {
+
+  public static final long DEFAULT_MAX_SIZE = 8 * 1024 * 1024L;
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  private long maxSize = DEFAULT_MAX_SIZE;
+  private EvictionPolicy evictionPolicy = DEFAULT_EVICTION_POLICY;
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public StateCacheSettings setMaxSize(final long maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the maximum size of the state cache to be positive, but was %d"
+              .formatted(maxSize));
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  public StateCacheSettings setEvictionPolicy(final EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = evictionPolicy;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "StateCacheSettings{"
+        + "maxSize="
+        + maxSize
+        + ", evictionPolicy="
+        + evictionPolicy
+        + '}';
+  }
+
+  public enum EvictionPolicy {
+    /** Evicts the least recently read or written entry first. */
+    LRU,
+    /**
+     * Evicts the least recently written entry first, regardless of reads. Suits column families
+     * which are read mostly shortly after being written, and is cheaper to maintain than LRU.
+     */
+    FIFO
+  }
+}
@@ -72,6 +72,18 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String READ_METRICS_HELP =
+      "Statistics related to reads, i.e. blocks read and filtered by bloom filters, for RocksDb per partition; only available if statistics are enabled";
+  private static final String READ_METRICS_PREFIX = "rocksdb_reads";
+
+  private static final RocksDBMetric[] READ_METRICS = {
+    new RocksDBMetric("BLOCK_CACHE_DATA_MISS", READ_METRICS_PREFIX, READ_METRICS_HELP),
+    new RocksDBMetric("BLOCK_CACHE_DATA_HIT", READ_METRICS_PREFIX, READ_METRICS_HELP),
+    new RocksDBMetric("BLOOM_FILTER_PREFIX_CHECKED", READ_METRICS_PREFIX, READ_METRICS_HELP),
+    new RocksDBMetric("BLOOM_FILTER_PREFIX_USEFUL", READ_METRICS_PREFIX, READ_METRICS_HELP),
+    new RocksDBMetric("NUMBER_DB_SEEK", READ_METRICS_PREFIX, READ_METRICS_HELP),
+  };
+
   private final String partition;
   private final Supplier<ZeebeDb<ColumnFamilyType>> databaseSupplier;
 
@@ -87,6 +99,7 @@ public final class ZeebeRocksDBMetricExporter<
     exportMetrics(LIVE_METRICS);
     exportMetrics(SST_METRICS);
     exportMetrics(WRITE_METRICS);
+    exportStatistics(READ_METRICS);
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
@@ -109,6 +122,22 @@ public final class ZeebeRocksDBMetricExporter<
     }
   }
 
+  private void exportStatistics(final RocksDBMetric[] metrics) {
+    final var database = databaseSupplier.get();
+    if (database == null) {
+      return;
+    }
+    for (final RocksDBMetric metric : metrics) {
+      try {
+        database
+            .getStatistic(metric.getPropertyName())
+            .ifPresent(value -> metric.exportValue(partition, value.doubleValue()));
+      } catch (final Exception exception) {
+        LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
+      }
+    }
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
@@ -129,7 +158,7 @@ public final class ZeebeRocksDBMetricExporter<
     private String gaugeSuffix() {
       final String suffix =
           "_" + propertyName.substring(propertyName.indexOf(".") + 1); // cut off "rocksdb." prefix
-      return suffix.replaceAll("-", "_");
+      return suffix.replaceAll("-", "_").toLowerCase();
     }
 
     public void exportValue(final String partitionID, final Double value) {
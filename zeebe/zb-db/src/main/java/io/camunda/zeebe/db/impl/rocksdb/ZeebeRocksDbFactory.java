@@ -11,6 +11,8 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.PhysicalColumnFamilies;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.EnumValue;
@@ -24,7 +26,9 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionOptionsFIFO;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
@@ -40,6 +44,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -65,10 +70,15 @@ public final class ZeebeRocksDbFactory<
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
+    final var path = pathName.getAbsolutePath();
     try {
+      // a database which uses physical column families keeps using them
+      final var physicalColumnFamilies =
+          rocksDbConfiguration.isPhysicalColumnFamiliesEnabled()
+              || !PhysicalColumnFamilies.list(path).isEmpty();
       return ZeebeTransactionDb.openTransactionalDb(
-          prepareOptions(closeables),
-          pathName.getAbsolutePath(),
+          prepareOptions(closeables, physicalColumnFamilies),
+          path,
           closeables,
           rocksDbConfiguration,
           consistencyChecksSettings,
@@ -82,18 +92,28 @@ public final class ZeebeRocksDbFactory<
   @Override
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
-    final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
+    final var path = pathName.getAbsolutePath();
+    try {
+      final var physicalColumnFamilies = PhysicalColumnFamilies.list(path);
+      if (!physicalColumnFamilies.isEmpty()) {
+        final var options = prepareOptions(managedResources, true);
+        options
+            .dbOptions()
             .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
             .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+        return SnapshotOnlyDb.openDb(options, path, physicalColumnFamilies, managedResources);
+      }
 
-    try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      final var options = prepareOptions(managedResources, false);
+      final var snapshotOnlyOptions =
+          new Options(options.dbOptions(), options.cfOptions())
+              // only open existing databases
+              .setCreateIfMissing(false)
+              // this can slow down open significantly if there are many SST files
+              .setSkipCheckingSstFileSizesOnDbOpen(true);
+      managedResources.add(snapshotOnlyOptions);
+
+      return SnapshotOnlyDb.openDb(snapshotOnlyOptions, path, managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -101,13 +121,55 @@ public final class ZeebeRocksDbFactory<
     }
   }
 
-  private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
-    // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+  private RocksDbOptions prepareOptions(
+      final List<AutoCloseable> managedResources, final boolean physicalColumnFamilies) {
+    if (!physicalColumnFamilies) {
+      // column family options have to be closed as last
+      final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+      managedResources.add(columnFamilyOptions);
+      final var dbOptions = createDefaultDbOptions(managedResources);
+      managedResources.add(dbOptions);
+      return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    }
+
+    // all column families share the block cache, and the memtables of all column families are
+    // charged to it as well, which keeps the memory usage within the limit regardless of the number
+    // of column families
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    final var cache = createBlockCache(totalMemoryBudget);
+    managedResources.add(cache);
+    final var writeBufferManager =
+        new WriteBufferManager(totalMemoryBudget - getBlockCacheMemory(), cache);
+    managedResources.add(writeBufferManager);
+
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(managedResources, cache, new ColumnFamilyTuning(), Long.BYTES);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var dbOptions =
+        createDefaultDbOptions(managedResources)
+            .setWriteBufferManager(writeBufferManager)
+            // the WAL may be disabled, so all column families must be flushed together for
+            // checkpoints to be consistent across them
+            .setAtomicFlush(true);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+
+    return new RocksDbOptions(
+        dbOptions,
+        columnFamilyOptions,
+        (columnFamilyValue, prefixLength) -> {
+          final List<AutoCloseable> physicalResources = new ArrayList<>();
+          final var physicalOptions =
+              createColumnFamilyOptions(
+                  physicalResources,
+                  cache,
+                  rocksDbConfiguration.getColumnFamilyTuning(columnFamilyValue),
+                  prefixLength);
+          physicalResources.add(physicalOptions);
+          // physical column families may be created after the database was opened, but their
+          // options have to be closed as last nevertheless
+          managedResources.addAll(0, physicalResources);
+          return physicalOptions;
+        });
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -123,7 +185,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // physical column families are created explicitly, if at all
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -169,7 +231,23 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    final var cache = createBlockCache(getBlockCacheMemory());
+    closeables.add(cache);
+    return createDefaultColumnFamilyOptions(
+        closeables, cache, new ColumnFamilyTuning(), Long.BYTES);
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final Cache cache,
+      final ColumnFamilyTuning tuning,
+      final int prefixLength) {
+    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    if (!userProvidedColumnFamilyOptions.isEmpty()) {
+      return createFromUserOptions(userProvidedColumnFamilyOptions);
+    }
+
+    return createDefaultColumnFamilyOptions(closeables, cache, tuning, prefixLength);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -188,14 +266,21 @@ public final class ZeebeRocksDbFactory<
     return columnFamilyOptions;
   }
 
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final Cache cache,
+      final ColumnFamilyTuning tuning,
+      final int prefixLength) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -213,16 +298,18 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(closeables, cache, tuning.getBloomFilterBitsPerKey());
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
-    return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
+    columnFamilyOptions
+        // to extract our column family type (used as prefix) and seek faster; physical column
+        // families may extract a longer prefix, e.g. the column family type and the scope key
+        .useFixedLengthPrefixExtractor(prefixLength)
         .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
@@ -267,16 +354,54 @@ public final class ZeebeRocksDbFactory<
         .setTargetFileSizeMultiplier(2)
         // misc
         .setTableFormatConfig(tableConfig);
+    applyCompressionAndCompaction(columnFamilyOptions, closeables, tuning);
+    return columnFamilyOptions;
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private void applyCompressionAndCompaction(
+      final ColumnFamilyOptions columnFamilyOptions,
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyTuning tuning) {
+    final var compression =
+        switch (tuning.getCompression()) {
+          case DEFAULT -> null;
+          case NONE -> CompressionType.NO_COMPRESSION;
+          case LZ4 -> CompressionType.LZ4_COMPRESSION;
+          case ZSTD -> CompressionType.ZSTD_COMPRESSION;
+        };
+    if (compression != null) {
+      columnFamilyOptions.setCompressionPerLevel(
+          List.of(compression, compression, compression, compression));
+    }
+
+    if (tuning.getCompaction() == Compaction.UNIVERSAL) {
+      columnFamilyOptions
+          .setCompactionStyle(CompactionStyle.UNIVERSAL)
+          .setLevelCompactionDynamicLevelBytes(false);
+    } else if (tuning.getCompaction() == Compaction.FIFO) {
+      final var fifoOptions =
+          new CompactionOptionsFIFO().setMaxTableFilesSize(tuning.getFifoMaxTableFilesSize());
+      closeables.add(fifoOptions);
+      // FIFO compaction keeps all files in a single level, and simply drops the oldest ones
+      columnFamilyOptions
+          .setCompactionStyle(CompactionStyle.FIFO)
+          .setCompactionOptionsFIFO(fifoOptions)
+          .setLevelCompactionDynamicLevelBytes(false)
+          .setNumLevels(1)
+          .setCompressionPerLevel(
+              List.of(compression != null ? compression : CompressionType.NO_COMPRESSION));
+    }
+  }
+
+  private Cache createBlockCache(final long blockCacheMemory) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
+    return new LRUCache(blockCacheMemory, 8, false, 0.15);
+  }
 
-    final var filter = new BloomFilter(10, false);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache, final double bloomFilterBitsPerKey) {
+    final var filter = new BloomFilter(bloomFilterBitsPerKey, false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings.EvictionPolicy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the committed values of a single column family, shared by all transactions of the
+ * database. Entries are only added by committing transactions (see {@link TransactionCache}), or by
+ * reads which didn't race with a commit, such that the cache never returns a value which is older
+ * than the one committed to RocksDB.
+ *
+ * <p>Values are never modified once cached, so they can be wrapped by readers without copying.
+ *
+ * <p>Writes which bypass the transactions have to clear the cache of the column family. The only
+ * such writes are the migration of a column family into its physical column family, which clears
+ * its cache, and the deletion of the migrated range, which only affects the shared column family
+ * that is no longer read. Recovering from a snapshot doesn't write into an open database, but opens
+ * a new one, which starts with empty caches.
+ */
+final class ColumnFamilyCache {
+
+  /** Cached for keys which don't exist, to distinguish them from keys which aren't cached. */
+  static final byte[] ABSENT = new byte[0];
+
+  /** Rough estimate of the memory used per entry, in addition to its key and value. */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long maxSize;
+  private final Map<CacheKey, byte[]> entries;
+  private long size;
+  // incremented by every commit, such that concurrent reads don't cache what was just overwritten
+  private long version;
+
+  ColumnFamilyCache(final StateCacheSettings settings) {
+    maxSize = settings.getMaxSize();
+    entries = new LinkedHashMap<>(16, 0.75f, settings.getEvictionPolicy() == EvictionPolicy.LRU);
+  }
+
+  /**
+   * @return the cached value, {@link #ABSENT} if the key is known to not exist, or null if it is
+   *     not cached
+   */
+  synchronized byte[] get(final CacheKey key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return the current version, which has to be passed to {@link #putIfUnchanged(CacheKey,
+   *     byte[], long)} when caching a value read from RocksDB
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches a value which was read from RocksDB, unless a transaction was committed since the given
+   * version was obtained, in which case the value may already be outdated.
+   */
+  synchronized void putIfUnchanged(final CacheKey key, final byte[] value, final long readVersion) {
+    if (version == readVersion) {
+      put(key.copy(), value);
+    }
+  }
+
+  /** Caches the values written by a committed transaction. */
+  synchronized void publish(final Map<CacheKey, byte[]> writes) {
+    version++;
+    writes.forEach(this::put);
+  }
+
+  synchronized void clear() {
+    version++;
+    entries.clear();
+    size = 0;
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  long maxSize() {
+    return maxSize;
+  }
+
+  static long weight(final CacheKey key, final byte[] value) {
+    return weight(key, value.length);
+  }
+
+  static long weight(final CacheKey key, final int valueLength) {
+    return key.length + valueLength + ENTRY_OVERHEAD;
+  }
+
+  private void put(final CacheKey key, final byte[] value) {
+    final var previous = entries.put(key, value);
+    if (previous != null) {
+      size -= weight(key, previous);
+    }
+    size += weight(key, value);
+
+    final var iterator = entries.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      size -= weight(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  /**
+   * A key of the column family, including the column family prefix. The instance used to look up
+   * entries is reused by wrapping the key buffer of the column family, while cached keys are
+   * copies.
+   */
+  static final class CacheKey {
+    private byte[] bytes;
+    private int length;
+    private int hash;
+
+    CacheKey wrap(final byte[] bytes, final int length) {
+      this.bytes = bytes;
+      this.length = length;
+      int result = 1;
+      for (int i = 0; i < length; i++) {
+        result = 31 * result + bytes[i];
+      }
+      hash = result;
+      return this;
+    }
+
+    CacheKey copy() {
+      return new CacheKey().wrap(Arrays.copyOf(bytes, length), length);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final CacheKey other)) {
+        return false;
+      }
+      return hash == other.hash
+          && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+  }
+}
@@ -20,7 +20,15 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class ColumnFamilyContext {
 
+  /**
+   * Keys and values up to this size are read through reused direct buffers; larger ones through new
+   * arrays. The direct buffers are never shrunk, so this bounds the direct memory which a single
+   * large key or value can pin per column family.
+   */
+  static final int MAX_DIRECT_BUFFER_SIZE = 64 * 1024;
+
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_DIRECT_BUFFER_SIZE = 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -29,6 +37,10 @@ public class ColumnFamilyContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // allocated on the first direct read, and grown on demand up to MAX_DIRECT_BUFFER_SIZE
+  private ByteBuffer directKeyBuffer;
+  private ByteBuffer directValueBuffer;
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -89,6 +101,42 @@ public class ColumnFamilyContext {
     }
   }
 
+  /** Wraps a slice of the given buffer, which must not be modified while wrapped. */
+  void wrapValueView(final DirectBuffer buffer, final int offset, final int length) {
+    valueViewBuffer.wrap(buffer, offset, length);
+  }
+
+  /**
+   * @return true if the key written by {@link #writeKey(DbKey)} fits into the direct key buffer
+   */
+  boolean isDirectKeyAvailable() {
+    return keyLength <= MAX_DIRECT_BUFFER_SIZE;
+  }
+
+  /**
+   * @return a direct buffer containing the key written by {@link #writeKey(DbKey)}, between its
+   *     position and limit; only available if {@link #isDirectKeyAvailable()}
+   */
+  ByteBuffer getDirectKey() {
+    directKeyBuffer = ensureDirectCapacity(directKeyBuffer, keyLength);
+    directKeyBuffer.clear();
+    directKeyBuffer.put(keyBuffer.byteArray(), 0, keyLength).flip();
+    return directKeyBuffer;
+  }
+
+  /**
+   * @return a cleared direct buffer to read a value into, with at least the given capacity
+   */
+  ByteBuffer getDirectValueBuffer(final int minCapacity) {
+    directValueBuffer = ensureDirectCapacity(directValueBuffer, minCapacity);
+    return directValueBuffer.clear();
+  }
+
+  /** Wraps the first bytes of the direct value buffer, which a value was read into. */
+  void wrapDirectValueView(final int length) {
+    valueViewBuffer.wrap(directValueBuffer, 0, length);
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -115,6 +163,15 @@ public class ColumnFamilyContext {
     }
   }
 
+  private static ByteBuffer ensureDirectCapacity(final ByteBuffer buffer, final int capacity) {
+    if (buffer != null && buffer.capacity() >= capacity) {
+      return buffer;
+    }
+    final int newCapacity =
+        Math.max(INITIAL_DIRECT_BUFFER_SIZE, Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1);
+    return ByteBuffer.allocateDirect(newCapacity);
+  }
+
   ByteBuffer keyWithColumnFamily(DbKey key) {
     final var bytes = ByteBuffer.allocate(Long.BYTES + key.getLength());
     final var buffer = new UnsafeBuffer(bytes);
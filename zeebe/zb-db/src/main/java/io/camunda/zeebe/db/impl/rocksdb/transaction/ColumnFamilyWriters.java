@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of which open transaction writes to which logical column family, if writes are not
+ * checked for conflicts on commit (see {@link WriteBatchZeebeTransaction}). A column family can
+ * only be written by one open transaction at a time, such that concurrent transactions can't
+ * overwrite each other's writes; different column families can still be written concurrently, e.g.
+ * by the stream processor and the exporters.
+ */
+final class ColumnFamilyWriters {
+
+  private final Map<Integer, ZeebeTransaction> writers = new ConcurrentHashMap<>();
+
+  /**
+   * Claims the column family for the given transaction, until it is released again.
+   *
+   * @throws IllegalStateException if another open transaction wrote to the column family
+   */
+  void claim(final int columnFamilyValue, final ZeebeTransaction transaction) {
+    final var writer = writers.putIfAbsent(columnFamilyValue, transaction);
+    if (writer != null && writer != transaction) {
+      throw new IllegalStateException(
+          ("Expected column family %d to be written by a single transaction at a time, but it is"
+                  + " already written by another open transaction; concurrent writes are not"
+                  + " supported when single writer transactions are enabled")
+              .formatted(columnFamilyValue));
+    }
+  }
+
+  void release(final int columnFamilyValue, final ZeebeTransaction transaction) {
+    writers.remove(columnFamilyValue, transaction);
+  }
+}
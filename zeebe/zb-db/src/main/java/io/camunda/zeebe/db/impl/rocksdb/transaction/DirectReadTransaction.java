@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+
+/**
+ * Implemented by transactions which can read values into direct buffers, without allocating an
+ * array per read. Column families check for it and otherwise read through {@link
+ * ZeebeTransaction#get(long, long, byte[], int)}.
+ */
+interface DirectReadTransaction {
+
+  /**
+   * Reads the value of the key into the given direct buffer, starting at its position, instead of
+   * returning a new array.
+   *
+   * @param key a direct buffer containing the key between its position and limit
+   * @param value a direct buffer to read the value into, up to its limit
+   * @return the length of the value, which was only read completely if it didn't exceed the
+   *     remaining space of the buffer, or {@link ZeebeTransaction#NOT_FOUND} if the key doesn't
+   *     exist
+   */
+  int get(ReadOptions readOptions, ColumnFamilyHandle handle, ByteBuffer key, ByteBuffer value)
+      throws Exception;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.impl.DbByte;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbInt;
+import io.camunda.zeebe.db.impl.DbLong;
+
+/**
+ * Derives the prefix by which keys of a column family are iterated from the type of its keys.
+ * Composite keys are iterated by their first part, e.g. all variables of a scope, so a fixed length
+ * first part makes a good prefix to build bloom filters and hash indexes on.
+ */
+final class KeyLayout {
+  private static final int VARIABLE_LENGTH = -1;
+
+  private KeyLayout() {}
+
+  /**
+   * @return the length of the fixed length prefix by which keys like the given one are iterated,
+   *     including the column family prefix
+   */
+  static int prefixLength(final DbKey key) {
+    return Long.BYTES + iteratedPrefixLength(key);
+  }
+
+  private static int iteratedPrefixLength(final DbKey key) {
+    if (key instanceof final DbCompositeKey<?, ?> compositeKey) {
+      final int firstLength = fixedLength(compositeKey.first());
+      return firstLength != VARIABLE_LENGTH
+          ? firstLength
+          : iteratedPrefixLength(compositeKey.first());
+    }
+
+    return 0;
+  }
+
+  private static int fixedLength(final DbKey key) {
+    return switch (key) {
+      case final DbLong ignored -> Long.BYTES;
+      case final DbInt ignored -> Integer.BYTES;
+      case final DbByte ignored -> Byte.BYTES;
+      case final DbForeignKey<?> foreignKey -> fixedLength(foreignKey.inner());
+      case final DbCompositeKey<?, ?> compositeKey -> {
+        final int firstLength = fixedLength(compositeKey.first());
+        final int secondLength = fixedLength(compositeKey.second());
+        yield firstLength == VARIABLE_LENGTH || secondLength == VARIABLE_LENGTH
+            ? VARIABLE_LENGTH
+            : firstLength + secondLength;
+      }
+      default -> VARIABLE_LENGTH;
+    };
+  }
+}
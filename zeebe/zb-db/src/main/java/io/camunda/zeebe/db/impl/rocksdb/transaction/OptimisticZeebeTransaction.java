@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.GetStatus;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Status.Code;
+import org.rocksdb.Transaction;
+
+/** A transaction backed by an optimistic RocksDB transaction, which is renewed after each use. */
+final class OptimisticZeebeTransaction extends ZeebeTransaction implements DirectReadTransaction {
+
+  private final long nativeHandle;
+  private final TransactionRenovator transactionRenovator;
+
+  private Transaction transaction;
+
+  OptimisticZeebeTransaction(
+      final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this.transactionRenovator = transactionRenovator;
+    this.transaction = transaction;
+    try {
+      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      final int keyOffset = 0;
+      final int valueOffset = 0;
+      RocksDbInternal.putWithHandle.invokeExact(
+          nativeHandle,
+          key,
+          keyOffset,
+          keyLength,
+          value,
+          valueOffset,
+          valueLength,
+          columnFamilyHandle,
+          false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      final int keyOffset = 0;
+      return (byte[])
+          RocksDbInternal.getWithHandle.invokeExact(
+              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public int get(
+      final ReadOptions readOptions,
+      final ColumnFamilyHandle handle,
+      final ByteBuffer key,
+      final ByteBuffer value)
+      throws RocksDBException {
+    final GetStatus result = transaction.get(readOptions, handle, key, value);
+    return result.status.getCode() == Code.Ok ? result.requiredSize : NOT_FOUND;
+  }
+
+  @Override
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(readOptions, Collections.nCopies(keys.size(), handle), keys);
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.removeWithHandle.invokeExact(
+          nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return transaction.getIterator(options, handle);
+  }
+
+  @Override
+  void renew() {
+    transaction = transactionRenovator.renewTransaction(transaction);
+  }
+
+  @Override
+  void commitTransaction() throws RocksDBException {
+    transaction.commit();
+  }
+
+  @Override
+  void rollbackTransaction() throws RocksDBException {
+    transaction.rollback();
+  }
+
+  @Override
+  public void close() {
+    transaction.close();
+  }
+}
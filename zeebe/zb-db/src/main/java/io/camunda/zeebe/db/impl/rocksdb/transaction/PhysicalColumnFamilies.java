@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Naming of the physical RocksDB column families, which store one logical column family each. The
+ * name is derived from the value of the logical column family, which is stable, unlike the name of
+ * the enum constant. It also contains the length of the prefix extracted from its keys, such that
+ * the same prefix extractor is used whenever the column family is opened again, e.g. "cf-12-16".
+ *
+ * <p>Keys in physical column families still start with the column family prefix, such that keys
+ * are the same in both layouts, and data can be moved from one to the other as is.
+ */
+public final class PhysicalColumnFamilies {
+  private static final String NAME_PREFIX = "cf-";
+  private static final String SEPARATOR = "-";
+
+  private PhysicalColumnFamilies() {}
+
+  /**
+   * @param prefixLength the prefix length resolved from the key layout of the column family, or its
+   *     tuning; there is no default, as a wrong prefix length breaks prefix iteration
+   */
+  public static byte[] name(final int columnFamilyValue, final int prefixLength) {
+    return (NAME_PREFIX + columnFamilyValue + SEPARATOR + prefixLength)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  public static int value(final byte[] name) {
+    return parse(name)[0];
+  }
+
+  public static int prefixLength(final byte[] name) {
+    return parse(name)[1];
+  }
+
+  private static int[] parse(final byte[] name) {
+    final var nameString = new String(name, StandardCharsets.UTF_8);
+    final var parts = nameString.split(SEPARATOR);
+    if (parts.length != 3 || !nameString.startsWith(NAME_PREFIX)) {
+      throw new IllegalStateException(
+          "Expected a physical column family named '%s<value>%s<prefix length>', but found '%s'"
+              .formatted(NAME_PREFIX, SEPARATOR, nameString));
+    }
+
+    return new int[] {Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+  }
+
+  /**
+   * @return the names of the physical column families of the database at the given path, which
+   *     excludes the default column family; empty if there is no database yet
+   */
+  public static List<byte[]> list(final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path).stream()
+          .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+          .toList();
+    }
+  }
+
+  /**
+   * @return the descriptors to open the default column family and the given physical column
+   *     families with
+   */
+  public static List<ColumnFamilyDescriptor> descriptors(
+      final RocksDbOptions options, final List<byte[]> names) {
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(names.size() + 1);
+    descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : names) {
+      descriptors.add(
+          new ColumnFamilyDescriptor(
+              name, options.physicalCfOptions().create(value(name), prefixLength(name))));
+    }
+
+    return descriptors;
+  }
+}
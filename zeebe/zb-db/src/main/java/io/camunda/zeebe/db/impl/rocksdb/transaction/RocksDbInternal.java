@@ -26,6 +26,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -116,8 +117,80 @@ public final class RocksDbInternal {
     }
   }
 
+  private static MethodHandle resolve(
+      final Class<?> type, final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    final var method = type.getDeclaredMethod(name, parameterTypes);
+    method.setAccessible(true);
+    try {
+      return MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
   }
+
+  /**
+   * The internal methods of {@link WriteBatchWithIndex}, which are resolved on first use, such that
+   * databases using optimistic transactions don't depend on them.
+   */
+  static final class WriteBatchMethods {
+
+    static final MethodHandle putWithHandle;
+    static final MethodHandle getFromBatchAndDbWithHandle;
+    static final MethodHandle removeWithHandle;
+
+    static {
+      try {
+        /*
+         final native void put(final long handle, final byte[] key, final int keyLen,
+             final byte[] value, final int valueLen, final long cfHandle);
+        */
+        putWithHandle =
+            resolve(
+                WriteBatchWithIndex.class,
+                "put",
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+        /*
+         private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+             final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle);
+        */
+        getFromBatchAndDbWithHandle =
+            resolve(
+                WriteBatchWithIndex.class,
+                "getFromBatchAndDB",
+                Long.TYPE,
+                Long.TYPE,
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+        /*
+         final native void delete(final long handle, final byte[] key, final int keyLen,
+             final long cfHandle);
+        */
+        removeWithHandle =
+            resolve(
+                WriteBatchWithIndex.class,
+                "delete",
+                Long.TYPE,
+                byte[].class,
+                Integer.TYPE,
+                Long.TYPE);
+      } catch (final NoSuchMethodException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    private WriteBatchMethods() {}
+  }
 }
@@ -15,11 +15,37 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Per default, Zeebe only uses a single RocksDB column family, the default one, which contains
+ * all logical column families. When physical column families are used, each logical column family
+ * is stored in its own RocksDB column family, with options created per logical column family.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options used for the default column family
+ * @param physicalCfOptions Creates the options of the physical column family of a logical column
+ *     family; null if physical column families are not used
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    PhysicalCfOptionsFactory physicalCfOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, null);
+  }
+
+  public boolean usesPhysicalColumnFamilies() {
+    return physicalCfOptions != null;
+  }
+
+  @FunctionalInterface
+  public interface PhysicalCfOptionsFactory {
+
+    /**
+     * @param columnFamilyValue the value of the logical column family
+     * @param prefixLength the length of the fixed prefix to extract from keys, including the column
+     *     family prefix
+     * @return the options of the physical column family
+     */
+    ColumnFamilyOptions create(int columnFamilyValue, int prefixLength);
+  }
+}
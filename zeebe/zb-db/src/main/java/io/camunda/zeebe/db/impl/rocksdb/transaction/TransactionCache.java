@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCache.CacheKey;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Keeps the values written by the current transaction to cached column families. They are only
+ * visible to the transaction itself until it is committed, when they are published to the {@link
+ * ColumnFamilyCache} of the column family; on rollback, they are discarded.
+ *
+ * <p>Written values are staged in a buffer which is reused by later transactions, and only copied
+ * when they are published, such that values which are overwritten or rolled back are never
+ * allocated. Staged values are never overwritten within a transaction: a key which is written again
+ * is staged anew, such that values read before remain unchanged, as their views may still be used.
+ *
+ * <p>The writes per column family are bounded by the size of its cache. If a transaction writes
+ * more, its writes are dropped, it bypasses the cache of the column family for the rest of the
+ * transaction, and the cache is cleared on commit.
+ */
+final class TransactionCache {
+
+  /** Returned by {@link #read(ColumnFamilyCache, CacheKey, DirectBuffer)} for unknown keys. */
+  static final int NOT_WRITTEN = -2;
+
+  private final Map<ColumnFamilyCache, Writes> writesByCache = new IdentityHashMap<>();
+
+  /**
+   * Wraps the given view around the value written by this transaction, which is valid until the
+   * transaction is committed or rolled back.
+   *
+   * @return the length of the value, {@link ZeebeTransaction#NOT_FOUND} if the transaction deleted
+   *     the key, or {@link #NOT_WRITTEN} if it is unknown whether the transaction wrote the key
+   */
+  int read(final ColumnFamilyCache cache, final CacheKey key, final DirectBuffer view) {
+    final var writes = writesByCache.get(cache);
+    final var write = writes == null ? null : writes.values.get(key);
+    if (write == null) {
+      return NOT_WRITTEN;
+    }
+
+    if (write.length != ZeebeTransaction.NOT_FOUND) {
+      view.wrap(writes.staged, write.offset, write.length);
+    }
+    return write.length;
+  }
+
+  /**
+   * @return true if the caches can be used by this transaction, which is not the case once it wrote
+   *     more to the column family than it could keep track of; it has to read from RocksDB then
+   */
+  boolean isCacheable(final ColumnFamilyCache cache) {
+    final var writes = writesByCache.get(cache);
+    return writes == null || !writes.overflowed;
+  }
+
+  /** Stages the first bytes of the given value, which can be reused afterwards. */
+  void put(
+      final ColumnFamilyCache cache, final CacheKey key, final byte[] value, final int length) {
+    final var writes = writesByCache.computeIfAbsent(cache, ignored -> new Writes());
+    final var write = writes.write(key);
+    if (write == null) {
+      return;
+    }
+
+    write.offset = writes.stagedLength;
+    writes.stagedLength += length;
+    writes.staged.putBytes(write.offset, value, 0, length);
+    writes.track(cache, key, write, length);
+  }
+
+  void delete(final ColumnFamilyCache cache, final CacheKey key) {
+    final var writes = writesByCache.computeIfAbsent(cache, ignored -> new Writes());
+    final var write = writes.write(key);
+    if (write != null) {
+      writes.track(cache, key, write, ZeebeTransaction.NOT_FOUND);
+    }
+  }
+
+  void commit() {
+    writesByCache.forEach(
+        (cache, writes) -> {
+          if (writes.overflowed) {
+            cache.clear();
+          } else if (!writes.values.isEmpty()) {
+            cache.publish(writes.copyValues());
+          }
+          writes.reset();
+        });
+  }
+
+  void rollback() {
+    writesByCache.values().forEach(Writes::reset);
+  }
+
+  private static final class Writes {
+    private final Map<CacheKey, Write> values = new HashMap<>();
+    private final Map<CacheKey, byte[]> published = new HashMap<>();
+    private final ExpandableArrayBuffer staged = new ExpandableArrayBuffer();
+    private int stagedLength;
+    private long size;
+    private boolean overflowed;
+
+    /**
+     * @return the write of the given key, which is added if the key wasn't written before, or null
+     *     if the writes overflowed
+     */
+    private Write write(final CacheKey key) {
+      if (overflowed) {
+        return null;
+      }
+
+      final var write = values.get(key);
+      if (write != null) {
+        size -= ColumnFamilyCache.weight(key, Math.max(write.length, 0));
+        return write;
+      }
+
+      final var added = new Write();
+      values.put(key.copy(), added);
+      return added;
+    }
+
+    private void track(
+        final ColumnFamilyCache cache, final CacheKey key, final Write write, final int length) {
+      write.length = length;
+      size += ColumnFamilyCache.weight(key, Math.max(length, 0));
+      if (size > cache.maxSize() || stagedLength > cache.maxSize()) {
+        overflowed = true;
+        values.clear();
+        stagedLength = 0;
+        size = 0;
+      }
+    }
+
+    /** Copies the staged values, as the published values are kept by the cache. */
+    private Map<CacheKey, byte[]> copyValues() {
+      published.clear();
+      values.forEach(
+          (key, write) -> {
+            final byte[] value;
+            if (write.length == ZeebeTransaction.NOT_FOUND) {
+              value = ColumnFamilyCache.ABSENT;
+            } else {
+              value = new byte[write.length];
+              staged.getBytes(write.offset, value);
+            }
+            published.put(key, value);
+          });
+      return published;
+    }
+
+    private void reset() {
+      values.clear();
+      published.clear();
+      stagedLength = 0;
+      size = 0;
+      overflowed = false;
+    }
+  }
+
+  /** The staged value of a key, with {@link ZeebeTransaction#NOT_FOUND} as length if deleted. */
+  private static final class Write {
+    private int offset;
+    private int length;
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
 
 import io.camunda.zeebe.db.ColumnFamily;
@@ -18,15 +19,24 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCache.CacheKey;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 
 /**
  * Some code conventions that we should follow here:
@@ -47,6 +57,8 @@ class TransactionalColumnFamily<
         ValueType extends DbValue>
     implements ColumnFamily<KeyType, ValueType> {
 
+  private static final int VALUE_TOO_LARGE = -2;
+
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
@@ -56,6 +68,17 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final int prefixExtractorLength;
+  private final ReadOptions iterationReadOptions;
+  private final ReadOptions readOptions;
+  // null if the column family is not cached
+  private final ColumnFamilyCache cache;
+  private final CacheKey cacheKey = new CacheKey();
+  private final DirectBuffer writtenValue = new UnsafeBuffer(0, 0);
+  // result of the last existence check, kept in a field to not allocate a holder per check
+  private int checkedValueLength;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -74,6 +97,13 @@ class TransactionalColumnFamily<
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    transactionDb.openColumnFamily(columnFamily.getValue(), keyInstance);
+    handle = transactionDb.getColumnFamilyHandle(columnFamily.getValue());
+    nativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily.getValue());
+    prefixExtractorLength = transactionDb.getPrefixExtractorLength(columnFamily.getValue());
+    iterationReadOptions = transactionDb.createIterationReadOptions();
+    readOptions = transactionDb.getDefaultReadOptions();
+    cache = transactionDb.getCache(columnFamily.getValue());
   }
 
   @Override
@@ -86,12 +116,14 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
+            transaction.beforeWrite(columnFamily.getValue());
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +137,14 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
+            transaction.beforeWrite(columnFamily.getValue());
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +157,14 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
+            transaction.beforeWrite(columnFamily.getValue());
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +175,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            readValue(transaction);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +186,34 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final KeyType key,
+      final int count,
+      final IntConsumer keyWriter,
+      final ObjIntConsumer<ValueType> consumer) {
+    if (count == 0) {
+      return;
+    }
+
+    final List<byte[]> values = new ArrayList<>(count);
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> values.addAll(multiGetValues(transaction, key, count, keyWriter)));
+    }
+
+    for (int index = 0; index < count; index++) {
+      columnFamilyContext.wrapValueView(values.get(index));
+      final var valueBuffer = columnFamilyContext.getValueView();
+      if (valueBuffer != null) {
+        valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+        consumer.accept(valueInstance, index);
+      } else {
+        consumer.accept(null, index);
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +283,12 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
+            transaction.beforeWrite(columnFamily.getValue());
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -239,10 +299,12 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
+            transaction.beforeWrite(columnFamily.getValue());
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -253,15 +315,9 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            checkedValueLength = readValueLength(transaction);
           });
-      return !columnFamilyContext.isValueViewEmpty();
+      return checkedValueLength > 0;
     }
   }
 
@@ -306,13 +362,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value != null) {
+    if (readValueLength(transaction) != ZeebeTransaction.NOT_FOUND) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
     }
@@ -322,15 +372,220 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
+    if (readValueLength(transaction) == ZeebeTransaction.NOT_FOUND) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    }
+  }
+
+  /**
+   * Reads the value of the key in the column family context into its value view. Unless the column
+   * family is cached, the value is read into a reused direct buffer if possible, which avoids
+   * allocating an array per read. Values written by this transaction to a cached column family are
+   * wrapped where they are staged.
+   *
+   * @return true if the key exists
+   */
+  private boolean readValue(final ZeebeTransaction transaction) throws Exception {
+    final int writtenLength = readWrittenValue(transaction);
+    if (writtenLength != TransactionCache.NOT_WRITTEN) {
+      if (writtenLength == ZeebeTransaction.NOT_FOUND) {
+        columnFamilyContext.wrapValueView(null);
+        return false;
+      }
+      columnFamilyContext.wrapValueView(writtenValue, 0, writtenLength);
+      return true;
+    }
+
+    if (transaction instanceof final DirectReadTransaction directReads && canReadDirect()) {
+      final int length = readValueDirect(directReads);
+      if (length != VALUE_TOO_LARGE) {
+        return length != ZeebeTransaction.NOT_FOUND;
+      }
+    }
+
+    final byte[] value = getValue(transaction);
+    columnFamilyContext.wrapValueView(value);
+    return value != null;
+  }
+
+  /**
+   * Checks whether the key in the column family context exists, without reading its value into the
+   * value view, which may still be wrapped by the value instance. If possible, the value isn't even
+   * copied.
+   *
+   * @return the length of the value, or {@link ZeebeTransaction#NOT_FOUND}
+   */
+  private int readValueLength(final ZeebeTransaction transaction) throws Exception {
+    final int writtenLength = readWrittenValue(transaction);
+    if (writtenLength != TransactionCache.NOT_WRITTEN) {
+      return writtenLength;
+    }
+
+    if (transaction instanceof final DirectReadTransaction directReads && canReadDirect()) {
+      return directReads.get(
+          readOptions,
+          handle,
+          columnFamilyContext.getDirectKey(),
+          columnFamilyContext.getDirectValueBuffer(0).limit(0));
+    }
+
+    final byte[] value = getValue(transaction);
+    return value == null ? ZeebeTransaction.NOT_FOUND : value.length;
+  }
+
+  /**
+   * Values of cached column families are read through the cache, and keys which exceed the direct
+   * key buffer are read into arrays instead.
+   */
+  private boolean canReadDirect() {
+    return cache == null && columnFamilyContext.isDirectKeyAvailable();
+  }
+
+  /**
+   * @return the length of the value, {@link ZeebeTransaction#NOT_FOUND}, or {@link
+   *     #VALUE_TOO_LARGE} if it exceeds {@link ColumnFamilyContext#MAX_DIRECT_BUFFER_SIZE}, in
+   *     which case it is not wrapped in the value view
+   */
+  private int readValueDirect(final DirectReadTransaction transaction) throws Exception {
+    var valueBuffer = columnFamilyContext.getDirectValueBuffer(0);
+    int length =
+        transaction.get(readOptions, handle, columnFamilyContext.getDirectKey(), valueBuffer);
+    if (length > valueBuffer.capacity() && length <= ColumnFamilyContext.MAX_DIRECT_BUFFER_SIZE) {
+      // only the beginning was read, so read it again with a large enough buffer
+      valueBuffer = columnFamilyContext.getDirectValueBuffer(length);
+      length =
+          transaction.get(readOptions, handle, columnFamilyContext.getDirectKey(), valueBuffer);
+    }
+
+    if (length == ZeebeTransaction.NOT_FOUND) {
+      columnFamilyContext.wrapValueView(null);
+      return ZeebeTransaction.NOT_FOUND;
+    }
+    if (length > valueBuffer.capacity()) {
+      return VALUE_TOO_LARGE;
+    }
+    columnFamilyContext.wrapDirectValueView(length);
+    return length;
+  }
+
+  /**
+   * Reads the values of all keys written by the key writer. If the column family is cached, the
+   * values are read one by one to make use of the cache, otherwise with a single multi get.
+   */
+  private List<byte[]> multiGetValues(
+      final ZeebeTransaction transaction,
+      final KeyType key,
+      final int count,
+      final IntConsumer keyWriter)
+      throws Exception {
+    final List<byte[]> values = new ArrayList<>(count);
+    final List<byte[]> keys = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      keyWriter.accept(index);
+      columnFamilyContext.writeKey(key);
+      if (cache != null) {
+        values.add(getValue(transaction));
+      } else {
+        keys.add(
+            Arrays.copyOf(
+                columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+      }
+    }
+
+    return cache != null ? values : transaction.multiGet(readOptions, handle, keys);
+  }
+
+  /**
+   * Reads the value of the key in the column family context, from the cache if possible.
+   *
+   * @return the value, or null if the key doesn't exist
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    final var transactionCache = transaction.cache();
+    if (cache == null || !transactionCache.isCacheable(cache)) {
+      return transaction.get(
+          nativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    final var key =
+        cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    final int writtenLength = transactionCache.read(cache, key, writtenValue);
+    if (writtenLength != TransactionCache.NOT_WRITTEN) {
+      metrics.countCacheHit();
+      // copied, as the view is wrapped around the next value which is read
+      return writtenLength == ZeebeTransaction.NOT_FOUND ? null : bufferAsArray(writtenValue);
+    }
+
+    final var cached = cache.get(key);
+    if (cached != null) {
+      metrics.countCacheHit();
+      return cached == ColumnFamilyCache.ABSENT ? null : cached;
+    }
+
+    metrics.countCacheMiss();
+    final long version = cache.version();
+    final byte[] value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
-    if (value == null) {
-      throw new ZeebeDbInconsistentException(
-          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    cache.putIfUnchanged(key, value == null ? ColumnFamilyCache.ABSENT : value, version);
+    return value;
+  }
+
+  /**
+   * Reads the value written to the key in the column family context by this transaction into
+   * {@link #writtenValue}, if the column family is cached.
+   *
+   * @return the length of the value, {@link ZeebeTransaction#NOT_FOUND} if the transaction deleted
+   *     the key, or {@link TransactionCache#NOT_WRITTEN} if it's unknown whether it wrote the key
+   */
+  private int readWrittenValue(final ZeebeTransaction transaction) {
+    if (cache == null || !transaction.cache().isCacheable(cache)) {
+      return TransactionCache.NOT_WRITTEN;
+    }
+
+    final int length =
+        transaction
+            .cache()
+            .read(
+                cache,
+                cacheKey.wrap(
+                    columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()),
+                writtenValue);
+    if (length != TransactionCache.NOT_WRITTEN) {
+      metrics.countCacheHit();
+    }
+    return length;
+  }
+
+  /** Writes through to the cache, which stages the value until the transaction is committed. */
+  private void cacheWrite(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache != null) {
+      transaction
+          .cache()
+          .put(
+              cache,
+              cacheKey.wrap(
+                  columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()),
+              columnFamilyContext.getValueBufferArray(),
+              valueLength);
+    }
+  }
+
+  private void cacheDelete(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      transaction
+          .cache()
+          .delete(
+              cache,
+              cacheKey.wrap(
+                  columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
     }
   }
 
@@ -346,7 +601,40 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
+  }
+
+  /**
+   * Prefix seek can only be used if the iterated prefix covers the prefix extracted from the keys,
+   * otherwise keys with the same iterated prefix may have different extracted prefixes. Either way,
+   * the iteration is bounded by the next prefix, such that RocksDB stops reading blocks once the
+   * prefix is exhausted, instead of reading ahead to the next key of an unrelated prefix.
+   *
+   * <p>The options are reused by every iteration over this column family. This is safe even for
+   * nested iterations, since RocksDB copies them when the iterator is created; only the upper bound
+   * has to outlive the iterator.
+   */
+  private ReadOptions prefixReadOptions(final int prefixLength, final Slice upperBound) {
+    final boolean prefixSeek = prefixLength >= prefixExtractorLength;
+    return iterationReadOptions
+        .setPrefixSameAsStart(prefixSeek)
+        .setTotalOrderSeek(!prefixSeek)
+        .setIterateUpperBound(upperBound);
+  }
+
+  /**
+   * @return the smallest key which is greater than all keys starting with the given prefix; as the
+   *     column family prefix never consists of 0xFF bytes only, such a key always exists
+   */
+  private static Slice upperBound(final byte[] prefixKey, final int prefixLength) {
+    int length = prefixLength;
+    while (prefixKey[length - 1] == (byte) 0xFF) {
+      length--;
+    }
+
+    final byte[] upperBound = Arrays.copyOf(prefixKey, length);
+    upperBound[length - 1]++;
+    return new Slice(upperBound);
   }
 
   /**
@@ -391,8 +679,9 @@ class TransactionalColumnFamily<
       columnFamilyContext.withPrefixKey(
           prefix,
           (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
+            try (final Slice upperBound = upperBound(prefixKey, prefixLength);
+                final RocksIterator iterator =
+                    newIterator(context, prefixReadOptions(prefixLength, upperBound))) {
 
               boolean shouldVisitNext = true;
 
@@ -438,8 +727,9 @@ class TransactionalColumnFamily<
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
+          try (final Slice upperBound = upperBound(prefixKey, prefixLength);
+              final RocksIterator iterator =
+                  newIterator(context, prefixReadOptions(prefixLength, upperBound))) {
 
             for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                 iterator.isValid();
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb.getNativeHandle;
+
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.WriteBatchMethods;
+import org.agrona.LangUtil;
+import org.agrona.collections.IntHashSet;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which collects its writes in a {@link WriteBatchWithIndex}, and writes them to the
+ * database at once on commit. Reads and iterators go through the batch first, such that the
+ * transaction sees its own writes, and otherwise read the latest committed state.
+ *
+ * <p>Unlike optimistic transactions, writes are not checked for conflicts on commit, so a key must
+ * not be written by concurrent transactions. This is enforced per logical column family: while a
+ * transaction is open, it is the only one which may write to the column families it wrote to, see
+ * {@link ColumnFamilyWriters}.
+ */
+final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbNativeHandle;
+  private final WriteOptions writeOptions;
+  // overwrites previous writes of the same key, which iterating over the batch relies on
+  private final WriteBatchWithIndex batch = new WriteBatchWithIndex(true);
+  private final long batchNativeHandle;
+  private final ColumnFamilyWriters writers;
+  // the column families claimed by the open transaction, which are released on commit or rollback
+  private final IntHashSet writtenColumnFamilies = new IntHashSet();
+
+  WriteBatchZeebeTransaction(
+      final RocksDB db, final WriteOptions writeOptions, final ColumnFamilyWriters writers) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    this.writers = writers;
+    dbNativeHandle = getNativeHandle(db);
+    batchNativeHandle = getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      WriteBatchMethods.putWithHandle.invokeExact(
+          batchNativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          WriteBatchMethods.getFromBatchAndDbWithHandle.invokeExact(
+              batchNativeHandle,
+              dbNativeHandle,
+              readOptionsHandle,
+              key,
+              keyLength,
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      WriteBatchMethods.removeWithHandle.invokeExact(
+          batchNativeHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator owns the base iterator, and closes it
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  void beforeWrite(final int columnFamilyValue) {
+    if (writtenColumnFamilies.add(columnFamilyValue)) {
+      writers.claim(columnFamilyValue, this);
+    }
+  }
+
+  @Override
+  void renew() {
+    // the batch is cleared on commit and rollback, so it is empty already
+  }
+
+  @Override
+  void commitTransaction() throws RocksDBException {
+    try {
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+        batch.clear();
+      }
+    } finally {
+      releaseColumnFamilies();
+    }
+  }
+
+  @Override
+  void rollbackTransaction() {
+    batch.clear();
+    releaseColumnFamilies();
+  }
+
+  private void releaseColumnFamilies() {
+    final var iterator = writtenColumnFamilies.iterator();
+    while (iterator.hasNext()) {
+      writers.release(iterator.nextValue(), this);
+    }
+    writtenColumnFamilies.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
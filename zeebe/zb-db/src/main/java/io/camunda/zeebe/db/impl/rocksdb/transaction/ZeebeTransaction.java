@@ -12,90 +12,81 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * A transaction on the state, which reads its own writes. How writes are isolated until they are
+ * committed is left to the implementations, see {@link OptimisticZeebeTransaction} and {@link
+ * WriteBatchZeebeTransaction}.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  /** Returned as length of a value if its key doesn't exist, see {@link DirectReadTransaction}. */
+  public static final int NOT_FOUND = -1;
 
-  private boolean inCurrentTransaction;
-  private Transaction transaction;
+  private final TransactionCache cache = new TransactionCache();
 
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
+  private boolean inCurrentTransaction;
 
-  public void put(
+  public abstract void put(
       final long columnFamilyHandle,
       final byte[] key,
       final int keyLength,
       final byte[] value,
       final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+      throws Exception;
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyLength)
+      throws Exception;
+
+  /**
+   * Reads the values of multiple keys of the same column family at once. Per default, the keys are
+   * read one after another.
+   *
+   * @return the value of each key in the same order, or null if the key doesn't exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions, final ColumnFamilyHandle handle, final List<byte[]> keys)
       throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
+    final long columnFamilyHandle = ZeebeTransactionDb.getNativeHandle(handle);
+    final long readOptionsHandle = ZeebeTransactionDb.getNativeHandle(readOptions);
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    for (final byte[] key : keys) {
+      values.add(get(columnFamilyHandle, readOptionsHandle, key, key.length));
     }
+    return values;
   }
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception;
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
-  }
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
+
+  /**
+   * Called before the transaction writes to the given logical column family. Per default nothing
+   * is done, as conflicting writes of concurrent transactions are detected on commit.
+   */
+  void beforeWrite(final int columnFamilyValue) {}
+
+  /** Prepares the underlying transaction to be used again after it was committed or rolled back. */
+  abstract void renew();
+
+  abstract void commitTransaction() throws RocksDBException;
+
+  abstract void rollbackTransaction() throws RocksDBException;
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    renew();
     inCurrentTransaction = true;
   }
 
@@ -103,6 +94,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  TransactionCache cache() {
+    return cache;
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -144,16 +139,13 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    commitTransaction();
+    cache.commit();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
-  }
-
-  @Override
-  public void close() {
-    transaction.close();
+    cache.rollback();
+    rollbackTransaction();
   }
 }
@@ -8,25 +8,35 @@
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.StateAccessCounter;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions.PhysicalCfOptionsFactory;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -35,7 +45,10 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -45,29 +58,73 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private static final long MIGRATION_BATCH_SIZE = 4 * 1024 * 1024L;
+  private static final byte[] MIGRATION_COMPLETED_KEY =
+      "physical-column-families-migrated".getBytes(StandardCharsets.UTF_8);
+  // an OptimisticTransactionDB, unless single writer transactions are used
+  private final RocksDB rocksDb;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final ReadOptions totalOrderReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  // null if all logical column families are stored in the default column family
+  private final PhysicalCfOptionsFactory physicalCfOptions;
+  // null if statistics are disabled
+  private final Statistics statistics;
+  private final Map<Integer, PhysicalColumnFamily> physicalColumnFamilies =
+      new ConcurrentHashMap<>();
+  private final Map<Integer, ColumnFamilyCache> caches = new ConcurrentHashMap<>();
+  // logical column families opened with their key layout, which are migrated if pending
+  private final Set<Integer> openedColumnFamilies = ConcurrentHashMap.newKeySet();
+  // true while the default column family still holds data of the shared layout
+  private volatile boolean migrationPending;
+  private final StateAccessCounter stateAccessCounter = new StateAccessCounter();
+  private final ColumnFamilyWriters columnFamilyWriters = new ColumnFamilyWriters();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB rocksDb,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
+    this(
+        defaultHandle,
+        rocksDb,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        accessMetricsConfiguration,
+        null);
+  }
+
+  /**
+   * @param options the options the database was opened with, which define whether physical column
+   *     families are used, and whether statistics are collected; may be null if neither is used
+   */
+  protected ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final RocksDB rocksDb,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration accessMetricsConfiguration,
+      final RocksDbOptions options) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.rocksDb = rocksDb;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    this.rocksDbConfiguration = rocksDbConfiguration;
+    physicalCfOptions = options != null ? options.physicalCfOptions() : null;
+    statistics = options != null ? options.dbOptions().statistics() : null;
 
     prefixReadOptions =
         new ReadOptions()
@@ -80,6 +137,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true).setReadaheadSize(0);
+    closables.add(totalOrderReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
   }
@@ -93,30 +152,56 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final List<byte[]> physicalColumnFamilyNames = PhysicalColumnFamilies.list(path);
+    if (!physicalColumnFamilyNames.isEmpty() && !options.usesPhysicalColumnFamilies()) {
+      throw new IllegalStateException(
+          ("Expected to open the database at '%s' with a single column family, but it contains"
+                  + " %d physical column families")
+              .formatted(path, physicalColumnFamilyNames.size()));
+    }
+
+    final List<ColumnFamilyDescriptor> cfDescriptors =
+        options.usesPhysicalColumnFamilies()
+            ? PhysicalColumnFamilies.descriptors(options, physicalColumnFamilyNames)
+            : List.of(
+                new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
-    closables.add(optimisticTransactionDB);
+    final RocksDB rocksDb =
+        rocksDbConfiguration.isSingleWriterEnabled()
+            ? RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles)
+            : OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+    closables.add(rocksDb);
+    closables.addAll(cfHandles);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final var db =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            defaultColumnFamilyHandle,
+            rocksDb,
+            closables,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            metrics,
+            options);
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    if (options.usesPhysicalColumnFamilies()) {
+      for (int i = 0; i < physicalColumnFamilyNames.size(); i++) {
+        final var name = physicalColumnFamilyNames.get(i);
+        final var handle = cfHandles.get(i + 1);
+        db.physicalColumnFamilies.put(
+            PhysicalColumnFamilies.value(name),
+            new PhysicalColumnFamily(handle, PhysicalColumnFamilies.prefixLength(name)));
+      }
+      db.startMigrationToPhysicalColumnFamilies();
+    }
+
+    return db;
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -132,16 +217,83 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * @return new read options to iterate over prefixes of a single column family, which can be
+   *     changed per iteration; they are closed together with the database
+   */
+  protected ReadOptions createIterationReadOptions() {
+    final var readOptions = new ReadOptions().setReadaheadSize(0);
+    closables.add(readOptions);
+    return readOptions;
   }
 
-  protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+  /**
+   * @return read options to iterate over prefixes which are shorter than the extracted prefix, see
+   *     {@link #getPrefixExtractorLength(int)}
+   */
+  protected ReadOptions getTotalOrderReadOptions() {
+    return totalOrderReadOptions;
+  }
+
+  /**
+   * Registers the key layout of the given logical column family, if physical column families are
+   * used. Its physical column family is created if it doesn't exist yet, with a prefix extractor
+   * derived from the layout of the given key, unless configured otherwise. If data of the shared
+   * layout is still to be migrated, the data of this column family is migrated first.
+   *
+   * <p>Must be called before the column family is accessed in any other way.
+   */
+  protected void openColumnFamily(final int columnFamilyValue, final DbKey keyInstance) {
+    if (physicalCfOptions != null && !openedColumnFamilies.contains(columnFamilyValue)) {
+      openPhysicalColumnFamily(columnFamilyValue, KeyLayout.prefixLength(keyInstance));
+    }
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * @return the handle of the RocksDB column family which stores the given logical column family
+   * @throws IllegalStateException if physical column families are used and the column family was
+   *     neither opened with its key layout, see {@link #openColumnFamily(int, DbKey)}, nor found
+   *     on disk
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final int columnFamilyValue) {
+    return physicalCfOptions == null
+        ? defaultHandle
+        : getPhysicalColumnFamily(columnFamilyValue).handle();
+  }
+
+  protected long getColumnFamilyNativeHandle(final int columnFamilyValue) {
+    return physicalCfOptions == null
+        ? defaultNativeHandle
+        : getPhysicalColumnFamily(columnFamilyValue).nativeHandle();
+  }
+
+  /**
+   * @return the length of the prefix extracted from keys of the given logical column family, which
+   *     prefix iteration can rely on if the iterated prefix is at least as long
+   */
+  protected int getPrefixExtractorLength(final int columnFamilyValue) {
+    return physicalCfOptions == null
+        ? Long.BYTES
+        : getPhysicalColumnFamily(columnFamilyValue).prefixLength();
+  }
+
+  /**
+   * @return the cache shared by all column families of the given logical column family, or null if
+   *     it is not cached
+   */
+  ColumnFamilyCache getCache(final int columnFamilyValue) {
+    final var settings = rocksDbConfiguration.getStateCache(columnFamilyValue);
+    return settings == null
+        ? null
+        : caches.computeIfAbsent(columnFamilyValue, value -> new ColumnFamilyCache(settings));
+  }
+
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
+  protected long getReadOptionsNativeHandle() {
+    return getNativeHandle(defaultReadOptions);
   }
 
   @Override
@@ -156,7 +308,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           case NONE -> new NoopColumnFamilyMetrics();
           case FINE ->
               new FineGrainedColumnFamilyMetrics(
-                  accessMetricsConfiguration.partitionId(), columnFamily);
+                  accessMetricsConfiguration.partitionId(), columnFamily, stateAccessCounter);
         };
     return new TransactionalColumnFamily<>(
         this,
@@ -170,7 +322,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(rocksDb)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -184,17 +336,67 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = rocksDb.getProperty(defaultHandle, propertyName);
+      if (propertyValue != null && !physicalColumnFamilies.isEmpty()) {
+        propertyValue = sumOverPhysicalColumnFamilies(propertyName, propertyValue);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  /**
+   * Properties are reported per column family, so with physical column families the numeric ones
+   * are summed up to keep describing the whole state. Other properties are only reported for the
+   * default column family.
+   */
+  private String sumOverPhysicalColumnFamilies(
+      final String propertyName, final String defaultPropertyValue) throws RocksDBException {
+    long sum;
+    try {
+      sum = Long.parseLong(defaultPropertyValue);
+    } catch (final NumberFormatException e) {
+      return defaultPropertyValue;
+    }
+
+    for (final var columnFamily : physicalColumnFamilies.values()) {
+      sum += rocksDb.getLongProperty(columnFamily.handle(), propertyName);
+    }
+    return String.valueOf(sum);
+  }
+
+  /**
+   * @param statisticName the name of a RocksDB {@link TickerType}, e.g. BLOCK_CACHE_DATA_MISS
+   */
+  @Override
+  public Optional<Long> getStatistic(final String statisticName) {
+    if (statistics == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(statistics.getTickerCount(TickerType.valueOf(statisticName)));
+    } catch (final IllegalArgumentException e) {
+      LOG.debug("Unknown RocksDB statistic {}", statisticName, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Optional<StateAccessCounter> getStateAccessCounter() {
+    return accessMetricsConfiguration.kind() == Kind.FINE
+        ? Optional.of(stateAccessCounter)
+        : Optional.empty();
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        rocksDb instanceof final OptimisticTransactionDB optimisticTransactionDB
+            ? new OptimisticZeebeTransaction(
+                optimisticTransactionDB.beginTransaction(defaultWriteOptions), this)
+            : new WriteBatchZeebeTransaction(rocksDb, defaultWriteOptions, columnFamilyWriters);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -202,13 +404,186 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   @Override
   public boolean isEmpty(
       final ColumnFamilyNames columnFamilyName, final TransactionContext context) {
+    if (physicalCfOptions != null
+        && !physicalColumnFamilies.containsKey(columnFamilyName.getValue())) {
+      // don't create it only to find it empty, and to derive its prefix from the wrong key
+      return !migrationPending || isUnmigratedDataEmpty(columnFamilyName.getValue());
+    }
+
     return createColumnFamily(columnFamilyName, context, DbNullKey.INSTANCE, DbNil.INSTANCE)
         .isEmpty();
   }
 
   @Override
   public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+    return ((OptimisticTransactionDB) rocksDb)
+        .beginTransaction(defaultWriteOptions, oldTransaction);
+  }
+
+  private PhysicalColumnFamily getPhysicalColumnFamily(final int columnFamilyValue) {
+    final var columnFamily = physicalColumnFamilies.get(columnFamilyValue);
+    if (columnFamily == null) {
+      // its prefix extractor can't be derived without knowing the key layout
+      throw new IllegalStateException(
+          ("Expected column family %d to be opened with its key layout before it is accessed, but"
+                  + " it was not")
+              .formatted(columnFamilyValue));
+    }
+
+    return columnFamily;
+  }
+
+  private synchronized void openPhysicalColumnFamily(
+      final int columnFamilyValue, final int derivedPrefixLength) {
+    if (openedColumnFamilies.contains(columnFamilyValue)) {
+      return;
+    }
+
+    final var columnFamily =
+        physicalColumnFamilies.computeIfAbsent(
+            columnFamilyValue, value -> createPhysicalColumnFamily(value, derivedPrefixLength));
+    final int prefixLength = resolvePrefixLength(columnFamilyValue, derivedPrefixLength);
+    if (columnFamily.prefixLength() != prefixLength) {
+      LOG.warn(
+          "Expected physical column family of column family {} to extract prefixes of {} bytes, but"
+              + " it was created with {} bytes; keeping the existing prefix extractor",
+          columnFamilyValue,
+          prefixLength,
+          columnFamily.prefixLength());
+    }
+
+    if (migrationPending) {
+      migrateColumnFamily(columnFamilyValue, columnFamily.handle());
+    }
+    openedColumnFamilies.add(columnFamilyValue);
+  }
+
+  private PhysicalColumnFamily createPhysicalColumnFamily(
+      final int columnFamilyValue, final int derivedPrefixLength) {
+    final int prefixLength = resolvePrefixLength(columnFamilyValue, derivedPrefixLength);
+    try {
+      final var handle =
+          rocksDb.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  PhysicalColumnFamilies.name(columnFamilyValue, prefixLength),
+                  physicalCfOptions.create(columnFamilyValue, prefixLength)));
+      closables.add(handle);
+      return new PhysicalColumnFamily(handle, prefixLength);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to create the physical column family for column family %d"
+              .formatted(columnFamilyValue),
+          e);
+    }
+  }
+
+  private int resolvePrefixLength(final int columnFamilyValue, final int derivedPrefixLength) {
+    if (!rocksDbConfiguration.getColumnFamilyOptions().isEmpty()) {
+      // user provided options configure their own prefix extractor, if any
+      return Long.BYTES;
+    }
+
+    final int configuredPrefixLength =
+        rocksDbConfiguration.getColumnFamilyTuning(columnFamilyValue).getPrefixLength();
+    return configuredPrefixLength != ColumnFamilyTuning.DEFAULT_PREFIX_LENGTH
+        ? configuredPrefixLength
+        : derivedPrefixLength;
+  }
+
+  /**
+   * Checks whether data of the default column family, i.e. data written before physical column
+   * families were enabled, has to be moved into the physical column families. The data of each
+   * logical column family is moved once it is opened with its key layout, see {@link
+   * #migrateColumnFamily(int, ColumnFamilyHandle)}, as its physical column family can only be
+   * created then.
+   *
+   * <p>Once the migration completed, a marker key is written to the default column family, such
+   * that later opens skip it. The marker is never migrated, as it is only written when the default
+   * column family holds no other data anymore.
+   */
+  private void startMigrationToPhysicalColumnFamilies() throws RocksDBException {
+    if (rocksDb.get(defaultHandle, MIGRATION_COMPLETED_KEY) != null) {
+      return;
+    }
+
+    migrationPending = true;
+    completeMigrationIfDone();
+  }
+
+  /**
+   * Moves the data of the given logical column family from the default column family into its
+   * physical column family. Keys are moved as is, since they start with the column family prefix in
+   * both layouts. The data is only deleted from the default column family once it was completely
+   * copied, so an interrupted migration is simply repeated.
+   */
+  private void migrateColumnFamily(final int columnFamilyValue, final ColumnFamilyHandle handle) {
+    final byte[] begin = columnFamilyPrefix(columnFamilyValue);
+    final byte[] end = columnFamilyPrefix(columnFamilyValue + 1);
+    try (final var iterator = rocksDb.newIterator(defaultHandle, totalOrderReadOptions);
+        final var batch = new WriteBatch()) {
+      long migratedKeys = 0;
+      for (iterator.seek(begin);
+          iterator.isValid() && Arrays.compareUnsigned(iterator.key(), end) < 0;
+          iterator.next()) {
+        batch.put(handle, iterator.key(), iterator.value());
+        migratedKeys++;
+
+        if (batch.getDataSize() >= MIGRATION_BATCH_SIZE) {
+          rocksDb.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (migratedKeys > 0) {
+        rocksDb.write(defaultWriteOptions, batch);
+        rocksDb.deleteRange(defaultHandle, begin, end);
+        rocksDb.compactRange(defaultHandle, begin, end);
+        // the copy bypassed the transactions, so nothing cached before may be returned anymore
+        final var cache = caches.get(columnFamilyValue);
+        if (cache != null) {
+          cache.clear();
+        }
+        LOG.info(
+            "Migrated {} keys of column family {} into its physical column family",
+            migratedKeys,
+            columnFamilyValue);
+      }
+
+      completeMigrationIfDone();
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to migrate column family %d into its physical column family"
+              .formatted(columnFamilyValue),
+          e);
+    }
+  }
+
+  private void completeMigrationIfDone() throws RocksDBException {
+    try (final var iterator = rocksDb.newIterator(defaultHandle, totalOrderReadOptions)) {
+      iterator.seekToFirst();
+      if (iterator.isValid()) {
+        return;
+      }
+      iterator.status();
+    }
+
+    rocksDb.put(defaultHandle, defaultWriteOptions, MIGRATION_COMPLETED_KEY, new byte[0]);
+    migrationPending = false;
+  }
+
+  private boolean isUnmigratedDataEmpty(final int columnFamilyValue) {
+    try (final var iterator = rocksDb.newIterator(defaultHandle, totalOrderReadOptions)) {
+      iterator.seek(columnFamilyPrefix(columnFamilyValue));
+      return !iterator.isValid()
+          || Arrays.compareUnsigned(iterator.key(), columnFamilyPrefix(columnFamilyValue + 1)) >= 0;
+    }
+  }
+
+  private static byte[] columnFamilyPrefix(final int columnFamilyValue) {
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix).putLong(0, columnFamilyValue, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    return prefix;
   }
 
   @Override
@@ -231,4 +606,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           }
         });
   }
+
+  private record PhysicalColumnFamily(
+      ColumnFamilyHandle handle, long nativeHandle, int prefixLength) {
+    private PhysicalColumnFamily(final ColumnFamilyHandle handle, final int prefixLength) {
+      this(handle, getNativeHandle(handle), prefixLength);
+    }
+  }
 }
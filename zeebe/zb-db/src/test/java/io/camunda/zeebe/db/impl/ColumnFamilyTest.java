@@ -16,22 +16,37 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class ColumnFamilyTest {
 
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
-  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
-      DefaultZeebeDbFactory.getDefaultFactory();
+
+  @Parameter(0)
+  public String engine;
+
+  @Parameter(1)
+  public ZeebeDbFactory<DefaultColumnFamily> dbFactory;
   private ZeebeDb<DefaultColumnFamily> zeebeDb;
   private ColumnFamily<DbLong, DbLong> columnFamily;
   private DbLong key;
   private DbLong value;
 
+  @Parameters(name = "{0}")
+  public static Object[][] engines() {
+    return DefaultZeebeDbFactory.engines();
+  }
+
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
@@ -466,6 +481,117 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldGetValuesOfAnySize() {
+    // given
+    final var bytes = new DbBytes();
+    final var bytesColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, bytes);
+    final int[] sizes = {1, 1024, 1025, 5000, 64 * 1024, 100_000};
+    for (final int size : sizes) {
+      final byte[] value = new byte[size];
+      Arrays.fill(value, (byte) size);
+      key.wrapLong(size);
+      bytes.wrapBytes(value);
+      bytesColumnFamily.insert(key, bytes);
+    }
+
+    // when - then
+    for (final int size : sizes) {
+      final byte[] expected = new byte[size];
+      Arrays.fill(expected, (byte) size);
+      key.wrapLong(size);
+      assertThat(bytesColumnFamily.exists(key)).isTrue();
+      assertThat(bytesColumnFamily.get(key).getBytes()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final long[] keys = {3, 2, 1};
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(
+        key,
+        keys.length,
+        index -> key.wrapLong(keys[index]),
+        (longValue, index) -> values.add(longValue == null ? null : longValue.getValue()));
+
+    // then
+    assertThat(values).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedValues() {
+    // given
+    final var context = zeebeDb.createContext();
+    final var transactionColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          transactionColumnFamily.update(key, value);
+          key.wrapLong(2);
+          transactionColumnFamily.deleteExisting(key);
+
+          transactionColumnFamily.multiGet(
+              key,
+              2,
+              index -> key.wrapLong(index + 1),
+              (longValue, index) -> values.add(longValue == null ? null : longValue.getValue()));
+        });
+
+    // then
+    assertThat(values).containsExactly(11L, null);
+  }
+
+  @Test
+  public void shouldIterateOverPrefixWithUncommittedWritesPastUpperBound() {
+    // given
+    final var context = zeebeDb.createContext();
+    final var firstKey = new DbLong();
+    final var secondKey = new DbLong();
+    final var compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    final var compositeColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, compositeKey, value);
+    final List<Long> values = new ArrayList<>();
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(1);
+    value.wrapLong(11);
+    compositeColumnFamily.upsert(compositeKey, value);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          // the smallest key of the next prefix, i.e. the exclusive upper bound of the iteration
+          firstKey.wrapLong(2);
+          secondKey.wrapLong(0);
+          value.wrapLong(20);
+          compositeColumnFamily.upsert(compositeKey, value);
+          firstKey.wrapLong(1);
+          secondKey.wrapLong(2);
+          value.wrapLong(12);
+          compositeColumnFamily.upsert(compositeKey, value);
+
+          firstKey.wrapLong(1);
+          compositeColumnFamily.whileEqualPrefix(firstKey, (k, v) -> values.add(v.getValue()));
+        });
+
+    // then
+    assertThat(values).containsExactly(11L, 12L);
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -20,17 +20,28 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class DbTransactionTest {
 
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
-  private final ZeebeDbFactory<ColumnFamilies> dbFactory =
-      DefaultZeebeDbFactory.getDefaultFactory();
 
+  @Parameter(0)
+  public String engine;
+
+  @Parameter(1)
+  public ZeebeDbFactory<ColumnFamilies> dbFactory;
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
   private TransactionContext transactionContext;
 
   private ColumnFamily<DbLong, DbLong> oneColumnFamily;
@@ -44,10 +55,15 @@ public final class DbTransactionTest {
   private DbLong threeKey;
   private DbLong threeValue;
 
+  @Parameters(name = "{0}")
+  public static Object[][] engines() {
+    return DefaultZeebeDbFactory.engines();
+  }
+
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<ColumnFamilies> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
 
     oneKey = new DbLong();
@@ -460,6 +476,41 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRejectConcurrentWritesToSameColumnFamilyWithSingleWriter() {
+    // given - writes of single writer transactions are not checked for conflicts on commit
+    Assume.assumeTrue("single writer".equals(engine));
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherOneColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, otherContext, otherKey, otherValue);
+    final var otherTwoColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.TWO, otherContext, otherKey, otherValue);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    otherKey.wrapLong(2);
+    otherValue.wrapLong(-2);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneColumnFamily.insert(oneKey, oneValue);
+
+          // then - the column family is claimed by the open transaction, but others are not
+          assertThatThrownBy(() -> otherOneColumnFamily.insert(otherKey, otherValue))
+              .isInstanceOf(IllegalStateException.class)
+              .hasMessageContaining("written by a single transaction at a time");
+          otherTwoColumnFamily.insert(otherKey, otherValue);
+        });
+
+    // then - it is released on commit
+    otherOneColumnFamily.insert(otherKey, otherValue);
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(otherOneColumnFamily.exists(otherKey)).isTrue();
+    assertThat(otherTwoColumnFamily.exists(otherKey)).isTrue();
+  }
+
   @Test
   // See https://github.com/camunda/camunda/issues/11681, this test is to ensure that we don't
   // hide exceptions from the `ProcessingStateMachine`.
@@ -26,4 +26,23 @@ public final class DefaultZeebeDbFactory {
         consistencyChecks,
         new AccessMetricsConfiguration(Kind.NONE, 1));
   }
+
+  /** Same as {@link #getDefaultFactory()}, but using write batches instead of transactions. */
+  public static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeDbFactory<ColumnFamilyType> getSingleWriterFactory() {
+    final var consistencyChecks = new ConsistencyChecksSettings(true, true);
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setSingleWriterEnabled(true),
+        consistencyChecks,
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  /**
+   * @return the factories of all transaction engines, to run the same tests against each of them
+   */
+  public static Object[][] engines() {
+    return new Object[][] {
+      {"optimistic", getDefaultFactory()}, {"single writer", getSingleWriterFactory()}
+    };
+  }
 }
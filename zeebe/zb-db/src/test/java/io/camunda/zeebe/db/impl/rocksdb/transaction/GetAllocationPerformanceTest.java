@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the bytes allocated per point read, comparing reads into a new array per value (the
+ * previous read path, which is still used for cached column families) with reads into the reused
+ * direct buffer of the column family. Values are 256 bytes, of which only the first 8 are
+ * deserialized, such that deserializing doesn't allocate either.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class GetAllocationPerformanceTest {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(GetAllocationPerformanceTest.class.getName());
+
+  private static final int KEY_COUNT = 10_000;
+  private static final int VALUE_SIZE = 256;
+  private static final String ALLOCATED_BYTES_PER_OP = "gc.alloc.rate.norm";
+
+  @Param({"array", "direct"})
+  public String readPath;
+
+  private Path directory;
+  private ZeebeTransactionDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> column;
+  private ColumnFamilyContext columnFamilyContext;
+  private long columnFamilyHandle;
+  private DbLong key;
+  private DbLong value;
+  private boolean readIntoArray;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("get-allocation-perf");
+    db =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                    new RocksDbConfiguration(),
+                    new ConsistencyChecksSettings(false, false),
+                    new AccessMetricsConfiguration(Kind.NONE, 1))
+                .createDb(directory.toFile());
+    context = db.createContext();
+    key = new DbLong();
+    value = new DbLong();
+    column = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    columnFamilyContext = new ColumnFamilyContext(DefaultColumnFamily.DEFAULT.getValue());
+    columnFamilyHandle = db.getColumnFamilyNativeHandle(DefaultColumnFamily.DEFAULT.getValue());
+    readIntoArray = "array".equals(readPath);
+    fillState();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureGet() {
+    key.wrapLong(ThreadLocalRandom.current().nextInt(KEY_COUNT));
+    return readIntoArray ? getIntoArray().getValue() : column.get(key).getValue();
+  }
+
+  @Tag("performance")
+  @Test
+  void shouldNotAllocateValueArrays() throws RunnerException {
+    // given
+    final double arrayBytesPerOp = runWithGcProfiler("array");
+
+    // when
+    final double directBytesPerOp = runWithGcProfiler("direct");
+
+    // then
+    LOG.info(
+        "Allocated {} bytes per read into arrays, and {} bytes per read into direct buffers",
+        arrayBytesPerOp,
+        directBytesPerOp);
+    assertThat(directBytesPerOp).isLessThan(arrayBytesPerOp - VALUE_SIZE);
+  }
+
+  /** Reads the value like column families did before reading into direct buffers. */
+  private DbLong getIntoArray() {
+    context.runInTransaction(
+        () -> {
+          final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+          columnFamilyContext.writeKey(key);
+          columnFamilyContext.wrapValueView(
+              transaction.get(
+                  columnFamilyHandle,
+                  db.getReadOptionsNativeHandle(),
+                  columnFamilyContext.getKeyBufferArray(),
+                  columnFamilyContext.getKeyLength()));
+        });
+    final var valueView = columnFamilyContext.getValueView();
+    value.wrap(valueView, 0, valueView.capacity());
+    return value;
+  }
+
+  private double runWithGcProfiler(final String path) throws RunnerException {
+    final var result =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q" + GetAllocationPerformanceTest.class.getName() + ".measureGet\\E$")
+                    .param("readPath", path)
+                    .addProfiler(GCProfiler.class)
+                    .build())
+            .runSingle();
+    return result.getSecondaryResults().get(ALLOCATED_BYTES_PER_OP).getScore();
+  }
+
+  private void fillState() {
+    // values are written as bytes, but read as longs
+    final var bytes = new DbBytes();
+    final var writeColumn = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, bytes);
+    bytes.wrapBytes(new byte[VALUE_SIZE]);
+    context.runInTransaction(
+        () -> {
+          for (int k = 0; k < KEY_COUNT; k++) {
+            key.wrapLong(k);
+            writeColumn.upsert(key, bytes);
+          }
+        });
+  }
+}
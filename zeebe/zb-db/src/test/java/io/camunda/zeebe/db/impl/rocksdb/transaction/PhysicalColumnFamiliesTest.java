@@ -0,0 +1,365 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning.Compaction;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class PhysicalColumnFamiliesTest {
+
+  @Test
+  void shouldStoreEachColumnFamilyInPhysicalColumnFamily(final @TempDir File path)
+      throws Exception {
+    // given
+    final var factory = createFactory(true, Map.of());
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, ColumnFamilies.ONE, "foo", "one");
+      put(db, ColumnFamilies.TWO, "foo", "two");
+    }
+
+    // then
+    assertThat(listPhysicalColumnFamilies(path)).containsExactlyInAnyOrder("cf-1-8", "cf-2-8");
+    try (final var db = factory.createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+      assertThat(get(db, ColumnFamilies.TWO, "foo")).isEqualTo("two");
+      assertThat(db.isEmpty(ColumnFamilies.THREE, db.createContext())).isTrue();
+    }
+  }
+
+  @Test
+  void shouldKeepPhysicalColumnFamiliesWhenDisabledAgain(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      put(db, ColumnFamilies.ONE, "foo", "one");
+    }
+
+    // when
+    try (final var db = createFactory(false, Map.of()).createDb(path)) {
+      put(db, ColumnFamilies.TWO, "foo", "two");
+    }
+
+    // then
+    assertThat(listPhysicalColumnFamilies(path)).containsExactlyInAnyOrder("cf-1-8", "cf-2-8");
+    try (final var db = createFactory(false, Map.of()).createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+      assertThat(get(db, ColumnFamilies.TWO, "foo")).isEqualTo("two");
+    }
+  }
+
+  @Test
+  void shouldMigrateSharedColumnFamilyToPhysicalColumnFamilies(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createFactory(false, Map.of()).createDb(path)) {
+      for (int i = 0; i < 100; i++) {
+        put(db, ColumnFamilies.ONE, "key-" + i, "one-" + i);
+        put(db, ColumnFamilies.TWO, "key-" + i, "two-" + i);
+      }
+    }
+
+    // when
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      // then
+      assertThat(count(db, ColumnFamilies.ONE)).isEqualTo(100);
+      assertThat(count(db, ColumnFamilies.TWO)).isEqualTo(100);
+      assertThat(get(db, ColumnFamilies.ONE, "key-42")).isEqualTo("one-42");
+      assertThat(get(db, ColumnFamilies.TWO, "key-42")).isEqualTo("two-42");
+    }
+    assertThat(listPhysicalColumnFamilies(path)).containsExactlyInAnyOrder("cf-1-8", "cf-2-8");
+  }
+
+  @Test
+  void shouldMigrateColumnFamilyOnceOpened(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(false, Map.of()).createDb(path)) {
+      put(db, ColumnFamilies.ONE, "foo", "one");
+      put(db, ColumnFamilies.TWO, "foo", "two");
+    }
+
+    // when
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+
+      // then - the other column family is still found in the shared column family
+      assertThat(listPhysicalColumnFamilies(path)).containsExactly("cf-1-8");
+      assertThat(db.isEmpty(ColumnFamilies.TWO, db.createContext())).isFalse();
+      assertThat(db.isEmpty(ColumnFamilies.THREE, db.createContext())).isTrue();
+    }
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+      assertThat(get(db, ColumnFamilies.TWO, "foo")).isEqualTo("two");
+    }
+    assertThat(listPhysicalColumnFamilies(path)).containsExactlyInAnyOrder("cf-1-8", "cf-2-8");
+  }
+
+  @Test
+  void shouldNotMigrateAgainOnceMigrated(final @TempDir File path) throws Exception {
+    // given - a migrated database
+    try (final var db = createFactory(false, Map.of()).createDb(path)) {
+      put(db, ColumnFamilies.ONE, "foo", "one");
+    }
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+    }
+
+    // when - data shows up in the shared column family afterwards
+    putIntoSharedColumnFamily(path, ColumnFamilies.ONE, "bar", "stale");
+
+    // then - it is not copied on the next open
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+      assertThat(get(db, ColumnFamilies.ONE, "bar")).isNull();
+    }
+  }
+
+  @Test
+  void shouldIncludeAllPhysicalColumnFamiliesInSnapshot(
+      final @TempDir File path, final @TempDir File snapshotsDir) throws Exception {
+    // given
+    final var factory = createFactory(true, Map.of());
+    final var snapshot = new File(snapshotsDir, "snapshot");
+    final var snapshotOfSnapshotOnlyDb = new File(snapshotsDir, "snapshot-only");
+    try (final var db = factory.createDb(path)) {
+      put(db, ColumnFamilies.ONE, "foo", "one");
+      put(db, ColumnFamilies.TWO, "foo", "two");
+
+      // when
+      db.createSnapshot(snapshot);
+    }
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotOfSnapshotOnlyDb);
+    }
+
+    // then
+    for (final var snapshotPath : List.of(snapshot, snapshotOfSnapshotOnlyDb)) {
+      try (final var db = factory.createDb(snapshotPath)) {
+        assertThat(get(db, ColumnFamilies.ONE, "foo")).isEqualTo("one");
+        assertThat(get(db, ColumnFamilies.TWO, "foo")).isEqualTo("two");
+      }
+    }
+  }
+
+  @Test
+  void shouldIterateOverPrefixShorterThanTunedPrefixLength(final @TempDir File path)
+      throws Exception {
+    // given
+    final var tuning =
+        new ColumnFamilyTuning()
+            .setPrefixLength(2 * Long.BYTES)
+            .setCompaction(Compaction.UNIVERSAL);
+    final var factory = createFactory(true, Map.of(ColumnFamilies.ONE.getValue(), tuning));
+    final var first = new DbLong();
+    final var second = new DbLong();
+    final var value = new DbLong();
+
+    try (final var db = factory.createDb(path)) {
+      final var column =
+          db.createColumnFamily(
+              ColumnFamilies.ONE, db.createContext(), new DbCompositeKey<>(first, second), value);
+      for (long i = 0; i < 3; i++) {
+        for (long j = 0; j < 3; j++) {
+          first.wrapLong(i);
+          second.wrapLong(j);
+          value.wrapLong(i * 10 + j);
+          column.insert(new DbCompositeKey<>(first, second), value);
+        }
+      }
+
+      // when
+      final List<Long> all = new ArrayList<>();
+      column.forEach((key, v) -> all.add(v.getValue()));
+      final List<Long> withPrefix = new ArrayList<>();
+      first.wrapLong(1);
+      column.whileEqualPrefix(
+          first,
+          (key, v) -> {
+            withPrefix.add(v.getValue());
+          });
+
+      // then
+      assertThat(all).containsExactly(0L, 1L, 2L, 10L, 11L, 12L, 20L, 21L, 22L);
+      assertThat(withPrefix).containsExactly(10L, 11L, 12L);
+    }
+  }
+
+  @Test
+  void shouldDerivePrefixLengthFromKeyLayout(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(true, Map.of());
+    final var first = new DbLong();
+    final var second = new DbString();
+    final var value = new DbLong();
+
+    try (final var db = factory.createDb(path)) {
+      final var column =
+          db.createColumnFamily(
+              ColumnFamilies.ONE, db.createContext(), new DbCompositeKey<>(first, second), value);
+      for (long i = 0; i < 3; i++) {
+        for (long j = 0; j < 3; j++) {
+          first.wrapLong(i);
+          second.wrapString("key-" + j);
+          value.wrapLong(i * 10 + j);
+          column.insert(new DbCompositeKey<>(first, second), value);
+        }
+      }
+
+      // when
+      final List<Long> withPrefix = new ArrayList<>();
+      first.wrapLong(1);
+      column.whileEqualPrefix(first, (key, v) -> withPrefix.add(v.getValue()));
+
+      // then
+      assertThat(withPrefix).containsExactly(10L, 11L, 12L);
+    }
+    assertThat(listPhysicalColumnFamilies(path)).containsExactly("cf-1-16");
+  }
+
+  @Test
+  void shouldRejectAccessToColumnFamilyWithoutKeyLayout(final @TempDir File path)
+      throws Exception {
+    // given - a foreign key into a column family which was never opened
+    try (final var db = createFactory(true, Map.of()).createDb(path)) {
+      final var foreignKey = new DbForeignKey<>(new DbString(), ColumnFamilies.THREE);
+      final var column =
+          db.createColumnFamily(ColumnFamilies.ONE, db.createContext(), foreignKey, new DbString());
+      foreignKey.inner().wrapString("foo");
+      final var value = new DbString();
+      value.wrapString("one");
+
+      // when - then
+      assertThatThrownBy(() -> column.insert(foreignKey, value))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("Expected column family 3 to be opened with its key layout");
+    }
+    assertThat(listPhysicalColumnFamilies(path)).containsExactly("cf-1-8");
+  }
+
+  private static ZeebeRocksDbFactory<ColumnFamilies> createFactory(
+      final boolean physicalColumnFamiliesEnabled,
+      final Map<Integer, ColumnFamilyTuning> tuning) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration()
+            .setPhysicalColumnFamiliesEnabled(physicalColumnFamiliesEnabled)
+            .setColumnFamilyTuning(tuning),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  /** Writes a key directly into the shared, i.e. the default, column family. */
+  private static void putIntoSharedColumnFamily(
+      final File path, final ColumnFamilies columnFamily, final String key, final String value)
+      throws Exception {
+    final var dbKey = new DbString();
+    final var dbValue = new DbString();
+    dbKey.wrapString(key);
+    dbValue.wrapString(value);
+    final var keyBuffer = new UnsafeBuffer(new byte[Long.BYTES + dbKey.getLength()]);
+    keyBuffer.putLong(0, columnFamily.getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    dbKey.write(keyBuffer, Long.BYTES);
+    final var valueBuffer = new UnsafeBuffer(new byte[dbValue.getLength()]);
+    dbValue.write(valueBuffer, 0);
+
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    try (final var options = new Options()) {
+      RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(ColumnFamilyDescriptor::new)
+          .forEach(descriptors::add);
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    try (final var options = new DBOptions();
+        final var rocksDb = RocksDB.open(options, path.getAbsolutePath(), descriptors, handles)) {
+      for (int i = 0; i < descriptors.size(); i++) {
+        if (Arrays.equals(descriptors.get(i).getName(), RocksDB.DEFAULT_COLUMN_FAMILY)) {
+          rocksDb.put(handles.get(i), keyBuffer.byteArray(), valueBuffer.byteArray());
+        }
+      }
+      handles.forEach(ColumnFamilyHandle::close);
+    }
+  }
+
+  private static List<String> listPhysicalColumnFamilies(final File path) throws Exception {
+    return PhysicalColumnFamilies.list(path.getAbsolutePath()).stream()
+        .map(name -> new String(name, StandardCharsets.UTF_8))
+        .toList();
+  }
+
+  private static ColumnFamily<DbString, DbString> column(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    return db.createColumnFamily(columnFamily, db.createContext(), new DbString(), new DbString());
+  }
+
+  private static void put(
+      final ZeebeDb<ColumnFamilies> db,
+      final ColumnFamilies columnFamily,
+      final String key,
+      final String value) {
+    final var dbKey = new DbString();
+    final var dbValue = new DbString();
+    dbKey.wrapString(key);
+    dbValue.wrapString(value);
+    column(db, columnFamily).upsert(dbKey, dbValue);
+  }
+
+  private static String get(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily, final String key) {
+    final var dbKey = new DbString();
+    dbKey.wrapString(key);
+    final var value = column(db, columnFamily).get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private static long count(final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    return column(db, columnFamily).count();
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    TWO,
+    THREE;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
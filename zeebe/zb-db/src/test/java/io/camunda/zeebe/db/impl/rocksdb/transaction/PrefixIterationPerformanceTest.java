@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures prefix iteration on a large state, similar to iterating over the variables of a scope,
+ * comparing the shared column family (which only extracts the column family prefix) with physical
+ * column families (which extract the column family prefix plus the scope key). The state is read
+ * from SST files only, and the block cache is much smaller than the state, so iterations which read
+ * unrelated blocks are visible. The number of data blocks read per iteration is logged on tear
+ * down, and compared between both layouts by {@link
+ * #shouldReadFewerBlocksWithPhysicalColumnFamilies()}.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(PrefixIterationPerformanceTest.class.getName());
+
+  private static final int SCOPE_COUNT = 100_000;
+  private static final int VARIABLES_PER_SCOPE = 10;
+  private static final String BLOCKS_READ_MISS = "BLOCK_CACHE_DATA_MISS";
+  private static final String BLOCKS_READ_HIT = "BLOCK_CACHE_DATA_HIT";
+  private static final int COMPARED_ITERATIONS = 10_000;
+
+  @Param({"shared", "physical"})
+  public String layout;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> column;
+  private DbLong scopeKey;
+  private long iterations;
+  private long blocksReadBefore;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("prefix-iteration-perf");
+    final var runtime = directory.resolve("runtime").toFile();
+    final var snapshot = directory.resolve("snapshot").toFile();
+
+    // write the state and take a snapshot, which flushes it to SST files
+    try (final var writeDb = createFactory().createDb(runtime)) {
+      fillState(writeDb);
+      writeDb.createSnapshot(snapshot);
+    }
+
+    db = createFactory().createDb(snapshot);
+    openColumn(db);
+    blocksReadBefore = blocksRead();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    LOG.info(
+        "Read {} data blocks per prefix iteration with the {} layout",
+        blocksReadPerIteration(),
+        layout);
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measurePrefixIteration() {
+    scopeKey.wrapLong(ThreadLocalRandom.current().nextInt(SCOPE_COUNT));
+    final var count = new long[1];
+    column.whileEqualPrefix(scopeKey, (key, value) -> count[0]++);
+    iterations++;
+    return count[0];
+  }
+
+  @JMHTest("measurePrefixIteration")
+  void shouldBeAtLeastAsFastAsSharedColumnFamily(final JMHTestCase testCase)
+      throws RunnerException {
+    // given - the score of the shared column family as reference
+    final var sharedResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + PrefixIterationPerformanceTest.class.getName()
+                            + ".measurePrefixIteration\\E$")
+                    .param("layout", "shared")
+                    .build())
+            .runSingle();
+    final var referenceScore = sharedResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("layout", "physical")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+
+  @Tag("performance")
+  @Test
+  void shouldReadFewerBlocksWithPhysicalColumnFamilies() throws Exception {
+    // when
+    final var sharedBlocksRead = measureBlocksReadPerIteration("shared");
+    final var physicalBlocksRead = measureBlocksReadPerIteration("physical");
+
+    // then - iterations stop at the end of the prefix, instead of reading the next block
+    assertThat(physicalBlocksRead).isLessThan(sharedBlocksRead);
+  }
+
+  private static double measureBlocksReadPerIteration(final String layout) throws Exception {
+    final var benchmark = new PrefixIterationPerformanceTest();
+    benchmark.layout = layout;
+    benchmark.setup();
+    try {
+      for (int i = 0; i < COMPARED_ITERATIONS; i++) {
+        benchmark.measurePrefixIteration();
+      }
+      return benchmark.blocksReadPerIteration();
+    } finally {
+      benchmark.tearDown();
+    }
+  }
+
+  private ZeebeRocksDbFactory<DefaultColumnFamily> createFactory() {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration()
+            .setPhysicalColumnFamiliesEnabled("physical".equals(layout))
+            .setStatisticsEnabled(true)
+            .setMemoryLimit(32 * 1024 * 1024),
+        new ConsistencyChecksSettings(false, false),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private void openColumn(final ZeebeDb<DefaultColumnFamily> zeebeDb) {
+    scopeKey = new DbLong();
+    column =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT,
+            zeebeDb.createContext(),
+            new DbCompositeKey<>(scopeKey, new DbString()),
+            new DbString());
+  }
+
+  private void fillState(final ZeebeDb<DefaultColumnFamily> zeebeDb) {
+    final var context = zeebeDb.createContext();
+    final var writeScopeKey = new DbLong();
+    final var name = new DbString();
+    final var value = new DbString();
+    final var key = new DbCompositeKey<>(writeScopeKey, name);
+    final var writeColumn =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    value.wrapBuffer(BufferUtil.wrapString("x".repeat(64)));
+
+    for (int scope = 0; scope < SCOPE_COUNT; scope += 1000) {
+      final int firstScope = scope;
+      context.runInTransaction(
+          () -> {
+            for (int s = firstScope; s < firstScope + 1000; s++) {
+              writeScopeKey.wrapLong(s);
+              for (int v = 0; v < VARIABLES_PER_SCOPE; v++) {
+                name.wrapString("variable-" + v);
+                writeColumn.upsert(key, value);
+              }
+            }
+          });
+    }
+  }
+
+  private double blocksReadPerIteration() {
+    return (double) (blocksRead() - blocksReadBefore) / iterations;
+  }
+
+  private long blocksRead() {
+    return db.getStatistic(BLOCKS_READ_MISS).orElse(0L)
+        + db.getStatistic(BLOCKS_READ_HIT).orElse(0L);
+  }
+}
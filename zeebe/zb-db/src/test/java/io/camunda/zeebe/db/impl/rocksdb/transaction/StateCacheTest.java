@@ -0,0 +1,303 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings;
+import io.camunda.zeebe.db.impl.rocksdb.StateCacheSettings.EvictionPolicy;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCache.CacheKey;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.File;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class StateCacheTest {
+
+  private static final long MAX_SIZE = 1024;
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> column;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration()
+                    .setStateCache(
+                        Map.of(
+                            DefaultColumnFamily.DEFAULT.getValue(),
+                            new StateCacheSettings().setMaxSize(MAX_SIZE))),
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(path);
+    context = db.createContext();
+    column = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesWithinTransaction() {
+    // when
+    context.runInTransaction(
+        () -> {
+          upsert(1, 10);
+          upsert(1, 11);
+          upsert(2, 20);
+          delete(2);
+
+          // then
+          assertThat(get(1)).isEqualTo(11);
+          assertThat(get(2)).isNull();
+        });
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() {
+    // given
+    upsert(1, 10);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      upsert(1, 11);
+                      upsert(2, 20);
+                      throw new IllegalStateException("expected");
+                    }))
+        .hasMessage("expected");
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldShareCommittedWritesWithOtherTransactions() {
+    // given
+    final var otherContext = db.createContext();
+    final var otherKey = new DbLong();
+    final var otherColumn =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, otherKey, new DbLong());
+    otherKey.wrapLong(1);
+    assertThat(otherColumn.get(otherKey)).isNull();
+
+    // when
+    upsert(1, 10);
+
+    // then
+    assertThat(otherColumn.get(otherKey).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldInvalidateCachedValueOnDelete() {
+    // given
+    upsert(1, 10);
+    assertThat(get(1)).isEqualTo(10);
+
+    // when
+    delete(1);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(column.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldStayConsistentWhenTransactionExceedsCache() {
+    // given
+    upsert(1, 10);
+    assertThat(get(1)).isEqualTo(10);
+    final var entries = 2 * MAX_SIZE / Long.BYTES;
+
+    // when
+    context.runInTransaction(
+        () -> {
+          for (long i = 0; i < entries; i++) {
+            upsert(i, i + 100);
+          }
+
+          // then
+          assertThat(get(1)).isEqualTo(101);
+        });
+
+    // then
+    for (long i = 0; i < entries; i++) {
+      assertThat(get(i)).isEqualTo(i + 100);
+    }
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given
+    final var cache =
+        new ColumnFamilyCache(
+            new StateCacheSettings()
+                .setMaxSize(3 * entryWeight())
+                .setEvictionPolicy(EvictionPolicy.LRU));
+    publish(cache, 1, 2, 3);
+
+    // when
+    cache.get(cacheKey(1));
+    publish(cache, 4);
+
+    // then
+    assertThat(cache.get(cacheKey(1))).isNotNull();
+    assertThat(cache.get(cacheKey(2))).isNull();
+    assertThat(cache.get(cacheKey(3))).isNotNull();
+    assertThat(cache.get(cacheKey(4))).isNotNull();
+    assertThat(cache.size()).isEqualTo(3 * entryWeight());
+  }
+
+  @Test
+  void shouldEvictFirstWrittenEntries() {
+    // given
+    final var cache =
+        new ColumnFamilyCache(
+            new StateCacheSettings()
+                .setMaxSize(3 * entryWeight())
+                .setEvictionPolicy(EvictionPolicy.FIFO));
+    publish(cache, 1, 2, 3);
+
+    // when
+    cache.get(cacheKey(1));
+    publish(cache, 4);
+
+    // then
+    assertThat(cache.get(cacheKey(1))).isNull();
+    assertThat(cache.get(cacheKey(2))).isNotNull();
+    assertThat(cache.get(cacheKey(4))).isNotNull();
+  }
+
+  @Test
+  void shouldNotCacheReadWhichRacedWithCommit() {
+    // given
+    final var cache = new ColumnFamilyCache(new StateCacheSettings());
+    final long readVersion = cache.version();
+
+    // when
+    publish(cache, 1);
+    cache.putIfUnchanged(cacheKey(2), new byte[] {2}, readVersion);
+
+    // then
+    assertThat(cache.get(cacheKey(1))).isNotNull();
+    assertThat(cache.get(cacheKey(2))).isNull();
+  }
+
+  @Test
+  void shouldPublishCopiesOfStagedValues() {
+    // given
+    final var cache = new ColumnFamilyCache(new StateCacheSettings());
+    final var transactionCache = new TransactionCache();
+    final var valueBuffer = new byte[] {1, 2};
+    transactionCache.put(cache, cacheKey(1), valueBuffer, 2);
+
+    // when
+    valueBuffer[0] = 3;
+    transactionCache.commit();
+    transactionCache.put(cache, cacheKey(1), new byte[] {4, 5}, 2);
+
+    // then
+    assertThat(cache.get(cacheKey(1))).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldReadStagedValueOverwrittenByLongerValue() {
+    // given
+    final var cache = new ColumnFamilyCache(new StateCacheSettings());
+    final var transactionCache = new TransactionCache();
+    transactionCache.put(cache, cacheKey(1), new byte[] {1}, 1);
+    transactionCache.put(cache, cacheKey(2), new byte[] {2}, 1);
+
+    // when
+    transactionCache.put(cache, cacheKey(1), new byte[] {3, 4, 5}, 3);
+    transactionCache.delete(cache, cacheKey(2));
+
+    // then
+    final var view = new UnsafeBuffer();
+    assertThat(transactionCache.read(cache, cacheKey(1), view)).isEqualTo(3);
+    assertThat(BufferUtil.bufferAsArray(view)).containsExactly(3, 4, 5);
+    assertThat(transactionCache.read(cache, cacheKey(2), view))
+        .isEqualTo(ZeebeTransaction.NOT_FOUND);
+    assertThat(transactionCache.read(cache, cacheKey(3), view))
+        .isEqualTo(TransactionCache.NOT_WRITTEN);
+  }
+
+  @Test
+  void shouldNotModifyReadValueWhenKeyIsWrittenAgain() {
+    // given
+    final var cache = new ColumnFamilyCache(new StateCacheSettings());
+    final var transactionCache = new TransactionCache();
+    transactionCache.put(cache, cacheKey(1), new byte[] {1, 2}, 2);
+    final var view = new UnsafeBuffer();
+    transactionCache.read(cache, cacheKey(1), view);
+
+    // when
+    transactionCache.put(cache, cacheKey(1), new byte[] {3}, 1);
+
+    // then
+    assertThat(BufferUtil.bufferAsArray(view)).containsExactly(1, 2);
+    final var rewritten = new UnsafeBuffer();
+    assertThat(transactionCache.read(cache, cacheKey(1), rewritten)).isEqualTo(1);
+    assertThat(BufferUtil.bufferAsArray(rewritten)).containsExactly(3);
+  }
+
+  private void upsert(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    column.upsert(key, value);
+  }
+
+  private void delete(final long k) {
+    key.wrapLong(k);
+    column.deleteIfExists(key);
+  }
+
+  private Long get(final long k) {
+    key.wrapLong(k);
+    final var result = column.get(key);
+    return result == null ? null : result.getValue();
+  }
+
+  private static CacheKey cacheKey(final long k) {
+    return new CacheKey().wrap(new byte[] {(byte) k}, 1);
+  }
+
+  private static long entryWeight() {
+    return ColumnFamilyCache.weight(cacheKey(0), new byte[1]);
+  }
+
+  private static void publish(final ColumnFamilyCache cache, final long... keys) {
+    for (final long k : keys) {
+      cache.publish(Map.of(cacheKey(k), new byte[] {(byte) k}));
+    }
+  }
+}
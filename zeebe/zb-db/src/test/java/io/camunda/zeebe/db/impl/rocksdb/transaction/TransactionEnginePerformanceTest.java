@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares optimistic transactions with single writer transactions, by processing commands which
+ * each read and update a few existing keys, and insert and delete temporary ones, in a single
+ * transaction. Measures the throughput in commands per second, and the latency of a command
+ * including its commit.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionEnginePerformanceTest {
+
+  private static final int KEY_COUNT = 100_000;
+  private static final int UPDATES_PER_COMMAND = 3;
+
+  @Param({"optimistic", "singleWriter"})
+  public String engine;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbString> column;
+  private DbLong key;
+  private DbString value;
+  private long temporaryKey = KEY_COUNT;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("transaction-engine-perf");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setSingleWriterEnabled("singleWriter".equals(engine)),
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    context = db.createContext();
+    key = new DbLong();
+    value = new DbString();
+    column = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    value.wrapBuffer(BufferUtil.wrapString("x".repeat(256)));
+
+    for (int batch = 0; batch < KEY_COUNT; batch += 1000) {
+      final int firstKey = batch;
+      context.runInTransaction(
+          () -> {
+            for (int k = firstKey; k < firstKey + 1000; k++) {
+              key.wrapLong(k);
+              column.insert(key, value);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureCommandThroughput() {
+    processCommand();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void measureCommandLatency() {
+    processCommand();
+  }
+
+  @JMHTest("measureCommandThroughput")
+  void shouldProcessCommandsAtLeastAsFastAsOptimisticTransactions(final JMHTestCase testCase)
+      throws RunnerException {
+    // given - the score of optimistic transactions as reference
+    final var optimisticResult =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + TransactionEnginePerformanceTest.class.getName()
+                            + ".measureCommandThroughput\\E$")
+                    .param("engine", "optimistic")
+                    .build())
+            .runSingle();
+    final var referenceScore = optimisticResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("engine", "singleWriter")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.1);
+  }
+
+  private void processCommand() {
+    final var random = ThreadLocalRandom.current();
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < UPDATES_PER_COMMAND; i++) {
+            key.wrapLong(random.nextInt(KEY_COUNT));
+            column.get(key);
+            column.update(key, value);
+          }
+
+          // a key which only lives until the next command, e.g. a job which is completed
+          key.wrapLong(temporaryKey - 1);
+          column.deleteIfExists(key);
+          key.wrapLong(temporaryKey++);
+          column.insert(key, value);
+        });
+  }
+}